@@ -0,0 +1,137 @@
+package com.hobbyhop.benchmark;
+
+import com.hobbyhop.domain.comment.dto.CommentResponseDTO;
+import com.hobbyhop.domain.comment.dto.CommentTree;
+import com.hobbyhop.domain.comment.dto.CommentVO;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 게시글 하나의 댓글 트리 조립 비용.
+ * before : 전체 댓글을 읽어 부모마다 목록 전체를 다시 훑고(VOtoDTO) 메모리에서 정렬(sort)하던 방식
+ * after  : 정렬된 최상위 댓글과 깊이별 리플을 CommentTree 로 id 조회해 붙이는 방식
+ * 댓글의 20% 가 최상위이고 나머지는 앞선 댓글 중 하나에 달린 리플이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommentTreeBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int comments;
+
+    private List<CommentVO> all;
+    private List<CommentVO> roots;
+    private List<List<CommentVO>> repliesByDepth;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        int rootCount = Math.max(1, comments / 5);
+
+        all = new ArrayList<>(comments);
+        roots = new ArrayList<>(rootCount);
+        repliesByDepth = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>(comments);
+
+        for (int i = 0; i < comments; i++) {
+            long id = i + 1;
+            Long parent = null;
+            int depth = 0;
+            if (i >= rootCount) {
+                int parentIndex = random.nextInt(i);
+                parent = parentIndex + 1L;
+                depth = depths.get(parentIndex) + 1;
+            }
+            CommentVO vo = new CommentVO("content-" + id, "user-" + random.nextInt(100), random.nextInt(50),
+                    new Timestamp(now - random.nextInt(1_000_000)), id, parent);
+            all.add(vo);
+            depths.add(depth);
+
+            if (depth == 0) {
+                roots.add(vo);
+            } else {
+                while (repliesByDepth.size() < depth) {
+                    repliesByDepth.add(new ArrayList<>());
+                }
+                repliesByDepth.get(depth - 1).add(vo);
+            }
+        }
+        roots.sort(Comparator.comparing(CommentVO::getCreatedAt).reversed());
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> before() {
+        List<CommentResponseDTO> content = VOtoDTO(all);
+        sort(content);
+        return content;
+    }
+
+    @Benchmark
+    public List<CommentResponseDTO> after() {
+        CommentTree tree = new CommentTree();
+        tree.addRoots(roots);
+        for (List<CommentVO> replies : repliesByDepth) {
+            tree.attach(replies);
+        }
+        return tree.getRoots();
+    }
+
+    private List<CommentResponseDTO> VOtoDTO(List<CommentVO> query) {
+        List<CommentResponseDTO> content = new ArrayList<>();
+        for (CommentVO c : query) {
+            if (c.getParent() == null) {
+                content.add(toDTO(c, addVOtoDTO(query, c.getId())));
+            }
+        }
+        return content;
+    }
+
+    private List<CommentResponseDTO> addVOtoDTO(List<CommentVO> vo, Long id) {
+        List<CommentResponseDTO> dto = new ArrayList<>();
+        for (CommentVO c : vo) {
+            if (Objects.equals(c.getParent(), id)) {
+                dto.add(toDTO(c, addVOtoDTO(vo, c.getId())));
+            }
+        }
+        return dto;
+    }
+
+    // 기본 정렬(작성일 내림차순)만 옮겨왔다.
+    private void sort(List<CommentResponseDTO> content) {
+        for (CommentResponseDTO c : content) {
+            if (c.getReply().size() > 3) {
+                sort(c.getReply());
+            }
+            if (c.getReply().size() < 2) {
+                return;
+            }
+        }
+        content.sort(Comparator.comparing(CommentResponseDTO::getCreatedAt).reversed());
+    }
+
+    private CommentResponseDTO toDTO(CommentVO c, List<CommentResponseDTO> reply) {
+        return CommentResponseDTO.builder()
+                .content(c.getContent())
+                .writer(c.getWriter())
+                .like(c.getLike())
+                .createdAt(c.getCreatedAt())
+                .id(c.getId())
+                .reply(reply)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.hobbyhop.benchmark;
+
+import com.hobbyhop.domain.feed.merge.FeedMerger;
+import com.hobbyhop.domain.feed.repository.FeedRepository;
+import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 피드 한 페이지를 만드는 비용 비교. 모임마다 size + 1 개씩 정렬된 타임라인을 받은 상태에서 시작한다.
+ * sortAll   : 모든 타임라인을 한 목록으로 모아 정렬한 뒤 앞에서 자르는 방식
+ * heapMerge : FeedMerger 로 모임별 첫 게시글만 힙에 넣고 필요한 만큼만 꺼내는 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FeedMergeBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10", "50", "200"})
+    private int clubs;
+
+    private List<List<PostPageResponseDTO>> timelines;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long now = System.currentTimeMillis();
+        long postId = 0;
+
+        timelines = new ArrayList<>(clubs);
+        for (int club = 0; club < clubs; club++) {
+            // 모임마다 활동량이 달라 최근 일주일 안에서 흩어지도록 만든다.
+            List<PostPageResponseDTO> timeline = new ArrayList<>(PAGE_SIZE + 1);
+            for (int i = 0; i <= PAGE_SIZE; i++) {
+                timeline.add(PostPageResponseDTO.builder()
+                        .clubId((long) club)
+                        .postId(++postId)
+                        .createdAt(new Timestamp(now - random.nextInt((int) TimeUnit.DAYS.toMillis(7))))
+                        .build());
+            }
+            timeline.sort(FeedRepository.FEED_ORDER);
+            timelines.add(timeline);
+        }
+    }
+
+    @Benchmark
+    public List<PostPageResponseDTO> sortAll() {
+        List<PostPageResponseDTO> all = new ArrayList<>();
+        timelines.forEach(all::addAll);
+        all.sort(FeedRepository.FEED_ORDER);
+        return all.subList(0, Math.min(PAGE_SIZE + 1, all.size()));
+    }
+
+    @Benchmark
+    public List<PostPageResponseDTO> heapMerge() {
+        return FeedMerger.merge(timelines, FeedRepository.FEED_ORDER, PAGE_SIZE + 1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.hobbyhop.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.hobbyhop.domain.comment.dto.CommentResponseDTO;
+import com.hobbyhop.domain.post.dto.PostResponseDTO;
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 게시글, 댓글 목록 응답의 JSON 직렬화 비용.
+ * 스프링 MVC 와 같은 설정을 쓰도록 Jackson2ObjectMapperBuilder 로 ObjectMapper 를 만든다.
+ * 댓글은 최상위 하나에 리플 두 개씩 달린 형태다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JacksonSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int size;
+
+    private ObjectWriter writer;
+    private List<PostResponseDTO> posts;
+    private List<CommentResponseDTO> comments;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        posts = new ArrayList<>(size);
+        comments = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            posts.add(PostResponseDTO.builder()
+                    .clubId(1L)
+                    .postId(i)
+                    .writer("user-" + i)
+                    .postTitle("title-" + i)
+                    .postContent("content-" + i)
+                    .originImageUrl("image-" + i + ".jpg")
+                    .savedImageUrl("https://bucket.s3.amazonaws.com/image-" + i + ".jpg")
+                    .postNumber(i)
+                    .likeCnt(i * 3)
+                    .createdAt(now)
+                    .modifiedAt(now)
+                    .imageStatus(ImageStatus.DONE)
+                    .build());
+
+            List<CommentResponseDTO> replies = new ArrayList<>(2);
+            for (long j = 1; j <= 2; j++) {
+                replies.add(comment(i * 10 + j, now, new ArrayList<>()));
+            }
+            comments.add(comment(i, now, replies));
+        }
+    }
+
+    @Benchmark
+    public byte[] posts() throws JsonProcessingException {
+        return writer.writeValueAsBytes(posts);
+    }
+
+    @Benchmark
+    public byte[] comments() throws JsonProcessingException {
+        return writer.writeValueAsBytes(comments);
+    }
+
+    private CommentResponseDTO comment(long id, Timestamp createdAt, List<CommentResponseDTO> reply) {
+        return CommentResponseDTO.builder()
+                .content("comment-" + id)
+                .writer("user-" + id)
+                .like((int) id)
+                .createdAt(createdAt)
+                .id(id)
+                .reply(reply)
+                .build();
+    }
+}
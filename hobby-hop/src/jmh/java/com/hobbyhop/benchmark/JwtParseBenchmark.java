@@ -0,0 +1,61 @@
+package com.hobbyhop.benchmark;
+
+import com.hobbyhop.global.security.jwt.JwtTokenParser;
+import com.hobbyhop.global.security.jwt.ParsedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청 하나당 토큰 검증 비용 비교.
+ * before : 호출마다 parserBuilder 를 새로 만들고 필터에서 같은 토큰을 세 번 파싱하던 방식
+ * after  : 재사용하는 JwtTokenParser 로 한 번만 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtParseBenchmark {
+
+    private Key key;
+    private String token;
+    private JwtTokenParser jwtTokenParser;
+
+    @Setup
+    public void setup() {
+        key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        Date now = new Date();
+        token = Jwts.builder()
+                .setSubject("benchmark-user")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        jwtTokenParser = new JwtTokenParser(key);
+    }
+
+    @Benchmark
+    public String before() {
+        // shouldAccessTokenBeRefreshed, validateToken, getUserInfo
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String after() {
+        ParsedToken parsedToken = jwtTokenParser.parse(token);
+        return parsedToken.getSubject();
+    }
+}
@@ -0,0 +1,52 @@
+package com.hobbyhop.benchmark;
+
+import com.hobbyhop.global.security.jwt.JwtUtil;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 로그인, 인증 필터에서 쓰는 JwtUtil 의 토큰 발급과 검증 비용.
+ * redis 를 쓰지 않는 메서드만 재므로 RedisTokenStore, VerifiedTokenCache 없이 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        jwtUtil = new JwtUtil(null, null);
+
+        // @Value 로 주입되는 jwt.secret.key 를 직접 채운다.
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, Base64.getEncoder().encodeToString(
+                Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded()));
+        jwtUtil.init();
+
+        token = jwtUtil.createAccessToken("benchmark-user").substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    @Benchmark
+    public String create() {
+        return jwtUtil.createAccessToken("benchmark-user");
+    }
+
+    @Benchmark
+    public String verify() {
+        return jwtUtil.getUserInfo(token).getSubject();
+    }
+}
@@ -0,0 +1,65 @@
+package com.hobbyhop.benchmark;
+
+import com.hobbyhop.domain.post.dto.PostResponseDTO;
+import com.hobbyhop.global.request.PageRequestDTO;
+import com.hobbyhop.global.response.PageResponseDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 목록 응답마다 만드는 PageResponseDTO 생성 비용.
+ * offset : withAll 로 페이지 번호 목록을 계산
+ * cursor : size + 1 건에서 다음 페이지 여부를 판단하고 잘라낸 뒤 nextCursor 를 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"10", "50"})
+    public int size;
+
+    private PageRequestDTO offsetRequest;
+    private PageRequestDTO cursorRequest;
+    private List<PostResponseDTO> page;
+    private List<PostResponseDTO> pageWithNext;
+
+    @Setup
+    public void setup() {
+        offsetRequest = PageRequestDTO.builder().page(3).size(size).build();
+        cursorRequest = PageRequestDTO.builder().size(size).cursor(true).build();
+
+        pageWithNext = new ArrayList<>(size + 1);
+        for (long i = size + 1; i > 0; i--) {
+            pageWithNext.add(PostResponseDTO.builder().postId(i).postTitle("title-" + i).build());
+        }
+        page = pageWithNext.subList(0, size);
+    }
+
+    @Benchmark
+    public PageResponseDTO<PostResponseDTO> offset() {
+        return PageResponseDTO.<PostResponseDTO>withAll()
+                .pageRequestDTO(offsetRequest)
+                .dtoList(page)
+                .total(size * 100)
+                .build();
+    }
+
+    @Benchmark
+    public PageResponseDTO<PostResponseDTO> cursor() {
+        return PageResponseDTO.<PostResponseDTO>withCursor()
+                .pageRequestDTO(cursorRequest)
+                .dtoList(pageWithNext)
+                .cursorId(PostResponseDTO::getPostId)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.hobbyhop.domain.cascadedelete.controller;
+
+import com.hobbyhop.domain.cascadedelete.service.CascadeDeleteService;
+import com.hobbyhop.global.response.ApiResponse;
+import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/delete-jobs")
+@SecurityRequirement(name = "Bearer Authentication")
+public class CascadeDeleteController {
+
+    private final CascadeDeleteService cascadeDeleteService;
+
+    @Operation(summary = "삭제 작업 진행 상황 조회")
+    @GetMapping("/{jobId}")
+    public ApiResponse<?> getJob(@PathVariable("jobId") Long jobId,
+                                 @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ApiResponse.ok(cascadeDeleteService.getJob(jobId, userDetails.getUser()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.hobbyhop.domain.cascadedelete.dto;
+
+import com.hobbyhop.domain.cascadedelete.entity.CascadeDeleteJob;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeDeleteStatus;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeTarget;
+import java.sql.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CascadeDeleteJobResponseDTO {
+    private Long jobId;
+    private CascadeTarget targetType;
+    private Long targetId;
+    private CascadeDeleteStatus status;
+    private Long totalPosts;
+    private Long deletedPosts;
+    // 0 ~ 100
+    private int progress;
+    private Timestamp createdAt;
+    private Timestamp modifiedAt;
+
+    public static CascadeDeleteJobResponseDTO fromEntity(CascadeDeleteJob job) {
+        return CascadeDeleteJobResponseDTO.builder()
+                .jobId(job.getId())
+                .targetType(job.getTargetType())
+                .targetId(job.getTargetId())
+                .status(job.getStatus())
+                .totalPosts(job.getTotalPosts())
+                .deletedPosts(job.getDeletedPosts())
+                .progress(progressOf(job))
+                .createdAt(job.getCreatedAt())
+                .modifiedAt(job.getModifiedAt())
+                .build();
+    }
+
+    private static int progressOf(CascadeDeleteJob job) {
+        if (job.getStatus() == CascadeDeleteStatus.DONE) {
+            return 100;
+        }
+        if (job.getTotalPosts() == 0) {
+            return 0;
+        }
+        // 삭제 요청 뒤에 작성된 게시글까지 지우면 총량을 넘을 수 있어 99 에서 멈춘다.
+        return (int) Math.min(99, job.getDeletedPosts() * 100 / job.getTotalPosts());
+    }
+}
@@ -0,0 +1,76 @@
+package com.hobbyhop.domain.cascadedelete.entity;
+
+import com.hobbyhop.domain.BaseEntity;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeDeleteStatus;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeTarget;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 모임, 카테고리 삭제 시 하위 게시글/댓글/좋아요를 나눠서 지우는 작업.
+// 구간을 처리할 때마다 진행 위치(clubId, lastPostId)를 같은 트랜잭션에서 저장하므로 중단돼도 이어서 진행된다.
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CascadeDeleteJob extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CascadeTarget targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    // 삭제를 요청한 사용자. 진행 상황은 요청자, 대상 모임 관리자, 관리자만 볼 수 있다.
+    private Long requesterId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private CascadeDeleteStatus status = CascadeDeleteStatus.PENDING;
+
+    // 지금 정리 중인 모임, 더 지울 모임이 없으면 null
+    private Long clubId;
+
+    // clubId 모임에서 마지막으로 지운 게시글 id
+    @Column(nullable = false)
+    @Builder.Default
+    private Long lastPostId = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long totalPosts = 0L;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long deletedPosts = 0L;
+
+    // 여러 인스턴스가 같은 작업을 동시에 진행하지 않도록 한다.
+    @Version
+    private Long version;
+
+    public void start() {
+        if (status == CascadeDeleteStatus.PENDING) {
+            status = CascadeDeleteStatus.RUNNING;
+        }
+    }
+
+    public void advance(long deleted, Long lastPostId) {
+        this.deletedPosts += deleted;
+        this.lastPostId = lastPostId;
+    }
+
+    public void moveTo(Long nextClubId) {
+        this.clubId = nextClubId;
+        this.lastPostId = 0L;
+    }
+
+    public void done() {
+        this.clubId = null;
+        this.status = CascadeDeleteStatus.DONE;
+    }
+}
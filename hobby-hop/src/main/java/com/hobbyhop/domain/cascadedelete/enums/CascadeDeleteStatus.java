@@ -0,0 +1,5 @@
+package com.hobbyhop.domain.cascadedelete.enums;
+
+public enum CascadeDeleteStatus {
+    PENDING, RUNNING, DONE
+}
@@ -0,0 +1,11 @@
+package com.hobbyhop.domain.cascadedelete.repository;
+
+import com.hobbyhop.domain.cascadedelete.entity.CascadeDeleteJob;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeDeleteStatus;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CascadeDeleteJobRepository extends JpaRepository<CascadeDeleteJob, Long> {
+
+    List<CascadeDeleteJob> findAllByStatusNotOrderByIdAsc(CascadeDeleteStatus status);
+}
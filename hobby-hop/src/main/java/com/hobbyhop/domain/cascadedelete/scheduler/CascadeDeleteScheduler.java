@@ -0,0 +1,48 @@
+package com.hobbyhop.domain.cascadedelete.scheduler;
+
+import com.hobbyhop.domain.cascadedelete.service.CascadeDeleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 끝나지 않은 삭제 작업을 구간 단위로 이어서 진행한다.
+// 진행 상황이 DB 에 남아 있으므로 서버가 재시작돼도 다음 실행에서 이어진다.
+@Slf4j(topic = "연쇄 삭제 작업")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hobbyhop.cascade-delete.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class CascadeDeleteScheduler {
+
+    private final CascadeDeleteService cascadeDeleteService;
+
+    // 한 번 실행에서 처리할 최대 구간 수
+    @Value("${hobbyhop.cascade-delete.chunks-per-run:20}")
+    private int chunksPerRun;
+
+    @Scheduled(fixedDelayString = "${hobbyhop.cascade-delete.delay-ms:1000}")
+    public void run() {
+        int remaining = chunksPerRun;
+
+        for (Long jobId : cascadeDeleteService.getUnfinishedJobIds()) {
+            try {
+                while (remaining > 0) {
+                    remaining--;
+                    if (!cascadeDeleteService.processChunk(jobId)) {
+                        log.info("삭제 작업 완료 jobId={}", jobId);
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                // 실패한 구간은 롤백되어 다음 실행에서 다시 시도한다.
+                log.error("삭제 작업 실패 jobId={}", jobId, e);
+            }
+
+            if (remaining == 0) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.hobbyhop.domain.cascadedelete.service;
+
+import com.hobbyhop.domain.cascadedelete.dto.CascadeDeleteJobResponseDTO;
+import com.hobbyhop.domain.category.entity.Category;
+import com.hobbyhop.domain.club.entity.Club;
+import com.hobbyhop.domain.user.entity.User;
+import java.util.List;
+
+public interface CascadeDeleteService {
+
+    // 모임을 바로 숨기고 하위 요소 삭제 작업을 등록한다.
+    CascadeDeleteJobResponseDTO deleteClub(Club club, User requester);
+
+    // 카테고리와 소속 모임을 바로 숨기고 하위 요소 삭제 작업을 등록한다.
+    CascadeDeleteJobResponseDTO deleteCategory(Category category, User requester);
+
+    // 작업을 한 구간 진행한다. 남은 구간이 있으면 true
+    boolean processChunk(Long jobId);
+
+    List<Long> getUnfinishedJobIds();
+
+    // 요청자, 대상 모임 관리자, 관리자가 아니면 CascadeDeleteJobAccessDeniedException
+    CascadeDeleteJobResponseDTO getJob(Long jobId, User user);
+}
@@ -0,0 +1,150 @@
+package com.hobbyhop.domain.cascadedelete.service.impl;
+
+import com.hobbyhop.domain.cascadedelete.dto.CascadeDeleteJobResponseDTO;
+import com.hobbyhop.domain.cascadedelete.entity.CascadeDeleteJob;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeDeleteStatus;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeTarget;
+import com.hobbyhop.domain.cascadedelete.repository.CascadeDeleteJobRepository;
+import com.hobbyhop.domain.cascadedelete.service.CascadeDeleteService;
+import com.hobbyhop.domain.category.entity.Category;
+import com.hobbyhop.domain.category.repository.CategoryRepository;
+import com.hobbyhop.domain.club.entity.Club;
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import com.hobbyhop.domain.clubmember.service.ClubMemberService;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.enums.UserRoleEnum;
+import com.hobbyhop.global.exception.cascadedelete.CascadeDeleteJobAccessDeniedException;
+import com.hobbyhop.global.exception.cascadedelete.CascadeDeleteJobNotFoundException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CascadeDeleteServiceImpl implements CascadeDeleteService {
+
+    private final CascadeDeleteJobRepository cascadeDeleteJobRepository;
+    private final CategoryRepository categoryRepository;
+    private final ClubRepository clubRepository;
+    private final PostRepository postRepository;
+    private final ClubMemberService clubMemberService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${hobbyhop.cascade-delete.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    @Transactional
+    public CascadeDeleteJobResponseDTO deleteClub(Club club, User requester) {
+        long totalPosts = postRepository.countByClubIdIn(List.of(club.getId()));
+
+        clubRepository.delete(club);
+        eventPublisher.publishEvent(new ClubDeletedEvent(List.of(club.getId())));
+
+        CascadeDeleteJob job = CascadeDeleteJob.builder()
+                .targetType(CascadeTarget.CLUB)
+                .targetId(club.getId())
+                .requesterId(requester.getId())
+                .clubId(club.getId())
+                .totalPosts(totalPosts)
+                .build();
+
+        return CascadeDeleteJobResponseDTO.fromEntity(cascadeDeleteJobRepository.save(job));
+    }
+
+    @Override
+    @Transactional
+    public CascadeDeleteJobResponseDTO deleteCategory(Category category, User requester) {
+        List<Long> clubIds = clubRepository.findIdsByCategoryId(category.getId());
+        long totalPosts = clubIds.isEmpty() ? 0 : postRepository.countByClubIdIn(clubIds);
+
+        clubRepository.softDeleteByCategoryId(category.getId());
+        categoryRepository.delete(category);
+        eventPublisher.publishEvent(new ClubDeletedEvent(clubIds));
+
+        CascadeDeleteJob job = CascadeDeleteJob.builder()
+                .targetType(CascadeTarget.CATEGORY)
+                .targetId(category.getId())
+                .requesterId(requester.getId())
+                .clubId(clubRepository.findNextIdByCategoryId(category.getId(), 0L))
+                .totalPosts(totalPosts)
+                .build();
+
+        return CascadeDeleteJobResponseDTO.fromEntity(cascadeDeleteJobRepository.save(job));
+    }
+
+    // 구간 삭제와 진행 위치 저장을 한 트랜잭션으로 묶어 락은 구간 단위로만 잡는다.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean processChunk(Long jobId) {
+        CascadeDeleteJob job = cascadeDeleteJobRepository.findById(jobId)
+                .orElseThrow(CascadeDeleteJobNotFoundException::new);
+
+        if (job.getStatus() == CascadeDeleteStatus.DONE) {
+            return false;
+        }
+        job.start();
+
+        Long clubId = job.getClubId();
+        if (clubId == null) {
+            job.done();
+            return false;
+        }
+
+        Long chunkEnd = postRepository.findChunkEnd(clubId, job.getLastPostId(), chunkSize);
+        if (chunkEnd != null) {
+            long deleted = postRepository.deleteAllElementInRange(clubId, job.getLastPostId() + 1, chunkEnd);
+            job.advance(deleted, chunkEnd);
+            return true;
+        }
+
+        // 모임의 게시글을 다 지웠으면 회원을 정리하고 다음 모임으로 넘어간다.
+        clubRepository.deleteAllMembers(clubId);
+
+        Long nextClubId = job.getTargetType() == CascadeTarget.CATEGORY
+                ? clubRepository.findNextIdByCategoryId(job.getTargetId(), clubId)
+                : null;
+
+        if (nextClubId == null) {
+            job.done();
+            return false;
+        }
+
+        job.moveTo(nextClubId);
+        return true;
+    }
+
+    @Override
+    public List<Long> getUnfinishedJobIds() {
+        return cascadeDeleteJobRepository.findAllByStatusNotOrderByIdAsc(CascadeDeleteStatus.DONE).stream()
+                .map(CascadeDeleteJob::getId)
+                .toList();
+    }
+
+    @Override
+    public CascadeDeleteJobResponseDTO getJob(Long jobId, User user) {
+        CascadeDeleteJob job = cascadeDeleteJobRepository.findById(jobId)
+                .orElseThrow(CascadeDeleteJobNotFoundException::new);
+        validateJobAccess(job, user);
+        return CascadeDeleteJobResponseDTO.fromEntity(job);
+    }
+
+    // 모임 관리자 권한은 작업이 회원을 정리하기 전까지만 남으므로 요청자를 작업에 따로 기록해 둔다.
+    private void validateJobAccess(CascadeDeleteJob job, User user) {
+        if (user.getId().equals(job.getRequesterId()) || user.getRole() == UserRoleEnum.ADMIN) {
+            return;
+        }
+        if (job.getTargetType() == CascadeTarget.CLUB
+                && clubMemberService.isAdminMember(job.getTargetId(), user.getId())) {
+            return;
+        }
+        throw new CascadeDeleteJobAccessDeniedException();
+    }
+}
@@ -0,0 +1,11 @@
+package com.hobbyhop.domain.category.cache;
+
+import com.hobbyhop.domain.category.entity.Category;
+
+// 캐시에 보관하는 카테고리 정보
+public record CategorySnapshot(Long id, String categoryName, String description) {
+
+    public static CategorySnapshot from(Category category) {
+        return new CategorySnapshot(category.getId(), category.getCategoryName(), category.getDescription());
+    }
+}
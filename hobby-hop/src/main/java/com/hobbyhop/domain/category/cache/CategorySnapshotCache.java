@@ -0,0 +1,62 @@
+package com.hobbyhop.domain.category.cache;
+
+import com.hobbyhop.domain.category.repository.CategoryRepository;
+import com.hobbyhop.global.cache.SnapshotCache;
+import com.hobbyhop.global.cache.SnapshotCacheStats;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 카테고리는 거의 바뀌지 않으므로 모임보다 오래 보관한다.
+@Slf4j(topic = "카테고리 캐시")
+@Component
+public class CategorySnapshotCache {
+
+    public static final String INVALIDATE_CHANNEL = "category:snapshot:invalidate";
+
+    private final CategoryRepository categoryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean pubsubEnabled;
+    private final SnapshotCache<Long, CategorySnapshot> cache;
+
+    public CategorySnapshotCache(CategoryRepository categoryRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${hobbyhop.cache.pubsub.enabled:true}") boolean pubsubEnabled,
+            @Value("${hobbyhop.entity-cache.category.max-size:1000}") int maxSize,
+            @Value("${hobbyhop.entity-cache.category.ttl-ms:3600000}") long ttlMs) {
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.pubsubEnabled = pubsubEnabled;
+        this.cache = new SnapshotCache<>("category", maxSize, ttlMs, this::publishEvict);
+    }
+
+    public Optional<CategorySnapshot> find(Long categoryId) {
+        return cache.get(categoryId, id -> categoryRepository.findById(id).map(CategorySnapshot::from).orElse(null));
+    }
+
+    public void evict(Long categoryId) {
+        cache.evict(categoryId);
+    }
+
+    // 다른 서버의 무효화 알림을 받았을 때 호출된다.
+    public void evictLocal(Long categoryId) {
+        cache.evictLocal(categoryId);
+    }
+
+    public SnapshotCacheStats stats() {
+        return cache.stats();
+    }
+
+    private void publishEvict(Long categoryId) {
+        if (!pubsubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(categoryId));
+        } catch (RuntimeException e) {
+            log.error("카테고리 캐시 무효화 알림 실패 categoryId={}", categoryId, e);
+        }
+    }
+}
@@ -3,10 +3,12 @@ package com.hobbyhop.domain.category.controller;
 import com.hobbyhop.domain.category.dto.CategoryRequestDTO;
 import com.hobbyhop.domain.category.service.CategoryService;
 import com.hobbyhop.global.response.ApiResponse;
+import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,9 +27,8 @@ public class CategoryController {
 
     @Operation(summary = "카테고리 삭제")
     @DeleteMapping("/{categoryId}")
-    public ApiResponse<?> removeCategory(@PathVariable("categoryId") Long categoryId) {
-        categoryService.removeCategory(categoryId);
-
-        return ApiResponse.ok("카테고리가 삭제되었습니다.");
+    public ApiResponse<?> removeCategory(@PathVariable("categoryId") Long categoryId,
+                                         @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ApiResponse.ok(categoryService.removeCategory(categoryId, userDetails.getUser()));
     }
 }
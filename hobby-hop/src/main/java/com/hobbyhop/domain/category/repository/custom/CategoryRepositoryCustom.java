@@ -1,6 +0,0 @@
-package com.hobbyhop.domain.category.repository.custom;
-
-public interface CategoryRepositoryCustom {
-
-    void deleteAllElement(Long categoryId);
-}
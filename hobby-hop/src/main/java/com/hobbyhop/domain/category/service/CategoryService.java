@@ -1,13 +1,22 @@
 package com.hobbyhop.domain.category.service;
 
+import com.hobbyhop.domain.cascadedelete.dto.CascadeDeleteJobResponseDTO;
+import com.hobbyhop.domain.category.cache.CategorySnapshot;
 import com.hobbyhop.domain.category.dto.CategoryRequestDTO;
 import com.hobbyhop.domain.category.dto.CategoryResponseDTO;
 import com.hobbyhop.domain.category.entity.Category;
+import com.hobbyhop.domain.user.entity.User;
 
 public interface CategoryService {
     // TODO : implement 관리자가 카테고리를 추가할 수 있는 기능
 
     CategoryResponseDTO makeCategory(CategoryRequestDTO categoryRequestDTO);
-    void removeCategory(Long categoryId);
+    CascadeDeleteJobResponseDTO removeCategory(Long categoryId, User user);
     Category findCategory(Long categoryId);
+
+    // 캐시된 카테고리 정보. 수정하지 않는 조회에서 사용한다.
+    CategorySnapshot getCategorySnapshot(Long categoryId);
+
+    // 캐시로 존재 여부를 확인하고 조회 없이 참조한다. 연관관계를 걸 때 사용한다.
+    Category getCategoryReference(Long categoryId);
 }
@@ -1,10 +1,15 @@
 package com.hobbyhop.domain.category.service.impl;
 
+import com.hobbyhop.domain.cascadedelete.dto.CascadeDeleteJobResponseDTO;
+import com.hobbyhop.domain.cascadedelete.service.CascadeDeleteService;
+import com.hobbyhop.domain.category.cache.CategorySnapshot;
+import com.hobbyhop.domain.category.cache.CategorySnapshotCache;
 import com.hobbyhop.domain.category.dto.CategoryRequestDTO;
 import com.hobbyhop.domain.category.dto.CategoryResponseDTO;
 import com.hobbyhop.domain.category.entity.Category;
 import com.hobbyhop.domain.category.repository.CategoryRepository;
 import com.hobbyhop.domain.category.service.CategoryService;
+import com.hobbyhop.domain.user.entity.User;
 import com.hobbyhop.global.exception.category.AlreadyExistCategoryException;
 import com.hobbyhop.global.exception.category.CategoryNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CategoryServiceImpl implements CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CascadeDeleteService cascadeDeleteService;
+    private final CategorySnapshotCache categorySnapshotCache;
     @Override
     @Transactional
     public CategoryResponseDTO makeCategory(CategoryRequestDTO categoryRequestDTO) {
@@ -26,19 +33,33 @@ public class CategoryServiceImpl implements CategoryService {
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
+        categorySnapshotCache.evict(savedCategory.getId());
         return CategoryResponseDTO.fromEntity(savedCategory);
     }
 
     @Override
     @Transactional
-    public void removeCategory(Long categoryId) {
-        categoryRepository.deleteAllElement(categoryId);
+    public CascadeDeleteJobResponseDTO removeCategory(Long categoryId, User user) {
+        CascadeDeleteJobResponseDTO job = cascadeDeleteService.deleteCategory(findCategory(categoryId), user);
+        categorySnapshotCache.evict(categoryId);
+        return job;
     }
 
     @Override
     public Category findCategory(Long categoryId) {
         return categoryRepository.findById(categoryId).orElseThrow(CategoryNotFoundException::new);
     }
+
+    @Override
+    public CategorySnapshot getCategorySnapshot(Long categoryId) {
+        return categorySnapshotCache.find(categoryId).orElseThrow(CategoryNotFoundException::new);
+    }
+
+    @Override
+    public Category getCategoryReference(Long categoryId) {
+        return categoryRepository.getReferenceById(getCategorySnapshot(categoryId).id());
+    }
+
     private void validateCategoryName(String categoryName) {
         categoryRepository.findByCategoryName(categoryName).ifPresent(category -> {
             throw new AlreadyExistCategoryException();
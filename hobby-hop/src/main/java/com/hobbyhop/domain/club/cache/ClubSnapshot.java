@@ -0,0 +1,44 @@
+package com.hobbyhop.domain.club.cache;
+
+import com.hobbyhop.domain.category.cache.CategorySnapshot;
+import com.hobbyhop.domain.club.dto.ClubResponseDTO;
+import com.hobbyhop.domain.club.entity.Club;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+// 캐시에 보관하는 모임 정보. Timestamp 는 값이 바뀔 수 있어 Instant 로 보관한다.
+public record ClubSnapshot(Long id, String title, String content, Long categoryId, String categoryName,
+                           Instant createdAt, Instant modifiedAt) {
+
+    public static ClubSnapshot of(Long id, String title, String content, Long categoryId, String categoryName,
+            Timestamp createdAt, Timestamp modifiedAt) {
+        return new ClubSnapshot(id, title, content, categoryId, categoryName, toInstant(createdAt),
+                toInstant(modifiedAt));
+    }
+
+    // 카테고리 프록시를 초기화하지 않도록 카테고리 정보는 캐시된 값을 쓴다.
+    public static ClubSnapshot of(Club club, CategorySnapshot category) {
+        return of(club.getId(), club.getTitle(), club.getContent(), category.id(), category.categoryName(),
+                club.getCreatedAt(), club.getModifiedAt());
+    }
+
+    public ClubResponseDTO toResponseDTO() {
+        return ClubResponseDTO.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .categoryName(categoryName)
+                .categoryId(categoryId)
+                .createdAt(toTimestamp(createdAt))
+                .modifiedAt(toTimestamp(modifiedAt))
+                .build();
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
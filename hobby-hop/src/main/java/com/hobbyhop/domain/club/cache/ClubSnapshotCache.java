@@ -0,0 +1,73 @@
+package com.hobbyhop.domain.club.cache;
+
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import com.hobbyhop.global.cache.SnapshotCache;
+import com.hobbyhop.global.cache.SnapshotCacheStats;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 모임 단건 조회용 캐시. 수정, 삭제 시 ClubServiceImpl 과 삭제 이벤트에서 지운다.
+@Slf4j(topic = "모임 캐시")
+@Component
+public class ClubSnapshotCache {
+
+    public static final String INVALIDATE_CHANNEL = "club:snapshot:invalidate";
+
+    private final ClubRepository clubRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean pubsubEnabled;
+    private final SnapshotCache<Long, ClubSnapshot> cache;
+
+    public ClubSnapshotCache(ClubRepository clubRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${hobbyhop.cache.pubsub.enabled:true}") boolean pubsubEnabled,
+            @Value("${hobbyhop.entity-cache.club.max-size:10000}") int maxSize,
+            @Value("${hobbyhop.entity-cache.club.ttl-ms:60000}") long ttlMs) {
+        this.clubRepository = clubRepository;
+        this.redisTemplate = redisTemplate;
+        this.pubsubEnabled = pubsubEnabled;
+        this.cache = new SnapshotCache<>("club", maxSize, ttlMs, this::publishEvict);
+    }
+
+    public Optional<ClubSnapshot> find(Long clubId) {
+        return cache.get(clubId, id -> clubRepository.findSnapshot(id).orElse(null));
+    }
+
+    public void evict(Long clubId) {
+        cache.evict(clubId);
+    }
+
+    // 다른 서버의 무효화 알림을 받았을 때 호출된다.
+    public void evictLocal(Long clubId) {
+        cache.evictLocal(clubId);
+    }
+
+    // 카테고리 삭제처럼 여러 모임이 한 번에 숨겨진 경우. 이미 커밋된 뒤이므로 바로 지우고 알린다.
+    @TransactionalEventListener
+    public void onClubDeleted(ClubDeletedEvent event) {
+        event.clubIds().forEach(clubId -> {
+            cache.evictLocal(clubId);
+            publishEvict(clubId);
+        });
+    }
+
+    public SnapshotCacheStats stats() {
+        return cache.stats();
+    }
+
+    private void publishEvict(Long clubId) {
+        if (!pubsubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(clubId));
+        } catch (RuntimeException e) {
+            log.error("모임 캐시 무효화 알림 실패 clubId={}", clubId, e);
+        }
+    }
+}
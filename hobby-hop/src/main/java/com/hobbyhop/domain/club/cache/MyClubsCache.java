@@ -0,0 +1,98 @@
+package com.hobbyhop.domain.club.cache;
+
+import com.hobbyhop.domain.club.dto.ClubResponseDTO;
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import com.hobbyhop.global.cache.SnapshotCache;
+import com.hobbyhop.global.cache.SnapshotCacheStats;
+import com.hobbyhop.global.request.PageRequestDTO;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 내가 가입한 모임 조회용 캐시. 사용자 단위로 가입, 탈퇴 시 ClubMemberServiceImpl 에서 지우고 다른 서버에도 알린다.
+// 다른 회원의 가입으로 바뀌는 회원 수와 모임 정보 수정은 TTL 이 지나야 반영된다.
+@Slf4j(topic = "내 모임 캐시")
+@Component
+public class MyClubsCache {
+
+    // 메시지: userId, 또는 전체를 비울 때 ALL
+    public static final String INVALIDATE_CHANNEL = "club:my-clubs:invalidate";
+    private static final String ALL = "*";
+
+    private final ClubRepository clubRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean pubsubEnabled;
+    private final SnapshotCache<Key, MyClubsPage> cache;
+
+    public MyClubsCache(ClubRepository clubRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${hobbyhop.cache.pubsub.enabled:true}") boolean pubsubEnabled,
+            @Value("${hobbyhop.entity-cache.my-clubs.max-size:10000}") int maxSize,
+            @Value("${hobbyhop.entity-cache.my-clubs.ttl-ms:30000}") long ttlMs) {
+        this.clubRepository = clubRepository;
+        this.redisTemplate = redisTemplate;
+        this.pubsubEnabled = pubsubEnabled;
+        this.cache = new SnapshotCache<>("my-clubs", maxSize, ttlMs);
+    }
+
+    public MyClubsPage find(Long userId, PageRequestDTO pageRequestDTO) {
+        Key key = new Key(userId, pageRequestDTO.getPage(), pageRequestDTO.getSize(), pageRequestDTO.isDesc());
+        MyClubsPage cached = cache.get(key, k -> {
+            Page<ClubResponseDTO> result = clubRepository.findMyClubs(userId, pageRequestDTO);
+            return new MyClubsPage(List.copyOf(result.getContent()), result.getTotalElements());
+        }).orElseThrow();
+        return cached.copy();
+    }
+
+    public void evict(Long userId) {
+        cache.evictIf(key -> key.userId().equals(userId), () -> publish(String.valueOf(userId)));
+    }
+
+    // 다른 서버의 무효화 알림을 받았을 때 호출된다.
+    public void evictLocal(String message) {
+        if (ALL.equals(message)) {
+            cache.evictAll();
+            return;
+        }
+        Long userId = Long.valueOf(message);
+        cache.evictIf(key -> key.userId().equals(userId));
+    }
+
+    // 삭제된 모임의 회원을 따로 조회하지 않고 전체를 비운다. 이미 커밋된 뒤이므로 바로 알린다.
+    @TransactionalEventListener
+    public void onClubDeleted(ClubDeletedEvent event) {
+        cache.evictAll();
+        publish(ALL);
+    }
+
+    public SnapshotCacheStats stats() {
+        return cache.stats();
+    }
+
+    private void publish(String message) {
+        if (!pubsubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.error("내 모임 캐시 무효화 알림 실패 message={}", message, e);
+        }
+    }
+
+    private record Key(Long userId, int page, int size, boolean isDesc) {
+    }
+
+    // ClubResponseDTO 는 변경 가능한 객체라 꺼낼 때마다 복사해서 돌려준다.
+    public record MyClubsPage(List<ClubResponseDTO> content, long total) {
+
+        private MyClubsPage copy() {
+            return new MyClubsPage(content.stream().map(dto -> dto.toBuilder().build()).toList(), total);
+        }
+    }
+}
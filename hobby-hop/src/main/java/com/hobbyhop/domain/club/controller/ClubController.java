@@ -1,5 +1,6 @@
 package com.hobbyhop.domain.club.controller;
 
+import com.hobbyhop.domain.club.dto.ClubAutocompleteRequestDTO;
 import com.hobbyhop.domain.club.dto.ClubModifyDTO;
 import com.hobbyhop.domain.club.dto.ClubRequestDTO;
 import com.hobbyhop.domain.club.service.ClubService;
@@ -33,10 +34,17 @@ public class ClubController {
     // TODO : implement 검색, 카테고리별 정렬
     @Operation(summary = "모든 모임 리스트 조회")
     @GetMapping
-    public ApiResponse<?> getClubList(PageRequestDTO pageRequestDTO) {
+    public ApiResponse<?> getClubList(@Valid PageRequestDTO pageRequestDTO) {
         return ApiResponse.ok(clubService.getAllClubs(pageRequestDTO));
     }
 
+    @Operation(summary = "모임 검색어 자동완성")
+    @GetMapping("/autocomplete")
+    public ApiResponse<?> autocomplete(@Valid ClubAutocompleteRequestDTO clubAutocompleteRequestDTO) {
+        return ApiResponse.ok(clubService.autocomplete(clubAutocompleteRequestDTO.getPrefix(),
+                clubAutocompleteRequestDTO.getSize()));
+    }
+
     @Operation(summary = "모임 조회")
     @GetMapping("/{clubId}")
     public ApiResponse<?> getClub(@PathVariable("clubId") Long clubId) {
@@ -45,8 +53,9 @@ public class ClubController {
 
     @Operation(summary = "내가 가입한 모임 조회")
     @GetMapping("/my")
-    public ApiResponse<?> getMyClubs(@AuthenticationPrincipal UserDetailsImpl userDetails) {
-        return ApiResponse.ok(clubService.getMyClubs(userDetails.getUser()));
+    public ApiResponse<?> getMyClubs(@AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Valid PageRequestDTO pageRequestDTO) {
+        return ApiResponse.ok(clubService.getMyClubs(userDetails.getUser(), pageRequestDTO));
     }
 
     @Operation(summary = "모임 정보 수정")
@@ -58,8 +67,7 @@ public class ClubController {
     @Operation(summary = "모임 삭제")
     @DeleteMapping("/{clubId}")
     public ApiResponse<?> removeClub(@PathVariable("clubId") Long clubId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
-        clubService.removeClubById(clubId, userDetails.getUser());
-        return ApiResponse.ok("삭제 성공");
+        return ApiResponse.ok(clubService.removeClubById(clubId, userDetails.getUser()));
     }
 
     @Operation(summary = "모임 탈퇴")
@@ -0,0 +1,23 @@
+package com.hobbyhop.domain.club.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClubAutocompleteRequestDTO {
+    @NotNull(message = "검색어를 입력해야 합니다.")
+    private String prefix;
+    // 색인은 접두사마다 상위 후보를 미리 잘라 두므로 그보다 큰 크기는 받지 않는다.
+    @Builder.Default
+    @Min(value = 1, message = "자동완성 개수는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "자동완성 개수는 50 이하여야 합니다.")
+    private int size = 10;
+}
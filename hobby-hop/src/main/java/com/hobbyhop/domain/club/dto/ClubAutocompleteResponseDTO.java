@@ -0,0 +1,27 @@
+package com.hobbyhop.domain.club.dto;
+
+import com.hobbyhop.domain.club.search.ClubAutocompleteEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ClubAutocompleteResponseDTO {
+    private Long id;
+    private String title;
+    private String categoryName;
+    private Long memberCount;
+
+    public static ClubAutocompleteResponseDTO fromEntry(ClubAutocompleteEntry entry) {
+        return ClubAutocompleteResponseDTO.builder()
+                .id(entry.clubId())
+                .title(entry.title())
+                .categoryName(entry.categoryName())
+                .memberCount(entry.memberCount())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.hobbyhop.domain.club.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.hobbyhop.domain.club.entity.Club;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,7 @@ import java.sql.Timestamp;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class ClubResponseDTO {
     private Long id;
     private String title;
@@ -20,6 +21,15 @@ public class ClubResponseDTO {
     private Timestamp createdAt;
     private Timestamp modifiedAt;
     private Long categoryId;
+    // 내가 가입한 모임 조회에서만 채운다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long memberCount;
+
+    // 회원 수 없이 조회하는 목록 projection 용
+    public ClubResponseDTO(Long id, String title, String content, String categoryName, Timestamp createdAt,
+            Timestamp modifiedAt, Long categoryId) {
+        this(id, title, content, categoryName, createdAt, modifiedAt, categoryId, null);
+    }
 
     public static ClubResponseDTO fromEntity(Club club) {
         return ClubResponseDTO.builder()
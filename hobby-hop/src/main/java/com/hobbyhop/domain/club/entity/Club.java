@@ -30,6 +30,11 @@ public class Club extends BaseEntity {
     @Column(name="deleted_at")
     private Timestamp deletedAt;
 
+    // 마지막으로 발급한 게시글 번호 (ClubRepository.increasePostSequence 로만 증가)
+    // 모임 수정 시 dirty checking 이 옛 값으로 덮어써 번호가 중복되지 않도록 읽기 전용으로 매핑한다.
+    @Column(name = "post_sequence", insertable = false, updatable = false)
+    private Long postSequence;
+
     public void changeTitle(String title) {
         this.title = title;
     }
@@ -0,0 +1,7 @@
+package com.hobbyhop.domain.club.event;
+
+import java.util.List;
+
+// 모임(카테고리 삭제 시 소속 모임 전체)이 숨겨진 뒤 발행한다.
+public record ClubDeletedEvent(List<Long> clubIds) {
+}
@@ -0,0 +1,5 @@
+package com.hobbyhop.domain.club.event;
+
+// 모임 생성, 수정 후 발행. 커밋 이후 자동완성 색인에 반영된다.
+public record ClubSavedEvent(Long clubId, String title, String categoryName) {
+}
@@ -4,7 +4,9 @@ import com.hobbyhop.domain.club.entity.Club;
 import com.hobbyhop.domain.club.repository.custom.ClubRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -12,6 +14,20 @@ import org.springframework.data.repository.query.Param;
 public interface ClubRepository extends JpaRepository<Club, Long>, ClubRepositoryCustom {
     Optional<Club> findByTitle(String title);
 
-    @Query(value = "SELECT COUNT(*) FROM post WHERE club_id = :clubId", nativeQuery = true)
-    Long findByClubId(@Param("clubId") Long clubId);
+    // 처음 발급할 때는 기존 게시글 번호의 최댓값부터 이어서 센다.
+    @Modifying
+    @Query(value = "UPDATE club SET post_sequence = COALESCE(post_sequence, "
+            + "(SELECT COALESCE(MAX(post_number), 0) FROM post WHERE club_id = :clubId)) + 1 "
+            + "WHERE id = :clubId", nativeQuery = true)
+    int increasePostSequence(@Param("clubId") Long clubId);
+
+    @Query(value = "SELECT post_sequence FROM club WHERE id = :clubId", nativeQuery = true)
+    Long findPostSequence(@Param("clubId") Long clubId);
+
+    @Query(value = "SELECT id FROM club WHERE category_id = :categoryId AND deleted_at IS NULL", nativeQuery = true)
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    // 이미 숨겨진 모임도 포함해서 다음 모임을 찾는다. (삭제 작업 재개용)
+    @Query(value = "SELECT MIN(id) FROM club WHERE category_id = :categoryId AND id > :afterClubId", nativeQuery = true)
+    Long findNextIdByCategoryId(@Param("categoryId") Long categoryId, @Param("afterClubId") Long afterClubId);
 }
@@ -1,10 +1,36 @@
 package com.hobbyhop.domain.club.repository.custom;
 
+import com.hobbyhop.domain.club.cache.ClubSnapshot;
 import com.hobbyhop.domain.club.dto.ClubResponseDTO;
+import com.hobbyhop.domain.club.search.ClubAutocompleteEntry;
+import com.hobbyhop.global.request.PageRequestDTO;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface ClubRepositoryCustom {
     Page<ClubResponseDTO> findAll(Pageable pageable, String keyword);
-    void deleteAllElement(Long clubId);
+
+    // 커서 모드. afterId 다음 모임부터 limit 개를 id 순으로 조회한다.
+    List<ClubResponseDTO> findAllAfter(String keyword, Long afterId, int limit, boolean isDesc);
+
+    long count(String keyword);
+
+    // 사용자가 가입한 모임을 카테고리 이름, 회원 수와 함께 한 번에 조회한다.
+    Page<ClubResponseDTO> findMyClubs(Long userId, PageRequestDTO pageRequestDTO);
+
+    // 캐시용 단건 조회. 카테고리 이름까지 한 번에 가져온다.
+    Optional<ClubSnapshot> findSnapshot(Long clubId);
+
+    // 자동완성 색인용 전체 모임과 회원 수
+    List<ClubAutocompleteEntry> findAllAutocompleteEntries();
+
+    // 다른 서버에서 바뀐 모임을 자동완성 색인에 다시 넣을 때 쓴다.
+    Optional<ClubAutocompleteEntry> findAutocompleteEntry(Long clubId);
+
+    // 카테고리에 속한 모임을 한 번에 숨긴다. 하위 요소는 CascadeDeleteJob 이 나눠서 지운다.
+    long softDeleteByCategoryId(Long categoryId);
+
+    long deleteAllMembers(Long clubId);
 }
@@ -1,28 +1,29 @@
 package com.hobbyhop.domain.club.repository.custom.impl;
 
+import static com.hobbyhop.domain.category.entity.QCategory.category;
 import static com.hobbyhop.domain.club.entity.QClub.club;
-import static com.hobbyhop.domain.comment.entity.QComment.comment;
-import static com.hobbyhop.domain.commentuser.entity.QCommentUser.commentUser;
-import static com.hobbyhop.domain.post.entity.QPost.post;
 import static com.hobbyhop.domain.clubmember.entity.QClubMember.clubMember;
-import static com.hobbyhop.domain.postuser.entity.QPostUser.postUser;
-import static com.querydsl.core.group.GroupBy.groupBy;
 
-import com.hobbyhop.domain.club.dto.ClubElementVO;
+import com.hobbyhop.domain.club.cache.ClubSnapshot;
 import com.hobbyhop.domain.club.dto.ClubResponseDTO;
 import com.hobbyhop.domain.club.entity.Club;
 import com.hobbyhop.domain.club.repository.custom.ClubRepositoryCustom;
+import com.hobbyhop.domain.club.search.ClubAutocompleteEntry;
+import com.hobbyhop.domain.clubmember.entity.QClubMember;
+import com.hobbyhop.global.request.PageRequestDTO;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 
@@ -36,85 +37,169 @@ public class ClubRepositoryCustomImpl extends QuerydslRepositorySupport implemen
 
     @Override
     public Page<ClubResponseDTO> findAll(Pageable pageable, String keyword) {
-        JPAQuery<ClubResponseDTO> query = jpaQueryFactory
+        JPAQuery<ClubResponseDTO> query = selectClub()
+                .where(titleContains(keyword));
+
+        List<ClubResponseDTO> content = getQuerydsl().applyPagination(pageable, query).fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(keyword));
+    }
+
+    @Override
+    public List<ClubResponseDTO> findAllAfter(String keyword, Long afterId, int limit, boolean isDesc) {
+        return selectClub()
+                .where(titleContains(keyword), idAfter(afterId, isDesc))
+                .orderBy(isDesc ? club.id.desc() : club.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long count(String keyword) {
+        Long count = jpaQueryFactory
+                .select(club.count())
+                .from(club)
+                .join(club.category, category)
+                .where(titleContains(keyword))
+                .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Page<ClubResponseDTO> findMyClubs(Long userId, PageRequestDTO pageRequestDTO) {
+        Pageable pageable = pageRequestDTO.getPageable("id");
+        QClubMember member = new QClubMember("member");
+
+        List<ClubResponseDTO> content = jpaQueryFactory
                 .select(
                         Projections.constructor(
                                 ClubResponseDTO.class,
                                 club.id,
                                 club.title,
                                 club.content,
-                                club.category.categoryName,
+                                category.categoryName,
                                 club.createdAt,
                                 club.modifiedAt,
-                                club.category.id.as("categoryId")))
-                .from(club);
-
-        if (keyword != null) {
-            BooleanExpression titleContainsKeyword = club.title.containsIgnoreCase(keyword);
-//            BooleanExpression categoryNameContainsKeyword = club.category.categoryName.containsIgnoreCase(keyword);
-            query.where(titleContainsKeyword.or(titleContainsKeyword));
-        }
+                                category.id,
+                                JPAExpressions
+                                        .select(member.count())
+                                        .from(member)
+                                        .where(member.clubMemberPK.club.id.eq(club.id))))
+                .from(clubMember)
+                .join(clubMember.clubMemberPK.club, club)
+                .join(club.category, category)
+                .where(clubMember.clubMemberPK.user.id.eq(userId))
+                .orderBy(pageRequestDTO.isDesc() ? club.id.desc() : club.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long count = jpaQueryFactory
+                    .select(clubMember.count())
+                    .from(clubMember)
+                    .join(clubMember.clubMemberPK.club, club)
+                    .where(clubMember.clubMemberPK.user.id.eq(userId))
+                    .fetchOne();
+            return count == null ? 0 : count;
+        });
+    }
 
+    @Override
+    public Optional<ClubSnapshot> findSnapshot(Long clubId) {
+        Tuple tuple = jpaQueryFactory
+                .select(club.id, club.title, club.content, category.id, category.categoryName, club.createdAt,
+                        club.modifiedAt)
+                .from(club)
+                .join(club.category, category)
+                .where(club.id.eq(clubId))
+                .fetchOne();
 
-        List<ClubResponseDTO> content = getQuerydsl().applyPagination(pageable, query).fetch();
-        long totalCount = query.fetchCount();
+        return Optional.ofNullable(tuple).map(t -> ClubSnapshot.of(t.get(club.id), t.get(club.title),
+                t.get(club.content), t.get(category.id), t.get(category.categoryName), t.get(club.createdAt),
+                t.get(club.modifiedAt)));
+    }
 
-        return new PageImpl<>(content, pageable, totalCount);
+    @Override
+    public List<ClubAutocompleteEntry> findAllAutocompleteEntries() {
+        return jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                ClubAutocompleteEntry.class,
+                                club.id,
+                                club.title,
+                                category.categoryName,
+                                clubMember.count()))
+                .from(club)
+                .join(club.category, category)
+                .leftJoin(clubMember).on(clubMember.clubMemberPK.club.id.eq(club.id))
+                .groupBy(club.id, club.title, category.categoryName)
+                .fetch();
     }
 
     @Override
-    public void deleteAllElement(Long clubId){
-        List<ClubElementVO> ids = jpaQueryFactory.select(post.id, comment.id)
-                .from(post)
-                .join(comment)
-                .on(post.id.eq(comment.post.id))
-                .where(post.club.id.eq(clubId))
-                .transform(
-                        groupBy(post.id).list(
-                                Projections.constructor(
-                                ClubElementVO.class,
-                                post.id,
-                                Projections.list(
-                                        comment.id
-                                ))
-                        )
-                );
-        List<Long> postIds = new ArrayList<>();
-        List<Long> commentIds = new ArrayList<>();
-
-        ids.forEach((id) -> { postIds.add(id.getPostId()); });
-        ids.forEach((id) -> { commentIds.addAll(id.getCommentId()); });
-
-        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
-
-        jpaQueryFactory.update(commentUser)
-                .set(commentUser.deletedAt, now)
-                .where(commentUser.commentUserPK.comment.id.in(commentIds))
-                .execute();
+    public Optional<ClubAutocompleteEntry> findAutocompleteEntry(Long clubId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                ClubAutocompleteEntry.class,
+                                club.id,
+                                club.title,
+                                category.categoryName,
+                                clubMember.count()))
+                .from(club)
+                .join(club.category, category)
+                .leftJoin(clubMember).on(clubMember.clubMemberPK.club.id.eq(club.id))
+                .where(club.id.eq(clubId))
+                .groupBy(club.id, club.title, category.categoryName)
+                .fetchOne());
+    }
 
-        jpaQueryFactory.update(comment)
-                .set(comment.deletedAt, now)
-                .where(comment.id.in(commentIds))
+    @Override
+    public long softDeleteByCategoryId(Long categoryId) {
+        return jpaQueryFactory.update(club)
+                .set(club.deletedAt, Timestamp.valueOf(LocalDateTime.now()))
+                .where(club.category.id.eq(categoryId), club.deletedAt.isNull())
                 .execute();
+    }
 
-        jpaQueryFactory.update(postUser)
-                .set(postUser.deletedAt, now)
-                .where(postUser.postUserPK.post.id.in(postIds))
+    @Override
+    public long deleteAllMembers(Long clubId) {
+        return jpaQueryFactory.update(clubMember)
+                .set(clubMember.deletedAt, Timestamp.valueOf(LocalDateTime.now()))
+                .where(clubMember.clubMemberPK.club.id.eq(clubId), clubMember.deletedAt.isNull())
                 .execute();
+    }
 
-        jpaQueryFactory.update(post)
-                .set(post.deletedAt, now)
-                .where(post.id.in(postIds))
-                .execute();
+    private JPAQuery<ClubResponseDTO> selectClub() {
+        return jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                ClubResponseDTO.class,
+                                club.id,
+                                club.title,
+                                club.content,
+                                category.categoryName,
+                                club.createdAt,
+                                club.modifiedAt,
+                                category.id.as("categoryId")))
+                .from(club)
+                .join(club.category, category);
+    }
 
-        jpaQueryFactory.update(clubMember)
-                .set(clubMember.deletedAt, now)
-                .where(clubMember.clubMemberPK.club.id.eq(clubId))
-                .execute();
+    // 모임 제목 또는 카테고리명에 검색어가 포함된 모임
+    private BooleanExpression titleContains(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        return club.title.containsIgnoreCase(keyword).or(category.categoryName.containsIgnoreCase(keyword));
+    }
 
-        jpaQueryFactory.update(club)
-                .set(club.deletedAt, now)
-                .where(club.id.eq(clubId))
-                .execute();
+    private BooleanExpression idAfter(Long afterId, boolean isDesc) {
+        if (afterId == null) {
+            return null;
+        }
+        return isDesc ? club.id.lt(afterId) : club.id.gt(afterId);
     }
 }
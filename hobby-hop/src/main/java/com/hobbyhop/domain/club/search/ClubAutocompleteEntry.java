@@ -0,0 +1,4 @@
+package com.hobbyhop.domain.club.search;
+
+public record ClubAutocompleteEntry(Long clubId, String title, String categoryName, Long memberCount) {
+}
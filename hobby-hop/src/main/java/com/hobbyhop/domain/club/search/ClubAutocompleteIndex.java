@@ -0,0 +1,306 @@
+package com.hobbyhop.domain.club.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 모임 제목, 카테고리명 자동완성용 trie.
+// 노드마다 회원 수 상위 모임을 미리 골라 두어 조회는 접두어 길이만큼만 내려가면 끝난다.
+// 주기적 갱신은 새 trie 를 만들어 통째로 교체하고, 모임 하나가 바뀌면 그 모임의 키가 지나는 노드만 새로 만들어
+// 경로를 바꿔 끼운다. 어느 쪽이든 완성된 trie 를 volatile 로 교체하므로 조회 중에는 락이 없다.
+@Component
+public class ClubAutocompleteIndex {
+
+    private static final Comparator<ClubAutocompleteEntry> RANK =
+            Comparator.comparing(ClubAutocompleteEntry::memberCount, Comparator.reverseOrder())
+                    .thenComparing(ClubAutocompleteEntry::clubId, Comparator.reverseOrder());
+
+    // 긴 제목 때문에 trie 가 커지지 않도록 색인할 최대 글자 수
+    private static final int MAX_KEY_LENGTH = 30;
+
+    private final int maxSuggestions;
+    private final Map<Long, ClubAutocompleteEntry> entries = new ConcurrentHashMap<>();
+    // 정규화한 키 -> 그 키로 찾을 수 있는 모임. 바뀐 접두어 노드의 상위 모임을 다시 고를 때 쓴다. this 로 보호한다.
+    private final NavigableMap<String, Set<Long>> clubIdsByKey = new TreeMap<>();
+    // refresh 가 DB 를 읽는 동안 들어온 변경(값이 null 이면 삭제). 갱신 중이 아니면 null. this 로 보호한다.
+    private Map<Long, ClubAutocompleteEntry> changedDuringRefresh;
+    private volatile Node root = Node.EMPTY;
+
+    public ClubAutocompleteIndex(@Value("${hobbyhop.autocomplete.max-size:10}") int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    public List<ClubAutocompleteEntry> suggest(String prefix, int size) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        List<ClubAutocompleteEntry> top = Arrays.asList(node.top);
+        return top.subList(0, Math.min(size, top.size()));
+    }
+
+    // 주기적 갱신. loader 가 DB 를 읽는 동안 들어온 변경은 읽은 목록을 넣은 뒤 다시 적용해 옛 목록으로 덮어쓰지 않는다.
+    public void refresh(Supplier<? extends Collection<ClubAutocompleteEntry>> loader) {
+        Map<Long, ClubAutocompleteEntry> changes = new HashMap<>();
+        synchronized (this) {
+            changedDuringRefresh = changes;
+        }
+
+        Collection<ClubAutocompleteEntry> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            endRefresh(changes);
+            throw e;
+        }
+
+        synchronized (this) {
+            Map<Long, ClubAutocompleteEntry> merged = new HashMap<>();
+            loaded.forEach(entry -> merged.put(entry.clubId(), entry));
+            // 회원 수는 방금 읽은 값이 더 최신이다.
+            changes.forEach((clubId, changed) -> {
+                ClubAutocompleteEntry fresh = merged.get(clubId);
+                if (changed == null) {
+                    merged.remove(clubId);
+                } else {
+                    merged.put(clubId, fresh == null ? changed
+                            : new ClubAutocompleteEntry(clubId, changed.title(), changed.categoryName(),
+                                    fresh.memberCount()));
+                }
+            });
+            endRefresh(changes);
+            replaceAll(merged.values());
+        }
+    }
+
+    // 겹쳐 시작된 다른 갱신의 기록은 지우지 않는다.
+    private synchronized void endRefresh(Map<Long, ClubAutocompleteEntry> changes) {
+        if (changedDuringRefresh == changes) {
+            changedDuringRefresh = null;
+        }
+    }
+
+    public synchronized void replaceAll(Collection<ClubAutocompleteEntry> newEntries) {
+        entries.clear();
+        clubIdsByKey.clear();
+        newEntries.forEach(entry -> {
+            entries.put(entry.clubId(), entry);
+            keysOf(entry).forEach(key -> clubIdsByKey.computeIfAbsent(key, k -> new HashSet<>()).add(entry.clubId()));
+        });
+        root = build(entries.values());
+    }
+
+    // 회원 수는 주기적으로 다시 읽어 오므로 수정 시에는 기존 값을 유지한다.
+    public synchronized void put(Long clubId, String title, String categoryName) {
+        ClubAutocompleteEntry previous = entries.get(clubId);
+        long memberCount = previous == null ? 1L : previous.memberCount();
+        apply(clubId, new ClubAutocompleteEntry(clubId, title, categoryName, memberCount));
+    }
+
+    // 다른 서버에서 바뀐 모임을 DB 에서 다시 읽어 넣을 때
+    public synchronized void put(ClubAutocompleteEntry entry) {
+        apply(entry.clubId(), entry);
+    }
+
+    public synchronized void removeAll(Collection<Long> clubIds) {
+        clubIds.forEach(clubId -> apply(clubId, null));
+    }
+
+    // entry 가 null 이면 삭제. 이전 키와 새 키가 지나는 노드만 다시 만든다.
+    private void apply(Long clubId, ClubAutocompleteEntry entry) {
+        if (changedDuringRefresh != null) {
+            changedDuringRefresh.put(clubId, entry);
+        }
+        ClubAutocompleteEntry previous = entry == null ? entries.remove(clubId) : entries.put(clubId, entry);
+        if (previous == null && entry == null) {
+            return;
+        }
+
+        NavigableSet<String> affected = new TreeSet<>();
+        if (previous != null) {
+            for (String key : keysOf(previous)) {
+                clubIdsByKey.computeIfPresent(key, (k, clubIds) -> {
+                    clubIds.remove(clubId);
+                    return clubIds.isEmpty() ? null : clubIds;
+                });
+                addPrefixes(affected, key);
+            }
+        }
+        if (entry != null) {
+            for (String key : keysOf(entry)) {
+                clubIdsByKey.computeIfAbsent(key, k -> new HashSet<>()).add(clubId);
+                addPrefixes(affected, key);
+            }
+        }
+        root = rebuildPaths(root, "", affected);
+    }
+
+    private static void addPrefixes(NavigableSet<String> prefixes, String key) {
+        for (int i = 1; i <= key.length(); i++) {
+            prefixes.add(key.substring(0, i));
+        }
+    }
+
+    // node 는 prefix 에 해당하는 노드. affected 에 든 자식만 다시 만들고 나머지 자식은 그대로 공유한다.
+    private Node rebuildPaths(Node node, String prefix, NavigableSet<String> affected) {
+        TreeMap<Character, Node> children = node.childrenByLabel();
+        for (String childPrefix : affected.subSet(prefix, false, prefix + Character.MAX_VALUE, true)) {
+            if (childPrefix.length() != prefix.length() + 1) {
+                continue;
+            }
+            char label = childPrefix.charAt(prefix.length());
+            Node child = node.child(label);
+            Node rebuilt = rebuildPaths(child == null ? Node.EMPTY : child, childPrefix, affected);
+            if (rebuilt.isEmpty()) {
+                children.remove(label);
+            } else {
+                children.put(label, rebuilt);
+            }
+        }
+        // 루트는 빈 접두어라 추천하지 않는다.
+        ClubAutocompleteEntry[] top = prefix.isEmpty() ? node.top : topOf(prefix);
+        return Node.of(children, top);
+    }
+
+    private ClubAutocompleteEntry[] topOf(String prefix) {
+        Set<Long> clubIds = new HashSet<>();
+        clubIdsByKey.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values().forEach(clubIds::addAll);
+        return clubIds.stream()
+                .map(entries::get)
+                .sorted(RANK)
+                .limit(maxSuggestions)
+                .toArray(ClubAutocompleteEntry[]::new);
+    }
+
+    private Node build(Collection<ClubAutocompleteEntry> snapshot) {
+        MutableNode mutableRoot = new MutableNode();
+        for (ClubAutocompleteEntry entry : snapshot) {
+            for (String key : keysOf(entry)) {
+                MutableNode node = mutableRoot;
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+                    node.matches.put(entry.clubId(), entry);
+                }
+            }
+        }
+        return mutableRoot.freeze(maxSuggestions);
+    }
+
+    // 제목 전체, 제목의 각 단어로 시작하는 부분, 카테고리명으로 찾을 수 있게 한다.
+    private List<String> keysOf(ClubAutocompleteEntry entry) {
+        List<String> keys = new ArrayList<>();
+        String title = normalize(entry.title());
+        for (int i = 0; i < title.length(); i++) {
+            if (i == 0 || title.charAt(i - 1) == ' ') {
+                keys.add(title.substring(i, Math.min(title.length(), i + MAX_KEY_LENGTH)));
+            }
+        }
+        String categoryName = normalize(entry.categoryName());
+        if (!categoryName.isEmpty()) {
+            keys.add(categoryName.substring(0, Math.min(categoryName.length(), MAX_KEY_LENGTH)));
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+
+    private static class MutableNode {
+        private final Map<Character, MutableNode> children = new TreeMap<>();
+        // 이 접두어로 찾을 수 있는 모임 (같은 모임이 여러 키로 들어와도 한 번만)
+        private final Map<Long, ClubAutocompleteEntry> matches = new HashMap<>();
+
+        Node freeze(int maxSuggestions) {
+            char[] labels = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode> child : children.entrySet()) {
+                labels[i] = child.getKey();
+                frozen[i] = child.getValue().freeze(maxSuggestions);
+                i++;
+            }
+
+            ClubAutocompleteEntry[] top = matches.values().stream()
+                    .sorted(RANK)
+                    .limit(maxSuggestions)
+                    .toArray(ClubAutocompleteEntry[]::new);
+            return new Node(labels, frozen, top);
+        }
+    }
+
+    // 자식은 글자 순으로 정렬된 배열에 두고 이진 탐색한다.
+    private static class Node {
+        private static final Node EMPTY = new Node(new char[0], new Node[0], new ClubAutocompleteEntry[0]);
+
+        private final char[] labels;
+        private final Node[] children;
+        private final ClubAutocompleteEntry[] top;
+
+        Node(char[] labels, Node[] children, ClubAutocompleteEntry[] top) {
+            this.labels = labels;
+            this.children = children;
+            this.top = top;
+        }
+
+        static Node of(TreeMap<Character, Node> childrenByLabel, ClubAutocompleteEntry[] top) {
+            char[] labels = new char[childrenByLabel.size()];
+            Node[] children = new Node[childrenByLabel.size()];
+            int i = 0;
+            for (Map.Entry<Character, Node> child : childrenByLabel.entrySet()) {
+                labels[i] = child.getKey();
+                children[i] = child.getValue();
+                i++;
+            }
+            return new Node(labels, children, top);
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+
+        TreeMap<Character, Node> childrenByLabel() {
+            TreeMap<Character, Node> copy = new TreeMap<>();
+            for (int i = 0; i < labels.length; i++) {
+                copy.put(labels[i], children[i]);
+            }
+            return copy;
+        }
+
+        boolean isEmpty() {
+            return labels.length == 0 && top.length == 0;
+        }
+    }
+}
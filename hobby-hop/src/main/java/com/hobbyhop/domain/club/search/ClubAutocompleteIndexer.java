@@ -0,0 +1,74 @@
+package com.hobbyhop.domain.club.search;
+
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.club.event.ClubSavedEvent;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 모임 생성, 수정, 삭제를 커밋 이후 자동완성 색인에 반영하고, pub/sub 으로 다른 서버도 DB 에서 다시 읽게 한다.
+// 회원 수는 가입, 탈퇴마다 반영하지 않고 주기적으로 DB 에서 다시 읽는다.
+@Slf4j(topic = "모임 자동완성 색인")
+@Component
+@RequiredArgsConstructor
+public class ClubAutocompleteIndexer {
+
+    // 메시지: clubId, 받은 서버는 모임을 다시 읽어 색인하고 없으면 지운다.
+    public static final String CHANNEL = "club:autocomplete:club";
+
+    private final ClubAutocompleteIndex clubAutocompleteIndex;
+    private final ClubRepository clubRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${hobbyhop.cache.pubsub.enabled:true}")
+    private boolean pubsubEnabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${hobbyhop.autocomplete.refresh-delay-ms:300000}",
+            fixedDelayString = "${hobbyhop.autocomplete.refresh-delay-ms:300000}")
+    public void refresh() {
+        try {
+            clubAutocompleteIndex.refresh(clubRepository::findAllAutocompleteEntries);
+        } catch (RuntimeException e) {
+            log.error("자동완성 색인 갱신 실패", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onClubSaved(ClubSavedEvent event) {
+        clubAutocompleteIndex.put(event.clubId(), event.title(), event.categoryName());
+        publish(event.clubId());
+    }
+
+    @TransactionalEventListener
+    public void onClubDeleted(ClubDeletedEvent event) {
+        clubAutocompleteIndex.removeAll(event.clubIds());
+        event.clubIds().forEach(this::publish);
+    }
+
+    // 다른 서버의 모임 변경 알림을 받았을 때 호출된다. 커밋된 DB 상태를 다시 읽으므로 알림 순서가 바뀌어도 결과가 같다.
+    public void onRemoteClubChanged(Long clubId) {
+        clubRepository.findAutocompleteEntry(clubId).ifPresentOrElse(
+                clubAutocompleteIndex::put,
+                () -> clubAutocompleteIndex.removeAll(List.of(clubId)));
+    }
+
+    private void publish(Long clubId) {
+        if (!pubsubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(clubId));
+        } catch (RuntimeException e) {
+            log.error("자동완성 색인 변경 알림 실패 clubId={}", clubId, e);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.hobbyhop.domain.club.service;
 
+import com.hobbyhop.domain.cascadedelete.dto.CascadeDeleteJobResponseDTO;
+import com.hobbyhop.domain.club.cache.ClubSnapshot;
+import com.hobbyhop.domain.club.dto.ClubAutocompleteResponseDTO;
 import com.hobbyhop.domain.club.dto.ClubModifyDTO;
 import com.hobbyhop.domain.club.dto.ClubRequestDTO;
 import com.hobbyhop.domain.club.dto.ClubResponseDTO;
@@ -15,14 +18,17 @@ public interface ClubService {
     // 모든 모임의 정보를 본다.
     PageResponseDTO<ClubResponseDTO> getAllClubs(PageRequestDTO pageRequestDTO);
 
+    // 모임 제목, 카테고리명 접두어로 회원 수가 많은 모임부터 추천한다.
+    List<ClubAutocompleteResponseDTO> autocomplete(String prefix, int size);
+
     // 해당 모임에 대한 정보를 본다.
     ClubResponseDTO getClub(Long clubId);
 
     // 새로운 모임을 만든다.
     ClubResponseDTO makeClub(ClubRequestDTO clubRequestDTO, User user);
 
-    // 모임의 관리자가 모임을 삭제한다.
-    void removeClubById(Long clubId, User user);
+    // 모임의 관리자가 모임을 삭제한다. 하위 요소는 반환한 삭제 작업이 나눠서 지운다.
+    CascadeDeleteJobResponseDTO removeClubById(Long clubId, User user);
 
     // 모임의 정보를 변경한다.
     ClubResponseDTO modifyClub(Long clubId, ClubModifyDTO clubModifyDTO, User user);
@@ -30,10 +36,17 @@ public interface ClubService {
     // 다른 도메인에서 참조한다.
     Club findClub(Long clubId);
 
+    // 캐시된 모임 정보. 수정하지 않는 조회에서 사용한다.
+    ClubSnapshot getClubSnapshot(Long clubId);
+
+    // 존재 여부를 이미 확인한 모임을 조회 없이 참조한다.
+    Club getClubReference(Long clubId);
+
     // 내가 속한 모임 조회.
-    List<ClubResponseDTO> getMyClubs(User user);
+    PageResponseDTO<ClubResponseDTO> getMyClubs(User user, PageRequestDTO pageRequestDTO);
 
     void removeMember(Long clubId, User user);
 
-    Long getClubCount(Long clubId);
+    // 모임의 다음 게시글 번호를 발급한다. 게시글을 저장하는 트랜잭션 안에서 호출해야 한다.
+    Long getNextPostNumber(Long clubId);
 }
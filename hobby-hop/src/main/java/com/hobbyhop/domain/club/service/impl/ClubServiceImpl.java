@@ -1,14 +1,22 @@
 package com.hobbyhop.domain.club.service.impl;
 
-import com.hobbyhop.domain.category.entity.Category;
+import com.hobbyhop.domain.cascadedelete.dto.CascadeDeleteJobResponseDTO;
+import com.hobbyhop.domain.cascadedelete.service.CascadeDeleteService;
+import com.hobbyhop.domain.category.cache.CategorySnapshot;
 import com.hobbyhop.domain.category.service.CategoryService;
+import com.hobbyhop.domain.club.cache.ClubSnapshot;
+import com.hobbyhop.domain.club.cache.ClubSnapshotCache;
+import com.hobbyhop.domain.club.cache.MyClubsCache;
+import com.hobbyhop.domain.club.cache.MyClubsCache.MyClubsPage;
+import com.hobbyhop.domain.club.dto.ClubAutocompleteResponseDTO;
 import com.hobbyhop.domain.club.dto.ClubModifyDTO;
 import com.hobbyhop.domain.club.dto.ClubRequestDTO;
 import com.hobbyhop.domain.club.dto.ClubResponseDTO;
 import com.hobbyhop.domain.club.entity.Club;
+import com.hobbyhop.domain.club.event.ClubSavedEvent;
 import com.hobbyhop.domain.club.repository.ClubRepository;
+import com.hobbyhop.domain.club.search.ClubAutocompleteIndex;
 import com.hobbyhop.domain.club.service.ClubService;
-import com.hobbyhop.domain.clubmember.entity.ClubMember;
 import com.hobbyhop.domain.clubmember.enums.MemberRole;
 import com.hobbyhop.domain.clubmember.service.ClubMemberService;
 import com.hobbyhop.domain.user.entity.User;
@@ -18,11 +26,12 @@ import com.hobbyhop.global.exception.clubmember.ClubMemberRoleException;
 import com.hobbyhop.global.request.PageRequestDTO;
 import com.hobbyhop.global.response.PageResponseDTO;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -33,9 +42,18 @@ public class ClubServiceImpl implements ClubService {
     private final ClubRepository clubRepository;
     private final ClubMemberService clubMemberService;
     private final CategoryService categoryService;
+    private final CascadeDeleteService cascadeDeleteService;
+    private final ClubAutocompleteIndex clubAutocompleteIndex;
+    private final ClubSnapshotCache clubSnapshotCache;
+    private final MyClubsCache myClubsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public PageResponseDTO<ClubResponseDTO> getAllClubs(PageRequestDTO pageRequestDTO) {
+        if (pageRequestDTO.isCursorMode()) {
+            return getClubsByCursor(pageRequestDTO);
+        }
+
         Page<ClubResponseDTO> result = clubRepository.findAll(pageRequestDTO.getPageable("id"),
                 pageRequestDTO.getKeyword());
 
@@ -46,65 +64,100 @@ public class ClubServiceImpl implements ClubService {
                 .build();
     }
 
+    // 다음 페이지 여부를 알기 위해 size + 1 개를 조회한다.
+    private PageResponseDTO<ClubResponseDTO> getClubsByCursor(PageRequestDTO pageRequestDTO) {
+        String keyword = pageRequestDTO.getKeyword();
+        List<ClubResponseDTO> result = clubRepository.findAllAfter(keyword, pageRequestDTO.getAfterId(),
+                pageRequestDTO.getSize() + 1, pageRequestDTO.isDesc());
+
+        return PageResponseDTO.<ClubResponseDTO>withCursor()
+                .pageRequestDTO(pageRequestDTO)
+                .dtoList(result)
+                .cursorId(ClubResponseDTO::getId)
+                .total(pageRequestDTO.isWithTotal() ? (int) clubRepository.count(keyword) : 0)
+                .build();
+    }
+
+    // DB 를 거치지 않고 메모리의 trie 에서 바로 찾는다.
     @Override
-    public ClubResponseDTO getClub(Long clubId) {
-        Club club = findClub(clubId);
+    public List<ClubAutocompleteResponseDTO> autocomplete(String prefix, int size) {
+        return clubAutocompleteIndex.suggest(prefix, size).stream()
+                .map(ClubAutocompleteResponseDTO::fromEntry)
+                .toList();
+    }
 
-        return ClubResponseDTO.fromEntity(club);
+    @Override
+    public ClubResponseDTO getClub(Long clubId) {
+        return getClubSnapshot(clubId).toResponseDTO();
     }
 
+    // 게시글을 저장하는 트랜잭션 안에서 증가시켜 커넥션을 하나만 쓴다. (별도 트랜잭션이면 요청마다 커넥션 두 개가 필요하다)
+    // club 행 락은 게시글 저장이 커밋될 때까지 유지되어 같은 모임의 게시글 작성만 직렬화되고,
+    // 게시글 저장이 롤백되면 번호도 함께 롤백된다.
     @Override
-    public Long getClubCount(Long clubId) {
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long getNextPostNumber(Long clubId) {
+        if (clubRepository.increasePostSequence(clubId) == 0) {
+            throw new ClubNotFoundException();
+        }
 
-        return clubRepository.findByClubId(clubId);
+        return clubRepository.findPostSequence(clubId);
     }
 
     @Override
     @Transactional
     public ClubResponseDTO makeClub(ClubRequestDTO clubRequestDTO, User user) {
         validateClubTitle(clubRequestDTO.getTitle());
-        Category category = categoryService.findCategory(clubRequestDTO.getCategoryId());
+        CategorySnapshot category = categoryService.getCategorySnapshot(clubRequestDTO.getCategoryId());
         Club club = Club.builder().title(clubRequestDTO.getTitle())
-                .content(clubRequestDTO.getContent()).category(category).build();
+                .content(clubRequestDTO.getContent())
+                .category(categoryService.getCategoryReference(category.id())).build();
         Club savedClub = clubRepository.save(club);
         clubMemberService.joinClub(club, user, MemberRole.ADMIN);
-        return ClubResponseDTO.fromEntity(savedClub);
+        eventPublisher.publishEvent(new ClubSavedEvent(savedClub.getId(), savedClub.getTitle(), category.categoryName()));
+        return ClubSnapshot.of(savedClub, category).toResponseDTO();
     }
 
     @Override
     @Transactional
-    public void removeClubById(Long clubId, User user) {
+    public CascadeDeleteJobResponseDTO removeClubById(Long clubId, User user) {
         Club club = findClub(clubId);
-        ClubMember clubMember = clubMemberService.findByClubAndUser(clubId, user.getId());
-
-        validateClubRolePermission(clubMember);
+        validateClubRolePermission(clubMemberService.getMemberRole(clubId, user.getId()));
 
-        clubRepository.deleteAllElement(club.getId());
+        CascadeDeleteJobResponseDTO job = cascadeDeleteService.deleteClub(club, user);
+        clubSnapshotCache.evict(clubId);
+        return job;
     }
 
     @Override
     @Transactional
     public ClubResponseDTO modifyClub(Long clubId, ClubModifyDTO clubModifyDTO, User user) {
         Club club = findClub(clubId);
-        ClubMember clubMember = clubMemberService.findByClubAndUser(clubId, user.getId());
-
-        validateClubRolePermission(clubMember);
+        validateClubRolePermission(clubMemberService.getMemberRole(clubId, user.getId()));
         applyChanges(clubModifyDTO, club);
+        clubSnapshotCache.evict(clubId);
+
+        CategorySnapshot category = categoryService.getCategorySnapshot(club.getCategory().getId());
+        eventPublisher.publishEvent(new ClubSavedEvent(clubId, club.getTitle(), category.categoryName()));
 
-        return ClubResponseDTO.fromEntity(club);
+        return ClubSnapshot.of(club, category).toResponseDTO();
     }
 
     @Override
-    public List<ClubResponseDTO> getMyClubs(User user) {
-        List<ClubMember> list = clubMemberService.findByUserId(user);
-        return list.stream().map(clubMember -> ClubResponseDTO.fromEntity(
-                clubMember.getClubMemberPK().getClub())).collect(Collectors.toList());
+    public PageResponseDTO<ClubResponseDTO> getMyClubs(User user, PageRequestDTO pageRequestDTO) {
+        MyClubsPage result = myClubsCache.find(user.getId(), pageRequestDTO);
+
+        return PageResponseDTO.<ClubResponseDTO>withAll()
+                .pageRequestDTO(pageRequestDTO)
+                .dtoList(result.content())
+                .total((int) result.total())
+                .build();
     }
 
     @Override
     public void removeMember(Long clubId, User user){
-        Club club = findClub(clubId);
-        clubMemberService.removeMember(club, user);
+        getClubSnapshot(clubId);
+        clubMemberService.removeMember(getClubReference(clubId), user);
     }
 
     @Override
@@ -112,13 +165,23 @@ public class ClubServiceImpl implements ClubService {
         return clubRepository.findById(clubId).orElseThrow(ClubNotFoundException::new);
     }
 
+    @Override
+    public ClubSnapshot getClubSnapshot(Long clubId) {
+        return clubSnapshotCache.find(clubId).orElseThrow(ClubNotFoundException::new);
+    }
+
+    @Override
+    public Club getClubReference(Long clubId) {
+        return clubRepository.getReferenceById(clubId);
+    }
+
     private void validateClubTitle(String clubTitle) {
         clubRepository.findByTitle(clubTitle).ifPresent(existingClub -> {
             throw new AlreadyExistClubTitle();
         });
     }
-    private void validateClubRolePermission(ClubMember clubMember) {
-        if (clubMember.getMemberRole() != MemberRole.ADMIN) {
+    private void validateClubRolePermission(MemberRole memberRole) {
+        if (memberRole != MemberRole.ADMIN) {
             throw new ClubMemberRoleException();
         }
     }
@@ -132,8 +195,7 @@ public class ClubServiceImpl implements ClubService {
         }
 
         if (clubModifyDTO.getCategoryId() != null) {
-            Category category = categoryService.findCategory(clubModifyDTO.getCategoryId());
-            club.changeCategory(category);
+            club.changeCategory(categoryService.getCategoryReference(clubModifyDTO.getCategoryId()));
         }
     }
 }
\ No newline at end of file
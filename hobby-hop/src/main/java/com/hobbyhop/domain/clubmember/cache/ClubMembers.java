@@ -0,0 +1,39 @@
+package com.hobbyhop.domain.clubmember.cache;
+
+import com.hobbyhop.domain.clubmember.enums.MemberRole;
+import java.util.Arrays;
+import java.util.Map;
+
+// 한 모임의 회원 목록. userId 를 정렬한 long 배열과 역할 byte 배열로 두고 이진 탐색한다.
+// 모임당 회원 수만큼의 객체 대신 배열 두 개만 차지한다.
+public final class ClubMembers {
+
+    private static final MemberRole[] ROLES = MemberRole.values();
+
+    private final long[] userIds;
+    private final byte[] roles;
+
+    private ClubMembers(long[] userIds, byte[] roles) {
+        this.userIds = userIds;
+        this.roles = roles;
+    }
+
+    public static ClubMembers of(Map<Long, MemberRole> members) {
+        long[] userIds = members.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        byte[] roles = new byte[userIds.length];
+        for (int i = 0; i < userIds.length; i++) {
+            roles[i] = (byte) members.get(userIds[i]).ordinal();
+        }
+        return new ClubMembers(userIds, roles);
+    }
+
+    // 회원이 아니면 null
+    public MemberRole roleOf(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        return index < 0 ? null : ROLES[roles[index]];
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+}
@@ -0,0 +1,152 @@
+package com.hobbyhop.domain.clubmember.cache;
+
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.clubmember.enums.MemberRole;
+import com.hobbyhop.domain.clubmember.repository.ClubMemberRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 모임 회원 여부, 역할 확인용 캐시. 로컬 LRU -> redis -> DB 순서로 찾는다.
+// 가입, 탈퇴, 모임 삭제 시 invalidate 로 redis 목록을 지우고 pub/sub 으로 모든 서버의 로컬 캐시를 비운다.
+@Slf4j(topic = "모임 회원 캐시")
+@Component
+@RequiredArgsConstructor
+public class ClubMembershipCache {
+
+    private final ClubMemberRepository clubMemberRepository;
+    private final ClubMembershipRedisRepository clubMembershipRedisRepository;
+
+    @Value("${hobbyhop.membership.cache.max-clubs:1000}")
+    private int maxClubs;
+
+    @Value("${hobbyhop.membership.cache.local-ttl-ms:60000}")
+    private long localTtlMs;
+
+    @Value("${hobbyhop.membership.cache.redis-ttl-ms:600000}")
+    private long redisTtlMs;
+
+    @Value("${hobbyhop.membership.cache.redis.enabled:true}")
+    private boolean redisEnabled;
+
+    private final Map<Long, CachedMembers> local = new LinkedHashMap<>(16, 0.75f, true);
+    // 무효화가 있을 때마다 증가. 읽는 도중 무효화가 있었으면 읽은 목록을 로컬에 넣지 않는다.
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // 회원이 아니면 null
+    public MemberRole getRole(Long clubId, Long userId) {
+        return getMembers(clubId).roleOf(userId);
+    }
+
+    public void invalidate(Long clubId) {
+        evictLocal(clubId);
+
+        // 커밋 전에 다른 요청이 옛 목록을 다시 읽어 갈 수 있으므로 커밋 이후에 한 번 더 지운다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateShared(clubId);
+                }
+            });
+        } else {
+            invalidateShared(clubId);
+        }
+    }
+
+    // 다른 서버의 무효화 알림을 받았을 때 호출된다.
+    public void evictLocal(Long clubId) {
+        epoch.incrementAndGet();
+        synchronized (local) {
+            local.remove(clubId);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onClubDeleted(ClubDeletedEvent event) {
+        event.clubIds().forEach(this::invalidate);
+    }
+
+    public MembershipCacheStats stats() {
+        synchronized (local) {
+            return new MembershipCacheStats(localHits.sum(), redisHits.sum(), misses.sum(), local.size());
+        }
+    }
+
+    private ClubMembers getMembers(Long clubId) {
+        long now = System.currentTimeMillis();
+        synchronized (local) {
+            CachedMembers cached = local.get(clubId);
+            if (cached != null && cached.expiresAt() > now) {
+                localHits.increment();
+                return cached.members();
+            }
+        }
+
+        long startEpoch = epoch.get();
+        ClubMembers members = loadShared(clubId);
+
+        synchronized (local) {
+            if (epoch.get() == startEpoch) {
+                local.put(clubId, new CachedMembers(members, now + localTtlMs));
+                if (local.size() > maxClubs) {
+                    local.remove(local.keySet().iterator().next());
+                }
+            }
+        }
+        return members;
+    }
+
+    private ClubMembers loadShared(Long clubId) {
+        if (!redisEnabled) {
+            misses.increment();
+            return ClubMembers.of(clubMemberRepository.findMemberRoles(clubId));
+        }
+
+        try {
+            ClubMembers members = clubMembershipRedisRepository.find(clubId);
+            if (members != null) {
+                redisHits.increment();
+                return members;
+            }
+
+            misses.increment();
+            String version = clubMembershipRedisRepository.getVersion(clubId);
+            Map<Long, MemberRole> roles = clubMemberRepository.findMemberRoles(clubId);
+            clubMembershipRedisRepository.load(clubId, version, roles, redisTtlMs);
+            return ClubMembers.of(roles);
+        } catch (RuntimeException e) {
+            // redis 장애 시에도 권한 확인은 DB 로 계속한다.
+            log.warn("redis 회원 목록 조회 실패 clubId={}", clubId, e);
+            misses.increment();
+            return ClubMembers.of(clubMemberRepository.findMemberRoles(clubId));
+        }
+    }
+
+    private void invalidateShared(Long clubId) {
+        evictLocal(clubId);
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            clubMembershipRedisRepository.invalidate(clubId);
+        } catch (RuntimeException e) {
+            log.error("redis 회원 목록 무효화 실패 clubId={}", clubId, e);
+        }
+    }
+
+    private record CachedMembers(ClubMembers members, long expiresAt) {
+    }
+}
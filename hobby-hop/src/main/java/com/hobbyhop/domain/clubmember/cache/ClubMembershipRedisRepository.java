@@ -0,0 +1,90 @@
+package com.hobbyhop.domain.clubmember.cache;
+
+import com.hobbyhop.domain.clubmember.enums.MemberRole;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모임 회원 목록을 여러 서버가 공유하는 redis 계층.
+ * members : userId -> 역할 hash (빈 모임도 구분하도록 LOADED 필드를 함께 둔다), ver : 무효화할 때마다 증가하는 버전
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClubMembershipRedisRepository {
+
+    public static final String INVALIDATE_CHANNEL = "club:members:invalidate";
+
+    private static final String PREFIX = "club:members:";
+    private static final String LOADED = "loaded";
+
+    // DB 에서 읽는 동안 무효화가 없었을 때만 저장해 옛 목록이 다시 올라가지 않게 한다.
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>(
+            "local ver = redis.call('GET', KEYS[2]) or '0' "
+                    + "if ver ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], '" + LOADED + "', '1') "
+                    + "for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1", Long.class);
+
+    // 목록을 지우고 버전을 올린 뒤 다른 서버의 로컬 캐시도 비우도록 알린다.
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('PUBLISH', '" + INVALIDATE_CHANNEL + "', ARGV[1]) "
+                    + "return 1", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 아직 올라가 있지 않으면 null
+    public ClubMembers find(Long clubId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(membersKey(clubId));
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, MemberRole> members = new HashMap<>();
+        entries.forEach((userId, role) -> {
+            if (!LOADED.equals(userId)) {
+                members.put(Long.valueOf((String) userId), MemberRole.valueOf((String) role));
+            }
+        });
+        return ClubMembers.of(members);
+    }
+
+    public String getVersion(Long clubId) {
+        String version = redisTemplate.opsForValue().get(versionKey(clubId));
+        return version == null ? "0" : version;
+    }
+
+    public void load(Long clubId, String version, Map<Long, MemberRole> members, long ttlMs) {
+        List<String> args = new ArrayList<>(members.size() * 2 + 2);
+        args.add(version);
+        args.add(String.valueOf(ttlMs));
+        members.forEach((userId, role) -> {
+            args.add(String.valueOf(userId));
+            args.add(role.name());
+        });
+
+        redisTemplate.execute(LOAD, List.of(membersKey(clubId), versionKey(clubId)), args.toArray());
+    }
+
+    public void invalidate(Long clubId) {
+        redisTemplate.execute(INVALIDATE, List.of(membersKey(clubId), versionKey(clubId)), String.valueOf(clubId));
+    }
+
+    // 두 키를 한 스크립트에서 다루므로 같은 슬롯에 들어가도록 hash tag 를 붙인다.
+    private String membersKey(Long clubId) {
+        return PREFIX + "{" + clubId + "}";
+    }
+
+    private String versionKey(Long clubId) {
+        return PREFIX + "{" + clubId + "}:ver";
+    }
+}
@@ -0,0 +1,5 @@
+package com.hobbyhop.domain.clubmember.cache;
+
+// localHits : 서버 메모리에서 찾은 횟수, redisHits : redis 에서 찾은 횟수, misses : DB 에서 읽은 횟수
+public record MembershipCacheStats(long localHits, long redisHits, long misses, int localClubs) {
+}
@@ -1,6 +1,20 @@
 package com.hobbyhop.domain.clubmember.repository.custom;
 
+import com.hobbyhop.domain.clubmember.enums.MemberRole;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 public interface ClubMemberRepositoryCustom {
     boolean isClubMember(Long clubId, Long userId);
     boolean isAdminMember(Long clubId, Long userId);
+
+    // 모임 회원 캐시 적재용 userId -> 역할
+    Map<Long, MemberRole> findMemberRoles(Long clubId);
+
+    // 피드용. 사용자가 가입한 모임 id 만 조회한다.
+    List<Long> findClubIdsByUserId(Long userId);
+
+    // 일괄 가입. 탈퇴했던 회원은 되살리고 나머지는 JDBC batch insert 한다.
+    void joinAll(Long clubId, Collection<Long> userIds, MemberRole memberRole);
 }
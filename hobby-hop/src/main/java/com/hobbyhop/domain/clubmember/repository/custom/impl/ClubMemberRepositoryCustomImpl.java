@@ -5,12 +5,24 @@ import static com.hobbyhop.domain.clubmember.entity.QClubMember.clubMember;
 import com.hobbyhop.domain.clubmember.enums.MemberRole;
 import com.hobbyhop.domain.clubmember.repository.custom.ClubMemberRepositoryCustom;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 @RequiredArgsConstructor
 public class ClubMemberRepositoryCustomImpl implements ClubMemberRepositoryCustom {
 
+    private static final int BATCH_SIZE = 500;
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
     @Override
     public boolean isClubMember(Long clubId, Long userId) {
         Integer i = jpaQueryFactory
@@ -31,4 +43,58 @@ public class ClubMemberRepositoryCustomImpl implements ClubMemberRepositoryCusto
 
         return i != null;
     }
+
+    @Override
+    public Map<Long, MemberRole> findMemberRoles(Long clubId) {
+        return jpaQueryFactory
+                .select(clubMember.clubMemberPK.user.id, clubMember.memberRole)
+                .from(clubMember)
+                .where(clubMember.clubMemberPK.club.id.eq(clubId))
+                .fetch().stream()
+                .collect(Collectors.toMap(
+                        tuple -> tuple.get(clubMember.clubMemberPK.user.id),
+                        tuple -> tuple.get(clubMember.memberRole)));
+    }
+
+    @Override
+    public List<Long> findClubIdsByUserId(Long userId) {
+        return jpaQueryFactory
+                .select(clubMember.clubMemberPK.club.id)
+                .from(clubMember)
+                .where(clubMember.clubMemberPK.user.id.eq(userId))
+                .fetch();
+    }
+
+    @Override
+    public void joinAll(Long clubId, Collection<Long> userIds, MemberRole memberRole) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("clubId", clubId)
+                .addValue("userIds", userIds)
+                .addValue("memberRole", memberRole.name());
+
+        // 탈퇴한 회원 행은 @Where 에 가려지지만 PK 는 남아 있어 insert 하면 충돌한다.
+        List<Long> leftUserIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM club_member WHERE club_id = :clubId AND user_id IN (:userIds) AND deleted_at IS NOT NULL",
+                params, Long.class);
+        if (!leftUserIds.isEmpty()) {
+            jdbcTemplate.update(
+                    "UPDATE club_member SET deleted_at = NULL, member_role = :memberRole WHERE club_id = :clubId AND user_id IN (:leftUserIds)",
+                    params.addValue("leftUserIds", leftUserIds));
+        }
+
+        Set<Long> restored = new HashSet<>(leftUserIds);
+        List<Long> newUserIds = userIds.stream().filter(userId -> !restored.contains(userId)).toList();
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                "INSERT INTO club_member (club_id, user_id, member_role) VALUES (?, ?, ?)",
+                newUserIds, BATCH_SIZE, (ps, userId) -> {
+                    ps.setLong(1, clubId);
+                    ps.setLong(2, userId);
+                    ps.setString(3, memberRole.name());
+                });
+    }
 }
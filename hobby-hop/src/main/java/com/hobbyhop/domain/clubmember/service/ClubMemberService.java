@@ -7,6 +7,7 @@ import com.hobbyhop.domain.clubmember.enums.MemberRole;
 import com.hobbyhop.domain.user.entity.User;
 
 import java.lang.reflect.Member;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -15,6 +16,9 @@ public interface ClubMemberService {
     // 모임에 가입한다.
     ClubMemberResponseDTO joinClub(Club club, User user, MemberRole memberRole);
 
+    // 가입신청 일괄 승인용. 회원이 아닌 것을 호출한 쪽에서 확인한 사용자만 넘긴다.
+    void joinClubAll(Long clubId, Collection<Long> userIds, MemberRole memberRole);
+
     //모임을 탈퇴한다.
     void removeMember(Club club, User user);
 
@@ -22,7 +26,13 @@ public interface ClubMemberService {
 
     List<ClubMember> findByUserId(User user);
 
+    // 엔티티 없이 가입한 모임 id 만 필요할 때
+    List<Long> getClubIds(Long userId);
+
     boolean isClubMember(Long clubId, Long userId);
 
     boolean isAdminMember(Long clubId,Long userId);
+
+    // 권한 확인용. 엔티티가 필요 없으면 findByClubAndUser 대신 캐시를 거치는 이 메서드를 쓴다.
+    MemberRole getMemberRole(Long clubId, Long userId);
 }
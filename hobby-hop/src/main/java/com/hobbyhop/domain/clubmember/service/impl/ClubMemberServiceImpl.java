@@ -1,7 +1,9 @@
 package com.hobbyhop.domain.clubmember.service.impl;
 
 
+import com.hobbyhop.domain.club.cache.MyClubsCache;
 import com.hobbyhop.domain.club.entity.Club;
+import com.hobbyhop.domain.clubmember.cache.ClubMembershipCache;
 import com.hobbyhop.domain.clubmember.dto.ClubMemberResponseDTO;
 import com.hobbyhop.domain.clubmember.entity.ClubMember;
 import com.hobbyhop.domain.clubmember.enums.MemberRole;
@@ -12,6 +14,7 @@ import com.hobbyhop.domain.user.entity.User;
 import com.hobbyhop.global.exception.clubmember.ClubMemberAlreadyJoined;
 import com.hobbyhop.global.exception.clubmember.ClubMemberNotFoundException;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.hobbyhop.global.exception.clubmember.ClubMemberRoleException;
@@ -26,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class ClubMemberServiceImpl implements ClubMemberService {
 
     private final ClubMemberRepository clubMemberRepository;
+    private final ClubMembershipCache clubMembershipCache;
+    private final MyClubsCache myClubsCache;
 
     @Override
     @Transactional
@@ -43,15 +48,27 @@ public class ClubMemberServiceImpl implements ClubMemberService {
                         .build())
                 .memberRole(memberRole).build();
         ClubMember savedClubMember = clubMemberRepository.save(clubMember);
+        clubMembershipCache.invalidate(club.getId());
+        myClubsCache.evict(user.getId());
 
         return ClubMemberResponseDTO.fromEntity(savedClubMember);
     }
 
+    @Override
+    @Transactional
+    public void joinClubAll(Long clubId, Collection<Long> userIds, MemberRole memberRole) {
+        clubMemberRepository.joinAll(clubId, userIds, memberRole);
+        clubMembershipCache.invalidate(clubId);
+        userIds.forEach(myClubsCache::evict);
+    }
+
     @Override
     @Transactional
     public void removeMember(Club club, User user) {
         ClubMember clubMember = findByClubAndUser(club.getId(), user.getId());
         clubMemberRepository.delete(clubMember);
+        clubMembershipCache.invalidate(club.getId());
+        myClubsCache.evict(user.getId());
     }
 
     @Override
@@ -65,13 +82,27 @@ public class ClubMemberServiceImpl implements ClubMemberService {
         return clubMemberRepository.findByClubMemberPK_User_Id(user.getId());
     }
 
+    @Override
+    public List<Long> getClubIds(Long userId) {
+        return clubMemberRepository.findClubIdsByUserId(userId);
+    }
+
     @Override
     public boolean isClubMember(Long clubId, Long userId){
-        return clubMemberRepository.isClubMember(clubId, userId);
+        return clubMembershipCache.getRole(clubId, userId) != null;
     }
 
     @Override
     public boolean isAdminMember(Long clubId, Long userId) {
-        return clubMemberRepository.isAdminMember(clubId, userId);
+        return clubMembershipCache.getRole(clubId, userId) == MemberRole.ADMIN;
+    }
+
+    @Override
+    public MemberRole getMemberRole(Long clubId, Long userId) {
+        MemberRole memberRole = clubMembershipCache.getRole(clubId, userId);
+        if (memberRole == null) {
+            throw new ClubMemberNotFoundException();
+        }
+        return memberRole;
     }
 }
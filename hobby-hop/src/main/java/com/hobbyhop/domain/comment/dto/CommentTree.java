@@ -0,0 +1,59 @@
+package com.hobbyhop.domain.comment.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최상위 댓글과 깊이 단위로 읽은 리플을 CommentResponseDTO 트리로 조립한다.
+ * 조회 순서를 그대로 유지하므로 정렬은 쿼리에서 끝내고 넘겨야 한다.
+ */
+public class CommentTree {
+
+    private final Map<Long, CommentResponseDTO> nodes = new HashMap<>();
+    private final List<CommentResponseDTO> roots = new ArrayList<>();
+
+    // 추가한 댓글의 id 를 돌려준다. 다음 깊이의 리플을 읽을 부모 id 로 쓴다.
+    public List<Long> addRoots(List<CommentVO> comments) {
+        List<Long> ids = new ArrayList<>(comments.size());
+        for (CommentVO c : comments) {
+            CommentResponseDTO dto = toDTO(c);
+            nodes.put(c.getId(), dto);
+            roots.add(dto);
+            ids.add(c.getId());
+        }
+        return ids;
+    }
+
+    // 부모가 트리에 없는 리플은 버린다.
+    public List<Long> attach(List<CommentVO> replies) {
+        List<Long> ids = new ArrayList<>(replies.size());
+        for (CommentVO c : replies) {
+            CommentResponseDTO parent = nodes.get(c.getParent());
+            if (parent == null) {
+                continue;
+            }
+            CommentResponseDTO dto = toDTO(c);
+            parent.getReply().add(dto);
+            nodes.put(c.getId(), dto);
+            ids.add(c.getId());
+        }
+        return ids;
+    }
+
+    public List<CommentResponseDTO> getRoots() {
+        return roots;
+    }
+
+    private static CommentResponseDTO toDTO(CommentVO c) {
+        return CommentResponseDTO.builder()
+                .content(c.getContent())
+                .writer(c.getWriter())
+                .like(c.getLike())
+                .createdAt(c.getCreatedAt())
+                .id(c.getId())
+                .reply(new ArrayList<>())
+                .build();
+    }
+}
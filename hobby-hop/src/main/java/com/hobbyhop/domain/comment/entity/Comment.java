@@ -11,6 +11,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Where;
 
 @Entity
@@ -36,6 +37,18 @@ public class Comment extends BaseEntity {
     @Column(name="deleted_at")
     private Timestamp deletedAt;
 
+    // 목록 조회와 정렬에서 comment_user, 리플을 join 하지 않도록 유지하는 카운터
+    // updateLikeCnt, updateReplyCnt 로만 바꾼다. 내용 수정 시 dirty checking 이 옛 값으로 덮어쓰지 않도록 updatable = false
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long likeCnt = 0L;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long replyCnt = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id")
     private Comment parent;
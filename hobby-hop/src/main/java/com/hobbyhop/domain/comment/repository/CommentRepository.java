@@ -3,7 +3,34 @@ package com.hobbyhop.domain.comment.repository;
 import com.hobbyhop.domain.comment.entity.Comment;
 import com.hobbyhop.domain.comment.repository.custom.CommentRepositoryCustom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM comment", nativeQuery = true)
+    Long findMaxId();
+
+    // like_cnt, reply_cnt 컬럼 추가 이전 데이터의 카운터를 id 구간 단위로 채운다.
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comment c "
+            + "LEFT JOIN (SELECT comment_id, COUNT(*) AS cnt FROM comment_user "
+            + "WHERE deleted_at IS NULL AND comment_id BETWEEN :fromId AND :toId GROUP BY comment_id) l "
+            + "ON l.comment_id = c.id "
+            + "SET c.like_cnt = COALESCE(l.cnt, 0) "
+            + "WHERE c.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int backfillLikeCnt(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE comment c "
+            + "LEFT JOIN (SELECT parent_id, COUNT(*) AS cnt FROM comment "
+            + "WHERE deleted_at IS NULL AND parent_id BETWEEN :fromId AND :toId GROUP BY parent_id) r "
+            + "ON r.parent_id = c.id "
+            + "SET c.reply_cnt = COALESCE(r.cnt, 0) "
+            + "WHERE c.id BETWEEN :fromId AND :toId", nativeQuery = true)
+    int backfillReplyCnt(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -11,4 +11,7 @@ public interface CommentRepositoryCustom {
     Optional<Comment> findById(Long clubId, Long postId, Long commentId);
     Page<CommentResponseDTO> findAllByPostId(PageRequestDTO pageRequestDTO, Long postId);
     void deleteList(List<Comment> list);
+    void updateLikeCnt(Long commentId, long delta);
+    Long findLikeCnt(Long commentId);
+    void updateReplyCnt(Long commentId, long delta);
 }
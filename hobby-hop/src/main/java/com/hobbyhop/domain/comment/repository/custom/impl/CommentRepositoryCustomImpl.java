@@ -1,11 +1,15 @@
 package com.hobbyhop.domain.comment.repository.custom.impl;
 
 import com.hobbyhop.domain.comment.dto.CommentResponseDTO;
+import com.hobbyhop.domain.comment.dto.CommentTree;
 import com.hobbyhop.domain.comment.dto.CommentVO;
 import com.hobbyhop.domain.comment.entity.Comment;
 import com.hobbyhop.domain.comment.repository.custom.CommentRepositoryCustom;
 import com.hobbyhop.global.request.PageRequestDTO;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
@@ -17,9 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Objects;
 
 import static com.hobbyhop.domain.comment.entity.QComment.comment;
 import static com.hobbyhop.domain.commentuser.entity.QCommentUser.commentUser;
@@ -43,115 +45,66 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
     @Override
     public Page<CommentResponseDTO> findAllByPostId(PageRequestDTO pageRequestDTO, Long postId) {
-        List<CommentVO> query = jpaQueryFactory
+        Pageable pageable = PageRequest.of(pageRequestDTO.getPage() - 1, pageRequestDTO.getSize());
+
+        // 최상위 댓글만 DB 에서 정렬하고 요청한 페이지만큼만 가져온다.
+        List<CommentVO> roots = selectCommentVO()
+                .where(comment.post.id.eq(postId).and(comment.parent.isNull()))
+                .orderBy(rootOrder(pageRequestDTO))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = jpaQueryFactory
+                .select(comment.count())
+                .from(comment)
+                .where(comment.post.id.eq(postId).and(comment.parent.isNull()))
+                .fetchOne();
+
+        CommentTree tree = new CommentTree();
+        List<Long> parentIds = tree.addRoots(roots);
+
+        // 현재 페이지에 포함된 댓글의 리플만 깊이 단위로 한 번에 가져와서 부모에 붙인다.
+        while (!parentIds.isEmpty()) {
+            List<CommentVO> replies = selectCommentVO()
+                    .where(comment.parent.id.in(parentIds))
+                    .orderBy(comment.id.asc())
+                    .fetch();
+            parentIds = tree.attach(replies);
+        }
+
+        return new PageImpl<>(tree.getRoots(), pageable, total == null ? 0 : total);
+    }
+
+    private JPAQuery<CommentVO> selectCommentVO() {
+        return jpaQueryFactory
                 .select(
                         Projections.constructor(
                                 CommentVO.class,
                                 comment.content,
                                 user.username,
-                                commentUser.count().intValue(),
+                                comment.likeCnt.intValue(),
                                 comment.createdAt,
                                 comment.id,
                                 comment.parent.id
                         )
                 )
                 .from(comment)
-                .leftJoin(commentUser).fetchJoin()
-                .on(comment.id.eq(commentUser.commentUserPK.comment.id))
-                .join(user).fetchJoin()
-                .on(comment.user.id.eq(user.id))
-                .where(comment.post.id.eq(postId))
-                .groupBy(comment.id)
-                .orderBy(comment.id.asc())
-                .fetch();
-
-        List<CommentResponseDTO> content = VOtoDTO(query);
-
-        Pageable pageable = PageRequest.of(pageRequestDTO.getPage(), pageRequestDTO.getSize());
-
-        sort(pageRequestDTO, content);
-
-        List<CommentResponseDTO> paging = new ArrayList<>();
-
-        for (int i = (pageable.getPageNumber() - 1) * pageable.getPageSize(); i < Long.valueOf(pageable.getOffset()).intValue() && i < content.size(); i++) {
-            paging.add(content.get(i));
-        }
-
-        return new PageImpl<>(paging, pageable, query.size());
+                .join(comment.user, user);
     }
 
-    private List<CommentResponseDTO> VOtoDTO(List<CommentVO> query) {
-        List<CommentResponseDTO> content = new ArrayList<>();
-
-        for(CommentVO c: query){
-            if(c.getParent() == null){
-                content.add(CommentResponseDTO.builder()
-                        .content(c.getContent())
-                        .writer(c.getWriter())
-                        .like(c.getLike())
-                        .createdAt(c.getCreatedAt())
-                        .id(c.getId())
-                        .reply(addVOtoDTO(query, c.getId()))
-                        .build());
-            }
-        }
-        return content;
-    }
+    // 기존 정렬 방향을 그대로 유지한다. (isDesc 가 true 이면 오름차순)
+    private OrderSpecifier<?>[] rootOrder(PageRequestDTO requestDTO) {
+        Order direction = requestDTO.isDesc() ? Order.ASC : Order.DESC;
+        String key = requestDTO.getKeyword() == null ? "" : requestDTO.getKeyword();
 
-    private List<CommentResponseDTO> addVOtoDTO(List<CommentVO> vo, Long id){
-        List<CommentResponseDTO> dto = new ArrayList<>();
-        for(CommentVO c: vo){
-            if(Objects.equals(c.getParent(), id)){
-                dto.add(CommentResponseDTO.builder()
-                        .content(c.getContent())
-                        .writer(c.getWriter())
-                        .like(c.getLike())
-                        .createdAt(c.getCreatedAt())
-                        .id(c.getId())
-                        .reply(addVOtoDTO(vo, c.getId()))
-                        .build());
-            }
-        }
-        return dto;
-    }
-
-    private void sort(PageRequestDTO requestDTO, List<CommentResponseDTO> content){
-        for (CommentResponseDTO c : content) {
-            if (c.getReply().size() > 3)
-                sort(requestDTO, c.getReply());
-            if (c.getReply().size() < 2)
-                return;
-        }
+        OrderSpecifier<?> primary = switch (key) {
+            case "like" -> new OrderSpecifier<>(direction, comment.likeCnt);
+            case "replys" -> new OrderSpecifier<>(direction, comment.replyCnt);
+            default -> new OrderSpecifier<>(direction, comment.createdAt);
+        };
 
-        String key = requestDTO.getKeyword();
-
-        if(requestDTO.getKeyword().isBlank()){
-            key = " ";
-        }
-
-        switch (key) {
-            case "like":
-                if (requestDTO.isDesc()) {
-                    content.sort(Comparator.comparing(CommentResponseDTO::getLike));
-                } else {
-                    content.sort(Comparator.comparing(CommentResponseDTO::getLike).reversed());
-                }
-                break;
-            case "replys":
-                if (requestDTO.isDesc()) {
-                    content.sort(Comparator.comparingInt(c -> c.getReply().size()));
-                } else {
-                    content.sort((c1, c2) -> Integer.compare(c2.getReply().size(), c1.getReply().size()));
-                }
-                break;
-            default:
-                if (requestDTO.isDesc()) {
-                    content.sort(Comparator.comparing(CommentResponseDTO::getCreatedAt));
-                } else {
-                    content.sort(Comparator.comparing(CommentResponseDTO::getCreatedAt).reversed());
-                }
-                break;
-        }
+        return new OrderSpecifier<?>[]{primary, new OrderSpecifier<>(direction, comment.id)};
     }
 
     @Override
@@ -169,4 +122,30 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
         jpaQueryFactory.update(commentUser).set(commentUser.deletedAt, ts)
                 .where(commentUser.commentUserPK.comment.id.in(deleteId)).execute();
     }
+
+    @Override
+    public void updateLikeCnt(Long commentId, long delta) {
+        jpaQueryFactory.update(comment)
+                .set(comment.likeCnt, comment.likeCnt.add(delta))
+                .where(comment.id.eq(commentId))
+                .execute();
+    }
+
+    @Override
+    public Long findLikeCnt(Long commentId) {
+        Long likeCnt = jpaQueryFactory
+                .select(comment.likeCnt)
+                .from(comment)
+                .where(comment.id.eq(commentId))
+                .fetchOne();
+        return likeCnt == null ? 0L : likeCnt;
+    }
+
+    @Override
+    public void updateReplyCnt(Long commentId, long delta) {
+        jpaQueryFactory.update(comment)
+                .set(comment.replyCnt, comment.replyCnt.add(delta))
+                .where(comment.id.eq(commentId))
+                .execute();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.hobbyhop.domain.comment.runner;
+
+import com.hobbyhop.domain.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기존 댓글의 like_cnt, reply_cnt 를 한 번 채우기 위한 러너 (hobbyhop.backfill.comment-counts=true 일 때만 동작)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hobbyhop.backfill.comment-counts", havingValue = "true")
+public class CommentCountBackfillRunner implements ApplicationRunner {
+
+    private final CommentRepository commentRepository;
+
+    @Value("${hobbyhop.backfill.chunk-size:10000}")
+    private long chunkSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long maxId = commentRepository.findMaxId();
+        long updated = 0;
+
+        // 구간마다 별도 트랜잭션으로 실행해 락을 오래 잡지 않는다.
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize - 1, maxId);
+            commentRepository.backfillLikeCnt(fromId, toId);
+            updated += commentRepository.backfillReplyCnt(fromId, toId);
+        }
+
+        log.info("comment counter backfill finished. maxId={}, rows={}", maxId, updated);
+    }
+}
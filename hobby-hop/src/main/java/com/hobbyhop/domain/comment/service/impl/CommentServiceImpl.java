@@ -1,8 +1,5 @@
 package com.hobbyhop.domain.comment.service.impl;
 
-import com.hobbyhop.domain.clubmember.entity.ClubMember;
-import com.hobbyhop.domain.clubmember.enums.MemberRole;
-import com.hobbyhop.domain.clubmember.service.ClubMemberService;
 import com.hobbyhop.domain.comment.dto.CommentRequestDTO;
 import com.hobbyhop.domain.comment.dto.CommentResponseDTO;
 import com.hobbyhop.domain.comment.entity.Comment;
@@ -12,11 +9,12 @@ import com.hobbyhop.domain.commentuser.service.CommentUserService;
 import com.hobbyhop.domain.post.entity.Post;
 import com.hobbyhop.domain.post.service.PostService;
 import com.hobbyhop.domain.user.entity.User;
-import com.hobbyhop.global.exception.clubmember.ClubMemberNotFoundException;
 import com.hobbyhop.global.exception.comment.CommentNotFoundException;
 import com.hobbyhop.global.exception.common.UnAuthorizedModifyException;
 import com.hobbyhop.global.request.PageRequestDTO;
 import com.hobbyhop.global.response.PageResponseDTO;
+import com.hobbyhop.global.security.access.AccessContext;
+import com.hobbyhop.global.security.access.AccessContextResolver;
 import jakarta.transaction.Transactional;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,14 +31,13 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final PostService postService;
     private final CommentUserService commentUserService;
-    private final ClubMemberService clubMemberService;
+    private final AccessContextResolver accessContextResolver;
 
     @Override
     public CommentResponseDTO postComment(CommentRequestDTO request, Long clubId, Long postId, User user) {
-        if(!clubMemberService.isClubMember(clubId, user.getId()))
-            throw new ClubMemberNotFoundException();
+        accessContextResolver.requireMember(clubId, postId, user);
 
-        Post post = postService.findPost(postId);
+        Post post = postService.getPostReference(postId);
 
         Comment comment = buildComment(request, post, user, null);
 
@@ -50,17 +47,18 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional
     public CommentResponseDTO postComment(CommentRequestDTO request, Long clubId, Long postId, Long commentId, User user) {
-        if(!clubMemberService.isClubMember(clubId, user.getId()))
-            throw new ClubMemberNotFoundException();
+        accessContextResolver.requireMember(clubId, postId, user);
 
-        Post post = postService.findPost(postId);
+        Post post = postService.getPostReference(postId);
         // 저장 되어 있는 상위 댓글 가져 오기
         Comment comment = findById(clubId, postId, commentId); 
 
         Comment reply = buildComment(request, post, user, comment);
 
-        commentRepository.save(comment);
+        commentRepository.save(reply);
+        commentRepository.updateReplyCnt(comment.getId(), 1);
 
         // 상위 댓글에 리플 추가
         comment.getReply().add(reply);
@@ -85,6 +83,10 @@ public class CommentServiceImpl implements CommentService {
         Map<Long, Comment> deleteList = makeDelete(comment);
 
         commentRepository.deleteList(deleteList.values().stream().toList());
+
+        // 리플을 지운 경우 상위 댓글의 리플 수를 줄인다.
+        if (comment.getParent() != null)
+            commentRepository.updateReplyCnt(comment.getParent().getId(), -1);
     }
 
     @Override
@@ -137,11 +139,11 @@ public class CommentServiceImpl implements CommentService {
     }
 
     private Comment checkAuth(Long clubId, Long postId, Long commentId, User user){
-        ClubMember clubMember = clubMemberService.findByClubAndUser(clubId, user.getId());
+        AccessContext accessContext = accessContextResolver.requireMember(clubId, postId, user);
 
         Comment comment = findById(clubId, postId, commentId);
 
-        if(!comment.getUser().getId().equals(user.getId()) && !clubMember.getMemberRole().equals(MemberRole.ADMIN))
+        if(!comment.getUser().getId().equals(user.getId()) && !accessContext.isAdmin())
             throw new UnAuthorizedModifyException();
 
         return comment;
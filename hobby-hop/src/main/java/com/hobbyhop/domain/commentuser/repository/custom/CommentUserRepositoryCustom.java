@@ -1,5 +0,0 @@
-package com.hobbyhop.domain.commentuser.repository.custom;
-
-public interface CommentUserRepositoryCustom {
-    int countLike(Long commentId);
-}
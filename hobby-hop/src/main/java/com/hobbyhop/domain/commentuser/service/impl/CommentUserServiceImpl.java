@@ -1,6 +1,7 @@
 package com.hobbyhop.domain.commentuser.service.impl;
 
 import com.hobbyhop.domain.comment.entity.Comment;
+import com.hobbyhop.domain.comment.repository.CommentRepository;
 import com.hobbyhop.domain.commentuser.entity.CommentUser;
 import com.hobbyhop.domain.commentuser.repository.CommentUserRepository;
 import com.hobbyhop.domain.commentuser.service.CommentUserService;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class CommentUserServiceImpl implements CommentUserService {
 
     private final CommentUserRepository commentUserRepository;
+    private final CommentRepository commentRepository;
 
     @Transactional
     public void modifyCommentUser(Comment comment, User user) {
@@ -21,17 +23,21 @@ public class CommentUserServiceImpl implements CommentUserService {
                 .findCommentUserByIds(comment.getId(), user.getId()).orElse(null);
         if (commentUser == null) {
             saveCommentUser(comment, user);
+            commentRepository.updateLikeCnt(comment.getId(), 1);
             return;
         }
         if (commentUser.getDeletedAt() != null) {
             commentUser.restore();
+            commentRepository.updateLikeCnt(comment.getId(), 1);
             return;
         }
         deleteCommentUser(commentUser);
+        commentRepository.updateLikeCnt(comment.getId(), -1);
     }
 
+    // like_cnt 는 벌크 UPDATE 로만 바뀌어 영속성 컨텍스트의 값이 옛 값일 수 있으므로 DB 에서 다시 읽는다.
     public int countLike(Comment comment){
-        return commentUserRepository.countLike(comment.getId());
+        return commentRepository.findLikeCnt(comment.getId()).intValue();
     }
 
     private void saveCommentUser(Comment comment, User user) {
@@ -0,0 +1,30 @@
+package com.hobbyhop.domain.feed.controller;
+
+import com.hobbyhop.domain.feed.service.FeedService;
+import com.hobbyhop.global.request.PageRequestDTO;
+import com.hobbyhop.global.response.ApiResponse;
+import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "Bearer Authentication")
+public class FeedController {
+
+    private final FeedService feedService;
+
+    @Operation(summary = "가입한 모임의 최신 게시글 피드 조회")
+    @GetMapping
+    public ApiResponse<?> getFeed(@AuthenticationPrincipal UserDetailsImpl userDetails,
+            @Valid PageRequestDTO pageRequestDTO) {
+        return ApiResponse.ok(feedService.getFeed(userDetails.getUser(), pageRequestDTO));
+    }
+}
@@ -0,0 +1,39 @@
+package com.hobbyhop.domain.feed.dto;
+
+import com.hobbyhop.global.exception.common.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+// 피드의 after 값. 여러 모임의 게시글 id 는 작성 순서와 맞지 않으므로 (createdAt, postId) 로 이어서 읽는다.
+// created_at 은 마이크로초까지 저장되므로 초와 나노초를 그대로 담는다.
+public record FeedCursor(Timestamp createdAt, Long postId) {
+
+    private static final String VERSION = "v1:";
+
+    public String encode() {
+        Instant instant = createdAt.toInstant();
+        String value = VERSION + instant.getEpochSecond() + ":" + instant.getNano() + ":" + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!value.startsWith(VERSION)) {
+                throw new InvalidCursorException();
+            }
+            String[] parts = value.substring(VERSION.length()).split(":");
+            if (parts.length != 3) {
+                throw new InvalidCursorException();
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new FeedCursor(Timestamp.from(createdAt), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // 잘못된 base64, 숫자가 아닌 값
+            throw new InvalidCursorException();
+        }
+    }
+}
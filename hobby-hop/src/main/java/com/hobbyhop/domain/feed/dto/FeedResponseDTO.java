@@ -0,0 +1,20 @@
+package com.hobbyhop.domain.feed.dto;
+
+import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+public class FeedResponseDTO {
+
+    private int size;
+    private List<PostPageResponseDTO> dtoList;
+    private String nextCursor;
+    private boolean hasNext;
+}
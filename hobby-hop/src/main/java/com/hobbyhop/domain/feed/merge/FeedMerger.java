@@ -0,0 +1,48 @@
+package com.hobbyhop.domain.feed.merge;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// 이미 정렬된 모임별 타임라인을 힙으로 합친다.
+// 모든 게시글을 모아 정렬하면 O(N log N) 이지만 limit 개만 꺼내므로 O(k + limit log k) 로 끝난다.
+public final class FeedMerger {
+
+    private FeedMerger() {
+    }
+
+    public static <T> List<T> merge(List<? extends List<T>> timelines, Comparator<? super T> order, int limit) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, timelines.size()),
+                (a, b) -> order.compare(a.item, b.item));
+        for (List<T> timeline : timelines) {
+            Iterator<T> iterator = timeline.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.item);
+            if (head.rest.hasNext()) {
+                head.item = head.rest.next();
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    private static final class Head<T> {
+
+        private T item;
+        private final Iterator<T> rest;
+
+        private Head(T item, Iterator<T> rest) {
+            this.item = item;
+            this.rest = rest;
+        }
+    }
+}
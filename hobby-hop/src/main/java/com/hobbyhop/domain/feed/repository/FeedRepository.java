@@ -0,0 +1,77 @@
+package com.hobbyhop.domain.feed.repository;
+
+import com.hobbyhop.domain.feed.dto.FeedCursor;
+import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class FeedRepository {
+
+    // (createdAt, postId) 내림차순. 같은 시각이면 id 가 큰 게시글이 먼저다.
+    public static final Comparator<PostPageResponseDTO> FEED_ORDER = Comparator
+            .comparing(PostPageResponseDTO::getCreatedAt)
+            .thenComparing(PostPageResponseDTO::getPostId)
+            .reversed();
+
+    private static final String SELECT = """
+            (SELECT p.id, p.club_id, u.username, p.post_title, p.post_number, p.like_cnt, p.created_at,
+                    p.modified_at, COALESCE(p.thumbnail_image_url, p.origin_image_url) AS thumbnail_image_url
+             FROM post p JOIN users u ON u.id = p.user_id
+             WHERE p.club_id = :clubId%1$d AND p.deleted_at IS NULL%2$s
+             ORDER BY p.created_at DESC, p.id DESC
+             LIMIT :limit)""";
+
+    private static final String AFTER =
+            " AND (p.created_at < :afterCreatedAt OR (p.created_at = :afterCreatedAt AND p.id < :afterPostId))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // 모임마다 최신 limit 개를 (club_id, created_at, id) 인덱스 순서로 읽어 UNION ALL 한 번에 가져온다.
+    // 합치기는 FeedMerger 가 하므로 모임별로 나눠 정렬된 목록을 돌려준다.
+    public List<List<PostPageResponseDTO>> findTimelines(List<Long> clubIds, FeedCursor after, int limit) {
+        if (clubIds.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (after != null) {
+            params.addValue("afterCreatedAt", after.createdAt()).addValue("afterPostId", after.postId());
+        }
+
+        List<String> selects = new ArrayList<>(clubIds.size());
+        for (int i = 0; i < clubIds.size(); i++) {
+            params.addValue("clubId" + i, clubIds.get(i));
+            selects.add(SELECT.formatted(i, after == null ? "" : AFTER));
+        }
+
+        Map<Long, List<PostPageResponseDTO>> timelines = new LinkedHashMap<>();
+        jdbcTemplate.query(String.join("\nUNION ALL\n", selects), params, rs -> {
+            PostPageResponseDTO dto = PostPageResponseDTO.builder()
+                    .postId(rs.getLong("id"))
+                    .clubId(rs.getLong("club_id"))
+                    .writer(rs.getString("username"))
+                    .postTitle(rs.getString("post_title"))
+                    .postNumber(rs.getLong("post_number"))
+                    .likeCnt(rs.getLong("like_cnt"))
+                    .createdAt(rs.getTimestamp("created_at"))
+                    .modifiedAt(rs.getTimestamp("modified_at"))
+                    .thumbnailImageUrl(rs.getString("thumbnail_image_url"))
+                    .build();
+            timelines.computeIfAbsent(dto.getClubId(), id -> new ArrayList<>()).add(dto);
+        });
+
+        // UNION ALL 결과는 보통 모임별로 정렬된 채 오지만 보장되지 않으므로 다시 정렬한다. 이미 정렬돼 있으면 선형이다.
+        List<List<PostPageResponseDTO>> result = new ArrayList<>(timelines.values());
+        result.forEach(timeline -> timeline.sort(FEED_ORDER));
+        return result;
+    }
+}
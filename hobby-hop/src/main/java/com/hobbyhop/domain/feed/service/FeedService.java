@@ -0,0 +1,11 @@
+package com.hobbyhop.domain.feed.service;
+
+import com.hobbyhop.domain.feed.dto.FeedResponseDTO;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.global.request.PageRequestDTO;
+
+public interface FeedService {
+
+    // 가입한 모든 모임의 최신 게시글을 합쳐 커서 방식으로 조회한다.
+    FeedResponseDTO getFeed(User user, PageRequestDTO pageRequestDTO);
+}
@@ -0,0 +1,67 @@
+package com.hobbyhop.domain.feed.service.impl;
+
+import com.hobbyhop.domain.clubmember.service.ClubMemberService;
+import com.hobbyhop.domain.feed.dto.FeedCursor;
+import com.hobbyhop.domain.feed.dto.FeedResponseDTO;
+import com.hobbyhop.domain.feed.merge.FeedMerger;
+import com.hobbyhop.domain.feed.repository.FeedRepository;
+import com.hobbyhop.domain.feed.service.FeedService;
+import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
+import com.hobbyhop.domain.postuser.service.PostUserService;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.global.request.PageRequestDTO;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FeedServiceImpl implements FeedService {
+
+    private final ClubMemberService clubMemberService;
+    private final FeedRepository feedRepository;
+    private final PostUserService postUserService;
+
+    // UNION ALL 한 번에 넣는 모임 수. 넘으면 나눠서 조회한 뒤 함께 합친다.
+    @Value("${hobbyhop.feed.union-batch-size:50}")
+    private int unionBatchSize;
+
+    @Value("${hobbyhop.feed.max-size:50}")
+    private int maxSize;
+
+    @Override
+    public FeedResponseDTO getFeed(User user, PageRequestDTO pageRequestDTO) {
+        int size = Math.min(pageRequestDTO.getSize(), maxSize);
+        List<Long> clubIds = clubMemberService.getClubIds(user.getId());
+        FeedCursor after = pageRequestDTO.getAfter() == null ? null : FeedCursor.decode(pageRequestDTO.getAfter());
+
+        // 다음 페이지 여부를 알기 위해 모임마다 size + 1 개까지 읽는다.
+        List<List<PostPageResponseDTO>> timelines = new ArrayList<>();
+        for (int from = 0; from < clubIds.size(); from += unionBatchSize) {
+            List<Long> batch = clubIds.subList(from, Math.min(from + unionBatchSize, clubIds.size()));
+            timelines.addAll(feedRepository.findTimelines(batch, after, size + 1));
+        }
+        List<PostPageResponseDTO> merged = FeedMerger.merge(timelines, FeedRepository.FEED_ORDER, size + 1);
+
+        boolean hasNext = merged.size() > size;
+        List<PostPageResponseDTO> page = hasNext ? List.copyOf(merged.subList(0, size)) : merged;
+
+        // DB 에 아직 반영되지 않은 좋아요 수는 redis 값으로 덮어쓴다.
+        Map<Long, Long> likeCounts = postUserService.getLikeCounts(
+                page.stream().map(PostPageResponseDTO::getPostId).toList());
+        page.forEach(dto -> dto.setLikeCnt(likeCounts.getOrDefault(dto.getPostId(), dto.getLikeCnt())));
+
+        PostPageResponseDTO last = hasNext ? page.get(size - 1) : null;
+        return FeedResponseDTO.builder()
+                .size(size)
+                .dtoList(page)
+                .hasNext(hasNext)
+                .nextCursor(last == null ? null : new FeedCursor(last.getCreatedAt(), last.getPostId()).encode())
+                .build();
+    }
+}
@@ -1,12 +1,15 @@
 package com.hobbyhop.domain.joinrequest.controller;
 
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestBulkDTO;
 import com.hobbyhop.domain.joinrequest.dto.JoinRequestDTO;
 import com.hobbyhop.domain.joinrequest.dto.JoinResponseDTO;
 import com.hobbyhop.domain.joinrequest.service.JoinRequestService;
+import com.hobbyhop.global.request.PageRequestDTO;
 import com.hobbyhop.global.response.ApiResponse;
 import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -29,9 +32,9 @@ public class JoinRequestController {
 
     @Operation(summary = "가입 신청 조회")
     @GetMapping
-    public ApiResponse<?> getRequests(@PathVariable("clubId") Long clubId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+    public ApiResponse<?> getRequests(@PathVariable("clubId") Long clubId, @Valid PageRequestDTO pageRequestDTO, @AuthenticationPrincipal UserDetailsImpl userDetails) {
 
-        return ApiResponse.ok(joinRequestService.getRequestByClub(clubId, userDetails.getUser()));
+        return ApiResponse.ok(joinRequestService.getRequestByClub(clubId, userDetails.getUser(), pageRequestDTO));
     }
 
     @Operation(summary = "가입 신청에 대한 처리")
@@ -41,4 +44,11 @@ public class JoinRequestController {
         return ApiResponse.ok("성공적으로 처리되었습니다.");
     }
 
+    @Operation(summary = "가입 신청 일괄 처리")
+    @PutMapping
+    public ApiResponse<?> processRequests(@PathVariable("clubId") Long clubId, @RequestBody JoinRequestBulkDTO joinRequestBulkDTO, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        return ApiResponse.ok(joinRequestService.processRequests(clubId, userDetails.getUser(), joinRequestBulkDTO));
+    }
+
 }
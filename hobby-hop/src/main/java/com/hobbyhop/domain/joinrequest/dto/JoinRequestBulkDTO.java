@@ -0,0 +1,17 @@
+package com.hobbyhop.domain.joinrequest.dto;
+
+import com.hobbyhop.domain.joinrequest.enums.JoinRequestStatus;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JoinRequestBulkDTO {
+    private List<Long> requestIds;
+    private JoinRequestStatus status;
+}
@@ -0,0 +1,12 @@
+package com.hobbyhop.domain.joinrequest.dto;
+
+import com.hobbyhop.domain.joinrequest.enums.JoinRequestResult;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class JoinRequestResultDTO {
+    private Long requestId;
+    private JoinRequestResult result;
+}
@@ -0,0 +1,14 @@
+package com.hobbyhop.domain.joinrequest.dto;
+
+import com.hobbyhop.domain.joinrequest.enums.JoinRequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 일괄 처리 전 검증용. 엔티티 대신 id, 신청자, 상태만 읽는다.
+@Data
+@AllArgsConstructor
+public class JoinRequestVO {
+    Long id;
+    Long userId;
+    JoinRequestStatus status;
+}
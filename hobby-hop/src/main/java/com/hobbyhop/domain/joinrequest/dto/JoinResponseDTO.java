@@ -7,6 +7,7 @@ import lombok.Data;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class JoinResponseDTO {
     private Long id;
     private Long sendUserId;
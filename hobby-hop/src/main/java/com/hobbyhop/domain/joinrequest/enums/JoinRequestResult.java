@@ -0,0 +1,10 @@
+package com.hobbyhop.domain.joinrequest.enums;
+
+// 일괄 처리에서 요청 id 별 결과
+public enum JoinRequestResult {
+    APPROVED, REJECTED, NOT_FOUND, ALREADY_PROCESSED, ALREADY_MEMBER;
+
+    public static JoinRequestResult of(JoinRequestStatus status) {
+        return status == JoinRequestStatus.APPROVED ? APPROVED : REJECTED;
+    }
+}
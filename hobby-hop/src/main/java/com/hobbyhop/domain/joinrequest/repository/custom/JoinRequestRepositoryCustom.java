@@ -1,6 +1,23 @@
 package com.hobbyhop.domain.joinrequest.repository.custom;
 
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestVO;
+import com.hobbyhop.domain.joinrequest.dto.JoinResponseDTO;
+import com.hobbyhop.domain.joinrequest.enums.JoinRequestStatus;
+import com.hobbyhop.global.request.PageRequestDTO;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Page;
+
 public interface JoinRequestRepositoryCustom {
 
     Boolean existRequest(Long clubId, Long userId);
+
+    // 대기 중인 가입신청 목록. 신청자 이름까지 한 번에 가져온다.
+    Page<JoinResponseDTO> findPendingByClubId(Long clubId, PageRequestDTO pageRequestDTO);
+
+    // 모임에 속한 요청만 돌려준다. 다른 모임의 요청 id 는 결과에서 빠진다.
+    List<JoinRequestVO> findAllByClubIdAndIdIn(Long clubId, Collection<Long> requestIds);
+
+    // 대기 중인 요청만 바꾸고 바꾼 행 수를 반환한다.
+    long updatePendingStatus(Collection<Long> requestIds, JoinRequestStatus status);
 }
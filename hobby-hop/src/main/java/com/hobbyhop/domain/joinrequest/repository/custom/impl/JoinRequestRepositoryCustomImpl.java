@@ -1,12 +1,23 @@
 package com.hobbyhop.domain.joinrequest.repository.custom.impl;
 
-import com.hobbyhop.domain.joinrequest.entity.QJoinRequest;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestVO;
+import com.hobbyhop.domain.joinrequest.dto.JoinResponseDTO;
 import com.hobbyhop.domain.joinrequest.enums.JoinRequestStatus;
 import com.hobbyhop.domain.joinrequest.repository.custom.JoinRequestRepositoryCustom;
+import com.hobbyhop.global.request.PageRequestDTO;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import static com.hobbyhop.domain.joinrequest.entity.QJoinRequest.joinRequest;
+import static com.hobbyhop.domain.user.entity.QUser.user;
 
 @RequiredArgsConstructor
 public class JoinRequestRepositoryCustomImpl implements JoinRequestRepositoryCustom {
@@ -22,4 +33,55 @@ public class JoinRequestRepositoryCustomImpl implements JoinRequestRepositoryCus
 
         return fetchOne != null; // 1개가 있는지 없는지 판단 (없으면 null이라 null체크)
     }
+
+    @Override
+    public Page<JoinResponseDTO> findPendingByClubId(Long clubId, PageRequestDTO pageRequestDTO) {
+        Pageable pageable = pageRequestDTO.getPageable("id");
+
+        List<JoinResponseDTO> content = jpaQueryFactory
+                .select(Projections.constructor(
+                        JoinResponseDTO.class,
+                        joinRequest.id,
+                        user.id,
+                        joinRequest.club.id,
+                        user.username))
+                .from(joinRequest)
+                .join(joinRequest.user, user)
+                .where(joinRequest.club.id.eq(clubId), joinRequest.status.eq(JoinRequestStatus.PENDING))
+                .orderBy(pageRequestDTO.isDesc() ? joinRequest.id.desc() : joinRequest.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long count = jpaQueryFactory
+                    .select(joinRequest.count())
+                    .from(joinRequest)
+                    .where(joinRequest.club.id.eq(clubId), joinRequest.status.eq(JoinRequestStatus.PENDING))
+                    .fetchOne();
+            return count == null ? 0 : count;
+        });
+    }
+
+    @Override
+    public List<JoinRequestVO> findAllByClubIdAndIdIn(Long clubId, Collection<Long> requestIds) {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        JoinRequestVO.class,
+                        joinRequest.id,
+                        joinRequest.user.id,
+                        joinRequest.status))
+                .from(joinRequest)
+                .where(joinRequest.club.id.eq(clubId), joinRequest.id.in(requestIds))
+                .fetch();
+    }
+
+    @Override
+    public long updatePendingStatus(Collection<Long> requestIds, JoinRequestStatus status) {
+        return jpaQueryFactory.update(joinRequest)
+                .set(joinRequest.status, status)
+                .set(joinRequest.modifiedAt, Timestamp.valueOf(LocalDateTime.now()))
+                .where(joinRequest.id.in(requestIds), joinRequest.status.eq(JoinRequestStatus.PENDING))
+                .execute();
+    }
 }
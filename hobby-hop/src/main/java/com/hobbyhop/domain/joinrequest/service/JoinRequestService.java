@@ -1,14 +1,21 @@
 package com.hobbyhop.domain.joinrequest.service;
 
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestBulkDTO;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestResultDTO;
 import com.hobbyhop.domain.joinrequest.dto.JoinResponseDTO;
 import com.hobbyhop.domain.joinrequest.enums.JoinRequestStatus;
 import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.global.request.PageRequestDTO;
+import com.hobbyhop.global.response.PageResponseDTO;
 
 import java.util.List;
 
 public interface JoinRequestService {
 
     JoinResponseDTO sendRequest(Long clubId, User user);
-    List<JoinResponseDTO> getRequestByClub(Long ClubId, User user);
+    PageResponseDTO<JoinResponseDTO> getRequestByClub(Long ClubId, User user, PageRequestDTO pageRequestDTO);
     void processRequest(Long requestId, JoinRequestStatus status);
+
+    // 여러 가입신청을 한 번에 승인하거나 거절하고 요청 id 별 결과를 돌려준다.
+    List<JoinRequestResultDTO> processRequests(Long clubId, User user, JoinRequestBulkDTO joinRequestBulkDTO);
 }
@@ -2,24 +2,38 @@ package com.hobbyhop.domain.joinrequest.service.impl;
 
 import com.hobbyhop.domain.club.entity.Club;
 import com.hobbyhop.domain.club.service.ClubService;
-import com.hobbyhop.domain.clubmember.entity.ClubMember;
 import com.hobbyhop.domain.clubmember.enums.MemberRole;
 import com.hobbyhop.domain.clubmember.service.ClubMemberService;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestBulkDTO;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestResultDTO;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestVO;
 import com.hobbyhop.domain.joinrequest.dto.JoinResponseDTO;
 import com.hobbyhop.domain.joinrequest.entity.JoinRequest;
+import com.hobbyhop.domain.joinrequest.enums.JoinRequestResult;
 import com.hobbyhop.domain.joinrequest.enums.JoinRequestStatus;
 import com.hobbyhop.domain.joinrequest.repository.JoinRequestRepository;
 import com.hobbyhop.domain.joinrequest.service.JoinRequestService;
 import com.hobbyhop.domain.user.entity.User;
 import com.hobbyhop.global.exception.clubmember.ClubMemberAlreadyJoined;
 import com.hobbyhop.global.exception.clubmember.ClubMemberRoleException;
+import com.hobbyhop.global.exception.joinrequest.ConflictRequestException;
+import com.hobbyhop.global.exception.joinrequest.InvalidBulkRequestException;
 import com.hobbyhop.global.exception.joinrequest.NoSuchRequestException;
 import com.hobbyhop.global.exception.joinrequest.PendingRequest;
+import com.hobbyhop.global.request.PageRequestDTO;
+import com.hobbyhop.global.response.PageResponseDTO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,11 +43,16 @@ public class JoinRequestServiceImpl implements JoinRequestService {
     private final JoinRequestRepository joinRequestRepository;
     private final ClubService clubService;
     private final ClubMemberService clubMemberService;
+
+    @Value("${hobbyhop.join-request.bulk-max-size:1000}")
+    private int bulkMaxSize;
+
     @Override
     @Transactional
     public JoinResponseDTO sendRequest(Long clubId, User user) {
-        Club club = clubService.findClub(clubId);
-        
+        clubService.getClubSnapshot(clubId);
+        Club club = clubService.getClubReference(clubId);
+
         if(clubMemberService.isClubMember(clubId, user.getId())) {
             throw new ClubMemberAlreadyJoined();
         }
@@ -54,15 +73,16 @@ public class JoinRequestServiceImpl implements JoinRequestService {
     }
 
     @Override
-    public List<JoinResponseDTO> getRequestByClub(Long clubId, User user) {
-        ClubMember clubMember = clubMemberService.findByClubAndUser(clubId, user.getId());
+    public PageResponseDTO<JoinResponseDTO> getRequestByClub(Long clubId, User user, PageRequestDTO pageRequestDTO) {
+        checkAdmin(clubId, user);
 
-        if(!clubMember.getMemberRole().equals(MemberRole.ADMIN)) {
-            throw new ClubMemberRoleException();
-        }
+        Page<JoinResponseDTO> result = joinRequestRepository.findPendingByClubId(clubId, pageRequestDTO);
 
-        return joinRequestRepository.findByClub_IdAndStatus(clubId, JoinRequestStatus.PENDING).stream()
-                .map(JoinResponseDTO::fromEntity).collect(Collectors.toList());
+        return PageResponseDTO.<JoinResponseDTO>withAll()
+                .pageRequestDTO(pageRequestDTO)
+                .dtoList(result.toList())
+                .total(Long.valueOf(result.getTotalElements()).intValue())
+                .build();
     }
 
     @Override
@@ -75,4 +95,66 @@ public class JoinRequestServiceImpl implements JoinRequestService {
             clubMemberService.joinClub(joinRequest.getClub(), joinRequest.getUser(), MemberRole.MEMBER);
         }
     }
+
+    // 검증 쿼리 한 번, 상태 UPDATE 한 번, 회원 batch insert 로 처리한다.
+    @Override
+    @Transactional
+    public List<JoinRequestResultDTO> processRequests(Long clubId, User user, JoinRequestBulkDTO joinRequestBulkDTO) {
+        checkAdmin(clubId, user);
+
+        JoinRequestStatus status = joinRequestBulkDTO.getStatus();
+        List<Long> requestIds = joinRequestBulkDTO.getRequestIds() == null ? List.of()
+                : joinRequestBulkDTO.getRequestIds().stream().distinct().toList();
+        if (status == null || status == JoinRequestStatus.PENDING || requestIds.isEmpty()
+                || requestIds.size() > bulkMaxSize) {
+            throw new InvalidBulkRequestException();
+        }
+
+        Map<Long, JoinRequestVO> requests = joinRequestRepository.findAllByClubIdAndIdIn(clubId, requestIds).stream()
+                .collect(Collectors.toMap(JoinRequestVO::getId, Function.identity()));
+
+        List<JoinRequestResultDTO> results = new ArrayList<>();
+        List<Long> targetIds = new ArrayList<>();
+        Set<Long> joinUserIds = new HashSet<>();
+
+        for (Long requestId : requestIds) {
+            JoinRequestVO request = requests.get(requestId);
+            JoinRequestResult result;
+            if (request == null) {
+                result = JoinRequestResult.NOT_FOUND;
+            } else if (request.getStatus() != JoinRequestStatus.PENDING) {
+                result = JoinRequestResult.ALREADY_PROCESSED;
+            } else if (status == JoinRequestStatus.APPROVED
+                    && (joinUserIds.contains(request.getUserId())
+                    || clubMemberService.isClubMember(clubId, request.getUserId()))) {
+                result = JoinRequestResult.ALREADY_MEMBER;
+            } else {
+                result = JoinRequestResult.of(status);
+                targetIds.add(requestId);
+                joinUserIds.add(request.getUserId());
+            }
+            results.add(new JoinRequestResultDTO(requestId, result));
+        }
+
+        if (targetIds.isEmpty()) {
+            return results;
+        }
+
+        // 검증 이후 다른 관리자가 먼저 처리했으면 전체를 되돌린다.
+        if (joinRequestRepository.updatePendingStatus(targetIds, status) != targetIds.size()) {
+            throw new ConflictRequestException();
+        }
+
+        if (status == JoinRequestStatus.APPROVED) {
+            clubMemberService.joinClubAll(clubId, joinUserIds, MemberRole.MEMBER);
+        }
+
+        return results;
+    }
+
+    private void checkAdmin(Long clubId, User user) {
+        if(clubMemberService.getMemberRole(clubId, user.getId()) != MemberRole.ADMIN) {
+            throw new ClubMemberRoleException();
+        }
+    }
 }
@@ -0,0 +1,193 @@
+package com.hobbyhop.domain.post.cache;
+
+import com.hobbyhop.domain.post.dto.PostResponseDTO;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 게시글 상세 캐시. 좋아요 수는 캐시하지 않고 응답할 때 좋아요 카운터 값으로 채운다.
+// soft TTL 이 지나면 옛 값을 돌려주면서 뒤에서 다시 읽고, hard TTL 이 지나면 기다려서 다시 읽는다.
+// 같은 게시글을 동시에 다시 읽어야 하면 한 요청만 DB 를 읽고 나머지는 그 결과를 기다린다.
+@Slf4j(topic = "게시글 상세 캐시")
+@Component
+public class PostDetailCache {
+
+    public static final String INVALIDATE_CHANNEL = "post:detail:invalidate";
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TaskExecutor refreshExecutor;
+
+    @Value("${hobbyhop.post-detail.cache.max-size:5000}")
+    private int maxSize;
+
+    @Value("${hobbyhop.post-detail.cache.soft-ttl-ms:10000}")
+    private long softTtlMs;
+
+    @Value("${hobbyhop.post-detail.cache.hard-ttl-ms:120000}")
+    private long hardTtlMs;
+
+    @Value("${hobbyhop.cache.pubsub.enabled:true}")
+    private boolean pubsubEnabled;
+
+    private final Map<Long, CachedPost> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, CompletableFuture<Optional<PostResponseDTO>>> loading = new ConcurrentHashMap<>();
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+    // 무효화가 있을 때마다 증가. 읽는 도중 무효화가 있었으면 읽은 값을 넣지 않는다.
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public PostDetailCache(PostRepository postRepository, RedisTemplate<String, String> redisTemplate,
+            @Qualifier("postDetailRefreshExecutor") TaskExecutor refreshExecutor) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    // 호출한 쪽에서 값을 바꿀 수 있도록 매번 복사본을 돌려준다.
+    public Optional<PostResponseDTO> get(Long postId) {
+        long now = System.currentTimeMillis();
+        CachedPost cached;
+        synchronized (entries) {
+            cached = entries.get(postId);
+        }
+
+        if (cached != null && cached.hardExpiresAt() > now) {
+            if (cached.softExpiresAt() > now) {
+                hits.increment();
+            } else {
+                staleHits.increment();
+                refreshInBackground(postId);
+            }
+            return Optional.of(cached.post().toBuilder().build());
+        }
+
+        misses.increment();
+        try {
+            return load(postId).join().map(post -> post.toBuilder().build());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 수정 중인 트랜잭션이 커밋되기 전에 다른 요청이 옛 값을 다시 넣을 수 있으므로 커밋 이후에 한 번 더 지운다.
+    public void invalidate(Long postId) {
+        evictLocal(postId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateShared(postId);
+                }
+            });
+        } else {
+            invalidateShared(postId);
+        }
+    }
+
+    // 다른 서버의 무효화 알림을 받았을 때 호출된다.
+    public void evictLocal(Long postId) {
+        epoch.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(postId);
+        }
+    }
+
+    public PostDetailCacheStats stats() {
+        synchronized (entries) {
+            return new PostDetailCacheStats(hits.sum(), staleHits.sum(), misses.sum(), coalesced.sum(),
+                    entries.size());
+        }
+    }
+
+    private CompletableFuture<Optional<PostResponseDTO>> load(Long postId) {
+        CompletableFuture<Optional<PostResponseDTO>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<PostResponseDTO>> inFlight = loading.putIfAbsent(postId, future);
+        if (inFlight != null) {
+            coalesced.increment();
+            return inFlight;
+        }
+
+        long startEpoch = epoch.get();
+        try {
+            Optional<PostResponseDTO> post = postRepository.findDetailById(postId);
+            post.ifPresent(p -> store(postId, p, startEpoch));
+            future.complete(post);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        } finally {
+            loading.remove(postId, future);
+        }
+        return future;
+    }
+
+    private void refreshInBackground(Long postId) {
+        if (!refreshing.add(postId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(postId);
+                } finally {
+                    refreshing.remove(postId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 갱신이 밀려 있으면 hard TTL 까지는 옛 값을 그대로 쓴다.
+            refreshing.remove(postId);
+        }
+    }
+
+    private void store(Long postId, PostResponseDTO post, long startEpoch) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            if (epoch.get() != startEpoch) {
+                return;
+            }
+            entries.put(postId, new CachedPost(post, now + softTtlMs, now + hardTtlMs));
+            if (entries.size() > maxSize) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        }
+    }
+
+    private void invalidateShared(Long postId) {
+        evictLocal(postId);
+        if (!pubsubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(postId));
+        } catch (RuntimeException e) {
+            log.error("게시글 상세 캐시 무효화 알림 실패 postId={}", postId, e);
+        }
+    }
+
+    private record CachedPost(PostResponseDTO post, long softExpiresAt, long hardExpiresAt) {
+    }
+}
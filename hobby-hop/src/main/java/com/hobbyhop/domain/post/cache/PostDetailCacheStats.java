@@ -0,0 +1,5 @@
+package com.hobbyhop.domain.post.cache;
+
+// staleHits : soft TTL 이 지나 옛 값을 주고 갱신한 횟수, coalesced : 진행 중인 조회를 기다린 횟수
+public record PostDetailCacheStats(long hits, long staleHits, long misses, long coalesced, int size) {
+}
@@ -2,6 +2,7 @@ package com.hobbyhop.domain.post.controller;
 
 import com.hobbyhop.domain.post.dto.PostModifyRequestDTO;
 import com.hobbyhop.domain.post.dto.PostRequestDTO;
+import com.hobbyhop.domain.post.enums.ImageVariant;
 import com.hobbyhop.domain.post.s3.S3Service;
 import com.hobbyhop.domain.post.service.PostService;
 import com.hobbyhop.global.request.PageRequestDTO;
@@ -12,6 +13,8 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -59,9 +62,18 @@ public class PostController {
         return ApiResponse.ok(postService.getPostById(userDetails.getUser(), clubId, postId));
     }
 
+    @Operation(summary = "게시글 이미지 다운로드")
+    @GetMapping("/{postId}/image")
+    public ResponseEntity<Resource> downloadPostImage(@PathVariable(name = "clubId") Long clubId, @PathVariable(name = "postId") Long postId,
+            @RequestParam(required = false, value = "variant") ImageVariant variant,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        return s3Service.downloadImage(postService.getPostImageKey(userDetails.getUser(), clubId, postId, variant));
+    }
+
     @Operation(summary = "게시글 전체 조회")
     @GetMapping
-    public ApiResponse<?> getAllPost(PageRequestDTO pageRequestDTO, @PathVariable(name = "clubId") Long clubId) {
+    public ApiResponse<?> getAllPost(@Valid PageRequestDTO pageRequestDTO, @PathVariable(name = "clubId") Long clubId) {
 
         return ApiResponse.ok(postService.getAllPost(pageRequestDTO, clubId));
     }
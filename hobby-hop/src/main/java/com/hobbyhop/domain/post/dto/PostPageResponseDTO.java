@@ -1,6 +1,7 @@
 package com.hobbyhop.domain.post.dto;
 
 import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.enums.ImageVariant;
 import java.sql.Timestamp;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,6 +22,7 @@ public class PostPageResponseDTO {
     private Long likeCnt;
     private Timestamp createdAt;
     private Timestamp modifiedAt;
+    private String thumbnailImageUrl;
 
     public static PostPageResponseDTO fromEntity(Post savedPost) {
         return PostPageResponseDTO.builder()
@@ -32,6 +34,7 @@ public class PostPageResponseDTO {
                 .likeCnt(savedPost.getLikeCnt())
                 .createdAt(savedPost.getCreatedAt())
                 .modifiedAt(savedPost.getModifiedAt())
+                .thumbnailImageUrl(savedPost.getImageUrl(ImageVariant.THUMBNAIL))
                 .build();
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.hobbyhop.domain.post.dto;
 
 import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import com.hobbyhop.domain.post.enums.ImageVariant;
 import java.sql.Timestamp;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostResponseDTO {
 
     private Long clubId;
@@ -24,6 +26,9 @@ public class PostResponseDTO {
     private Long likeCnt;
     private Timestamp createdAt;
     private Timestamp modifiedAt;
+    private ImageStatus imageStatus;
+    private String thumbnailImageUrl;
+    private String mediumImageUrl;
 
     public static PostResponseDTO fromEntity(Post savedPost) {
         return PostResponseDTO.builder()
@@ -38,6 +43,9 @@ public class PostResponseDTO {
                 .likeCnt(savedPost.getLikeCnt())
                 .createdAt(savedPost.getCreatedAt())
                 .modifiedAt(savedPost.getModifiedAt())
+                .imageStatus(savedPost.getImageStatus())
+                .thumbnailImageUrl(savedPost.getImageUrl(ImageVariant.THUMBNAIL))
+                .mediumImageUrl(savedPost.getImageUrl(ImageVariant.MEDIUM))
                 .build();
     }
 }
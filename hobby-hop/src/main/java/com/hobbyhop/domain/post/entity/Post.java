@@ -4,6 +4,8 @@ package com.hobbyhop.domain.post.entity;
 import com.hobbyhop.domain.BaseEntity;
 import com.hobbyhop.domain.club.entity.Club;
 import com.hobbyhop.domain.comment.entity.Comment;
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import com.hobbyhop.domain.post.enums.ImageVariant;
 import com.hobbyhop.domain.user.entity.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
@@ -22,6 +24,8 @@ import org.hibernate.annotations.Where;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE post SET deleted_at = NOW() where id=?")
 @Where(clause = "deleted_at is NULL")
+// 피드에서 모임별 최신 게시글을 읽는 순서
+@Table(indexes = @Index(name = "idx_post_club_created_at", columnList = "club_id, created_at, id"))
 public class Post extends BaseEntity {
 
     @Id
@@ -35,7 +39,18 @@ public class Post extends BaseEntity {
     @Column(length = 1000)
     private String savedImageUrl;
 
-    @Column(nullable = false)
+    // 목록, 상세 화면용 축소 이미지 (ImageVariant)
+    @Column(length = 1000)
+    private String thumbnailImageUrl;
+    @Column(length = 1000)
+    private String mediumImageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private ImageStatus imageStatus = ImageStatus.NONE;
+
+    // PostRepository.addLikeCnt, syncLikeCnt 로만 바꾼다. 게시글 수정 시 dirty checking 이 옛 값으로 덮어쓰지 않도록 updatable = false
+    @Column(nullable = false, updatable = false)
     private Long likeCnt;
 
     @Column(nullable = false)
@@ -69,11 +84,30 @@ public class Post extends BaseEntity {
         this.savedImageUrl = savedImageUrl;
     }
 
-    public void updateLikeCnt(Boolean updated) {
-        if (updated) {
-            this.likeCnt++;
-            return;
-        }
-        this.likeCnt--;
+    // 업로드를 시작하면 저장될 키를 먼저 기록하고, 완료 콜백에서 url 을 채운다.
+    public void pendingImage(String savedImageUrl) {
+        this.savedImageUrl = savedImageUrl;
+        this.imageStatus = ImageStatus.PENDING;
+    }
+
+    public void completeImage(String originImageUrl, String thumbnailImageUrl, String mediumImageUrl) {
+        this.originImageUrl = originImageUrl;
+        this.thumbnailImageUrl = thumbnailImageUrl;
+        this.mediumImageUrl = mediumImageUrl;
+        this.imageStatus = ImageStatus.DONE;
+    }
+
+    public void failImage() {
+        this.imageStatus = ImageStatus.FAILED;
+    }
+
+    // 축소 이미지를 만들거나 올리지 못했으면 원본을 쓴다.
+    public boolean hasImageVariant(ImageVariant variant) {
+        return (variant == ImageVariant.THUMBNAIL ? thumbnailImageUrl : mediumImageUrl) != null;
+    }
+
+    public String getImageUrl(ImageVariant variant) {
+        String url = variant == ImageVariant.THUMBNAIL ? thumbnailImageUrl : mediumImageUrl;
+        return url == null ? originImageUrl : url;
     }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.hobbyhop.domain.post.enums;
+
+public enum ImageStatus {
+    NONE, PENDING, DONE, FAILED
+}
@@ -0,0 +1,18 @@
+package com.hobbyhop.domain.post.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 원본과 함께 저장하는 축소 이미지. 긴 변 기준 최대 크기(px)
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL(200), MEDIUM(800);
+
+    private final int maxSize;
+
+    // 원본 키 앞에 variant 경로를 붙인다. ex) thumbnail/{uuid}_a.jpg
+    public String keyOf(String originKey) {
+        return name().toLowerCase() + "/" + originKey;
+    }
+}
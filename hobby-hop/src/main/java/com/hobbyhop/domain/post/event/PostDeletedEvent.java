@@ -0,0 +1,4 @@
+package com.hobbyhop.domain.post.event;
+
+public record PostDeletedEvent(Long clubId, Long postId) {
+}
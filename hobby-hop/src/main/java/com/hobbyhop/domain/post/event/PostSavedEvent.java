@@ -0,0 +1,5 @@
+package com.hobbyhop.domain.post.event;
+
+// 게시글 작성, 수정 후 발행. 커밋 이후 검색 색인에 반영된다.
+public record PostSavedEvent(Long clubId, Long postId, String title, String content) {
+}
@@ -1,9 +1,30 @@
 package com.hobbyhop.domain.post.repository;
 
 import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.enums.ImageStatus;
 import com.hobbyhop.domain.post.repository.custom.PostRepositoryCustom;
+import java.sql.Timestamp;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
 
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCnt = p.likeCnt + :delta WHERE p.id = :postId")
+    int addLikeCnt(@Param("postId") Long postId, @Param("delta") Long delta);
+
+    @Modifying
+    @Query(value = "UPDATE post SET like_cnt = (SELECT COUNT(*) FROM post_user "
+            + "WHERE post_id = :postId AND is_liked = true AND deleted_at IS NULL) "
+            + "WHERE id = :postId", nativeQuery = true)
+    int syncLikeCnt(@Param("postId") Long postId);
+
+    // 업로드 상태가 before 이전부터 그대로인 게시글 (업로드 중 서버가 재시작되어 결과가 반영되지 않은 경우)
+    @Query("SELECT p.id FROM Post p WHERE p.imageStatus = :status AND p.modifiedAt < :before ORDER BY p.id")
+    List<Long> findIdsByImageStatusBefore(@Param("status") ImageStatus status, @Param("before") Timestamp before,
+                                          Pageable pageable);
 }
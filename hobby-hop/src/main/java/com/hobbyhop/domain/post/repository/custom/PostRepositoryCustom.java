@@ -2,7 +2,11 @@ package com.hobbyhop.domain.post.repository.custom;
 
 import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
 import com.hobbyhop.domain.post.dto.PostResponseDTO;
+import com.hobbyhop.domain.post.search.PostSearchDocument;
 import com.hobbyhop.global.request.PageRequestDTO;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,8 +14,34 @@ public interface PostRepositoryCustom {
 
     Page<PostPageResponseDTO> findAllByClubId(Pageable pageable, Long clubId, String keyword);
 
+    // 커서 모드. afterId 다음 게시글부터 limit 개를 id 순으로 조회한다.
+    List<PostPageResponseDTO> findAllByClubIdAfter(Long clubId, String keyword, Long afterId, int limit, boolean isDesc);
+
+    long countByClubId(Long clubId, String keyword);
+
+    // 상세 조회용. 작성자 이름까지 한 번에 가져오고 EAGER 연관관계는 읽지 않는다.
+    Optional<PostResponseDTO> findDetailById(Long postId);
+
+    // 검색 결과 id 를 한 번의 IN 쿼리로 채운다. 순서는 보장하지 않는다.
+    List<PostPageResponseDTO> findAllByIdIn(Collection<Long> postIds);
+
+    // 검색 색인 재생성용, afterId 다음 게시글부터 limit 개
+    List<PostSearchDocument> findSearchDocumentsAfter(Long afterId, int limit);
+
+    // 다른 서버에서 바뀐 게시글을 색인에 다시 넣을 때 쓴다.
+    Optional<PostSearchDocument> findSearchDocument(Long postId);
+
+    // 게시글과 댓글, 댓글 좋아요, 게시글 좋아요를 함께 soft delete 한다.
     void deleteAllElement(Long postId);
 
+    // afterPostId 다음부터 chunkSize 개를 담는 구간의 마지막 게시글 id, 남은 게시글이 없으면 null
+    Long findChunkEnd(Long clubId, Long afterPostId, int chunkSize);
+
+    // 모임의 [fromPostId, toPostId] 구간 게시글을 하위 요소와 함께 soft delete 하고 지운 게시글 수를 반환한다.
+    long deleteAllElementInRange(Long clubId, Long fromPostId, Long toPostId);
+
+    long countByClubIdIn(List<Long> clubIds);
+
     Page<PostResponseDTO> findAllByClubIdAndKeyword(PageRequestDTO pageRequestDTO, Long clubId);
 }
 
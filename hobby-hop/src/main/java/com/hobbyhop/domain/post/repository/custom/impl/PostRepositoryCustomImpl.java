@@ -10,16 +10,20 @@ import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
 import com.hobbyhop.domain.post.dto.PostResponseDTO;
 import com.hobbyhop.domain.post.entity.Post;
 import com.hobbyhop.domain.post.repository.custom.PostRepositoryCustom;
+import com.hobbyhop.domain.post.search.PostSearchDocument;
 import com.hobbyhop.global.request.PageRequestDTO;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -35,33 +39,138 @@ public class PostRepositoryCustomImpl extends QuerydslRepositorySupport implemen
 
     @Override
     public Page<PostPageResponseDTO> findAllByClubId(Pageable pageable, Long clubId, String keyword){
-        JPAQuery<PostPageResponseDTO> query = queryFactory
+        JPAQuery<PostPageResponseDTO> query = selectPostPage()
+                .where(post.club.id.eq(clubId), titleContains(keyword));
+
+        List<PostPageResponseDTO> content = getQuerydsl().applyPagination(pageable, query).fetch();
+
+        // 마지막 페이지처럼 개수를 알 수 있으면 count 쿼리를 생략한다.
+        return PageableExecutionUtils.getPage(content, pageable, () -> countByClubId(clubId, keyword));
+    }
+
+    @Override
+    public List<PostPageResponseDTO> findAllByClubIdAfter(Long clubId, String keyword, Long afterId, int limit,
+            boolean isDesc) {
+        // (club_id, id) 인덱스를 타도록 OFFSET 대신 마지막 id 기준으로 이어서 읽는다.
+        return selectPostPage()
+                .where(post.club.id.eq(clubId), titleContains(keyword), idAfter(afterId, isDesc))
+                .orderBy(isDesc ? post.id.desc() : post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countByClubId(Long clubId, String keyword) {
+        Long count = queryFactory
+                .select(post.count())
+                .from(post)
+                .join(post.user, user)
+                .where(post.club.id.eq(clubId), titleContains(keyword))
+                .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Optional<PostResponseDTO> findDetailById(Long postId) {
+        return Optional.ofNullable(queryFactory
                 .select(
                         Projections.constructor(
-                                PostPageResponseDTO.class,
+                                PostResponseDTO.class,
                                 post.club.id,
                                 post.id,
                                 user.username,
                                 post.postTitle,
+                                post.postContent,
+                                post.originImageUrl,
+                                post.savedImageUrl,
                                 post.postNumber,
                                 post.likeCnt,
                                 post.createdAt,
-                                post.modifiedAt
+                                post.modifiedAt,
+                                post.imageStatus,
+                                post.thumbnailImageUrl,
+                                post.mediumImageUrl
                         )
                 )
                 .from(post)
-                .where(post.club.id.eq(clubId));
+                .join(post.user, user)
+                .where(post.id.eq(postId))
+                .fetchOne());
+    }
 
-        if (keyword != null) {
-            BooleanExpression titleContainsKeyword = post.postTitle.containsIgnoreCase(keyword);
-            query.where(titleContainsKeyword);
-        }
+    @Override
+    public List<PostPageResponseDTO> findAllByIdIn(Collection<Long> postIds) {
+        return selectPostPage()
+                .where(post.id.in(postIds))
+                .fetch();
+    }
 
+    @Override
+    public List<PostSearchDocument> findSearchDocumentsAfter(Long afterId, int limit) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                PostSearchDocument.class,
+                                post.id,
+                                post.club.id,
+                                post.postTitle,
+                                post.postContent
+                        )
+                )
+                .from(post)
+                .where(post.id.gt(afterId))
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 
-        List<PostPageResponseDTO> content = getQuerydsl().applyPagination(pageable, query).fetch();
-        long totalCount = query.fetchCount();
+    @Override
+    public Optional<PostSearchDocument> findSearchDocument(Long postId) {
+        return Optional.ofNullable(queryFactory
+                .select(
+                        Projections.constructor(
+                                PostSearchDocument.class,
+                                post.id,
+                                post.club.id,
+                                post.postTitle,
+                                post.postContent
+                        )
+                )
+                .from(post)
+                .where(post.id.eq(postId))
+                .fetchOne());
+    }
 
-        return new PageImpl<>(content, pageable, totalCount);
+    private JPAQuery<PostPageResponseDTO> selectPostPage() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                PostPageResponseDTO.class,
+                                post.club.id,
+                                post.id,
+                                user.username,
+                                post.postTitle,
+                                post.postNumber,
+                                post.likeCnt,
+                                post.createdAt,
+                                post.modifiedAt,
+                                post.thumbnailImageUrl
+                        )
+                )
+                .from(post)
+                .join(post.user, user);
+    }
+
+    private BooleanExpression titleContains(String keyword) {
+        return keyword == null ? null : post.postTitle.containsIgnoreCase(keyword);
+    }
+
+    private BooleanExpression idAfter(Long afterId, boolean isDesc) {
+        if (afterId == null) {
+            return null;
+        }
+        return isDesc ? post.id.lt(afterId) : post.id.gt(afterId);
     }
 
     @Override
@@ -77,9 +186,13 @@ public class PostRepositoryCustomImpl extends QuerydslRepositorySupport implemen
                                 post.postContent,
                                 post.originImageUrl,
                                 post.savedImageUrl,
+                                post.postNumber,
                                 post.likeCnt,
                                 post.createdAt,
-                                post.modifiedAt
+                                post.modifiedAt,
+                                post.imageStatus,
+                                post.thumbnailImageUrl,
+                                post.mediumImageUrl
                         )
                 )
                 .from(post)
@@ -100,32 +213,79 @@ public class PostRepositoryCustomImpl extends QuerydslRepositorySupport implemen
 
     @Override
     public void deleteAllElement(Long postId) {
-        List<Long> ids = queryFactory
-                .select(comment.id)
-                .from(comment)
-                .where(comment.post.id.eq(postId))
-                .fetch().stream().distinct().toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        softDeletePosts(post.id.eq(postId), now);
+    }
+
+    @Override
+    public Long findChunkEnd(Long clubId, Long afterPostId, int chunkSize) {
+        // 남은 게시글 중 chunkSize 번째 id, 남은 게시글이 그보다 적으면 마지막 id
+        Long end = queryFactory
+                .select(post.id)
+                .from(post)
+                .where(post.club.id.eq(clubId), post.id.gt(afterPostId))
+                .orderBy(post.id.asc())
+                .offset(chunkSize - 1L)
+                .fetchFirst();
+
+        if (end != null) {
+            return end;
+        }
+
+        return queryFactory
+                .select(post.id.max())
+                .from(post)
+                .where(post.club.id.eq(clubId), post.id.gt(afterPostId))
+                .fetchOne();
+    }
 
+    @Override
+    public long deleteAllElementInRange(Long clubId, Long fromPostId, Long toPostId) {
         Timestamp now = Timestamp.valueOf(LocalDateTime.now());
 
+        return softDeletePosts(post.club.id.eq(clubId).and(post.id.between(fromPostId, toPostId)), now);
+    }
+
+    @Override
+    public long countByClubIdIn(List<Long> clubIds) {
+        Long count = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(post.club.id.in(clubIds))
+                .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
+    // id 목록을 자바로 가져오지 않고 단계마다 서브쿼리로 대상 게시글을 지정해 한 번씩 update 한다.
+    // 하위 테이블부터 지워야 서브쿼리의 @Where(deleted_at is NULL) 조건에 대상이 남아 있다.
+    private long softDeletePosts(BooleanExpression postCondition, Timestamp now) {
         queryFactory.update(commentUser)
                 .set(commentUser.deletedAt, now)
-                .where(commentUser.commentUserPK.comment.id.in(ids))
+                .where(commentUser.commentUserPK.comment.id.in(
+                        JPAExpressions.select(comment.id)
+                                .from(comment)
+                                .where(comment.post.id.in(selectPostIds(postCondition)))))
                 .execute();
 
         queryFactory.update(comment)
                 .set(comment.deletedAt, now)
-                .where(comment.id.in(ids))
+                .where(comment.post.id.in(selectPostIds(postCondition)), comment.deletedAt.isNull())
                 .execute();
 
         queryFactory.update(postUser)
                 .set(postUser.deletedAt, now)
-                .where(postUser.postUserPK.post.id.eq(postId))
+                .where(postUser.postUserPK.post.id.in(selectPostIds(postCondition)), postUser.deletedAt.isNull())
                 .execute();
 
-        queryFactory.update(post)
+        return queryFactory.update(post)
                 .set(post.deletedAt, now)
-                .where(post.id.eq(postId))
+                .where(postCondition, post.deletedAt.isNull())
                 .execute();
     }
+
+    private JPQLQuery<Long> selectPostIds(BooleanExpression postCondition) {
+        return JPAExpressions.select(post.id).from(post).where(postCondition);
+    }
 }
@@ -0,0 +1,130 @@
+package com.hobbyhop.domain.post.s3;
+
+import com.hobbyhop.global.exception.s3.ImageSaveException;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 자주 내려받는 이미지를 로컬 디스크에 보관한다. 전체 크기가 maxBytes 를 넘으면 가장 오래 안 쓴 파일부터 지운다.
+@Slf4j(topic = "이미지 캐시")
+@Component
+public class ImageDiskCache {
+
+    private final Path dir;
+    private final long maxBytes;
+
+    // 파일 이름 -> 크기 (접근 순서)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public ImageDiskCache(@Value("${hobbyhop.image-cache.dir:${java.io.tmpdir}/hobbyhop-image-cache}") String dir,
+                          @Value("${hobbyhop.image-cache.max-bytes:268435456}") long maxBytes) {
+        this.dir = Path.of(dir);
+        this.maxBytes = maxBytes;
+    }
+
+    // 이전 실행에서 남은 파일은 크기 정보가 없으므로 비우고 시작
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(dir);
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(this::deleteQuietly);
+        }
+    }
+
+    public record CachedImage(InputStream content, long size) {
+    }
+
+    // 파일은 락 안에서 연 채로 돌려준다. 연 뒤에 다른 요청이 지워도 닫을 때까지 내용을 끝까지 읽을 수 있다.
+    // 호출한 쪽에서 content 를 닫아야 한다.
+    public CachedImage get(String key, Supplier<InputStream> loader) {
+        String name = hash(key);
+        Path path = dir.resolve(name);
+
+        synchronized (this) {
+            Long size = entries.get(name);
+            if (size != null) {
+                try {
+                    return new CachedImage(Files.newInputStream(path), size);
+                } catch (IOException e) {
+                    // 밖에서 지워진 파일은 다시 받는다.
+                    entries.remove(name);
+                    totalBytes -= size;
+                }
+            }
+        }
+
+        // 내려받는 동안에는 락을 잡지 않는다. 같은 키를 동시에 받으면 마지막 것이 남는다.
+        try {
+            Path temp = Files.createTempFile(dir, "loading-", ".tmp");
+            try (InputStream in = loader.get()) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            long size = Files.size(temp);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            synchronized (this) {
+                Long previous = entries.put(name, size);
+                totalBytes += size - (previous == null ? 0 : previous);
+                evict(name);
+                return new CachedImage(Files.newInputStream(path), size);
+            }
+        } catch (IOException e) {
+            throw new ImageSaveException();
+        }
+    }
+
+    public synchronized void remove(String key) {
+        String name = hash(key);
+        Long size = entries.remove(name);
+        if (size != null) {
+            totalBytes -= size;
+        }
+        deleteQuietly(dir.resolve(name));
+    }
+
+    private void evict(String keep) {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            deleteQuietly(dir.resolve(eldest.getKey()));
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("캐시 파일 삭제 실패 {}", path, e);
+        }
+    }
+
+    private static String hash(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
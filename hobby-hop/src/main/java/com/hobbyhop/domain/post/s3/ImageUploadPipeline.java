@@ -0,0 +1,177 @@
+package com.hobbyhop.domain.post.s3;
+
+import com.hobbyhop.domain.post.enums.ImageVariant;
+import com.hobbyhop.global.exception.s3.ImageSaveException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 게시글 이미지 업로드.
+ * 요청 스레드에서는 본문을 임시 파일로 옮겨 디스크에 기록(force)까지만 하고,
+ * 실제 업로드는 트랜잭션 커밋 후 업로드 전용 스레드풀에서 진행한 뒤 PostImageUploadCallback 으로 결과를 반영한다.
+ * 스레드풀이 가득 차 거절된 업로드는 모아 두었다가 PostImageSweepScheduler 가 실패로 표시한다.
+ */
+@Slf4j(topic = "이미지 업로드")
+@Component
+public class ImageUploadPipeline {
+
+    private final ObjectStorage objectStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final PostImageUploadCallback callback;
+    private final Executor executor;
+    private final Path spoolDir;
+
+    private final Queue<RejectedUpload> rejectedUploads = new ConcurrentLinkedQueue<>();
+
+    public record RejectedUpload(Long postId, String key) {
+    }
+
+    public ImageUploadPipeline(ObjectStorage objectStorage, ImageVariantGenerator imageVariantGenerator,
+                               PostImageUploadCallback callback,
+                               @Qualifier("imageUploadExecutor") Executor executor,
+                               @Value("${hobbyhop.upload.spool-dir:${java.io.tmpdir}}") String spoolDir) {
+        this.objectStorage = objectStorage;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.callback = callback;
+        this.executor = executor;
+        this.spoolDir = Path.of(spoolDir);
+    }
+
+    public SpooledFile spool(MultipartFile multipartFile) {
+        Path path = null;
+        try {
+            Files.createDirectories(spoolDir);
+            path = Files.createTempFile(spoolDir, "upload-", ".tmp");
+
+            try (InputStream in = multipartFile.getInputStream();
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel target = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                long size = multipartFile.getSize();
+                long position = 0;
+                while (position < size) {
+                    long transferred = target.transferFrom(source, position, size - position);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                }
+                target.force(true);
+            }
+
+            return new SpooledFile(path, multipartFile.getOriginalFilename(), multipartFile.getContentType(),
+                    multipartFile.getSize());
+        } catch (IOException e) {
+            deleteQuietly(path);
+            throw new ImageSaveException();
+        }
+    }
+
+    public String createKey(SpooledFile file) {
+        return UUID.randomUUID() + "_" + file.originalFilename();
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 아니면 바로 업로드를 시작한다. 롤백되면 임시 파일만 지운다.
+    public void uploadAfterCommit(Long postId, String key, SpooledFile file) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(postId, key, file);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(postId, key, file);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteQuietly(file.path());
+                }
+            }
+        });
+    }
+
+    // 거절된 업로드를 꺼낸다. 꺼낸 항목은 호출한 쪽에서 실패로 표시해야 한다.
+    public List<RejectedUpload> drainRejected() {
+        List<RejectedUpload> drained = new ArrayList<>();
+        RejectedUpload rejected;
+        while ((rejected = rejectedUploads.poll()) != null) {
+            drained.add(rejected);
+        }
+        return drained;
+    }
+
+    // afterCommit 에서는 아직 요청의 커넥션을 쥐고 있으므로 여기서 실패 트랜잭션을 열지 않는다. (커넥션 풀 고갈 시 교착)
+    private void submit(Long postId, String key, SpooledFile file) {
+        try {
+            executor.execute(() -> upload(postId, key, file));
+        } catch (RejectedExecutionException e) {
+            log.warn("업로드 대기열이 가득 차 거절 postId={}, key={}", postId, key);
+            deleteQuietly(file.path());
+            rejectedUploads.add(new RejectedUpload(postId, key));
+        }
+    }
+
+    private void upload(Long postId, String key, SpooledFile file) {
+        Map<ImageVariant, SpooledFile> variants = Map.of();
+        try {
+            objectStorage.upload(key, file.path(), file.contentType(), file.size());
+
+            // 원본을 올린 뒤 축소 이미지를 만들어 같은 키 규칙으로 함께 올린다.
+            variants = imageVariantGenerator.generate(file);
+            Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+            // 축소 이미지를 올리지 못해도 원본은 이미 올라갔으므로 게시글을 실패로 두지 않고 원본으로 대신한다.
+            variants.forEach((variant, variantFile) -> {
+                String variantKey = variant.keyOf(key);
+                try {
+                    objectStorage.upload(variantKey, variantFile.path(), variantFile.contentType(), variantFile.size());
+                    variantUrls.put(variant, objectStorage.getUrl(variantKey));
+                } catch (RuntimeException e) {
+                    log.warn("{} 업로드 실패, 원본으로 대신 postId={}, key={}", variant, postId, key, e);
+                }
+            });
+
+            callback.onComplete(postId, key, objectStorage.getUrl(key), variantUrls);
+        } catch (RuntimeException e) {
+            log.error("이미지 업로드 실패 postId={}, key={}", postId, key, e);
+            callback.onFailure(postId, key);
+        } finally {
+            deleteQuietly(file.path());
+            variants.values().forEach(variantFile -> deleteQuietly(variantFile.path()));
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 {}", path, e);
+        }
+    }
+}
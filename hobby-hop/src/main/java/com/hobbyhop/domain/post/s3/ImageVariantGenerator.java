@@ -0,0 +1,131 @@
+package com.hobbyhop.domain.post.s3;
+
+import com.hobbyhop.domain.post.enums.ImageVariant;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 원본 이미지로 썸네일, 중간 크기 이미지를 만든다. 각 크기는 작업 스레드풀에서 동시에 만든다.
+@Slf4j(topic = "이미지 변환")
+@Component
+public class ImageVariantGenerator {
+
+    private final Executor executor;
+    // 디코딩 전에 확인하는 최대 픽셀 수. 작은 파일이 거대한 이미지로 풀리는 경우(압축 폭탄)를 막는다.
+    private final long maxPixels;
+
+    public ImageVariantGenerator(@Qualifier("imageVariantExecutor") Executor executor,
+                                 @Value("${hobbyhop.upload.max-image-pixels:40000000}") long maxPixels) {
+        this.executor = executor;
+        this.maxPixels = maxPixels;
+    }
+
+    // 이미지가 아니거나, 너무 크거나, 변환에 실패한 크기는 결과에서 빠진다. (화면에서는 원본을 쓴다)
+    public Map<ImageVariant, SpooledFile> generate(SpooledFile origin) {
+        Map<ImageVariant, SpooledFile> variants = new EnumMap<>(ImageVariant.class);
+
+        BufferedImage source;
+        try {
+            source = read(origin);
+        } catch (IOException e) {
+            log.warn("이미지 읽기 실패 {}", origin.originalFilename(), e);
+            return variants;
+        }
+        if (source == null) {
+            return variants;
+        }
+
+        String format = "image/png".equals(origin.contentType()) || "image/gif".equals(origin.contentType())
+                ? "png" : "jpg";
+
+        Map<ImageVariant, CompletableFuture<SpooledFile>> futures = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                futures.put(variant,
+                        CompletableFuture.supplyAsync(() -> resize(source, variant, format, origin), executor));
+            } catch (RejectedExecutionException e) {
+                // 변환 대기열이 가득 차면 이 크기는 건너뛰고 원본을 쓴다.
+                log.warn("{} 변환 거절 {}", variant, origin.originalFilename());
+            }
+        }
+
+        futures.forEach((variant, future) -> {
+            try {
+                variants.put(variant, future.join());
+            } catch (RuntimeException e) {
+                log.warn("{} 변환 실패 {}", variant, origin.originalFilename(), e);
+            }
+        });
+        return variants;
+    }
+
+    // 헤더의 가로, 세로만 먼저 읽어 크기 제한을 넘으면 픽셀을 풀지 않는다. 이미지가 아니거나 너무 크면 null
+    private BufferedImage read(SpooledFile origin) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(origin.path().toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("이미지가 너무 커 변환하지 않음 {} ({}px)", origin.originalFilename(), pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private SpooledFile resize(BufferedImage source, ImageVariant variant, String format, SpooledFile origin) {
+        int longSide = Math.max(source.getWidth(), source.getHeight());
+        double scale = Math.min(1.0, (double) variant.getMaxSize() / longSide);
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        int type = "png".equals(format) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage resized = new BufferedImage(width, height, type);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        try {
+            Path path = Files.createTempFile(origin.path().getParent(), "variant-", "." + format);
+            ImageIO.write(resized, format, path.toFile());
+            return new SpooledFile(path, origin.originalFilename(), "png".equals(format) ? "image/png" : "image/jpeg",
+                    Files.size(path));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
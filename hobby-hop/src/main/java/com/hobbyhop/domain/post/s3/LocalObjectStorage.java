@@ -0,0 +1,70 @@
+package com.hobbyhop.domain.post.s3;
+
+import com.hobbyhop.global.exception.s3.ImageSaveException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+// 로컬, 테스트 환경에서 S3 대신 사용하는 파일시스템 저장소
+@Component
+@ConditionalOnProperty(name = "hobbyhop.storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalObjectStorage(@Value("${hobbyhop.storage.local.root:${java.io.tmpdir}/hobbyhop-storage}") String root,
+                              @Value("${hobbyhop.storage.local.base-url:}") String baseUrl) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.baseUrl = StringUtils.hasText(baseUrl) ? baseUrl : this.root.toUri().toString();
+    }
+
+    @Override
+    public void upload(String key, Path file, String contentType, long contentLength) {
+        try {
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new ImageSaveException();
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl.endsWith("/") ? baseUrl + key : baseUrl + "/" + key;
+    }
+
+    @Override
+    public InputStream open(String key) {
+        try {
+            return Files.newInputStream(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) {
+            throw new ImageSaveException();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,16 @@
+package com.hobbyhop.domain.post.s3;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+
+// 이미지 저장소. hobbyhop.storage.type 으로 s3(기본) 또는 local 구현을 선택한다.
+public interface ObjectStorage {
+
+    void upload(String key, Path file, String contentType, long contentLength);
+
+    String getUrl(String key);
+
+    InputStream open(String key);
+
+    void delete(String key);
+}
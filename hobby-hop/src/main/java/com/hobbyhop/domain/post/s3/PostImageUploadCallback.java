@@ -0,0 +1,59 @@
+package com.hobbyhop.domain.post.s3;
+
+import com.hobbyhop.domain.post.cache.PostDetailCache;
+import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import com.hobbyhop.domain.post.enums.ImageVariant;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import java.sql.Timestamp;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 업로드 스레드에서 호출되어 게시글의 이미지 상태를 새 트랜잭션으로 확정한다.
+@Component
+@RequiredArgsConstructor
+public class PostImageUploadCallback {
+
+    private final PostRepository postRepository;
+    private final ObjectStorage objectStorage;
+    private final PostDetailCache postDetailCache;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onComplete(Long postId, String key, String url, Map<ImageVariant, String> variantUrls) {
+        Post post = postRepository.findById(postId).orElse(null);
+
+        // 게시글이 삭제되었거나 그 사이 다른 이미지로 바뀌었으면 올린 파일은 버린다.
+        if (post == null || !key.equals(post.getSavedImageUrl())) {
+            objectStorage.delete(key);
+            variantUrls.keySet().forEach(variant -> objectStorage.delete(variant.keyOf(key)));
+            return;
+        }
+
+        post.completeImage(url, variantUrls.get(ImageVariant.THUMBNAIL), variantUrls.get(ImageVariant.MEDIUM));
+        postDetailCache.invalidate(postId);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onFailure(Long postId, String key) {
+        postRepository.findById(postId)
+                .filter(post -> key.equals(post.getSavedImageUrl()))
+                .ifPresent(post -> {
+                    post.failImage();
+                    postDetailCache.invalidate(postId);
+                });
+    }
+
+    // 조회 이후 다시 업로드를 시작했으면(수정 시각이 바뀜) 건드리지 않는다.
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTimeout(Long postId, Timestamp before) {
+        postRepository.findById(postId)
+                .filter(post -> post.getImageStatus() == ImageStatus.PENDING && post.getModifiedAt().before(before))
+                .ifPresent(post -> {
+                    post.failImage();
+                    postDetailCache.invalidate(postId);
+                });
+    }
+}
@@ -0,0 +1,69 @@
+package com.hobbyhop.domain.post.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.hobbyhop.global.exception.s3.ImageSaveException;
+import jakarta.annotation.PreDestroy;
+import java.io.InputStream;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "hobbyhop.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+
+    private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final String bucket;
+
+    public S3ObjectStorage(AmazonS3 amazonS3, @Value("${cloud.aws.s3.bucket}") String bucket) {
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        // 큰 파일은 TransferManager 가 멀티파트로 나눠 올린다.
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .build();
+    }
+
+    @Override
+    public void upload(String key, Path file, String contentType, long contentLength) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+
+        try {
+            transferManager.upload(new PutObjectRequest(bucket, key, file.toFile()).withMetadata(metadata))
+                    .waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageSaveException();
+        } catch (Exception e) {
+            throw new ImageSaveException();
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return amazonS3.getObject(bucket, key).getObjectContent();
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3.deleteObject(bucket, key);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transferManager.shutdownNow(false);
+    }
+}
@@ -1,58 +1,38 @@
 package com.hobbyhop.domain.post.s3;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.hobbyhop.global.exception.s3.ImageSaveException;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final AmazonS3 amazonS3;
+    private final ObjectStorage objectStorage;
+    private final ImageDiskCache imageDiskCache;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
+    // 저장소에서 한 번 받은 이미지는 로컬 디스크 캐시에서 내려준다.
+    public ResponseEntity<Resource> downloadImage(String key) {
+        // 캐시 파일이 교체, 삭제되어도 이미 연 스트림으로 끝까지 내려준다. (응답을 쓴 뒤 닫힌다)
+        ImageDiskCache.CachedImage image = imageDiskCache.get(key, () -> objectStorage.open(key));
+        Resource resource = new InputStreamResource(image.content());
 
-    public String saveFile(MultipartFile multipartFile){
-
-        String originalFilename = multipartFile.getOriginalFilename();
-        String savedFilename = UUID.randomUUID() + "_" + originalFilename;
-
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(multipartFile.getSize());
-        metadata.setContentType(multipartFile.getContentType());
-
-        try {
-            amazonS3.putObject(bucket, savedFilename, multipartFile.getInputStream(), metadata);
-        } catch (Exception e) {
-            throw new ImageSaveException();
-        }
-        return amazonS3.getUrl(bucket, savedFilename).toString();
-    }
-
-    public ResponseEntity<UrlResource> downloadImage(String originalFilename) {
-        UrlResource urlResource = new UrlResource(amazonS3.getUrl(bucket, originalFilename));
-
-        String contentDisposition = "attachment; filename=\"" +  originalFilename + "\"";
+        String filename = key.substring(key.lastIndexOf('/') + 1);
+        String contentDisposition = "attachment; filename=\"" +  filename + "\"";
 
         // header에 CONTENT_DISPOSITION 설정을 통해 클릭 시 다운로드 진행
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(urlResource);
+                .contentLength(image.size())
+                .body(resource);
 
     }
 
-    public void deleteImage(String originalFilename)  {
-        amazonS3.deleteObject(bucket, originalFilename);
+    public void deleteImage(String key)  {
+        objectStorage.delete(key);
+        imageDiskCache.remove(key);
     }
-
-
-}
\ No newline at end of file
+}
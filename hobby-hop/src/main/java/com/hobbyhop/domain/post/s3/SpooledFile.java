@@ -0,0 +1,8 @@
+package com.hobbyhop.domain.post.s3;
+
+import java.nio.file.Path;
+
+// 업로드 전에 로컬 임시 파일로 옮겨 둔 요청 본문
+public record SpooledFile(Path path, String originalFilename, String contentType, long size) {
+
+}
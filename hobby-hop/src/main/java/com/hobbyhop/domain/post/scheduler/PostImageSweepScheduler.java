@@ -0,0 +1,60 @@
+package com.hobbyhop.domain.post.scheduler;
+
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import com.hobbyhop.domain.post.s3.ImageUploadPipeline;
+import com.hobbyhop.domain.post.s3.PostImageUploadCallback;
+import java.sql.Timestamp;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 결과가 반영되지 않은 이미지 업로드를 실패로 표시해 PENDING 에 멈춰 있지 않게 한다.
+// 업로드 대기열에서 거절된 업로드와, 업로드 도중 서버가 재시작되어 콜백이 오지 않은 게시글이 대상이다.
+@Slf4j(topic = "이미지 업로드")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hobbyhop.upload.sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class PostImageSweepScheduler {
+
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final PostImageUploadCallback callback;
+    private final PostRepository postRepository;
+
+    // 대기열에서 기다리는 시간까지 고려해 넉넉하게 잡는다.
+    @Value("${hobbyhop.upload.pending-timeout-ms:1800000}")
+    private long pendingTimeoutMs;
+
+    @Value("${hobbyhop.upload.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    @Scheduled(fixedDelayString = "${hobbyhop.upload.sweep-delay-ms:10000}")
+    public void sweepRejected() {
+        for (ImageUploadPipeline.RejectedUpload rejected : imageUploadPipeline.drainRejected()) {
+            try {
+                callback.onFailure(rejected.postId(), rejected.key());
+            } catch (RuntimeException e) {
+                // 남은 항목은 sweepStale 이 시간이 지난 뒤 처리한다.
+                log.error("거절된 업로드 실패 표시 실패 postId={}", rejected.postId(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hobbyhop.upload.stale-sweep-delay-ms:300000}")
+    public void sweepStale() {
+        Timestamp before = new Timestamp(System.currentTimeMillis() - pendingTimeoutMs);
+        for (Long postId : postRepository.findIdsByImageStatusBefore(ImageStatus.PENDING, before,
+                PageRequest.of(0, sweepBatchSize))) {
+            try {
+                callback.onTimeout(postId, before);
+                log.warn("업로드 결과가 없어 실패로 표시 postId={}", postId);
+            } catch (RuntimeException e) {
+                log.error("업로드 실패 표시 실패 postId={}", postId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.hobbyhop.domain.post.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 형태소 분석 없이 한글 검색이 되도록 글자 단위 bigram 으로 자른다.
+// "동호회모임" -> [동호, 호회, 회모, 모임], 한 글자 단어는 그대로 남긴다.
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(tokens, normalized, start, i);
+                start = -1;
+            }
+        }
+
+        return tokens;
+    }
+
+    private static void addWord(List<String> tokens, String text, int start, int end) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.hobbyhop.domain.post.search;
+
+public record PostSearchDocument(Long postId, Long clubId, String title, String content) {
+}
@@ -0,0 +1,204 @@
+package com.hobbyhop.domain.post.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+// 모임별 게시글 역색인 (제목 + 본문 bigram), BM25 로 점수를 매긴다.
+// 서버 메모리에만 있으므로 시작할 때 PostSearchIndexer 가 DB 에서 다시 만든다.
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 단어는 본문보다 가중치를 준다.
+    private static final int TITLE_WEIGHT = 2;
+
+    private final Map<Long, ClubIndex> clubIndexes = new ConcurrentHashMap<>();
+
+    // 재색인 중에 삭제된 게시글. 재색인이 옛 데이터로 되살리지 않도록 기억해 둔다.
+    private final Set<Long> removedWhileRebuilding = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 한 글자 검색어는 bigram 색인으로 찾을 수 없어 DB 검색을 쓴다.
+    public boolean supports(String keyword) {
+        return ready && BigramTokenizer.tokenize(keyword).stream().anyMatch(token -> token.length() > 1);
+    }
+
+    public void index(Long clubId, Long postId, String title, String content) {
+        clubIndexes.computeIfAbsent(clubId, id -> new ClubIndex())
+                .put(postId, termFrequencies(title, content), true);
+    }
+
+    public void remove(Long clubId, Long postId) {
+        if (rebuilding) {
+            removedWhileRebuilding.add(postId);
+        }
+        ClubIndex clubIndex = clubIndexes.get(clubId);
+        if (clubIndex != null) {
+            clubIndex.remove(postId);
+        }
+    }
+
+    public void removeClub(Long clubId) {
+        clubIndexes.remove(clubId);
+    }
+
+    public void beginRebuild() {
+        removedWhileRebuilding.clear();
+        rebuilding = true;
+    }
+
+    // 재색인은 이벤트로 이미 반영된 최신 내용을 덮어쓰지 않는다.
+    public void rebuild(PostSearchDocument document) {
+        if (removedWhileRebuilding.contains(document.postId())) {
+            return;
+        }
+        clubIndexes.computeIfAbsent(document.clubId(), id -> new ClubIndex())
+                .put(document.postId(), termFrequencies(document.title(), document.content()), false);
+    }
+
+    public void finishRebuild() {
+        rebuilding = false;
+        removedWhileRebuilding.clear();
+        ready = true;
+    }
+
+    // 검색어의 모든 단어를 포함한 게시글만 점수 순으로 돌려준다.
+    public PostSearchResult search(Long clubId, String keyword, int offset, int limit) {
+        ClubIndex clubIndex = clubIndexes.get(clubId);
+        Set<String> terms = new LinkedHashSet<>(BigramTokenizer.tokenize(keyword));
+        if (clubIndex == null || terms.isEmpty()) {
+            return new PostSearchResult(List.of(), 0);
+        }
+
+        List<Map.Entry<Long, Double>> ranked = clubIndex.score(terms);
+        List<Long> postIds = ranked.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return new PostSearchResult(postIds, ranked.size());
+    }
+
+    private Map<String, Integer> termFrequencies(String title, String content) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        BigramTokenizer.tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        BigramTokenizer.tokenize(content).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        return frequencies;
+    }
+
+    private static class ClubIndex {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        // term -> (postId -> tf)
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        // postId -> (term -> tf), 수정, 삭제 시 기존 posting 을 지우는 데 쓴다.
+        private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+        private final Map<Long, Integer> lengths = new HashMap<>();
+        private long totalLength;
+
+        void put(Long postId, Map<String, Integer> frequencies, boolean overwrite) {
+            lock.writeLock().lock();
+            try {
+                if (documents.containsKey(postId)) {
+                    if (!overwrite) {
+                        return;
+                    }
+                    removeLocked(postId);
+                }
+
+                int length = 0;
+                for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                    postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(postId, entry.getValue());
+                    length += entry.getValue();
+                }
+                documents.put(postId, frequencies);
+                lengths.put(postId, length);
+                totalLength += length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long postId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(postId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(Long postId) {
+            Map<String, Integer> frequencies = documents.remove(postId);
+            if (frequencies == null) {
+                return;
+            }
+            for (String term : frequencies.keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= lengths.remove(postId);
+        }
+
+        List<Map.Entry<Long, Double>> score(Set<String> terms) {
+            lock.readLock().lock();
+            try {
+                List<Map<Long, Integer>> matched = new ArrayList<>();
+                for (String term : terms) {
+                    Map<Long, Integer> posting = postings.get(term);
+                    if (posting == null) {
+                        return List.of();
+                    }
+                    matched.add(posting);
+                }
+
+                // 가장 짧은 posting 부터 교집합을 구한다.
+                matched.sort(Comparator.comparingInt(Map::size));
+                Set<Long> candidates = new HashSet<>(matched.get(0).keySet());
+                for (int i = 1; i < matched.size() && !candidates.isEmpty(); i++) {
+                    candidates.retainAll(matched.get(i).keySet());
+                }
+
+                int documentCount = documents.size();
+                double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+
+                Map<Long, Double> scores = new HashMap<>();
+                for (Map<Long, Integer> posting : matched) {
+                    double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                    for (Long postId : candidates) {
+                        int tf = posting.get(postId);
+                        double norm = K1 * (1 - B + B * lengths.get(postId) / averageLength);
+                        scores.merge(postId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                    }
+                }
+
+                // 점수가 같으면 최신 글 먼저
+                List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+                ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()));
+                return ranked;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hobbyhop.domain.post.search;
+
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.post.event.PostDeletedEvent;
+import com.hobbyhop.domain.post.event.PostSavedEvent;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시글 변경을 커밋 이후 검색 색인에 반영하고, 시작할 때 DB 에서 색인을 다시 만든다.
+// 색인은 서버마다 따로 가지고 있으므로 변경을 pub/sub 으로 알려 다른 서버도 DB 에서 다시 읽게 한다.
+@Slf4j(topic = "게시글 검색 색인")
+@Component
+public class PostSearchIndexer {
+
+    // 메시지: "clubId:postId", 받은 서버는 게시글을 다시 읽어 색인하고 없으면 지운다.
+    public static final String POST_CHANNEL = "post:search:post";
+    // 메시지: clubId
+    public static final String CLUB_CHANNEL = "post:search:club";
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TaskExecutor rebuildExecutor;
+
+    @Value("${hobbyhop.search.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    @Value("${hobbyhop.cache.pubsub.enabled:true}")
+    private boolean pubsubEnabled;
+
+    public PostSearchIndexer(PostSearchIndex postSearchIndex, PostRepository postRepository,
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier("postSearchRebuildExecutor") TaskExecutor rebuildExecutor) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    // 재생성이 끝나기 전까지 검색은 DB 를 쓰므로 시작을 막지 않는다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("검색 색인 재생성 실패", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("검색 색인 재생성이 이미 진행 중입니다");
+        }
+    }
+
+    public void rebuild() {
+        postSearchIndex.beginRebuild();
+        long afterId = 0L;
+        long count = 0;
+
+        // id 순으로 나눠 읽어 전체 게시글을 한 번에 메모리에 올리지 않는다.
+        List<PostSearchDocument> documents;
+        do {
+            documents = postRepository.findSearchDocumentsAfter(afterId, rebuildBatchSize);
+            documents.forEach(postSearchIndex::rebuild);
+            count += documents.size();
+            if (!documents.isEmpty()) {
+                afterId = documents.get(documents.size() - 1).postId();
+            }
+        } while (documents.size() == rebuildBatchSize);
+
+        postSearchIndex.finishRebuild();
+        log.info("검색 색인 재생성 완료 posts={}", count);
+    }
+
+    @TransactionalEventListener
+    public void onPostSaved(PostSavedEvent event) {
+        postSearchIndex.index(event.clubId(), event.postId(), event.title(), event.content());
+        publish(POST_CHANNEL, event.clubId() + ":" + event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        postSearchIndex.remove(event.clubId(), event.postId());
+        publish(POST_CHANNEL, event.clubId() + ":" + event.postId());
+    }
+
+    @TransactionalEventListener
+    public void onClubDeleted(ClubDeletedEvent event) {
+        event.clubIds().forEach(clubId -> {
+            postSearchIndex.removeClub(clubId);
+            publish(CLUB_CHANNEL, String.valueOf(clubId));
+        });
+    }
+
+    // 다른 서버의 게시글 변경 알림을 받았을 때 호출된다.
+    // 저장, 삭제 어느 쪽이든 커밋된 DB 상태를 다시 읽으므로 알림 순서가 바뀌어도 결과가 같다.
+    public void onRemotePostChanged(String message) {
+        int separator = message.indexOf(':');
+        Long clubId = Long.valueOf(message.substring(0, separator));
+        Long postId = Long.valueOf(message.substring(separator + 1));
+        postRepository.findSearchDocument(postId).ifPresentOrElse(
+                document -> postSearchIndex.index(document.clubId(), document.postId(), document.title(),
+                        document.content()),
+                () -> postSearchIndex.remove(clubId, postId));
+    }
+
+    // 다른 서버의 모임 삭제 알림을 받았을 때 호출된다.
+    public void onRemoteClubDeleted(Long clubId) {
+        postSearchIndex.removeClub(clubId);
+    }
+
+    private void publish(String channel, String message) {
+        if (!pubsubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            log.error("검색 색인 변경 알림 실패 channel={} message={}", channel, message, e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.hobbyhop.domain.post.search;
+
+import java.util.List;
+
+// 점수 순으로 정렬된 한 페이지 분량의 게시글 id 와 전체 일치 건수
+public record PostSearchResult(List<Long> postIds, int total) {
+}
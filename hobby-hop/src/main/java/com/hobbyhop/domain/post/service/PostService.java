@@ -5,6 +5,7 @@ import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
 import com.hobbyhop.domain.post.dto.PostRequestDTO;
 import com.hobbyhop.domain.post.dto.PostResponseDTO;
 import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.enums.ImageVariant;
 import com.hobbyhop.domain.user.entity.User;
 import com.hobbyhop.global.request.PageRequestDTO;
 import com.hobbyhop.global.response.PageResponseDTO;
@@ -16,6 +17,9 @@ public interface PostService {
 
     Post findPost(Long postId);
 
+    // 존재 여부를 이미 확인한 게시글을 조회 없이 참조한다.
+    Post getPostReference(Long postId);
+
     PostResponseDTO makePost(User user, Long clubId, PostRequestDTO postRequestDTO);
 
     void imageUploadPost(User user, Long clubId, Long postId, MultipartFile file) throws IOException;
@@ -32,5 +36,8 @@ public interface PostService {
 
     void makePostUser(User user, Long clubId, Long postId);
 
+    // 업로드가 끝난 게시글 이미지의 저장소 키 (variant 가 null 이면 원본)
+    String getPostImageKey(User user, Long clubId, Long postId, ImageVariant variant);
+
 
 }
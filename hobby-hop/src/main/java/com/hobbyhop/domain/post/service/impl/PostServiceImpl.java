@@ -2,24 +2,38 @@ package com.hobbyhop.domain.post.service.impl;
 
 import com.hobbyhop.domain.club.entity.Club;
 import com.hobbyhop.domain.club.service.ClubService;
-import com.hobbyhop.domain.clubmember.service.ClubMemberService;
+import com.hobbyhop.domain.post.cache.PostDetailCache;
 import com.hobbyhop.domain.post.dto.PostModifyRequestDTO;
 import com.hobbyhop.domain.post.dto.PostPageResponseDTO;
 import com.hobbyhop.domain.post.dto.PostRequestDTO;
 import com.hobbyhop.domain.post.dto.PostResponseDTO;
 import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import com.hobbyhop.domain.post.enums.ImageVariant;
+import com.hobbyhop.domain.post.event.PostDeletedEvent;
+import com.hobbyhop.domain.post.event.PostSavedEvent;
 import com.hobbyhop.domain.post.repository.PostRepository;
-import com.hobbyhop.domain.post.s3.S3Service;
+import com.hobbyhop.domain.post.s3.ImageUploadPipeline;
+import com.hobbyhop.domain.post.s3.SpooledFile;
+import com.hobbyhop.domain.post.search.PostSearchIndex;
+import com.hobbyhop.domain.post.search.PostSearchResult;
 import com.hobbyhop.domain.post.service.PostService;
 import com.hobbyhop.domain.postuser.service.PostUserService;
 import com.hobbyhop.domain.user.entity.User;
-import com.hobbyhop.global.exception.clubmember.ClubMemberNotFoundException;
 import com.hobbyhop.global.exception.post.PostNotCorrespondUser;
 import com.hobbyhop.global.exception.post.PostNotFoundException;
+import com.hobbyhop.global.exception.s3.ImageNotFoundException;
 import com.hobbyhop.global.request.PageRequestDTO;
 import com.hobbyhop.global.response.PageResponseDTO;
-import java.util.UUID;
+import com.hobbyhop.global.security.access.AccessContext;
+import com.hobbyhop.global.security.access.AccessContextResolver;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,27 +46,32 @@ public class PostServiceImpl implements PostService {
     private final ClubService clubService;
     private final PostUserService postUserService;
     private final PostRepository postRepository;
-    private final S3Service s3Service;
-    private final ClubMemberService clubMemberService;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final AccessContextResolver accessContextResolver;
+    private final PostSearchIndex postSearchIndex;
+    private final PostDetailCache postDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Post findPost(Long postId) {
         return postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
     }
 
+    @Override
+    public Post getPostReference(Long postId) {
+        return postRepository.getReferenceById(postId);
+    }
+
     @Override
     @Transactional
     public PostResponseDTO makePost(User user, Long clubId, PostRequestDTO postRequestDTO) {
 
-        if(!clubMemberService.isClubMember(clubId, user.getId()))
-            throw new ClubMemberNotFoundException();
-
-        Club club = clubService.findClub(clubId);
+        accessContextResolver.requireMember(clubId, user);
 
-        clubMemberService.findByClubAndUser(clubId, user.getId());
-
-        Long postNumber = clubService.getClubCount(clubId) + 1;
+        // 모임 존재 여부는 위에서 확인했으므로 참조만 건다.
+        Club club = clubService.getClubReference(clubId);
 
+        Long postNumber = clubService.getNextPostNumber(clubId);
 
         Post post = Post.builder()
                 .postTitle(postRequestDTO.getPostTitle())
@@ -64,6 +83,7 @@ public class PostServiceImpl implements PostService {
                 .build();
 
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostSavedEvent(clubId, post.getId(), post.getPostTitle(), post.getPostContent()));
 
         return PostResponseDTO.fromEntity(post);
     }
@@ -72,49 +92,61 @@ public class PostServiceImpl implements PostService {
     @Transactional
     public void imageUploadPost(User user, Long clubId, Long postId, MultipartFile file) {
 
-        if(!clubMemberService.isClubMember(clubId, user.getId()))
-            throw new ClubMemberNotFoundException();
-
-        Post post = findAndCheckPostAndClub(clubId, postId);
+        checkPostAuthor(accessContextResolver.requireMember(clubId, postId, user), user);
 
-        if(!post.getUser().getId().equals(user.getId()))
-            throw new PostNotCorrespondUser();
+        Post post = findPost(postId);
 
-        String originFilename = s3Service.saveFile(file);
-        String savedFilename = UUID.randomUUID() + "_" + originFilename;
-
-        post.changeImageUrl(originFilename, savedFilename);
+        requestImageUpload(post, file);
+        postDetailCache.invalidate(postId);
     }
 
     @Override
     public PostResponseDTO getPostById(User user, Long clubId, Long postId) {
 
-        if(!clubMemberService.isClubMember(clubId, user.getId()))
-            throw new ClubMemberNotFoundException();
+        accessContextResolver.requireMember(clubId, postId, user);
 
-        Post post = findAndCheckPostAndClub(clubId, postId);
+        PostResponseDTO postResponseDTO = postDetailCache.get(postId).orElseThrow(PostNotFoundException::new);
 
-        return PostResponseDTO.fromEntity(post);
-    }
+        // 좋아요는 캐시에 넣지 않고 redis 카운터 값으로 덮어쓴다.
+        Long likeCnt = postUserService.getLikeCounts(List.of(postId)).get(postId);
+        if (likeCnt != null) {
+            postResponseDTO.setLikeCnt(likeCnt);
+        }
 
-    public Post findAndCheckPostAndClub(Long clubId, Long postId){
+        return postResponseDTO;
+    }
 
-        Club club = clubService.findClub(clubId);
+    // 임시 파일로 옮긴 뒤 커밋 이후 업로드한다. 완료 전까지 게시글 이미지는 PENDING 상태
+    private void requestImageUpload(Post post, MultipartFile file) {
+        SpooledFile spooledFile = imageUploadPipeline.spool(file);
+        String key = imageUploadPipeline.createKey(spooledFile);
 
-        Post post = postRepository.findById(postId).orElseThrow(PostNotFoundException::new);
+        post.pendingImage(key);
+        imageUploadPipeline.uploadAfterCommit(post.getId(), key, spooledFile);
+    }
 
-        if(!club.getId().equals(post.getClub().getId())){
+    private void checkPostAuthor(AccessContext accessContext, User user) {
+        if(!accessContext.isPostAuthor(user.getId()))
             throw new PostNotCorrespondUser();
-        }
-
-        return post;
     }
 
     @Override
     public PageResponseDTO<PostPageResponseDTO> getAllPost(PageRequestDTO pageRequestDTO, Long clubId) {
+        if (pageRequestDTO.isCursorMode()) {
+            return getAllPostByCursor(pageRequestDTO, clubId);
+        }
+        if (pageRequestDTO.getKeyword() != null && postSearchIndex.supports(pageRequestDTO.getKeyword())) {
+            return searchPost(pageRequestDTO, clubId);
+        }
+
         Page<PostPageResponseDTO> result = postRepository.findAllByClubId(pageRequestDTO.getPageable("id"), clubId,
                 pageRequestDTO.getKeyword());
 
+        // DB 에 아직 반영되지 않은 좋아요 수는 redis 값으로 덮어쓴다.
+        Map<Long, Long> likeCounts = postUserService.getLikeCounts(
+                result.stream().map(PostPageResponseDTO::getPostId).toList());
+        result.forEach(dto -> dto.setLikeCnt(likeCounts.getOrDefault(dto.getPostId(), dto.getLikeCnt())));
+
         return PageResponseDTO.<PostPageResponseDTO>withAll()
                 .pageRequestDTO(pageRequestDTO)
                 .dtoList(result.toList())
@@ -122,26 +154,63 @@ public class PostServiceImpl implements PostService {
                 .build();
     }
 
-    @Override
-    @Transactional
-    public PostResponseDTO modifyPost(User user, Long clubId, Long postId, MultipartFile file, PostModifyRequestDTO postModifyRequestDTO) {
+    // 검색 색인에서 점수 순 id 를 받아 한 번의 IN 쿼리로 채운다.
+    private PageResponseDTO<PostPageResponseDTO> searchPost(PageRequestDTO pageRequestDTO, Long clubId) {
+        int offset = (int) pageRequestDTO.getPageable().getOffset();
+        PostSearchResult searchResult = postSearchIndex.search(clubId, pageRequestDTO.getKeyword(), offset,
+                pageRequestDTO.getSize());
+
+        if (searchResult.postIds().isEmpty()) {
+            return PageResponseDTO.<PostPageResponseDTO>withAll()
+                    .pageRequestDTO(pageRequestDTO)
+                    .dtoList(List.of())
+                    .total(searchResult.total())
+                    .build();
+        }
 
-        if(!clubMemberService.isClubMember(clubId, user.getId()))
-            throw new ClubMemberNotFoundException();
+        Map<Long, PostPageResponseDTO> posts = postRepository.findAllByIdIn(searchResult.postIds()).stream()
+                .collect(Collectors.toMap(PostPageResponseDTO::getPostId, Function.identity()));
+        Map<Long, Long> likeCounts = postUserService.getLikeCounts(searchResult.postIds());
 
-        Post post = findAndCheckPostAndClub(clubId, postId);
+        // 색인에는 남아 있지만 이미 지워진 게시글은 건너뛴다.
+        List<PostPageResponseDTO> result = searchResult.postIds().stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+        result.forEach(dto -> dto.setLikeCnt(likeCounts.getOrDefault(dto.getPostId(), dto.getLikeCnt())));
 
-        if(!post.getUser().getId().equals(user.getId()))
-            throw new PostNotCorrespondUser();
+        return PageResponseDTO.<PostPageResponseDTO>withAll()
+                .pageRequestDTO(pageRequestDTO)
+                .dtoList(result)
+                .total(searchResult.total())
+                .build();
+    }
 
-        String originFilename = null;
-        String savedFilename = null;
+    // 다음 페이지 여부를 알기 위해 size + 1 개를 조회한다.
+    private PageResponseDTO<PostPageResponseDTO> getAllPostByCursor(PageRequestDTO pageRequestDTO, Long clubId) {
+        String keyword = pageRequestDTO.getKeyword();
+        List<PostPageResponseDTO> result = postRepository.findAllByClubIdAfter(clubId, keyword,
+                pageRequestDTO.getAfterId(), pageRequestDTO.getSize() + 1, pageRequestDTO.isDesc());
 
+        Map<Long, Long> likeCounts = postUserService.getLikeCounts(
+                result.stream().map(PostPageResponseDTO::getPostId).toList());
+        result.forEach(dto -> dto.setLikeCnt(likeCounts.getOrDefault(dto.getPostId(), dto.getLikeCnt())));
 
-        if(file != null && !file.isEmpty()){
-            originFilename = s3Service.saveFile(file);
-            savedFilename = UUID.randomUUID() + "_" + originFilename;
-        }
+        return PageResponseDTO.<PostPageResponseDTO>withCursor()
+                .pageRequestDTO(pageRequestDTO)
+                .dtoList(result)
+                .cursorId(PostPageResponseDTO::getPostId)
+                .total(pageRequestDTO.isWithTotal() ? (int) postRepository.countByClubId(clubId, keyword) : 0)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public PostResponseDTO modifyPost(User user, Long clubId, Long postId, MultipartFile file, PostModifyRequestDTO postModifyRequestDTO) {
+
+        checkPostAuthor(accessContextResolver.requireMember(clubId, postId, user), user);
+
+        Post post = findPost(postId);
 
         if(postModifyRequestDTO.getPostTitle() != null) {
             post.changeTitle(postModifyRequestDTO.getPostTitle());
@@ -151,10 +220,13 @@ public class PostServiceImpl implements PostService {
             post.changeContent(postModifyRequestDTO.getPostContent());
         }
 
-        if(originFilename != null) {
-            post.changeImageUrl(originFilename, savedFilename);
+        if(file != null && !file.isEmpty()) {
+            requestImageUpload(post, file);
         }
 
+        postDetailCache.invalidate(postId);
+        eventPublisher.publishEvent(new PostSavedEvent(clubId, postId, post.getPostTitle(), post.getPostContent()));
+
         return PostResponseDTO.fromEntity(post);
     }
 
@@ -162,22 +234,35 @@ public class PostServiceImpl implements PostService {
     @Transactional
     public void deletePost(User user, Long clubId, Long postId){
 
-        if(!clubMemberService.isClubMember(clubId, user.getId()))
-            throw new ClubMemberNotFoundException();
-
-        Post post = findAndCheckPostAndClub(clubId, postId);
-
-        if(!post.getUser().getId().equals(user.getId()))
-            throw new PostNotCorrespondUser();
+        checkPostAuthor(accessContextResolver.requireMember(clubId, postId, user), user);
 
         postRepository.deleteAllElement(postId);
+        postDetailCache.invalidate(postId);
+        eventPublisher.publishEvent(new PostDeletedEvent(clubId, postId));
     }
 
     @Override
     @Transactional
     public void makePostUser(User user, Long clubId, Long postId){
-        Post post = findAndCheckPostAndClub(clubId, postId);
+        accessContextResolver.resolve(clubId, postId, user.getId());
+
+        postUserService.postUser(user, getPostReference(postId));
+    }
+
+    @Override
+    public String getPostImageKey(User user, Long clubId, Long postId, ImageVariant variant) {
+
+        accessContextResolver.requireMember(clubId, postId, user);
+
+        Post post = findPost(postId);
+
+        if(post.getImageStatus() != ImageStatus.DONE)
+            throw new ImageNotFoundException();
+
+        // 축소 이미지가 없으면 원본을 내려준다.
+        if(variant == null || !post.hasImageVariant(variant))
+            return post.getSavedImageUrl();
 
-        postUserService.postUser(user, post);
+        return variant.keyOf(post.getSavedImageUrl());
     }
 }
@@ -0,0 +1,292 @@
+package com.hobbyhop.domain.postuser.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글 좋아요를 redis 에 먼저 기록하고, 스케줄러가 DB 로 반영할 변경분을 보관한다.
+ * users : 좋아요를 누른 userId 집합, cnt : 좋아요 수, dirty : 아직 DB 에 반영되지 않은 userId -> 1/0
+ * flushing : 꺼낸 변경분을 DB 에 반영 중인 표시(커밋 후 삭제), epoch : 변경분을 꺼낸 횟수
+ * users, cnt, epoch 는 DB 와 같아진 뒤(초기화, 반영 커밋, 보정)부터 TTL 이 붙고 조회할 때마다 연장된다.
+ * 반영 대기 중인 변경분이 있는 동안은 TTL 을 떼어 DB 에 반영되지 않은 좋아요가 사라지지 않게 한다.
+ */
+@Repository
+public class PostLikeRedisRepository {
+
+    private static final String PREFIX = "post:like:";
+    private static final String DIRTY_POSTS = PREFIX + "dirty-posts";
+    private static final String TRACKED_POSTS = PREFIX + "tracked-posts";
+
+    // TTL 이 붙은 키만 연장한다. 반영 대기 중이라 TTL 을 뗀 키는 그대로 둔다.
+    private static final String TOUCH = "local function touch(key, ttl) "
+            + "if redis.call('PTTL', key) > 0 then redis.call('PEXPIRE', key, ttl) end "
+            + "end ";
+
+    // 좋아요 토글 : 1 이면 좋아요, 0 이면 취소, -1 이면 초기화되지 않았거나 TTL 이 지나 지워진 게시글
+    private static final RedisScript<Long> TOGGLE = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return -1 end "
+                    + "redis.call('PERSIST', KEYS[1]) "
+                    + "redis.call('PERSIST', KEYS[2]) "
+                    + "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then "
+                    + "redis.call('SREM', KEYS[1], ARGV[1]) "
+                    + "redis.call('DECR', KEYS[2]) "
+                    + "redis.call('HSET', KEYS[3], ARGV[1], '0') "
+                    + "redis.call('SADD', KEYS[4], ARGV[2]) "
+                    + "return 0 "
+                    + "end "
+                    + "redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('HSET', KEYS[3], ARGV[1], '1') "
+                    + "redis.call('SADD', KEYS[4], ARGV[2]) "
+                    + "return 1", Long.class);
+
+    // DB 의 좋아요 목록으로 초기화 (이미 초기화 되어 있으면 아무것도 하지 않음). ARGV : postId, ttl, userId...
+    private static final RedisScript<Long> LOAD = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end "
+                    + "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end "
+                    + "redis.call('SET', KEYS[2], #ARGV - 2, 'PX', ARGV[2]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('SADD', KEYS[3], ARGV[1]) "
+                    + "return 1", Long.class);
+
+    private static final RedisScript<String> COUNT = new DefaultRedisScript<>(
+            TOUCH
+                    + "local cnt = redis.call('GET', KEYS[1]) "
+                    + "if not cnt then return nil end "
+                    + "touch(KEYS[1], ARGV[1]) "
+                    + "touch(KEYS[2], ARGV[1]) "
+                    + "return cnt", String.class);
+
+    // 게시글마다 cnt, users 키를 차례로 받는다. 초기화되지 않은 게시글은 -1
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COUNTS = new DefaultRedisScript<>(
+            TOUCH
+                    + "local counts = {} "
+                    + "for i = 1, #KEYS, 2 do "
+                    + "local cnt = redis.call('GET', KEYS[i]) "
+                    + "if cnt then "
+                    + "touch(KEYS[i], ARGV[1]) "
+                    + "touch(KEYS[i + 1], ARGV[1]) "
+                    + "counts[#counts + 1] = cnt "
+                    + "else counts[#counts + 1] = '-1' end "
+                    + "end "
+                    + "return counts", List.class);
+
+    private static final RedisScript<Long> LIKED = new DefaultRedisScript<>(
+            TOUCH
+                    + "if redis.call('EXISTS', KEYS[2]) == 1 then "
+                    + "touch(KEYS[1], ARGV[2]) "
+                    + "touch(KEYS[2], ARGV[2]) "
+                    + "end "
+                    + "return redis.call('SISMEMBER', KEYS[1], ARGV[1])", Long.class);
+
+    // 반영할 게시글을 꺼내면서 커밋 전까지 반영 중으로 표시한다. 서버가 죽어도 lease 가 지나면 풀린다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM = new DefaultRedisScript<>(
+            "local ids = redis.call('SPOP', KEYS[1], ARGV[1]) "
+                    + "for _, id in ipairs(ids) do "
+                    + "redis.call('SET', ARGV[2] .. id .. ':flushing', '1', 'PX', ARGV[3]) "
+                    + "redis.call('INCR', ARGV[2] .. id .. ':epoch') "
+                    + "end "
+                    + "return ids", List.class);
+
+    // 반영 중 표시를 지운다. 그 사이 새 변경분이 없으면 DB 와 같아졌으므로 TTL 을 붙인다.
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) "
+                    + "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return 0 end "
+                    + "for i = 3, #KEYS do redis.call('PEXPIRE', KEYS[i], ARGV[2]) end "
+                    + "return 1", Long.class);
+
+    // 반영할 변경분을 꺼내면서 비운다.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN = new DefaultRedisScript<>(
+            "local changes = redis.call('HGETALL', KEYS[1]) "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return changes", List.class);
+
+    // 반영에 실패한 변경분을 되돌린다. 그 사이 새로 들어온 변경분은 덮어쓰지 않는다.
+    // 대기 목록에 다시 넣은 뒤 반영 중 표시를 지워 reset 이 끼어들 틈을 남기지 않는다.
+    private static final RedisScript<Long> RESTORE = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('SADD', KEYS[2], ARGV[1]) "
+                    + "redis.call('DEL', KEYS[3]) "
+                    + "return 1", Long.class);
+
+    // 반영 대기, 반영 중인 변경분이 없고 DB 를 읽는 동안 반영이 시작되지 않았을 때만 DB 기준으로 다시 맞춘다.
+    // ARGV[2] 는 DB 를 읽기 전에 본 epoch, ARGV[3] 은 TTL. (-1 : 대기 중이거나 그 사이 반영됨, 0 : 일치, 1 : 보정)
+    private static final RedisScript<Long> RESET = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then return -1 end "
+                    + "if redis.call('EXISTS', KEYS[4]) == 1 then return -1 end "
+                    + "if (redis.call('GET', KEYS[5]) or '0') ~= ARGV[2] then return -1 end "
+                    + "local n = #ARGV - 3 "
+                    + "local cnt = tonumber(redis.call('GET', KEYS[2]) or '-1') "
+                    + "if cnt == n and redis.call('SCARD', KEYS[1]) == n then return 0 end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "for i = 4, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end "
+                    + "redis.call('SET', KEYS[2], n, 'PX', ARGV[3]) "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+                    + "return 1", Long.class);
+
+    // 보정할 게시글을 고르면서 TTL 이 지나 지워진 게시글은 추적 목록에서 뺀다. ARGV[2] 는 키 접두어
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SAMPLE = new DefaultRedisScript<>(
+            "local ids = redis.call('SRANDMEMBER', KEYS[1], ARGV[1]) "
+                    + "local alive = {} "
+                    + "for _, id in ipairs(ids) do "
+                    + "if redis.call('EXISTS', ARGV[2] .. id .. ':cnt') == 1 then alive[#alive + 1] = id "
+                    + "else redis.call('SREM', KEYS[1], id) end "
+                    + "end "
+                    + "return alive", List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String ttlMs;
+
+    public PostLikeRedisRepository(RedisTemplate<String, String> redisTemplate,
+            @Value("${hobbyhop.like.cache-ttl-ms:86400000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMs = String.valueOf(ttlMs);
+    }
+
+    public void load(Long postId, Collection<Long> likedUserIds) {
+        redisTemplate.execute(LOAD, List.of(usersKey(postId), countKey(postId), TRACKED_POSTS),
+                args(likedUserIds, String.valueOf(postId), ttlMs));
+    }
+
+    // 초기화되지 않았거나 TTL 이 지나 지워진 게시글은 null. load 한 뒤 다시 부른다.
+    public Boolean toggle(Long postId, Long userId) {
+        Long result = redisTemplate.execute(TOGGLE,
+                List.of(usersKey(postId), countKey(postId), dirtyKey(postId), DIRTY_POSTS),
+                String.valueOf(userId), String.valueOf(postId));
+        return result == null || result < 0 ? null : result == 1L;
+    }
+
+    public boolean isLiked(Long postId, Long userId) {
+        Long result = redisTemplate.execute(LIKED, List.of(usersKey(postId), countKey(postId)),
+                String.valueOf(userId), ttlMs);
+        return Long.valueOf(1L).equals(result);
+    }
+
+    // 초기화되지 않은 게시글은 null
+    public Long getCount(Long postId) {
+        String count = redisTemplate.execute(COUNT, List.of(countKey(postId), usersKey(postId)), ttlMs);
+        return count == null ? null : Long.valueOf(count);
+    }
+
+    public Map<Long, Long> getCounts(List<Long> postIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+
+        List<String> keys = new ArrayList<>(postIds.size() * 2);
+        postIds.forEach(postId -> {
+            keys.add(countKey(postId));
+            keys.add(usersKey(postId));
+        });
+        List<?> values = redisTemplate.execute(COUNTS, keys, ttlMs);
+        if (values == null) {
+            return counts;
+        }
+
+        for (int i = 0; i < postIds.size(); i++) {
+            long count = Long.parseLong(values.get(i).toString());
+            if (count >= 0) {
+                counts.put(postIds.get(i), count);
+            }
+        }
+        return counts;
+    }
+
+    // 꺼낸 게시글은 release 또는 restoreChanges 를 부를 때까지 반영 중으로 남는다.
+    public List<Long> claimDirtyPosts(long count, long leaseMillis) {
+        List<?> postIds = redisTemplate.execute(CLAIM, List.of(DIRTY_POSTS),
+                String.valueOf(count), PREFIX, String.valueOf(leaseMillis));
+        return postIds == null ? List.of() : postIds.stream().map(id -> Long.valueOf(id.toString())).toList();
+    }
+
+    // DB 트랜잭션이 커밋된 뒤에 부른다.
+    public void release(Long postId) {
+        redisTemplate.execute(RELEASE,
+                List.of(flushingKey(postId), DIRTY_POSTS, usersKey(postId), countKey(postId), epochKey(postId)),
+                String.valueOf(postId), ttlMs);
+    }
+
+    public long getFlushEpoch(Long postId) {
+        String epoch = redisTemplate.opsForValue().get(epochKey(postId));
+        return epoch == null ? 0 : Long.parseLong(epoch);
+    }
+
+    // userId -> 좋아요 여부
+    public Map<Long, Boolean> drainChanges(Long postId) {
+        List<?> flat = redisTemplate.execute(DRAIN, List.of(dirtyKey(postId)));
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        if (flat == null) {
+            return changes;
+        }
+
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            changes.put(Long.valueOf(flat.get(i).toString()), "1".equals(flat.get(i + 1).toString()));
+        }
+        return changes;
+    }
+
+    public void restoreChanges(Long postId, Map<Long, Boolean> changes) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(postId));
+        changes.forEach((userId, liked) -> {
+            args.add(String.valueOf(userId));
+            args.add(liked ? "1" : "0");
+        });
+        redisTemplate.execute(RESTORE, List.of(dirtyKey(postId), DIRTY_POSTS, flushingKey(postId)), args.toArray());
+    }
+
+    public List<Long> sampleTrackedPosts(long count) {
+        List<?> postIds = redisTemplate.execute(SAMPLE, List.of(TRACKED_POSTS), String.valueOf(count), PREFIX);
+        return postIds == null ? List.of() : postIds.stream().map(id -> Long.valueOf(id.toString())).toList();
+    }
+
+    // epoch 는 likedUserIds 를 DB 에서 읽기 전에 getFlushEpoch 로 읽은 값
+    public long reset(Long postId, long epoch, Collection<Long> likedUserIds) {
+        Long result = redisTemplate.execute(RESET,
+                List.of(usersKey(postId), countKey(postId), DIRTY_POSTS, flushingKey(postId), epochKey(postId)),
+                args(likedUserIds, String.valueOf(postId), String.valueOf(epoch), ttlMs));
+        return result == null ? -1 : result;
+    }
+
+    private Object[] args(Collection<Long> userIds, String... head) {
+        List<String> args = new ArrayList<>(userIds.size() + head.length);
+        args.addAll(List.of(head));
+        userIds.forEach(userId -> args.add(String.valueOf(userId)));
+        return args.toArray();
+    }
+
+    private String usersKey(Long postId) {
+        return PREFIX + postId + ":users";
+    }
+
+    // SAMPLE 스크립트가 ARGV 로 같은 이름을 만든다.
+    private String countKey(Long postId) {
+        return PREFIX + postId + ":cnt";
+    }
+
+    private String dirtyKey(Long postId) {
+        return PREFIX + postId + ":dirty";
+    }
+
+    // CLAIM 스크립트가 ARGV 로 같은 이름을 만든다.
+    private String flushingKey(Long postId) {
+        return PREFIX + postId + ":flushing";
+    }
+
+    private String epochKey(Long postId) {
+        return PREFIX + postId + ":epoch";
+    }
+}
@@ -4,10 +4,20 @@ import com.hobbyhop.domain.post.entity.Post;
 import com.hobbyhop.domain.postuser.entity.PostUser;
 import com.hobbyhop.domain.postuser.pk.PostUserPK;
 import com.hobbyhop.domain.user.entity.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PostUserRepository extends JpaRepository<PostUser, PostUserPK> {
 
     Optional<PostUser> findByPostUserPK_UserAndPostUserPK_Post(User user, Post post);
+
+    @Query("SELECT pu.postUserPK.user.id FROM PostUser pu WHERE pu.postUserPK.post.id = :postId AND pu.isLiked = true")
+    List<Long> findLikedUserIds(@Param("postId") Long postId);
+
+    @Query("SELECT pu FROM PostUser pu WHERE pu.postUserPK.post.id = :postId AND pu.postUserPK.user.id IN :userIds")
+    List<PostUser> findAllByPostIdAndUserIds(@Param("postId") Long postId, @Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,62 @@
+package com.hobbyhop.domain.postuser.scheduler;
+
+import com.hobbyhop.domain.postuser.repository.PostLikeRedisRepository;
+import com.hobbyhop.domain.postuser.service.PostUserService;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j(topic = "게시글 좋아요 반영")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hobbyhop.like.scheduler.enabled", havingValue = "true", matchIfMissing = true)
+public class PostLikeScheduler {
+
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final PostUserService postUserService;
+
+    @Value("${hobbyhop.like.flush-batch-size:100}")
+    private long flushBatchSize;
+
+    // 반영 중 표시의 최대 유지 시간. 반영 도중 서버가 죽어도 이 시간이 지나면 reconcile 대상이 된다.
+    @Value("${hobbyhop.like.flush-lease-ms:60000}")
+    private long flushLeaseMs;
+
+    @Value("${hobbyhop.like.reconcile-sample-size:100}")
+    private long reconcileSampleSize;
+
+    // redis 에 쌓인 좋아요 변경분을 게시글 단위 트랜잭션으로 DB 에 반영
+    // applyLikes 가 커밋될 때까지 반영 중 표시를 남겨 reconcile 이 반영 전 DB 값으로 redis 를 되돌리지 않게 한다.
+    @Scheduled(fixedDelayString = "${hobbyhop.like.flush-delay-ms:1000}")
+    public void flush() {
+        List<Long> postIds = postLikeRedisRepository.claimDirtyPosts(flushBatchSize, flushLeaseMs);
+
+        for (Long postId : postIds) {
+            Map<Long, Boolean> changes = postLikeRedisRepository.drainChanges(postId);
+            try {
+                postUserService.applyLikes(postId, changes);
+                postLikeRedisRepository.release(postId);
+            } catch (RuntimeException e) {
+                log.error("좋아요 반영 실패 postId={}", postId, e);
+                postLikeRedisRepository.restoreChanges(postId, changes);
+            }
+        }
+    }
+
+    // 일부 게시글을 골라 redis 카운터와 post.like_cnt 를 post_user 기준으로 보정
+    @Scheduled(fixedDelayString = "${hobbyhop.like.reconcile-delay-ms:600000}")
+    public void reconcile() {
+        for (Long postId : postLikeRedisRepository.sampleTrackedPosts(reconcileSampleSize)) {
+            try {
+                postUserService.reconcileLikes(postId);
+            } catch (RuntimeException e) {
+                log.error("좋아요 보정 실패 postId={}", postId, e);
+            }
+        }
+    }
+}
@@ -2,8 +2,18 @@ package com.hobbyhop.domain.postuser.service;
 
 import com.hobbyhop.domain.post.entity.Post;
 import com.hobbyhop.domain.user.entity.User;
+import java.util.List;
+import java.util.Map;
 
 public interface PostUserService {
 
-    void postUser(User user, Post post);
+    boolean postUser(User user, Post post);
+
+    Long getLikeCount(Post post);
+
+    Map<Long, Long> getLikeCounts(List<Long> postIds);
+
+    void applyLikes(Long postId, Map<Long, Boolean> changes);
+
+    void reconcileLikes(Long postId);
 }
@@ -1,30 +1,108 @@
 package com.hobbyhop.domain.postuser.service.impl;
 
 import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.repository.PostRepository;
 import com.hobbyhop.domain.postuser.entity.PostUser;
+import com.hobbyhop.domain.postuser.repository.PostLikeRedisRepository;
 import com.hobbyhop.domain.postuser.repository.PostUserRepository;
 import com.hobbyhop.domain.postuser.service.PostUserService;
 import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class PostUserServiceImpl implements PostUserService {
 
     private final PostUserRepository postUserRepository;
+    private final PostLikeRedisRepository postLikeRedisRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
 
-    public void postUser(User user, Post post) {
+    // 좋아요는 redis 에만 기록하고, DB 반영은 PostLikeScheduler 가 모아서 처리한다.
+    @Override
+    public boolean postUser(User user, Post post) {
+        Boolean liked = postLikeRedisRepository.toggle(post.getId(), user.getId());
+        if (liked == null) {
+            // 처음 눌렸거나 TTL 이 지나 지워진 게시글은 DB 목록으로 채운 뒤 다시 토글한다.
+            postLikeRedisRepository.load(post.getId(), postUserRepository.findLikedUserIds(post.getId()));
+            liked = postLikeRedisRepository.toggle(post.getId(), user.getId());
+        }
+        return Boolean.TRUE.equals(liked);
+    }
+
+    @Override
+    public Long getLikeCount(Post post) {
+        Long count = postLikeRedisRepository.getCount(post.getId());
+        return count == null ? post.getLikeCnt() : count;
+    }
+
+    @Override
+    public Map<Long, Long> getLikeCounts(List<Long> postIds) {
+        return postLikeRedisRepository.getCounts(postIds);
+    }
+
+    @Override
+    @Transactional
+    public void applyLikes(Long postId, Map<Long, Boolean> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
 
-        PostUser postUser = postUserRepository.findByPostUserPK_UserAndPostUserPK_Post(user, post)
-                .orElseGet(() -> savePostUser(user, post));
+        Map<Long, PostUser> saved = postUserRepository.findAllByPostIdAndUserIds(postId, changes.keySet()).stream()
+                .collect(Collectors.toMap(pu -> pu.getPostUserPK().getUser().getId(), Function.identity()));
 
-        Boolean update = postUser.updateLike();
-        post.updateLikeCnt(update);
+        Post post = postRepository.getReferenceById(postId);
+        List<PostUser> created = new ArrayList<>();
+        long delta = 0;
+
+        for (Map.Entry<Long, Boolean> change : changes.entrySet()) {
+            boolean liked = change.getValue();
+            PostUser postUser = saved.get(change.getKey());
+
+            if (postUser == null) {
+                if (liked) {
+                    postUser = PostUser.PostUserBuilder(userRepository.getReferenceById(change.getKey()), post);
+                    postUser.updateLike();
+                    created.add(postUser);
+                    delta++;
+                }
+                continue;
+            }
+
+            if (postUser.getIsLiked() != liked) {
+                postUser.updateLike();
+                delta += liked ? 1 : -1;
+            }
+        }
+
+        postUserRepository.saveAll(created);
+
+        if (delta != 0) {
+            postRepository.addLikeCnt(postId, delta);
+        }
     }
 
-    public PostUser savePostUser(User user, Post post) {
+    // post_user 를 기준으로 redis 와 post.like_cnt 를 다시 맞춘다.
+    @Override
+    @Transactional
+    public void reconcileLikes(Long postId) {
+        // DB 를 읽기 전의 epoch 와 비교해, 읽는 동안 반영이 끼어들었으면 옛 값으로 덮어쓰지 않는다.
+        long epoch = postLikeRedisRepository.getFlushEpoch(postId);
+        List<Long> likedUserIds = postUserRepository.findLikedUserIds(postId);
+
+        // 아직 반영되지 않았거나 반영 중인 변경분이 있으면 다음 주기로 넘긴다.
+        if (postLikeRedisRepository.reset(postId, epoch, likedUserIds) < 0) {
+            return;
+        }
 
-        return postUserRepository.save(PostUser.PostUserBuilder(user, post));
+        postRepository.syncLikeCnt(postId);
     }
 }
@@ -0,0 +1,65 @@
+package com.hobbyhop.domain.user.kakao;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 연속 실패가 failureThreshold 번 쌓이면 openMs 동안 호출을 막는다.
+// 시간이 지나면 한 요청만 시험 삼아 보내고, 성공하면 닫고 실패하면 다시 연다.
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMs;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 0 이면 닫힌 상태
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+
+    public CircuitBreaker(int failureThreshold, long openMs) {
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+    }
+
+    public boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened == 0) {
+            return true;
+        }
+        if (System.currentTimeMillis() - opened < openMs) {
+            return false;
+        }
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(0);
+        trialInFlight.set(false);
+    }
+
+    public void onFailure() {
+        if (trialInFlight.compareAndSet(true, false)) {
+            openedAt.set(System.currentTimeMillis());
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.compareAndSet(0, System.currentTimeMillis());
+        }
+    }
+
+    // 시험 요청이 결과 없이 취소됐을 때 다음 시험을 허용한다.
+    public void onIgnored() {
+        trialInFlight.set(false);
+    }
+
+    public State state() {
+        long opened = openedAt.get();
+        if (opened == 0) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() - opened < openMs ? State.OPEN : State.HALF_OPEN;
+    }
+}
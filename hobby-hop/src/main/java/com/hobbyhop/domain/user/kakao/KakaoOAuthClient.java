@@ -0,0 +1,153 @@
+package com.hobbyhop.domain.user.kakao;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hobbyhop.domain.user.dto.KakaoUserInfoDTO;
+import com.hobbyhop.global.exception.user.JsonProcessException;
+import com.hobbyhop.global.exception.user.KakaoApiUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+// 인가 코드로 토큰을 받고 사용자 정보를 읽는 두 호출을 하나의 Mono 로 잇는다.
+// 일시적인 실패(연결 실패, 타임아웃, 5xx, 429)만 jitter 를 준 backoff 로 재시도하고,
+// 재시도 후에도 실패가 이어지면 circuit breaker 가 열려 카카오를 부르지 않고 바로 실패한다.
+@Slf4j(topic = "KAKAO Login")
+@Component
+public class KakaoOAuthClient {
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker circuitBreaker;
+
+    private final String authBaseUrl;
+    private final String apiBaseUrl;
+    private final String clientId;
+    private final String redirectUri;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration totalTimeout;
+
+    public KakaoOAuthClient(@Qualifier("kakaoWebClient") WebClient webClient, ObjectMapper objectMapper,
+            @Value("${hobbyhop.kakao.auth-base-url:https://kauth.kakao.com}") String authBaseUrl,
+            @Value("${hobbyhop.kakao.api-base-url:https://kapi.kakao.com}") String apiBaseUrl,
+            @Value("${hobbyhop.kakao.client-id:6666e4d3e7955e33eac0eb2e6609e3e5}") String clientId,
+            @Value("${hobbyhop.kakao.redirect-uri:http://localhost:8080/api/users/login/kakao/callback}") String redirectUri,
+            @Value("${hobbyhop.kakao.retry.max-retries:2}") int maxRetries,
+            @Value("${hobbyhop.kakao.retry.backoff-ms:100}") long retryBackoffMs,
+            @Value("${hobbyhop.kakao.total-timeout-ms:8000}") long totalTimeoutMs,
+            @Value("${hobbyhop.kakao.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${hobbyhop.kakao.circuit-breaker.open-ms:30000}") long openMs) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.authBaseUrl = authBaseUrl;
+        this.apiBaseUrl = apiBaseUrl;
+        this.clientId = clientId;
+        this.redirectUri = redirectUri;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.totalTimeout = Duration.ofMillis(totalTimeoutMs);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+    }
+
+    public Mono<KakaoUserInfoDTO> fetchUserInfo(String code) {
+        return Mono.defer(() -> {
+                    if (!circuitBreaker.tryAcquire()) {
+                        return Mono.error(new KakaoApiUnavailableException());
+                    }
+                    return requestToken(code)
+                            .flatMap(this::requestUserInfo)
+                            .timeout(totalTimeout)
+                            .doOnSuccess(userInfo -> circuitBreaker.onSuccess())
+                            .doOnError(this::recordFailure)
+                            .doOnCancel(circuitBreaker::onIgnored)
+                            .onErrorMap(this::isTransient, KakaoApiUnavailableException::new);
+                });
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private Mono<String> requestToken(String code) {
+        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+        body.add("grant_type", "authorization_code");
+        body.add("client_id", clientId);
+        body.add("redirect_uri", redirectUri);
+        body.add("code", code);
+
+        // 인가 코드는 한 번만 쓸 수 있어 이미 처리된 요청을 재시도하면 4xx 로 끝나고, 4xx 는 재시도하지 않는다.
+        return webClient.post()
+                .uri(authBaseUrl + "/oauth/token")
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(body))
+                .retrieve()
+                .bodyToMono(String.class)
+                .retryWhen(retrySpec())
+                .map(response -> readTree(response).get("access_token").asText());
+    }
+
+    private Mono<KakaoUserInfoDTO> requestUserInfo(String accessToken) {
+        return webClient.post()
+                .uri(apiBaseUrl + "/v2/user/me")
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .retrieve()
+                .bodyToMono(String.class)
+                .retryWhen(retrySpec())
+                .map(response -> {
+                    JsonNode jsonNode = readTree(response);
+                    Long id = jsonNode.get("id").asLong();
+                    String nickname = jsonNode.get("properties").get("nickname").asText();
+                    String email = jsonNode.get("kakao_account").get("email").asText();
+
+                    log.info("카카오 사용자 정보: " + id + ", " + nickname + ", " + email);
+                    return new KakaoUserInfoDTO(id, nickname, email);
+                });
+    }
+
+    private Retry retrySpec() {
+        return Retry.backoff(maxRetries, retryBackoff)
+                .jitter(0.5)
+                .filter(this::isTransient)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private JsonNode readTree(String response) {
+        try {
+            return objectMapper.readTree(response);
+        } catch (Exception e) {
+            throw new JsonProcessException();
+        }
+    }
+
+    // 4xx 나 응답 파싱 실패는 카카오가 응답은 한 것이므로 breaker 에는 성공으로 센다.
+    private void recordFailure(Throwable e) {
+        if (isTransient(e)) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
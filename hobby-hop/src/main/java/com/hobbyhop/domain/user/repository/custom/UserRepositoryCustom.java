@@ -1,6 +1,16 @@
 package com.hobbyhop.domain.user.repository.custom;
 
+import com.hobbyhop.domain.user.signup.SignupConflict;
+import com.hobbyhop.domain.user.signup.UserIdentifier;
+import java.util.List;
+
 public interface UserRepositoryCustom {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // 탈퇴한 회원까지 포함해 email, username 중복을 한 번의 쿼리로 확인한다.
+    SignupConflict findSignupConflict(String username, String email);
+
+    // 가입 필터 적재용, 탈퇴한 회원 포함 afterId 다음 회원부터 limit 개
+    List<UserIdentifier> findIdentifiersAfter(Long afterId, int limit);
 }
@@ -3,13 +3,28 @@ package com.hobbyhop.domain.user.repository.custom.impl;
 import static com.hobbyhop.domain.user.entity.QUser.user;
 
 import com.hobbyhop.domain.user.repository.custom.UserRepositoryCustom;
+import com.hobbyhop.domain.user.signup.SignupConflict;
+import com.hobbyhop.domain.user.signup.UserIdentifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 @RequiredArgsConstructor
 public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
+    // @Where 를 거치지 않고 탈퇴한 회원까지 보도록 native 로 조회한다.
+    private static final String SIGNUP_CONFLICT_SQL = """
+            SELECT MAX(email = :email AND deleted_at IS NULL) AS email_in_use,
+                   MAX(email = :email AND deleted_at IS NOT NULL) AS email_withdrawn,
+                   MAX(username = :username AND deleted_at IS NULL) AS username_in_use,
+                   MAX(username = :username AND deleted_at IS NOT NULL) AS username_withdrawn
+            FROM users
+            WHERE email = :email OR username = :username""";
+
     private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public boolean existsByUsername(String username) {
@@ -33,4 +48,36 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
 
         return fetchFirst != null;
     }
+
+    @Override
+    public SignupConflict findSignupConflict(String username, String email) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("username", username)
+                .addValue("email", email);
+
+        // 일치하는 행이 없으면 MAX 는 NULL 이다. 기존 검사 순서대로 첫 번째로 걸리는 경우를 돌려준다.
+        return jdbcTemplate.queryForObject(SIGNUP_CONFLICT_SQL, params, (rs, rowNum) -> {
+            if (rs.getInt("email_in_use") == 1) {
+                return SignupConflict.EMAIL_IN_USE;
+            }
+            if (rs.getInt("email_withdrawn") == 1) {
+                return SignupConflict.EMAIL_WITHDRAWN;
+            }
+            if (rs.getInt("username_in_use") == 1) {
+                return SignupConflict.USERNAME_IN_USE;
+            }
+            if (rs.getInt("username_withdrawn") == 1) {
+                return SignupConflict.USERNAME_WITHDRAWN;
+            }
+            return SignupConflict.NONE;
+        });
+    }
+
+    @Override
+    public List<UserIdentifier> findIdentifiersAfter(Long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, username, email FROM users WHERE id > :afterId ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource().addValue("afterId", afterId).addValue("limit", limit),
+                (rs, rowNum) -> new UserIdentifier(rs.getLong("id"), rs.getString("username"), rs.getString("email")));
+    }
 }
@@ -5,17 +5,20 @@ import com.hobbyhop.domain.user.entity.User;
 import com.hobbyhop.domain.user.enums.UserRoleEnum;
 import com.hobbyhop.domain.user.repository.UserRepository;
 import com.hobbyhop.domain.user.service.UserService;
+import com.hobbyhop.domain.user.signup.SignupConflict;
+import com.hobbyhop.domain.user.signup.SignupIdentifierFilter;
 import com.hobbyhop.global.exception.jwt.InvalidJwtException;
 import com.hobbyhop.global.exception.user.*;
+import com.hobbyhop.global.security.password.PasswordHashingService;
 import com.hobbyhop.global.security.jwt.JwtUtil;
+import com.hobbyhop.global.security.jwt.ParsedToken;
 import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,27 +26,41 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final SignupIdentifierFilter signupIdentifierFilter;
+
+    // 로그인에 성공했을 때 저장된 해시의 cost 가 설정보다 낮으면 다시 해시한다.
+    @Value("${hobbyhop.password.rehash-on-login:false}")
+    private boolean rehashOnLogin;
 
     @Override
     public void signup(SignupRequestDTO signupRequestDTO) {
         try {
             deletedUserVerification(signupRequestDTO);
-            validateExistingUser(signupRequestDTO);
+            validateConfirmPassword(signupRequestDTO);
 
             User user = User.builder()
                 .username(signupRequestDTO.getUsername())
-                .password(passwordEncoder.encode(signupRequestDTO.getPassword()))
+                .password(passwordHashingService.encode(signupRequestDTO.getPassword()))
                 .email(signupRequestDTO.getEmail())
                 .info(signupRequestDTO.getInfo())
                 .role(UserRoleEnum.USER)
                 .build();
 
             userRepository.save(user);
+            signupIdentifierFilter.add(user.getUsername(), user.getEmail());
         }
         catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 방금 가입해 필터가 모르는 값이면 unique 제약에 걸린다. 어느 값이 겹쳤는지 다시 확인한다.
+            String username = signupRequestDTO.getUsername();
+            String email = signupRequestDTO.getEmail();
+            SignupConflict conflict = userRepository.findSignupConflict(username, email);
+            if (conflict != SignupConflict.NONE) {
+                signupIdentifierFilter.add(username, email);
+            }
+            throwIfConflict(conflict);
             throw new DuplicateEntryException();
         }
     }
@@ -58,28 +75,28 @@ public class UserServiceImpl implements UserService {
         String username = user.getUsername();
 
         validatePassword(user, password);
+        rehashIfNeeded(user, password);
 
         String accessToken = jwtUtil.createAccessToken(username);
         response.setHeader("Authorization", accessToken);
-        jwtUtil.saveAccessTokenByUsername(username, accessToken);
 
         String refreshToken = jwtUtil.createRefreshToken(username);
-        jwtUtil.saveRefreshTokenByAccessToken(accessToken, refreshToken);
+        jwtUtil.saveTokens(username, accessToken, refreshToken);
     }
 
     @Override
     public void logout(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
         String accessToken = httpServletRequest.getHeader(JwtUtil.AUTHORIZATION_HEADER);
+        ParsedToken parsedToken = accessToken == null ? null : jwtUtil.parse(accessToken.substring(7));
 
-        if (accessToken != null && jwtUtil.validateToken(accessToken.substring(7))) {
-            jwtUtil.removeAccessToken(accessToken);
-            jwtUtil.removeRefreshToken(accessToken);
+        if (parsedToken != null && parsedToken.isValid()) {
+            jwtUtil.removeTokens(parsedToken.getSubject(), accessToken);
         } else {
+            // 필터에서 재발급된 토큰은 응답 헤더에 있다.
             String responseHeaderAccessToken = httpServletResponse.getHeader(JwtUtil.AUTHORIZATION_HEADER);
 
             if (responseHeaderAccessToken != null) {
-                jwtUtil.removeAccessToken(responseHeaderAccessToken);
-                jwtUtil.removeRefreshToken(responseHeaderAccessToken);
+                jwtUtil.removeTokens(responseHeaderAccessToken);
             }
         }
         httpServletResponse.setHeader(JwtUtil.AUTHORIZATION_HEADER, "logged-out");
@@ -89,19 +106,17 @@ public class UserServiceImpl implements UserService {
     public void withdraw(WithdrawalRequestDTO withdrawalRequestDTO, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
         String accessToken = httpServletRequest.getHeader(JwtUtil.AUTHORIZATION_HEADER);
 
-        if (accessToken == null || !jwtUtil.validateToken(accessToken.substring(7))) {
+        if (accessToken == null) {
             throw new InvalidJwtException();
         }
-        Claims claims = jwtUtil.getUserInfo(accessToken.substring(7));
-        String username = claims.getSubject();
+        String username = jwtUtil.parse(accessToken.substring(7)).requireValid().getSubject();
 
         User user = userRepository.findByUsername(username)
             .orElseThrow(NotFoundUserException::new);
 
         validatePassword(user, withdrawalRequestDTO.getPassword());
 
-        jwtUtil.removeAccessToken(accessToken);
-        jwtUtil.removeRefreshToken(accessToken);
+        jwtUtil.removeTokens(username, accessToken);
         userRepository.delete(user);
 
         httpServletResponse.setHeader(jwtUtil.AUTHORIZATION_HEADER, "withdrawal");
@@ -140,7 +155,7 @@ public class UserServiceImpl implements UserService {
            if (!updateProfileRequestDTO.getNewPassword().equals(updateProfileRequestDTO.getConfirmPassword())) {
                throw new MismatchedNewPasswordException();
            }
-           user.changePassword(passwordEncoder.encode(updateProfileRequestDTO.getNewPassword()));
+           user.changePassword(passwordHashingService.encode(updateProfileRequestDTO.getNewPassword()));
         }
         if(updateProfileRequestDTO.getInfo() != null) {
             user.changeInfo(updateProfileRequestDTO.getInfo());
@@ -148,50 +163,62 @@ public class UserServiceImpl implements UserService {
 
         String requestHeaderAccessToken = httpServletRequest.getHeader(JwtUtil.AUTHORIZATION_HEADER);
         String newAccessToken = jwtUtil.createAccessToken(user.getUsername());
-        if (jwtUtil.validateToken(requestHeaderAccessToken.substring(7))) {
+        if (jwtUtil.parse(requestHeaderAccessToken.substring(7)).isValid()) {
             jwtUtil.rebaseToken(newAccessToken, requestHeaderAccessToken);
         } else {
+            // 필터에서 재발급된 토큰은 응답 헤더에 있다.
             String responseHeaderAccessToken = httpServletResponse.getHeader(JwtUtil.AUTHORIZATION_HEADER);
             jwtUtil.rebaseToken(newAccessToken, responseHeaderAccessToken);
         }
         httpServletResponse.setHeader(JwtUtil.AUTHORIZATION_HEADER, newAccessToken);
     }
 
+    // 로그인을 막을 일은 아니므로 해시 풀이 밀려 있으면 다음 로그인으로 미룬다.
+    private void rehashIfNeeded(User user, String password) {
+        if (!rehashOnLogin || !passwordHashingService.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.changePassword(passwordHashingService.encode(password));
+            userRepository.save(user);
+        } catch (PasswordHashingBusyException e) {
+            log.debug("비밀번호 재해시 보류 userId={}", user.getId());
+        }
+    }
+
     private void validatePassword(User user, String password) {
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingService.matches(password, user.getPassword())) {
             throw new MismatchedPasswordException();
         }
     }
 
+    // 탈퇴한 회원의 email, username 도 다시 쓸 수 없다. 필터가 확실히 없다고 하면 DB 를 조회하지 않는다.
     private void deletedUserVerification (SignupRequestDTO signupRequestDTO) {
-        if (userRepository.existsByEmailAndDeletedAtIsNull(signupRequestDTO.getEmail())) {
-            throw new AlreadyExistEmailException();
+        String username = signupRequestDTO.getUsername();
+        String email = signupRequestDTO.getEmail();
+        if (!signupIdentifierFilter.mightExist(username, email)) {
+            return;
         }
 
-        if (userRepository.existsByEmailAndDeletedAtIsNotNull(signupRequestDTO.getEmail())) {
-            throw new NotAvailableEmailException();
-        }
-
-        if (userRepository.existsByUsernameAndDeletedAtIsNull(signupRequestDTO.getUsername())) {
-            throw new AlreadyExistUsernameException();
-        }
-
-        if (userRepository.existsByUsernameAndDeletedAtIsNotNull(signupRequestDTO.getUsername())) {
-            throw new NotAvailableUsernameException();
-        }
+        SignupConflict conflict = userRepository.findSignupConflict(username, email);
+        signupIdentifierFilter.recordLookup(conflict != SignupConflict.NONE);
+        throwIfConflict(conflict);
     }
 
-    private void validateExistingUser (SignupRequestDTO signupRequestDTO) {
-        if (userRepository.existsByUsername(signupRequestDTO.getUsername())) {
-            throw new NotAvailableUsernameException();
-        }
-
-        if (userRepository.existsByEmail(signupRequestDTO.getEmail())) {
-            throw new NotAvailableEmailException();
+    private void throwIfConflict(SignupConflict conflict) {
+        switch (conflict) {
+            case EMAIL_IN_USE -> throw new AlreadyExistEmailException();
+            case EMAIL_WITHDRAWN -> throw new NotAvailableEmailException();
+            case USERNAME_IN_USE -> throw new AlreadyExistUsernameException();
+            case USERNAME_WITHDRAWN -> throw new NotAvailableUsernameException();
+            case NONE -> {
+            }
         }
+    }
 
+    private void validateConfirmPassword (SignupRequestDTO signupRequestDTO) {
         if (!signupRequestDTO.getConfirmPassword().equals(signupRequestDTO.getPassword())) {
             throw new MismatchedPasswordException();
         }
     }
-}
\ No newline at end of file
+}
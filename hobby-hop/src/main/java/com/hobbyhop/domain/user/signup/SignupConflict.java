@@ -0,0 +1,10 @@
+package com.hobbyhop.domain.user.signup;
+
+// 가입하려는 email, username 과 겹치는 회원. 위에 있는 것이 먼저 검사하던 순서다.
+public enum SignupConflict {
+    EMAIL_IN_USE,
+    EMAIL_WITHDRAWN,
+    USERNAME_IN_USE,
+    USERNAME_WITHDRAWN,
+    NONE
+}
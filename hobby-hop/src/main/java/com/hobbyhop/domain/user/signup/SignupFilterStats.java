@@ -0,0 +1,12 @@
+package com.hobbyhop.domain.user.signup;
+
+// possibleHits 중 DB 에 없던 것이 falsePositives 다.
+public record SignupFilterStats(boolean ready, long definiteMisses, long possibleHits, long falsePositives,
+                                double expectedFalsePositiveRate) {
+
+    // 실제로 없던 값 중 필터가 있다고 답한 비율
+    public double observedFalsePositiveRate() {
+        long negatives = definiteMisses + falsePositives;
+        return negatives == 0 ? 0 : (double) falsePositives / negatives;
+    }
+}
@@ -0,0 +1,94 @@
+package com.hobbyhop.domain.user.signup;
+
+import com.hobbyhop.domain.user.repository.UserRepository;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 가입에 쓰인 적 있는 username, email 의 Bloom filter. 둘 다 확실히 없으면 가입 중복 확인 쿼리를 건너뛴다.
+// 탈퇴한 회원의 값도 다시 쓸 수 없으므로 탈퇴해도 지우지 않는다.
+// 다른 서버에서 가입한 값은 모를 수 있지만 그 경우에도 unique 제약이 중복 가입을 막고, 가입 서비스가 어느 값이 겹쳤는지 다시 확인한다.
+@Slf4j(topic = "가입 필터")
+@Component
+public class SignupIdentifierFilter {
+
+    private final UserRepository userRepository;
+    private final BloomFilter usernames;
+    private final BloomFilter emails;
+    private final int seedBatchSize;
+
+    // 적재가 끝나기 전에는 모든 값을 있을 수도 있다고 보고 DB 에서 확인한다.
+    private volatile boolean ready;
+
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder possibleHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public SignupIdentifierFilter(UserRepository userRepository,
+            @Value("${hobbyhop.signup-filter.expected-users:1000000}") long expectedUsers,
+            @Value("${hobbyhop.signup-filter.fpp:0.01}") double fpp,
+            @Value("${hobbyhop.signup-filter.seed-batch-size:5000}") int seedBatchSize) {
+        this.userRepository = userRepository;
+        this.usernames = new BloomFilter(expectedUsers, fpp);
+        this.emails = new BloomFilter(expectedUsers, fpp);
+        this.seedBatchSize = seedBatchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        long afterId = 0L;
+        long count = 0;
+
+        // id 순으로 나눠 읽어 전체 회원을 한 번에 메모리에 올리지 않는다.
+        List<UserIdentifier> identifiers;
+        do {
+            identifiers = userRepository.findIdentifiersAfter(afterId, seedBatchSize);
+            identifiers.forEach(identifier -> add(identifier.username(), identifier.email()));
+            count += identifiers.size();
+            if (!identifiers.isEmpty()) {
+                afterId = identifiers.get(identifiers.size() - 1).id();
+            }
+        } while (identifiers.size() == seedBatchSize);
+
+        ready = true;
+        log.info("가입 필터 적재 완료 users={} expectedFpp={}", count, stats().expectedFalsePositiveRate());
+    }
+
+    public void add(String username, String email) {
+        if (username != null) {
+            usernames.put(username);
+        }
+        if (email != null) {
+            emails.put(email);
+        }
+    }
+
+    public boolean mightExist(String username, String email) {
+        if (!ready) {
+            return true;
+        }
+        if (usernames.mightContain(username) || emails.mightContain(email)) {
+            possibleHits.increment();
+            return true;
+        }
+        definiteMisses.increment();
+        return false;
+    }
+
+    // mightExist 가 true 였던 값을 DB 에서 확인한 결과
+    public void recordLookup(boolean exists) {
+        if (ready && !exists) {
+            falsePositives.increment();
+        }
+    }
+
+    public SignupFilterStats stats() {
+        // username, email 중 하나라도 오탐이면 DB 를 조회한다.
+        double expected = 1 - (1 - usernames.expectedFpp()) * (1 - emails.expectedFpp());
+        return new SignupFilterStats(ready, definiteMisses.sum(), possibleHits.sum(), falsePositives.sum(), expected);
+    }
+}
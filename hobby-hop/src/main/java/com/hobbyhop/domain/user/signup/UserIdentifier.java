@@ -0,0 +1,5 @@
+package com.hobbyhop.domain.user.signup;
+
+// 가입 필터 적재용. 탈퇴한 회원도 포함한다.
+public record UserIdentifier(Long id, String username, String email) {
+}
@@ -0,0 +1,179 @@
+package com.hobbyhop.global.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 조회 전용 스냅샷을 담는 read-through 캐시. 크기 상한을 넘으면 가장 오래 안 쓴 항목부터 버린다.
+// 영속성 컨텍스트에 묶인 엔티티가 아니라 불변 값만 넣어야 트랜잭션이 달라도 안전하다.
+public class SnapshotCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMs;
+    // 단건 무효화가 커밋된 뒤 한 번 불린다. 다른 서버에 알릴 때 쓴다.
+    private final Consumer<K> onEvicted;
+
+    private final Map<K, CachedValue<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // 무효화가 있을 때마다 증가. 읽는 도중 무효화가 있었으면 읽은 값을 넣지 않는다.
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public SnapshotCache(String name, int maxSize, long ttlMs) {
+        this(name, maxSize, ttlMs, key -> {
+        });
+    }
+
+    public SnapshotCache(String name, int maxSize, long ttlMs, Consumer<K> onEvicted) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+        this.onEvicted = onEvicted;
+    }
+
+    // loader 가 null 을 돌려주면(없는 데이터) 캐시하지 않는다.
+    public Optional<V> get(K key, Function<K, V> loader) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedValue<V> cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    hits.increment();
+                    return Optional.of(cached.value());
+                }
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+
+        misses.increment();
+        long startEpoch = epoch.get();
+        V value = loader.apply(key);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        synchronized (entries) {
+            if (epoch.get() == startEpoch) {
+                entries.put(key, new CachedValue<>(value, now + ttlMs));
+                evictOverflow();
+            }
+        }
+        return Optional.of(value);
+    }
+
+    // 수정 중인 트랜잭션이 커밋되기 전에 다른 요청이 옛 값을 다시 넣을 수 있으므로 커밋 이후에 한 번 더 지운다.
+    public void evict(K key) {
+        evictNow(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(() -> {
+                evictNow(key);
+                onEvicted.accept(key);
+            });
+        } else {
+            onEvicted.accept(key);
+        }
+    }
+
+    // 다른 서버의 무효화 알림을 받았을 때 호출된다. 다시 알리지 않는다.
+    public void evictLocal(K key) {
+        evictNow(key);
+    }
+
+    // 한 사용자의 여러 페이지처럼 키 일부로만 찾을 수 있는 항목을 지운다. 전체를 훑으므로 자주 부르지 않는다.
+    public void evictIf(Predicate<K> condition) {
+        evictIf(condition, () -> {
+        });
+    }
+
+    // afterEvicted 는 커밋된 뒤(트랜잭션이 없으면 바로) 한 번 불린다. 다른 서버에 알릴 때 쓴다.
+    public void evictIf(Predicate<K> condition, Runnable afterEvicted) {
+        evictMatching(condition);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(() -> {
+                evictMatching(condition);
+                afterEvicted.run();
+            });
+        } else {
+            afterEvicted.run();
+        }
+    }
+
+    public void evictAll() {
+        clear();
+        afterCommit(this::clear);
+    }
+
+    public SnapshotCacheStats stats() {
+        synchronized (entries) {
+            return new SnapshotCacheStats(name, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(),
+                    entries.size());
+        }
+    }
+
+    private void evictNow(K key) {
+        epoch.incrementAndGet();
+        synchronized (entries) {
+            if (entries.remove(key) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private void evictMatching(Predicate<K> condition) {
+        epoch.incrementAndGet();
+        synchronized (entries) {
+            Iterator<K> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (condition.test(keys.next())) {
+                    keys.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    private void clear() {
+        epoch.incrementAndGet();
+        synchronized (entries) {
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<K> eldest = entries.keySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record CachedValue<V>(V value, long expiresAt) {
+    }
+}
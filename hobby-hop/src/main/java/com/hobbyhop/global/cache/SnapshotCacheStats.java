@@ -0,0 +1,10 @@
+package com.hobbyhop.global.cache;
+
+// evictions : 크기 상한, TTL 로 버린 수, invalidations : 수정, 삭제로 지운 수
+public record SnapshotCacheStats(String name, long hits, long misses, long evictions, long invalidations, int size) {
+
+    public double hitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
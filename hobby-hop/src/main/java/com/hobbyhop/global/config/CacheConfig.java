@@ -0,0 +1,23 @@
+package com.hobbyhop.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class CacheConfig {
+
+    // soft TTL 이 지난 게시글을 뒤에서 다시 읽는다. 큐가 가득 차면 갱신을 건너뛴다(PostDetailCache).
+    @Bean
+    public ThreadPoolTaskExecutor postDetailRefreshExecutor(
+            @Value("${hobbyhop.post-detail.cache.refresh-pool-size:2}") int poolSize,
+            @Value("${hobbyhop.post-detail.cache.refresh-queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-detail-refresh-");
+        return executor;
+    }
+}
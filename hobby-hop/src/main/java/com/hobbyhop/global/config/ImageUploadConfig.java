@@ -0,0 +1,42 @@
+package com.hobbyhop.global.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImageUploadConfig {
+
+    // 큐가 가득 차면 요청 스레드에서 업로드하지 않고 거절한다. (ImageUploadPipeline 이 실패로 표시)
+    // 업로드는 afterCommit 에서 시작되므로 요청 스레드가 직접 올리면 커넥션을 쥔 채 업로드와 콜백 트랜잭션을 기다리게 된다.
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${hobbyhop.upload.pool-size:4}") int poolSize,
+            @Value("${hobbyhop.upload.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 썸네일 변환은 CPU 작업이라 코어 수만큼만 동시에 실행. 큐가 가득 차면 거절하고 축소 이미지 없이 원본만 올린다.
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${hobbyhop.upload.variant-queue-capacity:100}") int queueCapacity) {
+        int poolSize = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,49 @@
+package com.hobbyhop.global.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class KakaoClientConfig {
+
+    // 카카오 API 전용 연결 풀. 연결을 못 얻은 요청은 pending 큐에서 기다리다 시간이 지나면 실패한다.
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider(
+            @Value("${hobbyhop.kakao.pool.max-connections:50}") int maxConnections,
+            @Value("${hobbyhop.kakao.pool.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+            @Value("${hobbyhop.kakao.pool.pending-acquire-timeout-ms:1000}") long pendingAcquireTimeoutMs) {
+        return ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public WebClient kakaoWebClient(ConnectionProvider kakaoConnectionProvider,
+            @Value("${hobbyhop.kakao.connect-timeout-ms:1000}") int connectTimeoutMs,
+            @Value("${hobbyhop.kakao.read-timeout-ms:3000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(kakaoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
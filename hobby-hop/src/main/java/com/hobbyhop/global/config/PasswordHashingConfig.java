@@ -0,0 +1,25 @@
+package com.hobbyhop.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    // BCrypt 는 CPU 작업이라 코어 수만큼만 동시에 실행한다.
+    // 큐가 가득 차면 요청 스레드에서 실행하지 않고 거절해 PasswordHashingService 가 503 으로 응답한다.
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${hobbyhop.password.hashing.pool-size:0}") int poolSize,
+            @Value("${hobbyhop.password.hashing.queue-capacity:64}") int queueCapacity) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hashing-");
+        return executor;
+    }
+}
@@ -0,0 +1,71 @@
+package com.hobbyhop.global.config;
+
+import com.hobbyhop.domain.category.cache.CategorySnapshotCache;
+import com.hobbyhop.domain.club.cache.ClubSnapshotCache;
+import com.hobbyhop.domain.club.cache.MyClubsCache;
+import com.hobbyhop.domain.club.search.ClubAutocompleteIndexer;
+import com.hobbyhop.domain.clubmember.cache.ClubMembershipCache;
+import com.hobbyhop.domain.clubmember.cache.ClubMembershipRedisRepository;
+import com.hobbyhop.domain.post.cache.PostDetailCache;
+import com.hobbyhop.domain.post.search.PostSearchIndexer;
+import com.hobbyhop.global.security.jwt.VerifiedTokenCache;
+import java.nio.charset.StandardCharsets;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "hobbyhop.cache.pubsub.enabled", havingValue = "true", matchIfMissing = true)
+public class RedisPubSubConfig {
+
+    // 다른 서버에서 모임, 카테고리, 모임 회원 목록, 내 모임 목록, 게시글이 바뀌거나 토큰이 폐기되면
+    // 로컬 캐시를 비우고 검색, 자동완성 색인을 맞춘다.
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+            ClubMembershipCache clubMembershipCache, PostDetailCache postDetailCache,
+            PostSearchIndexer postSearchIndexer, ClubSnapshotCache clubSnapshotCache,
+            CategorySnapshotCache categorySnapshotCache, VerifiedTokenCache verifiedTokenCache,
+            ClubAutocompleteIndexer clubAutocompleteIndexer, MyClubsCache myClubsCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> clubMembershipCache.evictLocal(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(ClubMembershipRedisRepository.INVALIDATE_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> postDetailCache.evictLocal(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(PostDetailCache.INVALIDATE_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> clubSnapshotCache.evictLocal(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(ClubSnapshotCache.INVALIDATE_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> categorySnapshotCache.evictLocal(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(CategorySnapshotCache.INVALIDATE_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> postSearchIndexer.onRemotePostChanged(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(PostSearchIndexer.POST_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> postSearchIndexer.onRemoteClubDeleted(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(PostSearchIndexer.CLUB_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> verifiedTokenCache.evictLocal(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(VerifiedTokenCache.INVALIDATE_CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> clubAutocompleteIndexer.onRemoteClubChanged(
+                        Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))),
+                new ChannelTopic(ClubAutocompleteIndexer.CHANNEL));
+        container.addMessageListener(
+                (message, pattern) -> myClubsCache.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(MyClubsCache.INVALIDATE_CHANNEL));
+        return container;
+    }
+}
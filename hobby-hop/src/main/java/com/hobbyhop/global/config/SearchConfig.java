@@ -0,0 +1,22 @@
+package com.hobbyhop.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class SearchConfig {
+
+    // 시작할 때 검색 색인을 뒤에서 다시 만든다. 색인이 준비되기 전까지 검색은 DB 를 쓴다(PostSearchIndex).
+    @Bean
+    public ThreadPoolTaskExecutor postSearchRebuildExecutor(
+            @Value("${hobbyhop.search.rebuild-queue-capacity:1}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-search-rebuild-");
+        return executor;
+    }
+}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hobbyhop.global.response.ApiResponse;
 import com.hobbyhop.global.security.filter.JwtAuthorizationFilter;
 import com.hobbyhop.global.security.jwt.JwtUtil;
+import com.hobbyhop.global.security.jwt.VerifiedTokenCache;
 import com.hobbyhop.global.security.userdetails.UserDetailsService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,11 +39,13 @@ public class WebSecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final ObjectMapper objectMapper;
 
+    // cost 를 올리면 기존 해시는 그대로 검증되고, rehash-on-login 이 켜져 있으면 다음 로그인 때 새 cost 로 바뀐다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${hobbyhop.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -52,7 +56,7 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthorizationFilter jwtAuthorizationFilter() {
-        return new JwtAuthorizationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthorizationFilter(jwtUtil, userDetailsService, verifiedTokenCache);
     }
 
     @Bean
@@ -71,6 +75,7 @@ public class WebSecurityConfig {
                                 .requestMatchers("/api/users/login/kakao/callback").permitAll() // 카카오 소셜 로그인 허용
                                 .requestMatchers("/v3/api-docs/**", "/swagger-resourcees/**",
                                         "/swagger-ui/**", "/webjars/**", "/swagger/**").permitAll() // 스웨거 허용
+                                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // 관리 포트에서만 노출
                                 .anyRequest().authenticated()
         );
 
@@ -0,0 +1,8 @@
+package com.hobbyhop.global.exception.cascadedelete;
+
+import com.hobbyhop.global.exception.common.BusinessException;
+import com.hobbyhop.global.exception.common.ErrorCode;
+
+public class CascadeDeleteJobAccessDeniedException extends BusinessException {
+    public CascadeDeleteJobAccessDeniedException(){super(ErrorCode.UNAUTHORIZED_CASCADE_DELETE_JOB_EXCEPTION);}
+}
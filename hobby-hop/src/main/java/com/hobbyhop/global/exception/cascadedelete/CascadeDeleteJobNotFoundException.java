@@ -0,0 +1,8 @@
+package com.hobbyhop.global.exception.cascadedelete;
+
+import com.hobbyhop.global.exception.common.BusinessException;
+import com.hobbyhop.global.exception.common.ErrorCode;
+
+public class CascadeDeleteJobNotFoundException extends BusinessException {
+    public CascadeDeleteJobNotFoundException(){super(ErrorCode.NOT_FOUND_CASCADE_DELETE_JOB_EXCEPTION);}
+}
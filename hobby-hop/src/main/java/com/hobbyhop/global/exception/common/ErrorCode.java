@@ -24,6 +24,8 @@ public enum ErrorCode {
     ALREADY_EXIST_USERNAME_EXCEPTION(409, "이미 존재하는 이름입니다."),
     ALREADY_EXIST_EMAIL_EXCEPTION(409, "이미 존재하는 이메일입니다."),
     ALREADY_EXIST_USER_EXCEPTION(409, "이미 존재하는 유저입니다."),
+    KAKAO_API_UNAVAILABLE_EXCEPTION(503, "카카오 로그인을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    PASSWORD_HASHING_BUSY_EXCEPTION(503, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     NOT_AVAILABLE_USERNAME_EXCEPTION(409, "사용할 수 없는 이름입니다."),
     NOT_AVAILABLE_EMAIL_EXCEPTION(409, "사용할 수 없는 이메일입니다."),
     UNAUTHORIZED_MODIFY_EXCEPTION(403, "수정할 권한이 없습니다."),
@@ -51,6 +53,8 @@ public enum ErrorCode {
     // JoinReqeust
     NO_SUCH_REQUEST_EXCEPTION(404, "존재하지 않는 요청입니다."),
     PENDING_REQUEST(409, "이전 가입신청에 대한 처리가 완료되지 않았습니다."),
+    INVALID_BULK_REQUEST_EXCEPTION(400, "일괄 처리할 가입신청 목록이나 상태가 올바르지 않습니다."),
+    CONFLICT_REQUEST_EXCEPTION(409, "다른 관리자가 같은 가입신청을 처리하고 있습니다. 다시 시도해주세요."),
 
     // Comment
     NOT_FOUND_COMMENT_EXCEPTION(404, "해당 댓글을 찾을 수 없습니다."),
@@ -61,10 +65,18 @@ public enum ErrorCode {
 
     // 3S
     IMAGE_SAVE_EXCEPTION(401, "이미지 저장에 실패했습니다."),
+    NOT_FOUND_IMAGE_EXCEPTION(404, "해당 이미지를 찾을 수 없습니다."),
 
     // Category
     NOT_FOUND_CATEGORY_EXCEPTION(404, "해당 카테고리를 찾을 수 없습니다."),
-    ALREADY_EXIST_CATEGORY_NAME_EXCEPTION(400, "이미 존재하는 카테고리입니다.");
+    ALREADY_EXIST_CATEGORY_NAME_EXCEPTION(400, "이미 존재하는 카테고리입니다."),
+
+    // CascadeDelete
+    NOT_FOUND_CASCADE_DELETE_JOB_EXCEPTION(404, "해당 삭제 작업을 찾을 수 없습니다."),
+    UNAUTHORIZED_CASCADE_DELETE_JOB_EXCEPTION(403, "삭제 작업을 조회할 권한이 없습니다."),
+
+    // Page
+    INVALID_CURSOR_EXCEPTION(400, "잘못된 페이지 커서입니다.");
 
     private final int status;
 
@@ -3,10 +3,12 @@ package com.hobbyhop.global.exception.common;
 import com.hobbyhop.global.exception.jwt.JwtInvalidException;
 import com.hobbyhop.global.exception.jwt.NoJwtException;
 import com.hobbyhop.global.exception.jwt.UnsupportedGrantTypeException;
+import com.hobbyhop.global.exception.user.PasswordHashingBusyException;
 import com.hobbyhop.global.response.ApiResponse;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -84,6 +86,19 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(apiResponse);
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    protected ResponseEntity<ApiResponse<?>> handlePasswordHashingBusyException(PasswordHashingBusyException e) {
+
+        // 몰린 요청을 버리는 정상 동작이라 스택 트레이스는 남기지 않는다.
+        log.warn("PasswordHashingBusyException retryAfter={}s", e.getRetryAfterSeconds());
+
+        ApiResponse<?> apiResponse = ApiResponse.of(HttpStatus.SERVICE_UNAVAILABLE, List.of(e.getMessage()));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(apiResponse);
+    }
+
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ApiResponse<?>> handleConflict(BusinessException e) {
 
@@ -0,0 +1,5 @@
+package com.hobbyhop.global.exception.common;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException(){super(ErrorCode.INVALID_CURSOR_EXCEPTION);}
+}
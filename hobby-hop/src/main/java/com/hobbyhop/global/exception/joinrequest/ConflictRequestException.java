@@ -0,0 +1,10 @@
+package com.hobbyhop.global.exception.joinrequest;
+
+import com.hobbyhop.global.exception.common.BusinessException;
+import com.hobbyhop.global.exception.common.ErrorCode;
+
+public class ConflictRequestException extends BusinessException {
+    public ConflictRequestException() {
+        super(ErrorCode.CONFLICT_REQUEST_EXCEPTION);
+    }
+}
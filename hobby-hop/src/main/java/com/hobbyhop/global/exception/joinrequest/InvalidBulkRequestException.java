@@ -0,0 +1,10 @@
+package com.hobbyhop.global.exception.joinrequest;
+
+import com.hobbyhop.global.exception.common.BusinessException;
+import com.hobbyhop.global.exception.common.ErrorCode;
+
+public class InvalidBulkRequestException extends BusinessException {
+    public InvalidBulkRequestException() {
+        super(ErrorCode.INVALID_BULK_REQUEST_EXCEPTION);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hobbyhop.global.exception.s3;
+
+import com.hobbyhop.global.exception.common.BusinessException;
+import com.hobbyhop.global.exception.common.ErrorCode;
+
+public class ImageNotFoundException extends BusinessException {
+    public ImageNotFoundException(){super(ErrorCode.NOT_FOUND_IMAGE_EXCEPTION);}
+}
@@ -0,0 +1,14 @@
+package com.hobbyhop.global.exception.user;
+
+import com.hobbyhop.global.exception.common.BusinessException;
+import com.hobbyhop.global.exception.common.ErrorCode;
+
+public class KakaoApiUnavailableException extends BusinessException {
+    public KakaoApiUnavailableException() {
+        super(ErrorCode.KAKAO_API_UNAVAILABLE_EXCEPTION);
+    }
+
+    public KakaoApiUnavailableException(Throwable cause) {
+        super(ErrorCode.KAKAO_API_UNAVAILABLE_EXCEPTION, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.hobbyhop.global.exception.user;
+
+import com.hobbyhop.global.exception.common.BusinessException;
+import com.hobbyhop.global.exception.common.ErrorCode;
+import lombok.Getter;
+
+// 비밀번호 해시 작업이 밀려 있을 때. 응답의 Retry-After 헤더로 다시 시도할 시간을 알려준다.
+@Getter
+public class PasswordHashingBusyException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super(ErrorCode.PASSWORD_HASHING_BUSY_EXCEPTION);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,90 @@
+package com.hobbyhop.global.metrics;
+
+import com.hobbyhop.domain.category.cache.CategorySnapshotCache;
+import com.hobbyhop.domain.club.cache.ClubSnapshotCache;
+import com.hobbyhop.domain.club.cache.MyClubsCache;
+import com.hobbyhop.domain.clubmember.cache.ClubMembershipCache;
+import com.hobbyhop.domain.post.cache.PostDetailCache;
+import com.hobbyhop.domain.user.kakao.KakaoOAuthClient;
+import com.hobbyhop.domain.user.signup.SignupIdentifierFilter;
+import com.hobbyhop.global.cache.SnapshotCacheStats;
+import com.hobbyhop.global.security.password.PasswordHashingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 각 구성요소가 stats() 로 내던 값을 지표로 내보낸다.
+ * 누적값은 FunctionCounter, 현재값은 Gauge 로 등록하고 수집할 때마다 stats() 를 새로 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+
+    private final ClubMembershipCache clubMembershipCache;
+    private final ClubSnapshotCache clubSnapshotCache;
+    private final CategorySnapshotCache categorySnapshotCache;
+    private final MyClubsCache myClubsCache;
+    private final PostDetailCache postDetailCache;
+    private final SignupIdentifierFilter signupIdentifierFilter;
+    private final PasswordHashingService passwordHashingService;
+    private final KakaoOAuthClient kakaoOAuthClient;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindSnapshotCache(registry, clubSnapshotCache, ClubSnapshotCache::stats);
+        bindSnapshotCache(registry, categorySnapshotCache, CategorySnapshotCache::stats);
+        bindSnapshotCache(registry, myClubsCache, MyClubsCache::stats);
+
+        counter(registry, "hobbyhop.cache.membership.requests", clubMembershipCache, c -> c.stats().localHits(), "result", "local");
+        counter(registry, "hobbyhop.cache.membership.requests", clubMembershipCache, c -> c.stats().redisHits(), "result", "redis");
+        counter(registry, "hobbyhop.cache.membership.requests", clubMembershipCache, c -> c.stats().misses(), "result", "miss");
+        gauge(registry, "hobbyhop.cache.membership.size", clubMembershipCache, c -> c.stats().localClubs());
+
+        counter(registry, "hobbyhop.cache.post-detail.requests", postDetailCache, c -> c.stats().hits(), "result", "hit");
+        counter(registry, "hobbyhop.cache.post-detail.requests", postDetailCache, c -> c.stats().staleHits(), "result", "stale");
+        counter(registry, "hobbyhop.cache.post-detail.requests", postDetailCache, c -> c.stats().misses(), "result", "miss");
+        counter(registry, "hobbyhop.cache.post-detail.requests", postDetailCache, c -> c.stats().coalesced(), "result", "coalesced");
+        gauge(registry, "hobbyhop.cache.post-detail.size", postDetailCache, c -> c.stats().size());
+
+        counter(registry, "hobbyhop.signup-filter.lookups", signupIdentifierFilter, f -> f.stats().definiteMisses(), "result", "definite-miss");
+        counter(registry, "hobbyhop.signup-filter.lookups", signupIdentifierFilter, f -> f.stats().possibleHits(), "result", "possible-hit");
+        counter(registry, "hobbyhop.signup-filter.lookups", signupIdentifierFilter, f -> f.stats().falsePositives(), "result", "false-positive");
+        gauge(registry, "hobbyhop.signup-filter.ready", signupIdentifierFilter, f -> f.stats().ready() ? 1 : 0);
+
+        counter(registry, "hobbyhop.password.hashing.rejected", passwordHashingService, s -> s.stats().rejected());
+        counter(registry, "hobbyhop.password.hashing.timed-out", passwordHashingService, s -> s.stats().timedOut());
+        gauge(registry, "hobbyhop.password.hashing.queue", passwordHashingService, s -> s.stats().queueSize());
+        gauge(registry, "hobbyhop.password.hashing.active", passwordHashingService, s -> s.stats().activeCount());
+
+        // 0 : CLOSED, 1 : HALF_OPEN, 2 : OPEN
+        gauge(registry, "hobbyhop.kakao.circuit.state", kakaoOAuthClient, c -> switch (c.circuitState()) {
+            case CLOSED -> 0;
+            case HALF_OPEN -> 1;
+            case OPEN -> 2;
+        });
+    }
+
+    // 지표는 source 를 약하게 참조하므로 람다가 아닌 캐시 빈 자체를 넘긴다.
+    private <T> void bindSnapshotCache(MeterRegistry registry, T cache, Function<T, SnapshotCacheStats> stats) {
+        String name = stats.apply(cache).name();
+        counter(registry, "hobbyhop.cache.requests", cache, c -> stats.apply(c).hits(), "cache", name, "result", "hit");
+        counter(registry, "hobbyhop.cache.requests", cache, c -> stats.apply(c).misses(), "cache", name, "result", "miss");
+        counter(registry, "hobbyhop.cache.evictions", cache, c -> stats.apply(c).evictions(), "cache", name);
+        counter(registry, "hobbyhop.cache.invalidations", cache, c -> stats.apply(c).invalidations(), "cache", name);
+        gauge(registry, "hobbyhop.cache.size", cache, c -> stats.apply(c).size(), "cache", name);
+    }
+
+    private <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value, String... tags) {
+        FunctionCounter.builder(name, source, value).tags(tags).register(registry);
+    }
+
+    private <T> void gauge(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value, String... tags) {
+        Gauge.builder(name, source, value).tags(tags).register(registry);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hobbyhop.global.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Statement 의 execute* 호출마다 SqlStatementCounter 를 올린다.
+ * hibernate 를 거치지 않는 NamedParameterJdbcTemplate 쿼리(피드 UNION, joinAll, findSignupConflict)까지 센다.
+ * 배치는 executeBatch 한 번을 한 번으로 센다.
+ */
+public class SqlCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    // 감싸기 전의 커넥션 풀(HikariDataSource)이 종료 시 닫히도록 넘긴다.
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return countingStatement(method.getReturnType(), statement);
+            }
+            return result;
+        });
+    }
+
+    // Statement, PreparedStatement, CallableStatement 중 반환 타입 그대로 감싼다.
+    private static Object countingStatement(Class<?> type, Statement statement) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                SqlStatementCounter.increment();
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, Delegate delegate) {
+        InvocationHandler handler = (proxy, method, args) -> delegate.call(target, method, args);
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Delegate {
+
+        Object call(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
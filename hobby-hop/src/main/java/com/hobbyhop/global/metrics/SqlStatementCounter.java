@@ -0,0 +1,31 @@
+package com.hobbyhop.global.metrics;
+
+/**
+ * 요청 하나에서 실행된 SQL 수를 센다.
+ * SqlStatementMetricsFilter 가 begin, end 로 감싼 스레드에서만 세고, 실제 실행은 SqlCountingDataSource 가 알린다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void begin() {
+        COUNT.set(new int[1]);
+    }
+
+    // 센 값을 돌려주고 스레드에서 지운다. begin 없이 부르면 -1
+    public static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? -1 : count[0];
+    }
+
+    public static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
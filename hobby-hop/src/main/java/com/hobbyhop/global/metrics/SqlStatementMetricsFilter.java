@@ -0,0 +1,77 @@
+package com.hobbyhop.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 실행된 SQL 수를 URI 패턴별 분포로 남긴다.
+ * 인증 필터의 조회까지 포함하도록 가장 먼저 실행하고, 기준을 넘은 요청은 N+1 의심으로 로그를 남긴다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String SQL_SUMMARY = "hobbyhop.sql.statements";
+    public static final String N_PLUS_ONE_COUNTER = "hobbyhop.sql.n-plus-one";
+
+    private final MeterRegistry meterRegistry;
+    private final int threshold;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry,
+            @Value("${hobbyhop.metrics.n-plus-one-threshold:20}") int threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, SqlStatementCounter.end());
+        }
+    }
+
+    void record(HttpServletRequest request, int statements) {
+        if (statements < 0) {
+            return;
+        }
+        // 매핑되지 않은 요청은 경로마다 태그가 늘어나지 않도록 하나로 묶는다.
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder(SQL_SUMMARY)
+                .baseUnit("statements")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(statements);
+
+        if (statements > threshold) {
+            Counter.builder(N_PLUS_ONE_COUNTER)
+                    .tag("uri", uri)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("N+1 의심 요청: {} {} ({}) SQL {}회, 기준 {}회",
+                    method, request.getRequestURI(), uri, statements, threshold);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hobbyhop.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드, redis 토큰 명령, 이미지 저장소 호출 시간을 잰다.
+ * 예외로 끝난 호출도 exception 태그를 달아 같이 기록한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TimingAspect {
+
+    public static final String SERVICE_TIMER = "hobbyhop.service";
+    public static final String REDIS_TIMER = "hobbyhop.redis.command";
+    public static final String STORAGE_TIMER = "hobbyhop.storage.operation";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.hobbyhop.domain..service.impl.*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return record(joinPoint, Timer.builder(SERVICE_TIMER)
+                .tag("class", type)
+                .tag("method", joinPoint.getSignature().getName()));
+    }
+
+    // JwtUtil 의 redis 작업은 모두 RedisTokenStore 를 거친다.
+    @Around("execution(public * com.hobbyhop.global.security.jwt.RedisTokenStore.*(..))")
+    public Object timeRedis(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, Timer.builder(REDIS_TIMER)
+                .tag("command", joinPoint.getSignature().getName()));
+    }
+
+    // 업로드는 S3Service 가 아니라 ImageUploadPipeline 에서 ObjectStorage 로 나간다.
+    @Around("execution(public * com.hobbyhop.domain.post.s3.ObjectStorage+.*(..))")
+    public Object timeStorage(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, Timer.builder(STORAGE_TIMER)
+                .tag("storage", joinPoint.getTarget().getClass().getSimpleName())
+                .tag("operation", joinPoint.getSignature().getName()));
+    }
+
+    private Object record(ProceedingJoinPoint joinPoint, Timer.Builder builder) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(builder.tag("exception", exception).register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.hobbyhop.global.request;
+
+import com.hobbyhop.global.exception.common.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 커서 페이지네이션의 after 값. 클라이언트는 내용을 해석하지 않고 그대로 돌려보낸다.
+public final class CursorToken {
+
+    private static final String VERSION = "v1:";
+
+    private CursorToken() {
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!value.startsWith(VERSION)) {
+                throw new InvalidCursorException();
+            }
+            return Long.parseLong(value.substring(VERSION.length()));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 base64, 숫자가 아닌 id
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hobbyhop.global.request;
 
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,13 +15,22 @@ import org.springframework.data.domain.Sort;
 @NoArgsConstructor
 public class PageRequestDTO {
     @Builder.Default
+    @Min(value = 1, message = "페이지는 1 이상이어야 합니다.")
     private int page = 1;
+    // 커서 모드는 size + 1 번째 항목으로 다음 페이지를 판단하므로 0 이하는 받지 않는다.
     @Builder.Default
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
     private int size = 10;
     private String keyword;
     @Builder.Default
     private boolean isDesc = true;
 
+    // 커서 모드. 첫 페이지는 cursor=true 로, 다음 페이지부터는 응답의 nextCursor 를 after 로 보낸다.
+    private boolean cursor;
+    private String after;
+    // 커서 모드에서 전체 개수가 필요할 때만 count 쿼리를 실행한다.
+    private boolean withTotal;
+
     public Pageable getPageable(String... props) {
         if(!isDesc) {
             return PageRequest.of(this.page - 1, this.size, Sort.by(props).ascending());
@@ -28,4 +38,12 @@ public class PageRequestDTO {
             return PageRequest.of(this.page - 1, this.size, Sort.by(props).descending());
         }
     }
-}
\ No newline at end of file
+
+    public boolean isCursorMode() {
+        return cursor || after != null;
+    }
+
+    public Long getAfterId() {
+        return after == null ? null : CursorToken.decode(after);
+    }
+}
@@ -1,11 +1,13 @@
 package com.hobbyhop.global.response;
 
+import com.hobbyhop.global.request.CursorToken;
 import com.hobbyhop.global.request.PageRequestDTO;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
 import java.util.List;
+import java.util.function.Function;
 
 @Getter
 @ToString
@@ -22,6 +24,10 @@ public class PageResponseDTO<E> {
 
     private List<E> dtoList;
 
+    // 커서 모드에서만 채운다.
+    private String nextCursor;
+    private boolean hasNext;
+
     @Builder(builderMethodName = "withAll")
     public PageResponseDTO(PageRequestDTO pageRequestDTO, List<E> dtoList, int total) {
         if(total <= 0) {
@@ -44,4 +50,21 @@ public class PageResponseDTO<E> {
         this.prev = this.start > 1;
         this.next = total > this.end * this.size;
     }
-}
\ No newline at end of file
+
+    // dtoList 는 size + 1 개까지 조회한 결과. 넘치는 한 건으로 다음 페이지 여부를 판단하고 잘라낸다.
+    // total 은 withTotal 요청일 때만 의미가 있고 그 외에는 0 이다.
+    @Builder(builderMethodName = "withCursor", builderClassName = "CursorBuilder")
+    public PageResponseDTO(PageRequestDTO pageRequestDTO, List<E> dtoList, Function<E, Long> cursorId, int total) {
+        this.size = pageRequestDTO.getSize();
+        this.total = total;
+
+        this.hasNext = dtoList.size() > this.size;
+        this.next = this.hasNext;
+        this.prev = pageRequestDTO.getAfter() != null;
+        this.dtoList = this.hasNext ? List.copyOf(dtoList.subList(0, this.size)) : dtoList;
+
+        if (this.hasNext) {
+            this.nextCursor = CursorToken.encode(cursorId.apply(this.dtoList.get(this.size - 1)));
+        }
+    }
+}
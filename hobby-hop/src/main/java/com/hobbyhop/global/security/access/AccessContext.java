@@ -0,0 +1,20 @@
+package com.hobbyhop.global.security.access;
+
+import com.hobbyhop.domain.clubmember.enums.MemberRole;
+
+// 한 요청에서 권한 확인에 필요한 모임, 게시글, 회원 정보
+// postId, postAuthorId 는 게시글 경로가 아니면 null, memberRole 은 회원이 아니면 null
+public record AccessContext(Long clubId, Long postId, Long postAuthorId, MemberRole memberRole) {
+
+    public boolean isMember() {
+        return memberRole != null;
+    }
+
+    public boolean isAdmin() {
+        return memberRole == MemberRole.ADMIN;
+    }
+
+    public boolean isPostAuthor(Long userId) {
+        return postAuthorId != null && postAuthorId.equals(userId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.hobbyhop.global.security.access;
+
+import static com.hobbyhop.domain.post.entity.QPost.post;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+// 게시글 경로의 권한 확인에 필요한 게시글의 모임 id, 작성자 id 만 읽는다.
+// 모임과 회원 역할은 ClubSnapshotCache, ClubMembershipCache 에서 가져오므로 여기서 조회하지 않는다.
+@Repository
+@RequiredArgsConstructor
+public class AccessContextRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    public Optional<PostOwnership> findPostOwnership(Long postId) {
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.constructor(PostOwnership.class, post.club.id, post.user.id))
+                .from(post)
+                .where(post.id.eq(postId))
+                .fetchOne());
+    }
+
+    public record PostOwnership(Long clubId, Long authorId) {
+    }
+}
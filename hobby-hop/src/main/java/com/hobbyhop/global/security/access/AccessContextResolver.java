@@ -0,0 +1,88 @@
+package com.hobbyhop.global.security.access;
+
+import com.hobbyhop.domain.club.cache.ClubSnapshotCache;
+import com.hobbyhop.domain.clubmember.cache.ClubMembershipCache;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.global.exception.club.ClubNotFoundException;
+import com.hobbyhop.global.exception.clubmember.ClubMemberNotFoundException;
+import com.hobbyhop.global.exception.post.PostNotCorrespondUser;
+import com.hobbyhop.global.exception.post.PostNotFoundException;
+import com.hobbyhop.global.security.access.AccessContextRepository.PostOwnership;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+// /api/clubs/{clubId}/... 요청의 권한 정보를 한 번만 조회하고 요청 동안 재사용한다.
+// 모임은 ClubSnapshotCache, 회원 역할은 ClubMembershipCache 에서 읽고, DB 는 게시글 작성자 확인에만 쓴다.
+// 요청 밖(스케줄러 등)에서 호출하면 매번 조회한다.
+@Component
+@RequiredArgsConstructor
+public class AccessContextResolver {
+
+    private static final String ATTRIBUTE_PREFIX = AccessContextResolver.class.getName() + ".";
+
+    private final AccessContextRepository accessContextRepository;
+    private final ClubSnapshotCache clubSnapshotCache;
+    private final ClubMembershipCache clubMembershipCache;
+
+    public AccessContext resolve(Long clubId, Long userId) {
+        return memoize(clubId + ":" + userId, () -> {
+            requireClub(clubId);
+            return new AccessContext(clubId, null, null, clubMembershipCache.getRole(clubId, userId));
+        });
+    }
+
+    public AccessContext resolve(Long clubId, Long postId, Long userId) {
+        return memoize(clubId + ":" + postId + ":" + userId, () -> {
+            requireClub(clubId);
+            PostOwnership ownership = accessContextRepository.findPostOwnership(postId)
+                    .orElseThrow(PostNotFoundException::new);
+            if (!clubId.equals(ownership.clubId())) {
+                throw new PostNotCorrespondUser();
+            }
+            return new AccessContext(clubId, postId, ownership.authorId(),
+                    clubMembershipCache.getRole(clubId, userId));
+        });
+    }
+
+    // 모임 회원이 아니면 ClubMemberNotFoundException
+    public AccessContext requireMember(Long clubId, User user) {
+        return requireMember(resolve(clubId, user.getId()));
+    }
+
+    public AccessContext requireMember(Long clubId, Long postId, User user) {
+        return requireMember(resolve(clubId, postId, user.getId()));
+    }
+
+    private void requireClub(Long clubId) {
+        if (clubSnapshotCache.find(clubId).isEmpty()) {
+            throw new ClubNotFoundException();
+        }
+    }
+
+    private AccessContext requireMember(AccessContext accessContext) {
+        if (!accessContext.isMember()) {
+            throw new ClubMemberNotFoundException();
+        }
+        return accessContext;
+    }
+
+    private AccessContext memoize(String key, Supplier<AccessContext> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+
+        String name = ATTRIBUTE_PREFIX + key;
+        Object cached = attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof AccessContext accessContext) {
+            return accessContext;
+        }
+
+        AccessContext accessContext = loader.get();
+        attributes.setAttribute(name, accessContext, RequestAttributes.SCOPE_REQUEST);
+        return accessContext;
+    }
+}
@@ -1,9 +1,11 @@
 package com.hobbyhop.global.security.filter;
 
+import com.hobbyhop.global.exception.jwt.ExpiredJwtTokenException;
 import com.hobbyhop.global.security.jwt.JwtUtil;
+import com.hobbyhop.global.security.jwt.ParsedToken;
+import com.hobbyhop.global.security.jwt.VerifiedTokenCache;
 import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
 import com.hobbyhop.global.security.userdetails.UserDetailsService;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,6 +26,7 @@ import java.util.Objects;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -31,44 +34,54 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
         if (Objects.nonNull(accessToken)) {
 
-            // 로그아웃이 되었는지 확인
-            if (jwtUtil.checkIsLoggedOut(accessToken)) {
-                accessToken = jwtUtil.createExpiredToken(accessToken);
+            // 이미 검증한 토큰이면 파싱, redis, DB 조회 없이 인증 정보를 설정
+            VerifiedTokenCache.Entry cached = verifiedTokenCache.get(accessToken.substring(7));
+            if (cached != null) {
+                setAuthentication(cached.principal().toUserDetails());
+                filterChain.doFilter(request, response);
+                return;
             }
 
             String accessTokenValue = accessToken.substring(7);
+            ParsedToken parsedAccessToken = jwtUtil.parse(accessTokenValue);
+            // redis 확인 뒤 로그아웃, 탈퇴가 끝나면 검증된 토큰을 캐시하지 않도록 먼저 세대를 읽는다.
+            long generation = verifiedTokenCache.generation(parsedAccessToken.getSubject());
+
+            // 로그아웃 된 토큰은 만료된 토큰으로 취급 (저장된 refreshToken 이 없음)
+            String refreshToken = jwtUtil.getRefreshtokenByAccessToken(accessToken);
+            if (refreshToken == null) {
+                throw new ExpiredJwtTokenException();
+            }
+
             // accessToken이 만료되었는지 확인
-            if (jwtUtil.shouldAccessTokenBeRefreshed(accessToken.substring(7))) {
-                String refreshTokenValue = jwtUtil.getRefreshtokenByAccessToken(accessToken).substring(7);
+            if (parsedAccessToken.isExpired()) {
+                ParsedToken parsedRefreshToken = jwtUtil.parse(refreshToken.substring(7));
                 // refreshtoken이 유효한지 확인
-                if (jwtUtil.validateToken(refreshTokenValue)) {
+                if (parsedRefreshToken.isValid()) {
                     // accessToken 재발급
-                    String newAccessToken = jwtUtil.createAccessTokenByRefreshToken(refreshTokenValue);
+                    String newAccessToken = jwtUtil.createAccessToken(parsedRefreshToken.getSubject());
+                    // DB 토큰도 새로고침 (같은 토큰으로 먼저 재발급된 경우 실패)
+                    if (!jwtUtil.regenerateToken(newAccessToken, accessToken, refreshToken, parsedRefreshToken)) {
+                        throw new ExpiredJwtTokenException();
+                    }
                     response.setHeader(JwtUtil.AUTHORIZATION_HEADER, newAccessToken);
-                    // DB 토큰도 새로고침
-                    jwtUtil.regenerateToken(newAccessToken, accessToken, refreshTokenValue);
                     // 재발급된 토큰으로 검증 진행하도록 대입
                     accessTokenValue = newAccessToken.substring(7);
+                    parsedAccessToken = jwtUtil.parse(accessTokenValue);
                 }
                 // refreshToken이 유효하지 않다면 accessToken 재발급 없이 만료된 상태로 진행
             }
 
-            if (!jwtUtil.validateToken(accessTokenValue)) {
-                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.setContentType("application/json");
-                response.setCharacterEncoding("UTF-8");
-                response.sendError(HttpServletResponse.SC_BAD_REQUEST, "유효한 토큰이 아닙니다.");
-                return;
-            }
-            Claims info = jwtUtil.getUserInfo(accessTokenValue);
-            String username = info.getSubject();
-            setAuthentication(username);
+            parsedAccessToken.requireValid();
+
+            UserDetailsImpl userDetails = userDetailsService.getUserDetails(parsedAccessToken.getSubject());
+            verifiedTokenCache.put(accessTokenValue, parsedAccessToken.getExpiresAt(), userDetails, generation);
+            setAuthentication(userDetails);
         }
         filterChain.doFilter(request, response);
     }
 
-    public void setAuthentication(String username) {
-        UserDetailsImpl userDetails = userDetailsService.getUserDetails(username);
+    public void setAuthentication(UserDetailsImpl userDetails) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
 
         SecurityContext context = SecurityContextHolder.createEmptyContext();
@@ -0,0 +1,36 @@
+package com.hobbyhop.global.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+import java.security.Key;
+
+/**
+ * 서명 키로 한 번만 만든 JwtParser 를 재사용한다. (JwtParser 는 불변이라 여러 스레드에서 공유해도 된다)
+ */
+public class JwtTokenParser {
+
+    private final JwtParser jwtParser;
+
+    public JwtTokenParser(Key key) {
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    public ParsedToken parse(String tokenValue) {
+        try {
+            return new ParsedToken(ParsedToken.Status.VALID, jwtParser.parseClaimsJws(tokenValue).getBody());
+        } catch (ExpiredJwtException e) {
+            return new ParsedToken(ParsedToken.Status.EXPIRED, e.getClaims());
+        } catch (SecurityException | MalformedJwtException e) {
+            return new ParsedToken(ParsedToken.Status.INVALID_SIGNATURE, null);
+        } catch (UnsupportedJwtException e) {
+            return new ParsedToken(ParsedToken.Status.UNSUPPORTED, null);
+        } catch (IllegalArgumentException | JwtException e) {
+            return new ParsedToken(ParsedToken.Status.INVALID, null);
+        }
+    }
+}
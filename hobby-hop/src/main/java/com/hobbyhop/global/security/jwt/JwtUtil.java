@@ -1,28 +1,30 @@
 package com.hobbyhop.global.security.jwt;
 
-import com.hobbyhop.global.exception.jwt.*;
-import io.jsonwebtoken.*;
+import com.hobbyhop.global.exception.jwt.InvalidJwtException;
+import com.hobbyhop.global.exception.jwt.InvalidRefreshTokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class JwtUtil {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTokenStore redisTokenStore;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     // Header Key 값
     public static final String AUTHORIZATION_HEADER = "Authorization";
@@ -40,10 +42,13 @@ public class JwtUtil {
 
     private Key key;
 
+    private JwtTokenParser jwtTokenParser;
+
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtTokenParser = new JwtTokenParser(key);
     }
 
     public String createAccessToken(String username) { // JWT 토큰 생성
@@ -54,19 +59,14 @@ public class JwtUtil {
         return createToken(username, REFRESH_TOKEN_TIME);
     }
 
+    // 토큰을 한 번만 파싱해 claims 와 만료, 오류 여부를 함께 돌려준다.
+    public ParsedToken parse(String tokenValue) {
+        return jwtTokenParser.parse(tokenValue);
+    }
+
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            throw new InvalidJwtSignatureException();
-        } catch (ExpiredJwtException e) {
-            throw new ExpiredJwtTokenException();
-        } catch (UnsupportedJwtException e) {
-            throw new UnsupportedJwtTokenException();
-        } catch (IllegalArgumentException e) {
-            throw new InvalidJwtException();
-        }
+        parse(token).requireValid();
+        return true;
     }
 
     // HttpServletRequest 에서 JWT 가져오기
@@ -80,102 +80,73 @@ public class JwtUtil {
 
     // 토큰에서 사용자 정보 가져오기
     public Claims getUserInfo(String tokenValue) {
-        return Jwts.parserBuilder().setSigningKey(key)
-                .build().parseClaimsJws(tokenValue).getBody();
-    }
-
-    public void saveAccessTokenByUsername(String username, String accessToken) {
-        redisTemplate.opsForValue().set(username, accessToken, REFRESH_TOKEN_TIME, TimeUnit.MILLISECONDS);
+        return parse(tokenValue).requireValid().claims();
     }
 
-    public void saveRefreshTokenByAccessToken(String accessToken, String refreshToken) {
-        redisTemplate.opsForValue().set(accessToken, refreshToken, REFRESH_TOKEN_TIME, TimeUnit.MILLISECONDS);
-    }
-
-    public boolean shouldAccessTokenBeRefreshed(String accessTokenValue) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessTokenValue);
-            return false;
-        } catch (SecurityException | MalformedJwtException e) {
-            throw new InvalidJwtSignatureException();
-        } catch (ExpiredJwtException e) {
-            throw new ExpiredJwtTokenException();
-        } catch (UnsupportedJwtException e) {
-            throw new UnsupportedJwtTokenException();
-        } catch (IllegalArgumentException e) {
-            throw new InvalidJwtException();
-        }
+    // 로그인 : username -> accessToken, accessToken -> refreshToken 을 한 번에 저장
+    public void saveTokens(String username, String accessToken, String refreshToken) {
+        redisTokenStore.save(username, accessToken, refreshToken, REFRESH_TOKEN_TIME);
     }
 
+    // 로그아웃 되었으면 null
     public String getRefreshtokenByAccessToken(String accessToken) {
-        return redisTemplate.opsForValue().get(accessToken);
+        return redisTokenStore.getRefreshToken(accessToken);
     }
 
-    public String createAccessTokenByRefreshToken(String refreshTokenValue) {
-        Claims info = getUserInfo(refreshTokenValue);
-        String username = info.getSubject();
-        return createAccessToken(username);
-    }
-
-    public void regenerateToken(String newAccessToken, String accessToken,
-                                String refreshTokenValue) {
-        Claims info = getUserInfo(refreshTokenValue);
-        String username = info.getSubject();
-
-        Long expirationTime = info.getExpiration().getTime();
-
-        // 새로 만든 AccessToken을 redis에 저장
-        redisTemplate.opsForValue()
-                .set(username, newAccessToken,
-                        expirationTime, TimeUnit.MILLISECONDS);
-        // 새로 만든 AccessToken을 key로 refreshToken을 다시 DB에 저장
-        redisTemplate.opsForValue().set(newAccessToken,
-                BEARER_PREFIX + refreshTokenValue,
-                expirationTime, TimeUnit.MILLISECONDS);
-        // 만료된 token으로 저장되어있는 refreshToken은 삭제
-        redisTemplate.delete(accessToken);
-    }
+    // 다른 요청이 먼저 교체했거나 로그아웃 되었다면 false
+    public boolean regenerateToken(String newAccessToken, String accessToken,
+                                   String refreshToken, ParsedToken parsedRefreshToken) {
+        // refreshToken 의 남은 유효 시간만큼 보관
+        long remainingTime = Math.max(parsedRefreshToken.getExpiresAt() - System.currentTimeMillis(), 1L);
 
-    public boolean checkIsLoggedOut(String accessToken) {
-        return !redisTemplate.hasKey(accessToken);
+        boolean rotated = redisTokenStore.rotate(parsedRefreshToken.getSubject(), accessToken, newAccessToken,
+                refreshToken, remainingTime);
+        verifiedTokenCache.evict(accessToken.substring(7));
+        return rotated;
     }
 
-    public String createExpiredToken(String accessToken) {
-        String username = getUserInfo(accessToken.substring(7)).getSubject();
-        return createToken(username, 0);
-    }
+    // 로그아웃, 탈퇴 : accessToken 과 refreshToken 을 함께 삭제
+    public void removeTokens(String username, String accessToken) {
+        RedisTokenStore.RemoveResult result = redisTokenStore.remove(username, accessToken);
+        verifiedTokenCache.evictByUsername(username);
 
-    public void removeRefreshToken(String accessToken) {
-        if (!redisTemplate.hasKey(accessToken)) {
+        if (result == RedisTokenStore.RemoveResult.NO_ACCESS_TOKEN) {
+            throw new InvalidJwtException();
+        }
+        if (result == RedisTokenStore.RemoveResult.NO_REFRESH_TOKEN) {
             throw new InvalidRefreshTokenException();
         }
-        redisTemplate.delete(accessToken);
     }
 
-    public void removeAccessToken(String accessToken) {
-        Claims claims = getUserInfo(accessToken.substring(7));
-        String username = claims.getSubject();
-        if (!redisTemplate.hasKey(username)) {
-            throw new InvalidJwtException();
-        }
-        redisTemplate.delete(username);
+    public void removeTokens(String accessToken) {
+        removeTokens(getUserInfo(accessToken.substring(7)).getSubject(), accessToken);
     }
 
     public void rebaseToken(String newAccessToken, String oldAccessToken) {
         String newUsername = getUserInfo(newAccessToken.substring(7)).getSubject();
-        String oldUsername = getUserInfo(oldAccessToken.substring(7)).getSubject();
-        String oldRefreshToken = redisTemplate.opsForValue().get(oldAccessToken);
-        Long expirationTime = getUserInfo(oldRefreshToken.substring(7)).getExpiration().getTime();
-        String newRefreshToken = createToken(newUsername, expirationTime);
-
-        // 이전 username으로 발급된 토큰을 DB에서 삭제
-        redisTemplate.delete(oldUsername);
-        redisTemplate.delete(oldAccessToken);
-        // 새로 만든 username으로 된 토큰을 DB에 저장
-        redisTemplate.opsForValue().set(newUsername, newAccessToken,
-                expirationTime, TimeUnit.MILLISECONDS);
-        redisTemplate.opsForValue().set(newAccessToken, newRefreshToken,
-                expirationTime, TimeUnit.MILLISECONDS);
+        // 이전 토큰은 만료되었어도 되지만, 위조되었거나 형식이 틀려 subject 를 읽을 수 없으면 거절
+        String oldUsername = parse(oldAccessToken.substring(7)).getSubject();
+        if (oldUsername == null) {
+            throw new InvalidJwtException();
+        }
+        String oldRefreshToken = redisTokenStore.getRefreshToken(oldAccessToken);
+        if (oldRefreshToken == null) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        // 새 refreshToken 은 이전 refreshToken 의 남은 유효 시간만큼만 발급
+        long remainingTime = Math.max(
+                getUserInfo(oldRefreshToken.substring(7)).getExpiration().getTime() - System.currentTimeMillis(), 1L);
+        String newRefreshToken = createToken(newUsername, remainingTime);
+
+        // 이전 username 으로 발급된 토큰 삭제와 새 토큰 저장을 한 번에 처리
+        boolean rebased = redisTokenStore.rebase(oldUsername, oldAccessToken, oldRefreshToken,
+                newUsername, newAccessToken, newRefreshToken, remainingTime);
+        verifiedTokenCache.evictByUsername(oldUsername);
+
+        if (!rebased) {
+            throw new InvalidRefreshTokenException();
+        }
     }
 
     /**
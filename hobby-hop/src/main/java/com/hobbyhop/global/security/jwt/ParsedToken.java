@@ -0,0 +1,46 @@
+package com.hobbyhop.global.security.jwt;
+
+import com.hobbyhop.global.exception.jwt.ExpiredJwtTokenException;
+import com.hobbyhop.global.exception.jwt.InvalidJwtException;
+import com.hobbyhop.global.exception.jwt.InvalidJwtSignatureException;
+import com.hobbyhop.global.exception.jwt.UnsupportedJwtTokenException;
+import io.jsonwebtoken.Claims;
+
+/**
+ * 토큰을 한 번 파싱한 결과. 만료된 토큰도 claims 를 함께 가지고 있다.
+ */
+public record ParsedToken(Status status, Claims claims) {
+
+    public enum Status {
+        VALID, EXPIRED, INVALID_SIGNATURE, UNSUPPORTED, INVALID
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+
+    public String getSubject() {
+        return claims == null ? null : claims.getSubject();
+    }
+
+    public long getExpiresAt() {
+        return claims == null || claims.getExpiration() == null ? 0L : claims.getExpiration().getTime();
+    }
+
+    // 기존 validateToken 과 같은 예외로 변환
+    public ParsedToken requireValid() {
+        switch (status) {
+            case VALID -> {
+                return this;
+            }
+            case EXPIRED -> throw new ExpiredJwtTokenException();
+            case INVALID_SIGNATURE -> throw new InvalidJwtSignatureException();
+            case UNSUPPORTED -> throw new UnsupportedJwtTokenException();
+            default -> throw new InvalidJwtException();
+        }
+    }
+}
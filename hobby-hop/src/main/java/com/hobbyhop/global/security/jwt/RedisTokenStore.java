@@ -0,0 +1,87 @@
+package com.hobbyhop.global.security.jwt;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 저장소. username -> accessToken, accessToken -> refreshToken 두 키를 함께 다룬다.
+ * 여러 명령을 lua 스크립트 하나로 실행해 한 번의 왕복으로 처리하고, 중간에 일부만 반영되는 상태를 없앤다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenStore {
+
+    public enum RemoveResult {
+        REMOVED, NO_ACCESS_TOKEN, NO_REFRESH_TOKEN
+    }
+
+    private static final RedisScript<Long> SAVE = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3]) "
+                    + "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) "
+                    + "return 1", Long.class);
+
+    // 이전 accessToken 에 저장된 refreshToken 이 그대로일 때만 새 토큰으로 교체
+    private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[2] then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[4]) "
+                    + "redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[4]) "
+                    + "redis.call('DEL', KEYS[2]) "
+                    + "return 1", Long.class);
+
+    // 이전 username, accessToken 의 키를 지우고 새 키로 교체
+    private static final RedisScript<Long> REBASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end "
+                    + "redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[4]) "
+                    + "redis.call('SET', KEYS[4], ARGV[3], 'PX', ARGV[4]) "
+                    + "return 1", Long.class);
+
+    // 1 : accessToken 없음, 2 : refreshToken 없음 (accessToken 은 삭제됨), 0 : 모두 삭제
+    private static final RedisScript<Long> REMOVE = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 1 end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "if redis.call('EXISTS', KEYS[2]) == 0 then return 2 end "
+                    + "redis.call('DEL', KEYS[2]) "
+                    + "return 0", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(String username, String accessToken, String refreshToken, long ttlMillis) {
+        redisTemplate.execute(SAVE, List.of(username, accessToken),
+                accessToken, refreshToken, String.valueOf(ttlMillis));
+    }
+
+    public String getRefreshToken(String accessToken) {
+        return redisTemplate.opsForValue().get(accessToken);
+    }
+
+    public boolean rotate(String username, String oldAccessToken, String newAccessToken,
+                          String refreshToken, long ttlMillis) {
+        Long result = redisTemplate.execute(ROTATE, List.of(username, oldAccessToken, newAccessToken),
+                newAccessToken, refreshToken, refreshToken, String.valueOf(ttlMillis));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    public boolean rebase(String oldUsername, String oldAccessToken, String oldRefreshToken,
+                          String newUsername, String newAccessToken, String newRefreshToken, long ttlMillis) {
+        Long result = redisTemplate.execute(REBASE,
+                List.of(oldUsername, oldAccessToken, newUsername, newAccessToken),
+                oldRefreshToken, newAccessToken, newRefreshToken, String.valueOf(ttlMillis));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    public RemoveResult remove(String username, String accessToken) {
+        Long result = redisTemplate.execute(REMOVE, List.of(username, accessToken));
+        if (Long.valueOf(1L).equals(result)) {
+            return RemoveResult.NO_ACCESS_TOKEN;
+        }
+        if (Long.valueOf(2L).equals(result)) {
+            return RemoveResult.NO_REFRESH_TOKEN;
+        }
+        return RemoveResult.REMOVED;
+    }
+}
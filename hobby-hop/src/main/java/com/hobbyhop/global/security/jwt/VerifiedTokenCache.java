@@ -0,0 +1,275 @@
+package com.hobbyhop.global.security.jwt;
+
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.enums.UserRoleEnum;
+import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 access token 을 토큰 해시로 보관해, 같은 토큰의 재검증(파싱, redis, DB 조회)을 생략한다.
+ * 모든 요청이 거치므로 조회는 잠금 없이 ConcurrentHashMap 에서 하고, 크기를 넘으면 표본 몇 개 중
+ * 가장 오래 안 쓴 항목을 버린다(근사 LRU). 만료 시각은 토큰 만료와 설정된 TTL 중 이른 쪽을 따른다.
+ * 로그아웃, 탈퇴, 회원정보 수정 시 JwtUtil 에서 username 단위로 제거하고, pub/sub 으로 다른 서버에도 알린다.
+ * 검증 도중 제거가 끝난 토큰을 다시 넣지 않도록 username 별 세대를 검증 전에 읽어 put 에 넘긴다.
+ */
+@Slf4j(topic = "검증 토큰 캐시")
+@Component
+public class VerifiedTokenCache {
+
+    // 메시지: "user:" + username 또는 "token:" + 토큰 해시
+    public static final String INVALIDATE_CHANNEL = "jwt:verified:invalidate";
+    private static final String USER_PREFIX = "user:";
+    private static final String TOKEN_PREFIX = "token:";
+
+    // 한 번 버릴 때 비교하는 항목 수
+    static final int EVICTION_SAMPLE_SIZE = 16;
+    // username 해시로 나눈 세대 칸 수. 다른 사용자와 칸이 겹치면 캐시를 한 번 건너뛸 뿐이다.
+    static final int GENERATION_STRIPES = 1024;
+
+    public record Entry(String username, long expiresAt, Principal principal) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    /**
+     * 요청 사이에 공유해도 되는 인증 정보. 비밀번호 해시나 영속성 컨텍스트에 묶인 엔티티를 담지 않는다.
+     */
+    public record Principal(Long userId, String username, UserRoleEnum role) {
+
+        public static Principal from(UserDetailsImpl userDetails) {
+            User user = userDetails.getUser();
+            return new Principal(user.getId(), user.getUsername(), user.getRole());
+        }
+
+        // 요청마다 새 UserDetailsImpl 을 만든다. 서비스에서 쓰는 id, username, role 만 채운다.
+        public UserDetailsImpl toUserDetails() {
+            return new UserDetailsImpl(User.builder()
+                    .id(userId)
+                    .username(username)
+                    .role(role)
+                    .build());
+        }
+    }
+
+    private static final class Node {
+
+        private final Entry entry;
+        private volatile long lastAccess;
+
+        private Node(Entry entry) {
+            this.entry = entry;
+            this.lastAccess = System.nanoTime();
+        }
+    }
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean pubsubEnabled;
+
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Map<String, Node> entries = new ConcurrentHashMap<>();
+    // username 별 토큰 해시. Set 은 ConcurrentHashMap.compute 안에서만 고친다.
+    private final Map<String, Set<String>> keysByUsername = new ConcurrentHashMap<>();
+
+    // 표본을 이어서 뽑는 위치. 매번 처음부터 훑으면 앞쪽 버킷만 버려지므로 한 바퀴씩 돈다.
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<String, Node>> evictionHand;
+
+    public VerifiedTokenCache(@Value("${hobbyhop.jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${hobbyhop.jwt.cache.ttl-ms:300000}") long ttlMillis,
+                              RedisTemplate<String, String> redisTemplate,
+                              @Value("${hobbyhop.cache.pubsub.enabled:true}") boolean pubsubEnabled) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.redisTemplate = redisTemplate;
+        this.pubsubEnabled = pubsubEnabled;
+    }
+
+    // 토큰 검증(redis 확인)을 시작하기 전에 읽어 put 에 넘긴다. username 을 모르면(위조된 토큰) 0 칸을 쓴다.
+    public long generation(String username) {
+        return generations.get(stripe(username));
+    }
+
+    public Entry get(String tokenValue) {
+        String key = hash(tokenValue);
+        Node node = entries.get(key);
+        if (node == null) {
+            return null;
+        }
+
+        if (node.entry.isExpired(System.currentTimeMillis())) {
+            remove(key, node);
+            return null;
+        }
+        node.lastAccess = System.nanoTime();
+        return node.entry;
+    }
+
+    // generation 을 읽은 뒤 이 username 이 제거되었으면 넣지 않는다.
+    public void put(String tokenValue, long tokenExpiresAt, UserDetailsImpl userDetails, long generation) {
+        long expiresAt = Math.min(tokenExpiresAt, System.currentTimeMillis() + ttlMillis);
+        String key = hash(tokenValue);
+        Principal principal = Principal.from(userDetails);
+        String username = principal.username();
+        Node node = new Node(new Entry(username, expiresAt, principal));
+        int stripe = stripe(username);
+
+        // 같은 username 의 evictByUsername 과 겹쳐도 색인 없는 항목이 남지 않도록 함께 넣는다.
+        // evictByUsername 은 세대를 올린 뒤 같은 compute 로 지우므로, 여기서 세대가 같으면 지우기 전에 넣은 것이다.
+        keysByUsername.compute(username, (k, keys) -> {
+            if (generations.get(stripe) != generation) {
+                return keys;
+            }
+            Set<String> indexed = keys == null ? new HashSet<>() : keys;
+            indexed.add(key);
+            Node previous = entries.put(key, node);
+            if (previous != null && !previous.entry.username().equals(username)) {
+                unindex(key, previous.entry.username());
+            }
+            return indexed;
+        });
+
+        evictOverflow();
+    }
+
+    public void evict(String tokenValue) {
+        String key = hash(tokenValue);
+        evictKey(key);
+        publish(TOKEN_PREFIX + key);
+    }
+
+    public void evictByUsername(String username) {
+        evictUsername(username);
+        publish(USER_PREFIX + username);
+    }
+
+    // 다른 서버의 무효화 알림을 받았을 때 호출된다. 다시 알리지 않는다.
+    public void evictLocal(String message) {
+        if (message.startsWith(USER_PREFIX)) {
+            evictUsername(message.substring(USER_PREFIX.length()));
+        } else if (message.startsWith(TOKEN_PREFIX)) {
+            evictKey(message.substring(TOKEN_PREFIX.length()));
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictKey(String key) {
+        Node node = entries.get(key);
+        if (node != null) {
+            remove(key, node);
+        }
+    }
+
+    private void evictUsername(String username) {
+        generations.incrementAndGet(stripe(username));
+        keysByUsername.computeIfPresent(username, (k, keys) -> {
+            keys.forEach(entries::remove);
+            return null;
+        });
+    }
+
+    private void publish(String message) {
+        if (!pubsubEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.error("검증 토큰 캐시 무효화 알림 실패", e);
+        }
+    }
+
+    // 다른 스레드가 버리는 중이면 맡기고 돌아가되, 그 스레드가 끝난 뒤에도 넘쳐 있으면 다시 시도한다.
+    private void evictOverflow() {
+        while (entries.size() > maxSize && evictionLock.tryLock()) {
+            try {
+                while (entries.size() > maxSize) {
+                    evictOne();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void evictOne() {
+        long now = System.currentTimeMillis();
+        String victimKey = null;
+        Node victim = null;
+        boolean restarted = false;
+
+        for (int sampled = 0; sampled < EVICTION_SAMPLE_SIZE; ) {
+            if (evictionHand == null || !evictionHand.hasNext()) {
+                if (restarted) {
+                    break;
+                }
+                evictionHand = entries.entrySet().iterator();
+                restarted = true;
+                continue;
+            }
+            Map.Entry<String, Node> candidate = evictionHand.next();
+            Node node = candidate.getValue();
+            if (node.entry.isExpired(now)) {
+                victimKey = candidate.getKey();
+                victim = node;
+                break;
+            }
+            if (victim == null || node.lastAccess < victim.lastAccess) {
+                victimKey = candidate.getKey();
+                victim = node;
+            }
+            sampled++;
+        }
+
+        if (victim != null) {
+            remove(victimKey, victim);
+        }
+    }
+
+    private void remove(String key, Node node) {
+        if (entries.remove(key, node)) {
+            unindex(key, node.entry.username());
+        }
+    }
+
+    private void unindex(String key, String username) {
+        keysByUsername.computeIfPresent(username, (k, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static int stripe(String username) {
+        return username == null ? 0 : Math.floorMod(username.hashCode(), GENERATION_STRIPES);
+    }
+
+    private static String hash(String tokenValue) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.hobbyhop.global.security.password;
+
+import com.hobbyhop.global.exception.user.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+// BCrypt 해시와 비교를 전용 스레드 풀에서 실행한다.
+// 로그인이 몰려도 톰캣 스레드를 모두 묶지 않도록, 풀과 큐가 가득 차면 기다리지 않고 503 으로 거절한다.
+@Component
+public class PasswordHashingService {
+
+    // operation=encode|matches, 큐에서 기다린 시간을 포함한다.
+    public static final String HASHING_TIMER = "hobbyhop.password.hashing";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long waitTimeoutMs;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+            @Value("${hobbyhop.password.hashing.wait-timeout-ms:3000}") long waitTimeoutMs,
+            @Value("${hobbyhop.password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.encodeTimer = Timer.builder(HASHING_TIMER).tag("operation", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder(HASHING_TIMER).tag("operation", "matches").register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword), encodeTimer);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    // 저장된 해시의 cost 가 지금 설정보다 낮으면 true. 해시 계산이 없어 바로 실행한다.
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashingStats stats() {
+        return new PasswordHashingStats(rejected.sum(), timedOut.sum(),
+                executor.getThreadPoolExecutor().getQueue().size(), executor.getActiveCount());
+    }
+
+    // 큐에서 기다린 시간까지 포함해 기록한다.
+    private <T> T run(Supplier<T> task, Timer timer) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 큐에 있으면 빼고, 이미 계산 중이면 끝나게 둔다.
+            future.cancel(false);
+            timedOut.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.hobbyhop.global.security.password;
+
+// 해시, 비교 지연 시간은 PasswordHashingService.HASHING_TIMER 타이머로 내보낸다.
+public record PasswordHashingStats(long rejected, long timedOut, int queueSize, int activeCount) {
+}
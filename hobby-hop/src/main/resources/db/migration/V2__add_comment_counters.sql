@@ -0,0 +1,5 @@
+-- 댓글 목록 조회, 정렬용 카운터
+-- 기존 행의 값은 hobbyhop.backfill.comment-counts=true 로 CommentCountBackfillRunner 를 한 번 실행해 채운다.
+ALTER TABLE comment
+    ADD COLUMN like_cnt BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN reply_cnt BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- 모임별 게시글 번호 발급용. NULL 이면 첫 발급 때 MAX(post_number) 부터 이어서 센다.
+ALTER TABLE club
+    ADD COLUMN post_sequence BIGINT NULL;
@@ -0,0 +1,3 @@
+-- 비동기 이미지 업로드 상태 (ImageStatus). 이전에 올린 이미지는 동기 업로드였으므로 완료로 채운다.
+ALTER TABLE post ADD COLUMN image_status VARCHAR(20) NOT NULL DEFAULT 'NONE';
+UPDATE post SET image_status = 'DONE' WHERE saved_image_url IS NOT NULL;
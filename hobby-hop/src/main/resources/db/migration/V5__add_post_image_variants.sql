@@ -0,0 +1,4 @@
+-- 목록, 상세 화면용 축소 이미지 (ImageVariant). 없으면 원본을 쓴다.
+ALTER TABLE post
+    ADD COLUMN thumbnail_image_url VARCHAR(1000) NULL,
+    ADD COLUMN medium_image_url VARCHAR(1000) NULL;
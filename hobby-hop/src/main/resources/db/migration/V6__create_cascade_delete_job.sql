@@ -0,0 +1,17 @@
+-- 모임, 카테고리 삭제 후 하위 요소를 나눠 지우는 작업 (CascadeDeleteJob)
+CREATE TABLE cascade_delete_job
+(
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at    DATETIME(6) NULL,
+    modified_at   DATETIME(6) NULL,
+    target_type   VARCHAR(20) NOT NULL,
+    target_id     BIGINT      NOT NULL,
+    requester_id  BIGINT      NULL,
+    status        VARCHAR(20) NOT NULL,
+    club_id       BIGINT      NULL,
+    last_post_id  BIGINT      NOT NULL DEFAULT 0,
+    total_posts   BIGINT      NOT NULL DEFAULT 0,
+    deleted_posts BIGINT      NOT NULL DEFAULT 0,
+    version       BIGINT      NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,2 @@
+-- 피드 UNION 쿼리가 모임별로 created_at, id 순으로 읽는다 (Post @Table indexes 와 같은 인덱스).
+CREATE INDEX idx_post_club_created_at ON post (club_id, created_at, id);
@@ -0,0 +1,163 @@
+package com.hobbyhop.domain.cascadedelete.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.cascadedelete.entity.CascadeDeleteJob;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeDeleteStatus;
+import com.hobbyhop.domain.cascadedelete.enums.CascadeTarget;
+import com.hobbyhop.domain.cascadedelete.repository.CascadeDeleteJobRepository;
+import com.hobbyhop.domain.category.repository.CategoryRepository;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import com.hobbyhop.domain.clubmember.service.ClubMemberService;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.enums.UserRoleEnum;
+import com.hobbyhop.global.exception.cascadedelete.CascadeDeleteJobAccessDeniedException;
+import com.hobbyhop.test.UserTest;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("[CascadeDelete]")
+@ExtendWith(MockitoExtension.class)
+class CascadeDeleteServiceImplTest implements UserTest {
+
+    @InjectMocks
+    private CascadeDeleteServiceImpl sut;
+    @Mock
+    private CascadeDeleteJobRepository cascadeDeleteJobRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ClubRepository clubRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private ClubMemberService clubMemberService;
+
+    private CascadeDeleteJob job;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sut, "chunkSize", 2);
+
+        job = CascadeDeleteJob.builder()
+                .id(1L)
+                .targetType(CascadeTarget.CATEGORY)
+                .targetId(10L)
+                .requesterId(TEST_USER_ID)
+                .clubId(100L)
+                .totalPosts(3L)
+                .build();
+        given(cascadeDeleteJobRepository.findById(1L)).willReturn(Optional.of(job));
+    }
+
+    @Test
+    @DisplayName("게시글 구간을 지우고 진행 위치를 저장한다")
+    void 게시글구간삭제() {
+        // given
+        given(postRepository.findChunkEnd(100L, 0L, 2)).willReturn(7L);
+        given(postRepository.deleteAllElementInRange(100L, 1L, 7L)).willReturn(2L);
+
+        // when
+        boolean hasNext = sut.processChunk(1L);
+
+        // then
+        assertThat(hasNext).isTrue();
+        assertThat(job.getStatus()).isEqualTo(CascadeDeleteStatus.RUNNING);
+        assertThat(job.getLastPostId()).isEqualTo(7L);
+        assertThat(job.getDeletedPosts()).isEqualTo(2L);
+        verify(clubRepository, never()).deleteAllMembers(100L);
+    }
+
+    @Test
+    @DisplayName("게시글이 남지 않은 모임은 회원을 정리하고 다음 모임으로 넘어간다")
+    void 다음모임으로이동() {
+        // given
+        given(postRepository.findChunkEnd(100L, 0L, 2)).willReturn(null);
+        given(clubRepository.findNextIdByCategoryId(10L, 100L)).willReturn(200L);
+
+        // when
+        boolean hasNext = sut.processChunk(1L);
+
+        // then
+        assertThat(hasNext).isTrue();
+        assertThat(job.getClubId()).isEqualTo(200L);
+        assertThat(job.getLastPostId()).isZero();
+        verify(clubRepository).deleteAllMembers(100L);
+    }
+
+    @Test
+    @DisplayName("마지막 모임까지 정리하면 작업을 완료한다")
+    void 작업완료() {
+        // given
+        given(postRepository.findChunkEnd(100L, 0L, 2)).willReturn(null);
+        given(clubRepository.findNextIdByCategoryId(10L, 100L)).willReturn(null);
+
+        // when
+        boolean hasNext = sut.processChunk(1L);
+
+        // then
+        assertThat(hasNext).isFalse();
+        assertThat(job.getStatus()).isEqualTo(CascadeDeleteStatus.DONE);
+        assertThat(job.getClubId()).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제를 요청한 사용자는 진행 상황을 볼 수 있다")
+    void 요청자조회() {
+        // when & then
+        assertThat(sut.getJob(1L, TEST_USER).getJobId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("요청자나 관리자가 아니면 진행 상황을 볼 수 없다")
+    void 권한없는조회() {
+        // given
+        User other = User.builder().id(TEST_OTHER_USER_ID).username(TEST_OTHER_USER_NAME)
+                .role(UserRoleEnum.USER).build();
+
+        // when & then
+        assertThatThrownBy(() -> sut.getJob(1L, other)).isInstanceOf(CascadeDeleteJobAccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("관리자는 다른 사용자가 요청한 작업도 볼 수 있다")
+    void 관리자조회() {
+        // given
+        User admin = User.builder().id(TEST_OTHER_USER_ID).username(TEST_OTHER_USER_NAME)
+                .role(UserRoleEnum.ADMIN).build();
+
+        // when & then
+        assertThat(sut.getJob(1L, admin).getJobId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("모임 삭제 작업은 그 모임의 관리자도 볼 수 있다")
+    void 모임관리자조회() {
+        // given
+        CascadeDeleteJob clubJob = CascadeDeleteJob.builder()
+                .id(1L)
+                .targetType(CascadeTarget.CLUB)
+                .targetId(100L)
+                .requesterId(TEST_USER_ID)
+                .build();
+        given(cascadeDeleteJobRepository.findById(1L)).willReturn(Optional.of(clubJob));
+        User other = User.builder().id(TEST_OTHER_USER_ID).username(TEST_OTHER_USER_NAME)
+                .role(UserRoleEnum.USER).build();
+        given(clubMemberService.isAdminMember(100L, TEST_OTHER_USER_ID)).willReturn(true);
+
+        // when & then
+        assertThat(sut.getJob(1L, other).getTargetType()).isEqualTo(CascadeTarget.CLUB);
+    }
+}
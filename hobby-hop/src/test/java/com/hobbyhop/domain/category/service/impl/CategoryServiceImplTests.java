@@ -1,10 +1,12 @@
 package com.hobbyhop.domain.category.service.impl;
 
+import com.hobbyhop.domain.category.cache.CategorySnapshotCache;
 import com.hobbyhop.domain.category.dto.CategoryRequestDTO;
 import com.hobbyhop.domain.category.dto.CategoryResponseDTO;
 import com.hobbyhop.domain.category.entity.Category;
 import com.hobbyhop.domain.category.repository.CategoryRepository;
 import com.hobbyhop.domain.category.service.impl.CategoryServiceImpl;
+import com.hobbyhop.global.exception.category.CategoryNotFoundException;
 import com.hobbyhop.test.CategoryTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -30,6 +32,8 @@ public class CategoryServiceImplTests implements CategoryTest {
     private CategoryServiceImpl sut;
     @Mock
     private CategoryRepository categoryRepository;
+    @Mock
+    private CategorySnapshotCache categorySnapshotCache;
     private Category category;
     private CategoryRequestDTO categoryRequestDTO;
     private CategoryResponseDTO categoryResponseDTO;
@@ -58,6 +62,17 @@ public class CategoryServiceImplTests implements CategoryTest {
 
         // When & Then
         assertThat(sut.makeCategory(categoryRequestDTO)).isEqualTo(categoryResponseDTO);
+        verify(categorySnapshotCache, times(1)).evict(TEST_CATEGORY_ID);
+    }
+
+    @DisplayName("[Reference] 캐시에 없는 카테고리는 예외")
+    @Test
+    void category_참조_실패() {
+        // Given
+        given(categorySnapshotCache.find(TEST_CATEGORY_ID)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatCode(() -> sut.getCategoryReference(TEST_CATEGORY_ID)).isInstanceOf(CategoryNotFoundException.class);
     }
 //    @DisplayName("[Create]")
 //    @Test
@@ -0,0 +1,51 @@
+package com.hobbyhop.domain.club.cache;
+
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[ClubSnapshotCache]")
+class ClubSnapshotCacheTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    private ClubSnapshotCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ClubSnapshotCache(clubRepository, redisTemplate, true, 100, 60_000L);
+    }
+
+    @DisplayName("[Evict] 모임 캐시를 지우면 다른 서버에 알린다")
+    @Test
+    void evict_다른_서버_알림() {
+        // When
+        sut.evict(1L);
+
+        // Then
+        verify(redisTemplate).convertAndSend(ClubSnapshotCache.INVALIDATE_CHANNEL, "1");
+    }
+
+    @DisplayName("[Evict] 삭제 이벤트로 숨겨진 모임도 다른 서버에 알린다")
+    @Test
+    void clubDeleted_다른_서버_알림() {
+        // When
+        sut.onClubDeleted(new ClubDeletedEvent(List.of(1L, 2L)));
+
+        // Then
+        verify(redisTemplate).convertAndSend(ClubSnapshotCache.INVALIDATE_CHANNEL, "1");
+        verify(redisTemplate).convertAndSend(ClubSnapshotCache.INVALIDATE_CHANNEL, "2");
+    }
+}
@@ -0,0 +1,80 @@
+package com.hobbyhop.domain.club.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.club.dto.ClubResponseDTO;
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import com.hobbyhop.global.request.PageRequestDTO;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[MyClubsCache]")
+class MyClubsCacheTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ClubRepository clubRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    private MyClubsCache sut;
+    private PageRequestDTO pageRequestDTO;
+
+    @BeforeEach
+    void setUp() {
+        sut = new MyClubsCache(clubRepository, redisTemplate, true, 100, 60_000L);
+        pageRequestDTO = PageRequestDTO.builder().build();
+    }
+
+    @DisplayName("[Evict] 사용자 캐시를 지우면 다른 서버에 알린다")
+    @Test
+    void evict_다른_서버_알림() {
+        // When
+        sut.evict(USER_ID);
+
+        // Then
+        verify(redisTemplate).convertAndSend(MyClubsCache.INVALIDATE_CHANNEL, "1");
+    }
+
+    @DisplayName("[Evict] 삭제 이벤트로 전체를 비우면 다른 서버도 전체를 비우게 알린다")
+    @Test
+    void clubDeleted_다른_서버_알림() {
+        // When
+        sut.onClubDeleted(new ClubDeletedEvent(List.of(1L)));
+
+        // Then
+        verify(redisTemplate).convertAndSend(MyClubsCache.INVALIDATE_CHANNEL, "*");
+    }
+
+    @DisplayName("[EvictLocal] 다른 서버의 알림을 받으면 다시 읽고, 다시 알리지 않는다")
+    @Test
+    void evictLocal_다시_조회() {
+        // Given
+        given(clubRepository.findMyClubs(USER_ID, pageRequestDTO))
+                .willReturn(new PageImpl<>(List.of(ClubResponseDTO.builder().id(1L).build())));
+        sut.find(USER_ID, pageRequestDTO);
+
+        // When
+        sut.evictLocal("1");
+        sut.find(USER_ID, pageRequestDTO);
+        sut.evictLocal("*");
+        sut.find(USER_ID, pageRequestDTO);
+
+        // Then
+        verify(clubRepository, times(3)).findMyClubs(USER_ID, pageRequestDTO);
+        assertThat(sut.stats().invalidations()).isEqualTo(2);
+        verify(redisTemplate, times(0)).convertAndSend(MyClubsCache.INVALIDATE_CHANNEL, "1");
+    }
+}
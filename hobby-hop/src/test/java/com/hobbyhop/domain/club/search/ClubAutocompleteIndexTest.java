@@ -0,0 +1,91 @@
+package com.hobbyhop.domain.club.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[ClubAutocomplete]")
+class ClubAutocompleteIndexTest {
+
+    private ClubAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ClubAutocompleteIndex(10);
+        index.replaceAll(List.of(
+                new ClubAutocompleteEntry(1L, "서울 등산 모임", "등산", 5L),
+                new ClubAutocompleteEntry(2L, "등산 좋아", "등산", 30L),
+                new ClubAutocompleteEntry(3L, "Seoul Runners", "운동", 12L)));
+    }
+
+    @Test
+    @DisplayName("접두어가 같은 모임을 회원 수 순으로 돌려준다")
+    void 회원수_순_추천() {
+        assertThat(index.suggest("등", 10))
+                .extracting(ClubAutocompleteEntry::clubId)
+                .containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("대소문자, 카테고리명 접두어로도 찾는다")
+    void 카테고리_대소문자() {
+        assertThat(index.suggest("SEOUL", 10)).extracting(ClubAutocompleteEntry::clubId).containsExactly(3L);
+        assertThat(index.suggest("운", 10)).extracting(ClubAutocompleteEntry::clubId).containsExactly(3L);
+        assertThat(index.suggest("서울 등", 10)).extracting(ClubAutocompleteEntry::clubId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("생성, 수정, 삭제가 반영된다")
+    void 변경_반영() {
+        index.put(4L, "등산 초보", "등산");
+        index.put(2L, "낚시 좋아", "낚시");
+        index.removeAll(List.of(1L));
+
+        assertThat(index.suggest("등산", 10)).extracting(ClubAutocompleteEntry::clubId).containsExactly(4L);
+        assertThat(index.suggest("낚", 10)).extracting(ClubAutocompleteEntry::memberCount).containsExactly(30L);
+    }
+
+    @Test
+    @DisplayName("크기가 0 이하이면 빈 목록을 돌려준다")
+    void 크기_0이하() {
+        assertThat(index.suggest("등", 0)).isEmpty();
+        assertThat(index.suggest("등", -1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("부분 갱신 결과가 전체 재생성 결과와 같다")
+    void 부분갱신_전체재생성_일치() {
+        index.put(new ClubAutocompleteEntry(4L, "등산 초보", "등산", 40L));
+        index.put(new ClubAutocompleteEntry(3L, "서울 러닝", "운동", 12L));
+        index.removeAll(List.of(2L));
+
+        ClubAutocompleteIndex rebuilt = new ClubAutocompleteIndex(10);
+        rebuilt.replaceAll(List.of(
+                new ClubAutocompleteEntry(1L, "서울 등산 모임", "등산", 5L),
+                new ClubAutocompleteEntry(3L, "서울 러닝", "운동", 12L),
+                new ClubAutocompleteEntry(4L, "등산 초보", "등산", 40L)));
+        for (String prefix : List.of("등", "등산", "서", "서울 ", "서울 러", "seoul", "운", "러닝", "초")) {
+            assertThat(index.suggest(prefix, 10)).as(prefix).isEqualTo(rebuilt.suggest(prefix, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("갱신이 DB 를 읽는 동안 들어온 변경을 옛 목록으로 덮어쓰지 않는다")
+    void 갱신중_변경_유지() {
+        index.refresh(() -> {
+            // 읽기가 끝나기 전에 다른 요청이 모임을 만들고 지운다.
+            index.put(4L, "등산 초보", "등산");
+            index.removeAll(List.of(1L));
+            return List.of(
+                    new ClubAutocompleteEntry(1L, "서울 등산 모임", "등산", 5L),
+                    new ClubAutocompleteEntry(2L, "등산 좋아", "등산", 31L),
+                    new ClubAutocompleteEntry(3L, "Seoul Runners", "운동", 12L));
+        });
+
+        assertThat(index.suggest("등산", 10)).extracting(ClubAutocompleteEntry::clubId).containsExactly(2L, 4L);
+        assertThat(index.suggest("등산", 10)).extracting(ClubAutocompleteEntry::memberCount).containsExactly(31L, 1L);
+    }
+}
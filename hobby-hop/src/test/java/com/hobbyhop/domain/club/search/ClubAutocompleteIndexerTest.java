@@ -0,0 +1,95 @@
+package com.hobbyhop.domain.club.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.club.event.ClubDeletedEvent;
+import com.hobbyhop.domain.club.event.ClubSavedEvent;
+import com.hobbyhop.domain.club.repository.ClubRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[ClubAutocompleteIndexer]")
+class ClubAutocompleteIndexerTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    private ClubAutocompleteIndex index;
+    private ClubAutocompleteIndexer sut;
+
+    @BeforeEach
+    void setUp() {
+        index = new ClubAutocompleteIndex(10);
+        sut = new ClubAutocompleteIndexer(index, clubRepository, redisTemplate);
+        ReflectionTestUtils.setField(sut, "pubsubEnabled", true);
+    }
+
+    @DisplayName("[Save] 로컬 색인에 넣고 다른 서버에 알린다")
+    @Test
+    void save_변경_알림() {
+        // When
+        sut.onClubSaved(new ClubSavedEvent(1L, "등산 모임", "등산"));
+
+        // Then
+        assertThat(index.suggest("등산", 10)).extracting(ClubAutocompleteEntry::clubId).containsExactly(1L);
+        verify(redisTemplate).convertAndSend(ClubAutocompleteIndexer.CHANNEL, "1");
+    }
+
+    @DisplayName("[Delete] 로컬 색인에서 지우고 모임마다 알린다")
+    @Test
+    void delete_변경_알림() {
+        // Given
+        index.put(1L, "등산 모임", "등산");
+        index.put(2L, "등산 좋아", "등산");
+
+        // When
+        sut.onClubDeleted(new ClubDeletedEvent(List.of(1L, 2L)));
+
+        // Then
+        assertThat(index.suggest("등산", 10)).isEmpty();
+        verify(redisTemplate).convertAndSend(ClubAutocompleteIndexer.CHANNEL, "1");
+        verify(redisTemplate).convertAndSend(ClubAutocompleteIndexer.CHANNEL, "2");
+    }
+
+    @DisplayName("[Remote] 다른 서버에서 바뀐 모임은 DB 에서 읽어 색인한다")
+    @Test
+    void remote_변경_반영() {
+        // Given
+        index.put(1L, "등산 모임", "등산");
+        given(clubRepository.findAutocompleteEntry(1L))
+                .willReturn(Optional.of(new ClubAutocompleteEntry(1L, "낚시 모임", "낚시", 7L)));
+
+        // When
+        sut.onRemoteClubChanged(1L);
+
+        // Then
+        assertThat(index.suggest("등산", 10)).isEmpty();
+        assertThat(index.suggest("낚시", 10)).extracting(ClubAutocompleteEntry::memberCount).containsExactly(7L);
+    }
+
+    @DisplayName("[Remote] DB 에 없는 모임은 색인에서 지운다")
+    @Test
+    void remote_삭제_반영() {
+        // Given
+        index.put(1L, "등산 모임", "등산");
+        given(clubRepository.findAutocompleteEntry(1L)).willReturn(Optional.empty());
+
+        // When
+        sut.onRemoteClubChanged(1L);
+
+        // Then
+        assertThat(index.suggest("등산", 10)).isEmpty();
+    }
+}
@@ -1,6 +1,11 @@
 package com.hobbyhop.domain.club.service.impl;
 
+import com.hobbyhop.domain.category.cache.CategorySnapshot;
 import com.hobbyhop.domain.category.service.impl.CategoryServiceImpl;
+import com.hobbyhop.domain.club.cache.ClubSnapshot;
+import com.hobbyhop.domain.club.cache.ClubSnapshotCache;
+import com.hobbyhop.domain.club.cache.MyClubsCache;
+import com.hobbyhop.domain.club.cache.MyClubsCache.MyClubsPage;
 import com.hobbyhop.domain.club.dto.ClubRequestDTO;
 import com.hobbyhop.domain.club.dto.ClubResponseDTO;
 import com.hobbyhop.domain.club.repository.ClubRepository;
@@ -8,6 +13,8 @@ import com.hobbyhop.domain.clubmember.entity.ClubMember;
 import com.hobbyhop.domain.clubmember.enums.MemberRole;
 import com.hobbyhop.domain.clubmember.pk.ClubMemberPK;
 import com.hobbyhop.domain.clubmember.service.impl.ClubMemberServiceImpl;
+import com.hobbyhop.global.request.PageRequestDTO;
+import com.hobbyhop.global.response.PageResponseDTO;
 import com.hobbyhop.test.ClubTest;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,13 +24,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.mockito.BDDMockito.given;
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 
 @DisplayName("[Club]")
@@ -39,6 +50,12 @@ class ClubServiceImplTest implements ClubTest {
     private CategoryServiceImpl categoryService;
     @Mock
     private ClubMemberServiceImpl clubMemberService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private ClubSnapshotCache clubSnapshotCache;
+    @Mock
+    private MyClubsCache myClubsCache;
     private ClubRequestDTO clubRequestDTO;
     private ClubMember clubMember;
     private ClubMemberPK clubMemberPK;
@@ -83,11 +100,27 @@ class ClubServiceImplTest implements ClubTest {
         assertThat(sut.findClub(TEST_CLUB_ID).getContent()).isEqualTo(clubResponseDTO.getContent());
     }
 
+    @DisplayName("[GetClub] 단건 조회는 캐시된 스냅샷으로 응답한다")
+    @Test
+    void club_단일_조회_캐시() {
+        // Given
+        given(clubSnapshotCache.find(TEST_CLUB_ID)).willReturn(
+                Optional.of(ClubSnapshot.of(TEST_CLUB, CategorySnapshot.from(TEST_CATEGORY))));
+
+        // When
+        ClubResponseDTO result = sut.getClub(TEST_CLUB_ID);
+
+        // Then
+        assertThat(result).isEqualTo(clubResponseDTO);
+        verify(clubRepository, never()).findById(any());
+    }
+
     @DisplayName("[Make]")
     @Test
     void club_생성() {
         // Given
-        given(categoryService.findCategory(TEST_CATEGORY_ID)).willReturn(TEST_CATEGORY);
+        given(categoryService.getCategorySnapshot(TEST_CATEGORY_ID)).willReturn(CategorySnapshot.from(TEST_CATEGORY));
+        given(categoryService.getCategoryReference(TEST_CATEGORY_ID)).willReturn(TEST_CATEGORY);
         given(clubRepository.save(any())).willReturn(TEST_CLUB);
         // When & Then
 //        verify(clubMemberService.);
@@ -125,9 +158,47 @@ class ClubServiceImplTest implements ClubTest {
 //        // When & Then
 //        assertThatCode(() -> sut.removeClubById(TEST_CLUB_ID, TEST_USER)).doesNotThrowAnyException();
 //    }
+    @DisplayName("[GetClubs] 커서 모드는 size + 1 개로 다음 페이지를 판단한다")
+    @Test
+    void club_커서_목록_조회() {
+        // Given
+        PageRequestDTO first = PageRequestDTO.builder().size(1).cursor(true).build();
+        given(clubRepository.findAllAfter(null, null, 2, true)).willReturn(
+                List.of(ClubResponseDTO.fromEntity(TEST_OTHER_CLUB), ClubResponseDTO.fromEntity(TEST_CLUB)));
+
+        // When
+        PageResponseDTO<ClubResponseDTO> result = sut.getAllClubs(first);
+
+        // Then
+        assertThat(result.getDtoList()).hasSize(1);
+        assertThat(result.isHasNext()).isTrue();
+
+        // 다음 페이지는 nextCursor 의 id 이후부터 조회한다.
+        PageRequestDTO second = PageRequestDTO.builder().size(1).after(result.getNextCursor()).build();
+        given(clubRepository.findAllAfter(null, TEST_OTHER_CLUB.getId(), 2, true)).willReturn(
+                List.of(ClubResponseDTO.fromEntity(TEST_CLUB)));
+
+        PageResponseDTO<ClubResponseDTO> next = sut.getAllClubs(second);
+
+        assertThat(next.getDtoList()).extracting(ClubResponseDTO::getId).containsExactly(TEST_CLUB.getId());
+        assertThat(next.isHasNext()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
     @DisplayName("[GetMyClubs]")
     @Test
     void club_내가_속한_클럽_리스트_조회() {
+        // Given
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder().build();
+        ClubResponseDTO myClub = ClubResponseDTO.fromEntity(TEST_CLUB).toBuilder().memberCount(3L).build();
+        given(myClubsCache.find(TEST_USER_ID, pageRequestDTO)).willReturn(new MyClubsPage(List.of(myClub), 1));
+
+        // When
+        PageResponseDTO<ClubResponseDTO> result = sut.getMyClubs(TEST_USER, pageRequestDTO);
 
+        // Then
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getDtoList()).extracting(ClubResponseDTO::getMemberCount).containsExactly(3L);
+        verify(clubMemberService, never()).findByUserId(any());
     }
 }
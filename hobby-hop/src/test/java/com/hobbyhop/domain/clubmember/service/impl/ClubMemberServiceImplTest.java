@@ -1,5 +1,7 @@
 package com.hobbyhop.domain.clubmember.service.impl;
 
+import com.hobbyhop.domain.club.cache.MyClubsCache;
+import com.hobbyhop.domain.clubmember.cache.ClubMembershipCache;
 import com.hobbyhop.domain.clubmember.entity.ClubMember;
 import com.hobbyhop.domain.clubmember.enums.MemberRole;
 import com.hobbyhop.domain.clubmember.pk.ClubMemberPK;
@@ -22,6 +24,7 @@ import static org.mockito.BDDMockito.given;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -33,6 +36,10 @@ class ClubMemberServiceImplTest implements ClubTest {
 
     @Mock
     private ClubMemberRepository clubMemberRepository;
+    @Mock
+    private ClubMembershipCache clubMembershipCache;
+    @Mock
+    private MyClubsCache myClubsCache;
     private ClubMember clubMember;
     private ClubMemberPK clubMemberPk;
 
@@ -72,6 +79,31 @@ class ClubMemberServiceImplTest implements ClubTest {
         // Then
         verify(clubMemberRepository, times(1)).delete(clubMember);
     }
+    @DisplayName("[Role] 회원 확인은 DB 대신 캐시를 거친다")
+    @Test
+    void clubMember_역할_조회() {
+        // Given
+        given(clubMembershipCache.getRole(TEST_CLUB_ID, TEST_USER_ID)).willReturn(MemberRole.ADMIN);
+
+        // When & Then
+        assertThat(sut.isClubMember(TEST_CLUB_ID, TEST_USER_ID)).isTrue();
+        assertThat(sut.isAdminMember(TEST_CLUB_ID, TEST_USER_ID)).isTrue();
+        assertThat(sut.getMemberRole(TEST_CLUB_ID, TEST_USER_ID)).isEqualTo(MemberRole.ADMIN);
+        verify(clubMemberRepository, never()).isClubMember(any(), any());
+    }
+
+    @DisplayName("[Remove] 탈퇴하면 회원 캐시를 무효화한다")
+    @Test
+    void clubMember_탈퇴_캐시_무효화() {
+        // Given
+        given(clubMemberRepository.findByClubMemberPK_Club_IdAndClubMemberPK_User_Id(TEST_CLUB_ID, TEST_USER_ID)).willReturn(Optional.of(clubMember));
+        // When
+        sut.removeMember(TEST_CLUB, TEST_USER);
+        // Then
+        verify(clubMembershipCache).invalidate(TEST_CLUB_ID);
+        verify(myClubsCache).evict(TEST_USER_ID);
+    }
+
     @DisplayName("[FindByUserId]")
     @Test
     void clubMember_유저가_속한_클럽_리스트_조회() {
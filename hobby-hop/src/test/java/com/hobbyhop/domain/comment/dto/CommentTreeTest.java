@@ -0,0 +1,39 @@
+package com.hobbyhop.domain.comment.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[CommentTree]")
+class CommentTreeTest {
+
+    private static final Timestamp NOW = new Timestamp(System.currentTimeMillis());
+
+    @DisplayName("[Attach] 깊이별 리플을 부모에 붙이고 다음 깊이의 부모 id 를 돌려준다")
+    @Test
+    void commentTree_리플_조립() {
+        // Given
+        CommentTree sut = new CommentTree();
+        List<Long> rootIds = sut.addRoots(List.of(vo(2L, null), vo(1L, null)));
+
+        // When
+        List<Long> firstIds = sut.attach(List.of(vo(3L, 1L), vo(4L, 2L), vo(5L, 99L)));
+        List<Long> secondIds = sut.attach(List.of(vo(6L, 3L)));
+
+        // Then
+        assertThat(rootIds).containsExactly(2L, 1L);
+        assertThat(firstIds).containsExactly(3L, 4L);
+        assertThat(secondIds).containsExactly(6L);
+        assertThat(sut.getRoots()).extracting(CommentResponseDTO::getId).containsExactly(2L, 1L);
+        CommentResponseDTO reply = sut.getRoots().get(1).getReply().get(0);
+        assertThat(reply.getId()).isEqualTo(3L);
+        assertThat(reply.getReply()).extracting(CommentResponseDTO::getId).containsExactly(6L);
+    }
+
+    private CommentVO vo(Long id, Long parent) {
+        return new CommentVO("content-" + id, "writer", 0, NOW, id, parent);
+    }
+}
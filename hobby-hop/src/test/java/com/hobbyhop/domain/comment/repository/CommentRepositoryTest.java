@@ -0,0 +1,133 @@
+package com.hobbyhop.domain.comment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hobbyhop.domain.category.entity.Category;
+import com.hobbyhop.domain.club.entity.Club;
+import com.hobbyhop.domain.comment.dto.CommentResponseDTO;
+import com.hobbyhop.domain.comment.entity.Comment;
+import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.enums.UserRoleEnum;
+import com.hobbyhop.global.config.JpaConfig;
+import com.hobbyhop.global.metrics.MetricsConfig;
+import com.hobbyhop.global.metrics.SqlStatementCounter;
+import com.hobbyhop.global.request.PageRequestDTO;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+@DataJpaTest
+@Import({JpaConfig.class, MetricsConfig.class})
+@DisplayName("[CommentRepository]")
+class CommentRepositoryTest {
+
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private EntityManager em;
+
+    private User user;
+    private Post post;
+    private final List<Comment> roots = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Category category = persist(Category.builder().categoryName("category").build());
+        Club club = persist(Club.builder().title("club").content("content").category(category).build());
+        user = persist(User.builder().username("writer").email("writer@test.com").password("password")
+                .role(UserRoleEnum.USER).build());
+        post = persist(Post.builder().postTitle("title").postContent("content").likeCnt(0L).postNumber(1L)
+                .user(user).club(club).build());
+
+        for (int i = 0; i < 5; i++) {
+            roots.add(persist(comment("root-" + i, null)));
+        }
+    }
+
+    @DisplayName("[Paging] 최상위 댓글만 OFFSET 으로 페이징하고 total 은 최상위 댓글 수다")
+    @Test
+    void findAllByPostId_최상위_페이징() {
+        // Given
+        persist(comment("reply", roots.get(0)));
+        em.flush();
+        em.clear();
+        PageRequestDTO request = PageRequestDTO.builder().page(2).size(2).build();
+
+        // When
+        Page<CommentResponseDTO> page = commentRepository.findAllByPostId(request, post.getId());
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(CommentResponseDTO::getContent)
+                .containsExactly("root-2", "root-3");
+    }
+
+    @DisplayName("[Replies] 리플은 깊이마다 parent.id IN 쿼리 한 번으로 붙인다")
+    @Test
+    void findAllByPostId_깊이별_리플() {
+        // Given
+        Comment first = persist(comment("reply-0", roots.get(0)));
+        persist(comment("reply-1", roots.get(0)));
+        persist(comment("reply-2", roots.get(1)));
+        persist(comment("reply-0-0", first));
+        persist(comment("reply-other-page", roots.get(4)));
+        em.flush();
+        em.clear();
+        PageRequestDTO request = PageRequestDTO.builder().page(1).size(2).build();
+
+        // When
+        SqlStatementCounter.begin();
+        Page<CommentResponseDTO> page = commentRepository.findAllByPostId(request, post.getId());
+        int statements = SqlStatementCounter.end();
+
+        // Then
+        // 최상위 + count + 깊이 1, 깊이 2, 빈 깊이 3
+        assertThat(statements).isEqualTo(5);
+        CommentResponseDTO root = page.getContent().get(0);
+        assertThat(root.getReply()).extracting(CommentResponseDTO::getContent)
+                .containsExactly("reply-0", "reply-1");
+        assertThat(root.getReply().get(0).getReply()).extracting(CommentResponseDTO::getContent)
+                .containsExactly("reply-0-0");
+        assertThat(page.getContent().get(1).getReply()).extracting(CommentResponseDTO::getContent)
+                .containsExactly("reply-2");
+    }
+
+    @DisplayName("[Counter] 내용 수정의 dirty checking 이 원자적으로 올린 카운터를 덮어쓰지 않는다")
+    @Test
+    void updateLikeCnt_내용수정과_함께() {
+        // Given
+        Comment target = roots.get(0);
+        em.flush();
+
+        // When
+        commentRepository.updateLikeCnt(target.getId(), 1);
+        commentRepository.updateReplyCnt(target.getId(), 2);
+        target.changeContent("changed");
+        em.flush();
+        em.clear();
+
+        // Then
+        Comment found = commentRepository.findById(target.getId()).orElseThrow();
+        assertThat(found.getContent()).isEqualTo("changed");
+        assertThat(found.getLikeCnt()).isEqualTo(1L);
+        assertThat(found.getReplyCnt()).isEqualTo(2L);
+        assertThat(commentRepository.findLikeCnt(target.getId())).isEqualTo(1L);
+    }
+
+    private Comment comment(String content, Comment parent) {
+        return Comment.builder().content(content).user(user).post(post).parent(parent).build();
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
@@ -0,0 +1,65 @@
+package com.hobbyhop.domain.comment.runner;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.comment.repository.CommentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[CommentCountBackfill]")
+class CommentCountBackfillRunnerTest {
+
+    @InjectMocks
+    private CommentCountBackfillRunner sut;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @DisplayName("[Chunk] 최대 id 까지 chunk-size 구간으로 나눠 두 카운터를 채운다")
+    @Test
+    void run_구간_분할() {
+        // Given
+        ReflectionTestUtils.setField(sut, "chunkSize", 10L);
+        given(commentRepository.findMaxId()).willReturn(25L);
+
+        // When
+        sut.run(new DefaultApplicationArguments());
+
+        // Then
+        InOrder inOrder = inOrder(commentRepository);
+        inOrder.verify(commentRepository).findMaxId();
+        inOrder.verify(commentRepository).backfillLikeCnt(1L, 10L);
+        inOrder.verify(commentRepository).backfillReplyCnt(1L, 10L);
+        inOrder.verify(commentRepository).backfillLikeCnt(11L, 20L);
+        inOrder.verify(commentRepository).backfillReplyCnt(11L, 20L);
+        inOrder.verify(commentRepository).backfillLikeCnt(21L, 25L);
+        inOrder.verify(commentRepository).backfillReplyCnt(21L, 25L);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @DisplayName("[Empty] 댓글이 없으면 아무것도 하지 않는다")
+    @Test
+    void run_댓글_없음() {
+        // Given
+        ReflectionTestUtils.setField(sut, "chunkSize", 10L);
+        given(commentRepository.findMaxId()).willReturn(0L);
+
+        // When
+        sut.run(new DefaultApplicationArguments());
+
+        // Then
+        verify(commentRepository, never()).backfillLikeCnt(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,94 @@
+package com.hobbyhop.domain.commentuser.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.comment.entity.Comment;
+import com.hobbyhop.domain.comment.repository.CommentRepository;
+import com.hobbyhop.domain.commentuser.entity.CommentUser;
+import com.hobbyhop.domain.commentuser.repository.CommentUserRepository;
+import com.hobbyhop.test.UserTest;
+import java.sql.Timestamp;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[CommentUser]")
+class CommentUserServiceImplTest implements UserTest {
+
+    private static final Long TEST_COMMENT_ID = 1L;
+
+    @InjectMocks
+    private CommentUserServiceImpl sut;
+
+    @Mock
+    private CommentUserRepository commentUserRepository;
+    @Mock
+    private CommentRepository commentRepository;
+
+    private final Comment comment = Comment.builder().id(TEST_COMMENT_ID).likeCnt(3L).build();
+
+    @DisplayName("[Like] 처음 누르면 좋아요를 저장하고 like_cnt 를 1 올린다")
+    @Test
+    void modifyCommentUser_처음() {
+        // Given
+        given(commentUserRepository.findCommentUserByIds(TEST_COMMENT_ID, TEST_USER_ID)).willReturn(Optional.empty());
+
+        // When
+        sut.modifyCommentUser(comment, TEST_USER);
+
+        // Then
+        verify(commentUserRepository).save(any(CommentUser.class));
+        verify(commentRepository).updateLikeCnt(TEST_COMMENT_ID, 1);
+    }
+
+    @DisplayName("[Like] 취소했던 좋아요는 복구하고 like_cnt 를 1 올린다")
+    @Test
+    void modifyCommentUser_복구() {
+        // Given
+        CommentUser deleted = CommentUser.builder().deletedAt(new Timestamp(System.currentTimeMillis())).build();
+        given(commentUserRepository.findCommentUserByIds(TEST_COMMENT_ID, TEST_USER_ID)).willReturn(Optional.of(deleted));
+
+        // When
+        sut.modifyCommentUser(comment, TEST_USER);
+
+        // Then
+        assertThat(deleted.getDeletedAt()).isNull();
+        verify(commentRepository).updateLikeCnt(TEST_COMMENT_ID, 1);
+    }
+
+    @DisplayName("[Unlike] 누른 좋아요는 지우고 like_cnt 를 1 내린다")
+    @Test
+    void modifyCommentUser_취소() {
+        // Given
+        CommentUser liked = CommentUser.builder().build();
+        given(commentUserRepository.findCommentUserByIds(TEST_COMMENT_ID, TEST_USER_ID)).willReturn(Optional.of(liked));
+
+        // When
+        sut.modifyCommentUser(comment, TEST_USER);
+
+        // Then
+        verify(commentUserRepository).delete(liked);
+        verify(commentRepository).updateLikeCnt(TEST_COMMENT_ID, -1);
+    }
+
+    @DisplayName("[Count] 엔티티에 남은 값이 아니라 DB 의 like_cnt 를 돌려준다")
+    @Test
+    void countLike_DB값() {
+        // Given
+        given(commentRepository.findLikeCnt(TEST_COMMENT_ID)).willReturn(4L);
+
+        // When
+        int like = sut.countLike(comment);
+
+        // Then
+        assertThat(like).isEqualTo(4);
+    }
+}
@@ -0,0 +1,58 @@
+package com.hobbyhop.domain.feed.merge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hobbyhop.domain.feed.dto.FeedCursor;
+import com.hobbyhop.global.exception.common.InvalidCursorException;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[FeedMerger]")
+class FeedMergerTest {
+
+    @DisplayName("[Merge] 정렬된 타임라인들을 순서를 지켜 limit 개까지 합친다")
+    @Test
+    void feedMerger_타임라인_병합() {
+        // Given
+        List<List<Integer>> timelines = List.of(
+                List.of(9, 5, 1),
+                List.of(),
+                List.of(8, 7, 2),
+                List.of(6));
+
+        // When
+        List<Integer> result = FeedMerger.merge(timelines, Comparator.reverseOrder(), 5);
+
+        // Then
+        assertThat(result).containsExactly(9, 8, 7, 6, 5);
+    }
+
+    @DisplayName("[Merge] 게시글이 limit 보다 적으면 모두 돌려준다")
+    @Test
+    void feedMerger_limit_보다_적은_게시글() {
+        // When
+        List<Integer> result = FeedMerger.merge(List.of(List.of(3), List.of(2, 1)), Comparator.reverseOrder(), 10);
+
+        // Then
+        assertThat(result).containsExactly(3, 2, 1);
+    }
+
+    @DisplayName("[Cursor] 나노초까지 그대로 되돌린다")
+    @Test
+    void feedCursor_인코딩() {
+        // Given
+        Timestamp createdAt = Timestamp.valueOf("2023-12-01 10:15:30.123456");
+        FeedCursor cursor = new FeedCursor(createdAt, 42L);
+
+        // When
+        FeedCursor decoded = FeedCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThatThrownBy(() -> FeedCursor.decode("not-a-cursor")).isInstanceOf(InvalidCursorException.class);
+    }
+}
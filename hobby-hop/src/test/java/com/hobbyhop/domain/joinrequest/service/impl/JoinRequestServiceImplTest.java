@@ -6,11 +6,16 @@ import com.hobbyhop.domain.clubmember.entity.ClubMember;
 import com.hobbyhop.domain.clubmember.enums.MemberRole;
 import com.hobbyhop.domain.clubmember.pk.ClubMemberPK;
 import com.hobbyhop.domain.clubmember.service.impl.ClubMemberServiceImpl;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestBulkDTO;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestResultDTO;
+import com.hobbyhop.domain.joinrequest.dto.JoinRequestVO;
 import com.hobbyhop.domain.joinrequest.dto.JoinResponseDTO;
 import com.hobbyhop.domain.joinrequest.entity.JoinRequest;
+import com.hobbyhop.domain.joinrequest.enums.JoinRequestResult;
 import com.hobbyhop.domain.joinrequest.enums.JoinRequestStatus;
 import com.hobbyhop.domain.joinrequest.repository.JoinRequestRepository;
-
+import com.hobbyhop.global.exception.joinrequest.InvalidBulkRequestException;
+import com.hobbyhop.global.request.PageRequestDTO;
 import com.hobbyhop.test.ClubTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,9 +24,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.assertj.core.api.Assertions.*;
@@ -70,7 +78,7 @@ class JoinRequestServiceImplTest implements ClubTest {
     @DisplayName("[Send]")
     @Test
     void joinRequest_요청_보내기_성공() {
-        given(clubService.findClub(TEST_CLUB_ID)).willReturn(TEST_CLUB);
+        given(clubService.getClubReference(TEST_CLUB_ID)).willReturn(TEST_CLUB);
         given(clubMemberService.isClubMember(TEST_CLUB_ID, TEST_USER_ID)).willReturn(false);
         given(joinRequestRepository.save(any())).willReturn(joinRequest);
 
@@ -80,13 +88,15 @@ class JoinRequestServiceImplTest implements ClubTest {
     @Test
     void joinRequest_조회() {
         // Given
-        given(clubMemberService.findByClubAndUser(TEST_CLUB_ID, TEST_USER_ID)).willReturn(clubMember);
-        given(joinRequestRepository.findByClub_IdAndStatus(TEST_CLUB_ID, JoinRequestStatus.PENDING)).willReturn(List.of(joinRequest));
+        given(clubMemberService.getMemberRole(TEST_CLUB_ID, TEST_USER_ID)).willReturn(MemberRole.ADMIN);
+        PageRequestDTO pageRequestDTO = PageRequestDTO.builder().build();
+        given(joinRequestRepository.findPendingByClubId(TEST_CLUB_ID, pageRequestDTO)).willReturn(new PageImpl<>(List.of(joinResponseDTO)));
 
-        assertThat(sut.getRequestByClub(TEST_CLUB_ID, TEST_USER).get(0).getId()).isEqualTo(joinResponseDTO.getId());
-        assertThat(sut.getRequestByClub(TEST_CLUB_ID, TEST_USER).get(0).getUsername()).isEqualTo(joinResponseDTO.getUsername());
-        assertThat(sut.getRequestByClub(TEST_CLUB_ID, TEST_USER).get(0).getRecvClubId()).isEqualTo(joinResponseDTO.getRecvClubId());
-        assertThat(sut.getRequestByClub(TEST_CLUB_ID, TEST_USER).get(0).getSendUserId()).isEqualTo(joinResponseDTO.getSendUserId());
+        JoinResponseDTO result = sut.getRequestByClub(TEST_CLUB_ID, TEST_USER, pageRequestDTO).getDtoList().get(0);
+        assertThat(result.getId()).isEqualTo(joinResponseDTO.getId());
+        assertThat(result.getUsername()).isEqualTo(joinResponseDTO.getUsername());
+        assertThat(result.getRecvClubId()).isEqualTo(joinResponseDTO.getRecvClubId());
+        assertThat(result.getSendUserId()).isEqualTo(joinResponseDTO.getSendUserId());
 
     }
 
@@ -105,4 +115,41 @@ class JoinRequestServiceImplTest implements ClubTest {
         // Then
         verify(clubMemberService).joinClub(TEST_CLUB, TEST_USER, MemberRole.MEMBER);
     }
-}
\ No newline at end of file
+
+    @DisplayName("[Process] 일괄 처리는 요청 id 별 결과를 돌려주고 대기 중인 요청만 승인한다")
+    @Test
+    void joinRequest_일괄_처리() {
+        // Given
+        ReflectionTestUtils.setField(sut, "bulkMaxSize", 1000);
+        given(clubMemberService.getMemberRole(TEST_CLUB_ID, TEST_USER_ID)).willReturn(MemberRole.ADMIN);
+        given(joinRequestRepository.findAllByClubIdAndIdIn(TEST_CLUB_ID, List.of(1L, 2L, 3L, 4L))).willReturn(List.of(
+                new JoinRequestVO(1L, 10L, JoinRequestStatus.PENDING),
+                new JoinRequestVO(2L, 20L, JoinRequestStatus.REJECTED),
+                new JoinRequestVO(4L, 40L, JoinRequestStatus.PENDING)));
+        given(clubMemberService.isClubMember(TEST_CLUB_ID, 10L)).willReturn(false);
+        given(clubMemberService.isClubMember(TEST_CLUB_ID, 40L)).willReturn(true);
+        given(joinRequestRepository.updatePendingStatus(List.of(1L), JoinRequestStatus.APPROVED)).willReturn(1L);
+
+        // When
+        List<JoinRequestResultDTO> results = sut.processRequests(TEST_CLUB_ID, TEST_USER,
+                new JoinRequestBulkDTO(List.of(1L, 2L, 3L, 4L, 1L), JoinRequestStatus.APPROVED));
+
+        // Then
+        assertThat(results).extracting(JoinRequestResultDTO::getResult).containsExactly(
+                JoinRequestResult.APPROVED, JoinRequestResult.ALREADY_PROCESSED,
+                JoinRequestResult.NOT_FOUND, JoinRequestResult.ALREADY_MEMBER);
+        verify(clubMemberService).joinClubAll(TEST_CLUB_ID, Set.of(10L), MemberRole.MEMBER);
+    }
+
+    @DisplayName("[Process] 대기 상태로는 일괄 처리할 수 없다")
+    @Test
+    void joinRequest_일괄_처리_실패() {
+        // Given
+        given(clubMemberService.getMemberRole(TEST_CLUB_ID, TEST_USER_ID)).willReturn(MemberRole.ADMIN);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.processRequests(TEST_CLUB_ID, TEST_USER,
+                new JoinRequestBulkDTO(List.of(1L), JoinRequestStatus.PENDING)))
+                .isInstanceOf(InvalidBulkRequestException.class);
+    }
+}
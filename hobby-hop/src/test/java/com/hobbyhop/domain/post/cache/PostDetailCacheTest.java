@@ -0,0 +1,100 @@
+package com.hobbyhop.domain.post.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.post.dto.PostResponseDTO;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import com.hobbyhop.test.PostTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[PostDetailCache]")
+class PostDetailCacheTest implements PostTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    private PostDetailCache sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new PostDetailCache(postRepository, redisTemplate, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(sut, "maxSize", 100);
+        ReflectionTestUtils.setField(sut, "softTtlMs", 60_000L);
+        ReflectionTestUtils.setField(sut, "hardTtlMs", 120_000L);
+        ReflectionTestUtils.setField(sut, "pubsubEnabled", false);
+    }
+
+    @DisplayName("[Get] 동시에 비어 있는 게시글을 읽으면 DB 는 한 번만 읽는다")
+    @Test
+    void postDetail_동시_조회_병합() throws Exception {
+        // Given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(postRepository.findDetailById(TEST_POST_ID)).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(PostResponseDTO.fromEntity(TEST_POST));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Optional<PostResponseDTO>>> results = new ArrayList<>();
+
+        // When
+        results.add(executor.submit(() -> sut.get(TEST_POST_ID)));
+        loading.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> sut.get(TEST_POST_ID)));
+        }
+        // 나머지 요청이 진행 중인 조회에 합류할 때까지 기다린다.
+        while (sut.stats().coalesced() < 3) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        // Then
+        for (Future<Optional<PostResponseDTO>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+        }
+        executor.shutdown();
+        verify(postRepository, times(1)).findDetailById(TEST_POST_ID);
+    }
+
+    @DisplayName("[Invalidate] 무효화하면 다시 읽고, 돌려준 값을 바꿔도 캐시는 그대로다")
+    @Test
+    void postDetail_무효화() {
+        // Given
+        given(postRepository.findDetailById(TEST_POST_ID)).willReturn(Optional.of(PostResponseDTO.fromEntity(TEST_POST)));
+        sut.get(TEST_POST_ID).orElseThrow().setLikeCnt(999L);
+
+        // When
+        PostResponseDTO cached = sut.get(TEST_POST_ID).orElseThrow();
+        sut.invalidate(TEST_POST_ID);
+        sut.get(TEST_POST_ID);
+
+        // Then
+        assertThat(cached.getLikeCnt()).isEqualTo(TEST_POST.getLikeCnt());
+        assertThat(sut.stats().hits()).isEqualTo(1);
+        verify(postRepository, times(2)).findDetailById(TEST_POST_ID);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hobbyhop.domain.post.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hobbyhop.domain.category.entity.Category;
+import com.hobbyhop.domain.club.entity.Club;
+import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.enums.UserRoleEnum;
+import com.hobbyhop.global.config.JpaConfig;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+@DisplayName("[PostRepository]")
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManager em;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        Category category = persist(Category.builder().categoryName("category").build());
+        Club club = persist(Club.builder().title("club").content("content").category(category).build());
+        User user = persist(User.builder().username("writer").email("writer@test.com").password("password")
+                .role(UserRoleEnum.USER).build());
+        post = persist(Post.builder().postTitle("title").postContent("content").likeCnt(0L).postNumber(1L)
+                .user(user).club(club).build());
+        em.flush();
+    }
+
+    @DisplayName("[LikeCnt] 게시글 수정의 dirty checking 이 반영된 좋아요 수를 덮어쓰지 않는다")
+    @Test
+    void addLikeCnt_게시글수정과_함께() {
+        // When
+        postRepository.addLikeCnt(post.getId(), 3L);
+        post.changeTitle("changed");
+        em.flush();
+        em.clear();
+
+        // Then
+        Post found = postRepository.findById(post.getId()).orElseThrow();
+        assertThat(found.getPostTitle()).isEqualTo("changed");
+        assertThat(found.getLikeCnt()).isEqualTo(3L);
+    }
+
+    @DisplayName("[ImageStatus] 기준 시각 이전부터 업로드 중인 게시글만 찾는다")
+    @Test
+    void findIdsByImageStatusBefore_업로드_중() {
+        // Given
+        post.pendingImage("key");
+        em.flush();
+        Timestamp after = new Timestamp(System.currentTimeMillis() + 60_000);
+        Timestamp before = new Timestamp(System.currentTimeMillis() - 60_000);
+
+        // When & Then
+        assertThat(postRepository.findIdsByImageStatusBefore(ImageStatus.PENDING, after, PageRequest.of(0, 10)))
+                .containsExactly(post.getId());
+        assertThat(postRepository.findIdsByImageStatusBefore(ImageStatus.PENDING, before, PageRequest.of(0, 10)))
+                .isEmpty();
+        assertThat(postRepository.findIdsByImageStatusBefore(ImageStatus.FAILED, after, PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    private <T> T persist(T entity) {
+        em.persist(entity);
+        return entity;
+    }
+}
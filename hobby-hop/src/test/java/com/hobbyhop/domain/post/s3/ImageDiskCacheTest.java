@@ -0,0 +1,91 @@
+package com.hobbyhop.domain.post.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("[ImageDiskCache]")
+class ImageDiskCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ImageDiskCache sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 두 파일(각 10바이트)까지만 보관
+        sut = new ImageDiskCache(tempDir.toString(), 20);
+        sut.init();
+    }
+
+    @DisplayName("[Get] 한 번 받은 이미지는 다시 내려받지 않는다")
+    @Test
+    void get_캐시_적중() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        read(sut.get("a", () -> load(loads, "aaaaaaaaaa")));
+        ImageDiskCache.CachedImage result = sut.get("a", () -> load(loads, "bbbbbbbbbb"));
+
+        // Then
+        assertThat(read(result)).isEqualTo("aaaaaaaaaa");
+        assertThat(result.size()).isEqualTo(10);
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("[Evict] 읽는 도중 파일이 밀려나 지워져도 이미 연 스트림은 끝까지 읽힌다")
+    @Test
+    void get_읽는_도중_제거() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        ImageDiskCache.CachedImage reading = sut.get("a", () -> load(loads, "aaaaaaaaaa"));
+
+        // When
+        read(sut.get("b", () -> load(loads, "bbbbbbbbbb")));
+        read(sut.get("c", () -> load(loads, "cccccccccc")));
+        sut.remove("a");
+
+        // Then
+        assertThat(read(reading)).isEqualTo("aaaaaaaaaa");
+        assertThat(read(sut.get("a", () -> load(loads, "AAAAAAAAAA")))).isEqualTo("AAAAAAAAAA");
+        assertThat(loads).hasValue(4);
+    }
+
+    @DisplayName("[Evict] 크기 상한을 넘으면 가장 오래 안 쓴 파일을 버리고 다시 받는다")
+    @Test
+    void get_크기_상한() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        read(sut.get("a", () -> load(loads, "aaaaaaaaaa")));
+        read(sut.get("b", () -> load(loads, "bbbbbbbbbb")));
+        read(sut.get("a", () -> load(loads, "xxxxxxxxxx")));
+
+        // When
+        read(sut.get("c", () -> load(loads, "cccccccccc")));
+
+        // Then
+        assertThat(read(sut.get("a", () -> load(loads, "xxxxxxxxxx")))).isEqualTo("aaaaaaaaaa");
+        assertThat(read(sut.get("b", () -> load(loads, "BBBBBBBBBB")))).isEqualTo("BBBBBBBBBB");
+        assertThat(loads).hasValue(4);
+    }
+
+    private static InputStream load(AtomicInteger loads, String content) {
+        loads.incrementAndGet();
+        return new ByteArrayInputStream(content.getBytes());
+    }
+
+    private static String read(ImageDiskCache.CachedImage image) throws Exception {
+        try (InputStream in = image.content()) {
+            return new String(in.readAllBytes());
+        }
+    }
+}
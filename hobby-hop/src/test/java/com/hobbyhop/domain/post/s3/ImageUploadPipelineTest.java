@@ -0,0 +1,192 @@
+package com.hobbyhop.domain.post.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hobbyhop.domain.post.enums.ImageVariant;
+import com.hobbyhop.global.exception.s3.ImageSaveException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ImageUploadPipelineTest {
+
+    private static final long MAX_PIXELS = 4_000_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private PostImageUploadCallback callback;
+
+    private LocalObjectStorage objectStorage;
+    private ImageUploadPipeline imageUploadPipeline;
+
+    @BeforeEach
+    void setup() {
+        objectStorage = new LocalObjectStorage(tempDir.resolve("storage").toString(), "");
+        // 테스트에서는 업로드를 호출한 스레드에서 바로 실행
+        imageUploadPipeline = new ImageUploadPipeline(objectStorage, new ImageVariantGenerator(Runnable::run, MAX_PIXELS),
+                callback, Runnable::run, tempDir.resolve("spool").toString());
+    }
+
+    @Test
+    @DisplayName("임시 파일로 옮긴 뒤 업로드하고 완료 콜백을 호출한다")
+    void 이미지업로드파이프라인테스트() throws Exception {
+        // given
+        byte[] content = "image-bytes".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", content);
+
+        // when
+        SpooledFile spooledFile = imageUploadPipeline.spool(file);
+        assertThat(Files.readAllBytes(spooledFile.path())).isEqualTo(content);
+
+        String key = imageUploadPipeline.createKey(spooledFile);
+        imageUploadPipeline.uploadAfterCommit(1L, key, spooledFile);
+
+        // then
+        assertThat(Files.readAllBytes(tempDir.resolve("storage").resolve(key))).isEqualTo(content);
+        assertThat(Files.exists(spooledFile.path())).isFalse();
+        // 이미지가 아닌 파일은 축소 이미지 없이 완료
+        verify(callback).onComplete(eq(1L), eq(key), eq(objectStorage.getUrl(key)), eq(Map.of()));
+        verify(callback, never()).onFailure(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미지는 썸네일, 중간 크기 이미지를 함께 올린다")
+    void 축소이미지생성테스트() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1600, 800, BufferedImage.TYPE_INT_RGB), "png", out);
+        MockMultipartFile file = new MockMultipartFile("file", "test.png", "image/png", out.toByteArray());
+
+        // when
+        SpooledFile spooledFile = imageUploadPipeline.spool(file);
+        String key = imageUploadPipeline.createKey(spooledFile);
+        imageUploadPipeline.uploadAfterCommit(1L, key, spooledFile);
+
+        // then
+        Path storage = tempDir.resolve("storage");
+        BufferedImage thumbnail = ImageIO.read(storage.resolve(ImageVariant.THUMBNAIL.keyOf(key)).toFile());
+        BufferedImage medium = ImageIO.read(storage.resolve(ImageVariant.MEDIUM.keyOf(key)).toFile());
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(100);
+        assertThat(medium.getWidth()).isEqualTo(800);
+
+        verify(callback).onComplete(eq(1L), eq(key), eq(objectStorage.getUrl(key)), eq(Map.of(
+                ImageVariant.THUMBNAIL, objectStorage.getUrl(ImageVariant.THUMBNAIL.keyOf(key)),
+                ImageVariant.MEDIUM, objectStorage.getUrl(ImageVariant.MEDIUM.keyOf(key)))));
+    }
+
+    @Test
+    @DisplayName("업로드 대기열이 가득 차면 요청 스레드에서 올리지 않고 거절 목록에 남긴다")
+    void 업로드거절테스트() {
+        // given
+        ImageUploadPipeline rejecting = new ImageUploadPipeline(objectStorage, new ImageVariantGenerator(Runnable::run, MAX_PIXELS),
+                callback, task -> {
+                    throw new RejectedExecutionException();
+                }, tempDir.resolve("spool").toString());
+        MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", new byte[]{1, 2, 3});
+
+        // when
+        SpooledFile spooledFile = rejecting.spool(file);
+        String key = rejecting.createKey(spooledFile);
+        rejecting.uploadAfterCommit(1L, key, spooledFile);
+
+        // then
+        assertThat(Files.exists(spooledFile.path())).isFalse();
+        assertThat(Files.exists(tempDir.resolve("storage").resolve(key))).isFalse();
+        verifyNoInteractions(callback);
+        assertThat(rejecting.drainRejected()).containsExactly(new ImageUploadPipeline.RejectedUpload(1L, key));
+        assertThat(rejecting.drainRejected()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변환 대기열이 가득 차면 축소 이미지 없이 원본만 올린다")
+    void 변환거절테스트() throws Exception {
+        // given
+        ImageUploadPipeline pipeline = new ImageUploadPipeline(objectStorage, new ImageVariantGenerator(task -> {
+            throw new RejectedExecutionException();
+        }, MAX_PIXELS), callback, Runnable::run, tempDir.resolve("spool").toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(400, 200, BufferedImage.TYPE_INT_RGB), "png", out);
+        MockMultipartFile file = new MockMultipartFile("file", "test.png", "image/png", out.toByteArray());
+
+        // when
+        SpooledFile spooledFile = pipeline.spool(file);
+        String key = pipeline.createKey(spooledFile);
+        pipeline.uploadAfterCommit(1L, key, spooledFile);
+
+        // then
+        verify(callback).onComplete(eq(1L), eq(key), eq(objectStorage.getUrl(key)), eq(Map.of()));
+        verify(callback, never()).onFailure(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 제한을 넘는 이미지는 디코딩하지 않고 원본만 올린다")
+    void 픽셀제한테스트() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2500, 2000, BufferedImage.TYPE_INT_RGB), "png", out);
+        MockMultipartFile file = new MockMultipartFile("file", "big.png", "image/png", out.toByteArray());
+
+        // when
+        SpooledFile spooledFile = imageUploadPipeline.spool(file);
+        String key = imageUploadPipeline.createKey(spooledFile);
+        imageUploadPipeline.uploadAfterCommit(1L, key, spooledFile);
+
+        // then
+        assertThat(Files.exists(tempDir.resolve("storage").resolve(key))).isTrue();
+        assertThat(Files.exists(tempDir.resolve("storage").resolve(ImageVariant.THUMBNAIL.keyOf(key)))).isFalse();
+        verify(callback).onComplete(eq(1L), eq(key), eq(objectStorage.getUrl(key)), eq(Map.of()));
+    }
+
+    @Test
+    @DisplayName("축소 이미지 업로드에 실패해도 게시글은 실패로 두지 않고 나머지만 반영한다")
+    void 축소이미지업로드실패테스트() throws Exception {
+        // given
+        LocalObjectStorage failing = spy(objectStorage);
+        // 원본, 중간 크기 업로드는 실제로 실행된다.
+        lenient().doThrow(new ImageSaveException()).when(failing)
+                .upload(startsWith("thumbnail/"), any(Path.class), anyString(), anyLong());
+        ImageUploadPipeline pipeline = new ImageUploadPipeline(failing,
+                new ImageVariantGenerator(Runnable::run, MAX_PIXELS), callback, Runnable::run,
+                tempDir.resolve("spool").toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1600, 800, BufferedImage.TYPE_INT_RGB), "png", out);
+        MockMultipartFile file = new MockMultipartFile("file", "test.png", "image/png", out.toByteArray());
+
+        // when
+        SpooledFile spooledFile = pipeline.spool(file);
+        String key = pipeline.createKey(spooledFile);
+        pipeline.uploadAfterCommit(1L, key, spooledFile);
+
+        // then
+        verify(callback).onComplete(eq(1L), eq(key), eq(objectStorage.getUrl(key)), eq(Map.of(
+                ImageVariant.MEDIUM, objectStorage.getUrl(ImageVariant.MEDIUM.keyOf(key)))));
+        verify(callback, never()).onFailure(anyLong(), anyString());
+    }
+}
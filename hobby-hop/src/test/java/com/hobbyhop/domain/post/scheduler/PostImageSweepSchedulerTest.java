@@ -0,0 +1,83 @@
+package com.hobbyhop.domain.post.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.post.enums.ImageStatus;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import com.hobbyhop.domain.post.s3.ImageUploadPipeline;
+import com.hobbyhop.domain.post.s3.PostImageUploadCallback;
+import java.sql.Timestamp;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[PostImageSweep]")
+class PostImageSweepSchedulerTest {
+
+    @InjectMocks
+    private PostImageSweepScheduler sut;
+
+    @Mock
+    private ImageUploadPipeline imageUploadPipeline;
+    @Mock
+    private PostImageUploadCallback callback;
+    @Mock
+    private PostRepository postRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sut, "pendingTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(sut, "sweepBatchSize", 10);
+    }
+
+    @DisplayName("[Rejected] 거절된 업로드를 실패로 표시하고, 하나가 실패해도 나머지를 계속한다")
+    @Test
+    void sweepRejected_실패_표시() {
+        // Given
+        given(imageUploadPipeline.drainRejected()).willReturn(List.of(
+                new ImageUploadPipeline.RejectedUpload(1L, "key1"),
+                new ImageUploadPipeline.RejectedUpload(2L, "key2")));
+        willThrow(new IllegalStateException()).given(callback).onFailure(1L, "key1");
+
+        // When
+        sut.sweepRejected();
+
+        // Then
+        verify(callback).onFailure(2L, "key2");
+    }
+
+    @DisplayName("[Stale] 제한 시간이 지나도록 업로드 중인 게시글을 같은 기준 시각으로 실패 처리한다")
+    @Test
+    void sweepStale_오래된_업로드() {
+        // Given
+        given(postRepository.findIdsByImageStatusBefore(eq(ImageStatus.PENDING), any(), any()))
+                .willReturn(List.of(1L, 2L));
+        long now = System.currentTimeMillis();
+
+        // When
+        sut.sweepStale();
+
+        // Then
+        ArgumentCaptor<Timestamp> before = ArgumentCaptor.forClass(Timestamp.class);
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(postRepository).findIdsByImageStatusBefore(eq(ImageStatus.PENDING), before.capture(), page.capture());
+        assertThat(before.getValue().getTime()).isBetween(now - 61_000, now - 59_000);
+        assertThat(page.getValue().getPageSize()).isEqualTo(10);
+        verify(callback).onTimeout(1L, before.getValue());
+        verify(callback).onTimeout(2L, before.getValue());
+    }
+}
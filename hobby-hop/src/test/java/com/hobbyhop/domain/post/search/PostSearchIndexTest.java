@@ -0,0 +1,72 @@
+package com.hobbyhop.domain.post.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[PostSearch]")
+class PostSearchIndexTest {
+
+    private static final Long CLUB_ID = 1L;
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex();
+        index.beginRebuild();
+        index.finishRebuild();
+    }
+
+    @Test
+    @DisplayName("한글 단어를 bigram 으로 자른다")
+    void bigram_토큰화() {
+        assertThat(BigramTokenizer.tokenize("등산 모임, A"))
+                .containsExactly("등산", "모임", "a");
+    }
+
+    @Test
+    @DisplayName("제목에 검색어가 있는 글이 본문에만 있는 글보다 앞선다")
+    void 제목_가중치() {
+        index.index(CLUB_ID, 1L, "주말 일정", "이번 주말 등산 갑니다");
+        index.index(CLUB_ID, 2L, "등산 후기", "다녀왔습니다");
+        index.index(CLUB_ID, 3L, "자유 글", "아무 내용");
+
+        PostSearchResult result = index.search(CLUB_ID, "등산", 0, 10);
+
+        assertThat(result.postIds()).containsExactly(2L, 1L);
+        assertThat(result.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수정, 삭제가 색인에 반영된다")
+    void 수정_삭제_반영() {
+        index.index(CLUB_ID, 1L, "등산 모임", "");
+        index.index(CLUB_ID, 1L, "낚시 모임", "");
+
+        assertThat(index.search(CLUB_ID, "등산", 0, 10).postIds()).isEmpty();
+        assertThat(index.search(CLUB_ID, "낚시", 0, 10).postIds()).containsExactly(1L);
+
+        index.remove(CLUB_ID, 1L);
+
+        assertThat(index.search(CLUB_ID, "낚시", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("재색인은 이벤트로 반영된 최신 내용이나 삭제를 되돌리지 않는다")
+    void 재색인_중_변경() {
+        PostSearchIndex rebuilding = new PostSearchIndex();
+        rebuilding.beginRebuild();
+        rebuilding.index(CLUB_ID, 1L, "낚시 모임", "");
+        rebuilding.remove(CLUB_ID, 2L);
+
+        rebuilding.rebuild(new PostSearchDocument(1L, CLUB_ID, "등산 모임", ""));
+        rebuilding.rebuild(new PostSearchDocument(2L, CLUB_ID, "등산 모임", ""));
+        rebuilding.finishRebuild();
+
+        assertThat(rebuilding.search(CLUB_ID, "등산", 0, 10).postIds()).isEmpty();
+        assertThat(rebuilding.search(CLUB_ID, "낚시", 0, 10).postIds()).containsExactly(1L);
+    }
+}
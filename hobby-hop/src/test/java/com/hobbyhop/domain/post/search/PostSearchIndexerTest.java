@@ -0,0 +1,108 @@
+package com.hobbyhop.domain.post.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.post.event.PostSavedEvent;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[PostSearchIndexer]")
+class PostSearchIndexerTest {
+
+    private static final Long CLUB_ID = 1L;
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    private PostSearchIndex index;
+    private PostSearchIndexer sut;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex();
+        sut = new PostSearchIndexer(index, postRepository, redisTemplate, new SyncTaskExecutor());
+        ReflectionTestUtils.setField(sut, "rebuildBatchSize", 2);
+        ReflectionTestUtils.setField(sut, "pubsubEnabled", true);
+    }
+
+    @DisplayName("[Rebuild] 시작할 때 나눠 읽어 색인을 만든다")
+    @Test
+    void rebuild_배치_재생성() {
+        // Given
+        given(postRepository.findSearchDocumentsAfter(0L, 2)).willReturn(List.of(
+                new PostSearchDocument(1L, CLUB_ID, "등산 모임", ""),
+                new PostSearchDocument(2L, CLUB_ID, "낚시 모임", "")));
+        given(postRepository.findSearchDocumentsAfter(2L, 2)).willReturn(List.of(
+                new PostSearchDocument(3L, CLUB_ID, "등산 후기", "")));
+
+        // When
+        sut.rebuildInBackground();
+
+        // Then
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search(CLUB_ID, "등산", 0, 10).postIds()).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @DisplayName("[Save] 로컬 색인에 넣고 다른 서버에 알린다")
+    @Test
+    void save_변경_알림() {
+        // Given
+        finishEmptyRebuild();
+
+        // When
+        sut.onPostSaved(new PostSavedEvent(CLUB_ID, 1L, "등산 모임", ""));
+
+        // Then
+        assertThat(index.search(CLUB_ID, "등산", 0, 10).postIds()).containsExactly(1L);
+        verify(redisTemplate).convertAndSend(PostSearchIndexer.POST_CHANNEL, CLUB_ID + ":1");
+    }
+
+    @DisplayName("[Remote] 다른 서버에서 저장된 게시글은 DB 에서 읽어 색인한다")
+    @Test
+    void remote_저장_반영() {
+        // Given
+        finishEmptyRebuild();
+        given(postRepository.findSearchDocument(1L))
+                .willReturn(Optional.of(new PostSearchDocument(1L, CLUB_ID, "등산 모임", "")));
+
+        // When
+        sut.onRemotePostChanged(CLUB_ID + ":1");
+
+        // Then
+        assertThat(index.search(CLUB_ID, "등산", 0, 10).postIds()).containsExactly(1L);
+    }
+
+    @DisplayName("[Remote] 다른 서버에서 삭제된 게시글은 색인에서 지운다")
+    @Test
+    void remote_삭제_반영() {
+        // Given
+        finishEmptyRebuild();
+        index.index(CLUB_ID, 1L, "등산 모임", "");
+        given(postRepository.findSearchDocument(1L)).willReturn(Optional.empty());
+
+        // When
+        sut.onRemotePostChanged(CLUB_ID + ":1");
+
+        // Then
+        assertThat(index.search(CLUB_ID, "등산", 0, 10).postIds()).isEmpty();
+    }
+
+    private void finishEmptyRebuild() {
+        index.beginRebuild();
+        index.finishRebuild();
+    }
+}
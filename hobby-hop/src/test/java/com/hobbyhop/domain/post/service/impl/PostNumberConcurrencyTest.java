@@ -0,0 +1,185 @@
+package com.hobbyhop.domain.post.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+import com.hobbyhop.domain.cascadedelete.service.CascadeDeleteService;
+import com.hobbyhop.domain.category.cache.CategorySnapshot;
+import com.hobbyhop.domain.category.entity.Category;
+import com.hobbyhop.domain.category.service.CategoryService;
+import com.hobbyhop.domain.club.cache.ClubSnapshotCache;
+import com.hobbyhop.domain.club.cache.MyClubsCache;
+import com.hobbyhop.domain.club.dto.ClubModifyDTO;
+import com.hobbyhop.domain.club.entity.Club;
+import com.hobbyhop.domain.club.search.ClubAutocompleteIndex;
+import com.hobbyhop.domain.club.service.impl.ClubServiceImpl;
+import com.hobbyhop.domain.clubmember.enums.MemberRole;
+import com.hobbyhop.domain.clubmember.service.ClubMemberService;
+import com.hobbyhop.domain.post.cache.PostDetailCache;
+import com.hobbyhop.domain.post.dto.PostRequestDTO;
+import com.hobbyhop.domain.post.s3.ImageUploadPipeline;
+import com.hobbyhop.domain.post.search.PostSearchIndex;
+import com.hobbyhop.domain.post.service.PostService;
+import com.hobbyhop.domain.postuser.service.PostUserService;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.enums.UserRoleEnum;
+import com.hobbyhop.global.config.JpaConfig;
+import com.hobbyhop.global.security.access.AccessContextResolver;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 여러 스레드가 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 @AfterEach 에서 직접 지운다.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, ClubServiceImpl.class, PostServiceImpl.class})
+@DisplayName("[PostNumber]")
+class PostNumberConcurrencyTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private ClubServiceImpl clubService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ClubMemberService clubMemberService;
+    @MockBean
+    private CategoryService categoryService;
+    @MockBean
+    private CascadeDeleteService cascadeDeleteService;
+    @MockBean
+    private ClubAutocompleteIndex clubAutocompleteIndex;
+    @MockBean
+    private ClubSnapshotCache clubSnapshotCache;
+    @MockBean
+    private MyClubsCache myClubsCache;
+    @MockBean
+    private PostUserService postUserService;
+    @MockBean
+    private ImageUploadPipeline imageUploadPipeline;
+    @MockBean
+    private AccessContextResolver accessContextResolver;
+    @MockBean
+    private PostSearchIndex postSearchIndex;
+    @MockBean
+    private PostDetailCache postDetailCache;
+
+    private Long clubId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Category category = Category.builder().categoryName("category").build();
+            em.persist(category);
+            Club club = Club.builder().title("club").content("content").category(category).build();
+            em.persist(club);
+            user = User.builder().username("writer").email("writer@test.com").password("password")
+                    .role(UserRoleEnum.USER).build();
+            em.persist(user);
+            clubId = club.getId();
+            given(categoryService.getCategorySnapshot(category.getId()))
+                    .willReturn(new CategorySnapshot(category.getId(), "category", null));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM post");
+        jdbcTemplate.update("DELETE FROM club");
+        jdbcTemplate.update("DELETE FROM category");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @DisplayName("[Modify] 모임을 읽은 뒤 게시글이 작성되어도 모임 수정이 게시글 번호를 되돌리지 않는다")
+    @Test
+    void modifyClub_사이에_makePost() throws Exception {
+        // Given : 모임 수정이 모임을 읽은 상태에서 멈춘다.
+        CountDownLatch clubLoaded = new CountDownLatch(1);
+        CountDownLatch postCreated = new CountDownLatch(1);
+        given(clubMemberService.getMemberRole(anyLong(), any())).willAnswer(invocation -> {
+            clubLoaded.countDown();
+            postCreated.await(5, TimeUnit.SECONDS);
+            return MemberRole.ADMIN;
+        });
+        postService.makePost(user, clubId, request());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> modify = executor.submit(() ->
+                clubService.modifyClub(clubId, ClubModifyDTO.builder().title("changed").build(), user));
+
+        // When
+        clubLoaded.await(5, TimeUnit.SECONDS);
+        postService.makePost(user, clubId, request());
+        postCreated.countDown();
+        modify.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        postService.makePost(user, clubId, request());
+
+        // Then
+        assertThat(postNumbers()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("[Concurrent] 게시글 작성과 모임 수정이 동시에 일어나도 게시글 번호는 겹치지 않는다")
+    @Test
+    void makePost_동시() throws Exception {
+        // Given
+        given(clubMemberService.getMemberRole(anyLong(), any())).willReturn(MemberRole.ADMIN);
+        int posts = 30;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < posts; i++) {
+            futures.add(executor.submit(() -> postService.makePost(user, clubId, request())));
+            if (i % 3 == 0) {
+                String title = "club-" + i;
+                futures.add(executor.submit(() ->
+                        clubService.modifyClub(clubId, ClubModifyDTO.builder().title(title).build(), user)));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        List<Long> numbers = postNumbers();
+        assertThat(numbers).hasSize(posts).doesNotHaveDuplicates();
+        assertThat(numbers.get(numbers.size() - 1)).isEqualTo(posts);
+    }
+
+    private PostRequestDTO request() {
+        return PostRequestDTO.builder().postTitle("title").postContent("content").build();
+    }
+
+    private List<Long> postNumbers() {
+        return jdbcTemplate.queryForList("SELECT post_number FROM post WHERE club_id = ? ORDER BY post_number",
+                Long.class, clubId);
+    }
+}
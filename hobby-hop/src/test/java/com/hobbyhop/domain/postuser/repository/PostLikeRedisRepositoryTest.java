@@ -0,0 +1,235 @@
+package com.hobbyhop.domain.postuser.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hobbyhop.test.RedisTestServer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[PostLikeRedis]")
+class PostLikeRedisRepositoryTest {
+
+    private static final Long POST_ID = 1L;
+    private static final long LEASE_MS = 60_000;
+    private static final long TTL_MS = 600_000;
+
+    private static RedisTestServer redis;
+    private PostLikeRedisRepository sut;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = RedisTestServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        sut = new PostLikeRedisRepository(redis.template(), TTL_MS);
+        sut.load(POST_ID, List.of(10L, 11L));
+    }
+
+    @DisplayName("[Toggle] 좋아요와 취소가 집합, 카운터, 변경분을 함께 바꾼다")
+    @Test
+    void toggle_좋아요_취소() {
+        // When
+        boolean liked = sut.toggle(POST_ID, 12L);
+        boolean unliked = sut.toggle(POST_ID, 10L);
+
+        // Then
+        assertThat(liked).isTrue();
+        assertThat(unliked).isFalse();
+        assertThat(sut.getCount(POST_ID)).isEqualTo(2L);
+        assertThat(sut.isLiked(POST_ID, 12L)).isTrue();
+        assertThat(sut.isLiked(POST_ID, 10L)).isFalse();
+        assertThat(sut.claimDirtyPosts(10, LEASE_MS)).containsExactly(POST_ID);
+        assertThat(sut.drainChanges(POST_ID)).containsExactlyInAnyOrderEntriesOf(Map.of(12L, true, 10L, false));
+    }
+
+    @DisplayName("[Load] 이미 초기화된 게시글은 DB 목록으로 덮어쓰지 않는다")
+    @Test
+    void load_중복() {
+        // Given
+        sut.toggle(POST_ID, 12L);
+
+        // When
+        sut.load(POST_ID, List.of());
+
+        // Then
+        assertThat(sut.getCount(POST_ID)).isEqualTo(3L);
+    }
+
+    @DisplayName("[Flush] 반영 중인 게시글은 커밋 후 release 전까지 reset 하지 않는다")
+    @Test
+    void reset_반영중() {
+        // Given
+        sut.toggle(POST_ID, 12L);
+        long epoch = sut.getFlushEpoch(POST_ID);
+        sut.claimDirtyPosts(10, LEASE_MS);
+        sut.drainChanges(POST_ID);
+
+        // When : 커밋 전 DB 에는 10, 11 만 있다.
+        long beforeRelease = sut.reset(POST_ID, sut.getFlushEpoch(POST_ID), List.of(10L, 11L));
+        sut.release(POST_ID);
+        long staleEpoch = sut.reset(POST_ID, epoch, List.of(10L, 11L));
+
+        // Then
+        assertThat(beforeRelease).isEqualTo(-1);
+        assertThat(staleEpoch).isEqualTo(-1);
+        assertThat(sut.getCount(POST_ID)).isEqualTo(3L);
+        assertThat(sut.isLiked(POST_ID, 12L)).isTrue();
+    }
+
+    @DisplayName("[Reconcile] 대기, 반영 중인 변경분이 없으면 DB 기준으로 집합과 카운터를 맞춘다")
+    @Test
+    void reset_보정() {
+        // Given
+        sut.toggle(POST_ID, 12L);
+        sut.claimDirtyPosts(10, LEASE_MS);
+        sut.drainChanges(POST_ID);
+        sut.release(POST_ID);
+        long epoch = sut.getFlushEpoch(POST_ID);
+
+        // When
+        long matched = sut.reset(POST_ID, epoch, List.of(10L, 11L, 12L));
+        long corrected = sut.reset(POST_ID, epoch, List.of(10L));
+
+        // Then
+        assertThat(matched).isZero();
+        assertThat(corrected).isEqualTo(1);
+        assertThat(sut.getCount(POST_ID)).isEqualTo(1L);
+        assertThat(sut.isLiked(POST_ID, 12L)).isFalse();
+    }
+
+    @DisplayName("[Reconcile] 반영 대기 중인 게시글은 reset 하지 않는다")
+    @Test
+    void reset_대기중() {
+        // Given
+        sut.toggle(POST_ID, 12L);
+
+        // When
+        long result = sut.reset(POST_ID, sut.getFlushEpoch(POST_ID), List.of(10L, 11L));
+
+        // Then
+        assertThat(result).isEqualTo(-1);
+        assertThat(sut.getCount(POST_ID)).isEqualTo(3L);
+    }
+
+    @DisplayName("[Restore] 실패한 변경분을 되돌리되 그 사이의 새 토글은 덮어쓰지 않는다")
+    @Test
+    void restoreChanges_새토글_유지() {
+        // Given
+        sut.toggle(POST_ID, 12L);
+        sut.claimDirtyPosts(10, LEASE_MS);
+        Map<Long, Boolean> changes = sut.drainChanges(POST_ID);
+        sut.toggle(POST_ID, 12L);
+
+        // When
+        sut.restoreChanges(POST_ID, changes);
+
+        // Then
+        assertThat(sut.reset(POST_ID, sut.getFlushEpoch(POST_ID), List.of(10L, 11L))).isEqualTo(-1);
+        assertThat(sut.claimDirtyPosts(10, LEASE_MS)).containsExactly(POST_ID);
+        assertThat(sut.drainChanges(POST_ID)).containsExactlyEntriesOf(Map.of(12L, false));
+    }
+
+    @DisplayName("[TTL] 반영 대기 중에는 TTL 을 떼고, 반영이 커밋되면 다시 붙인다")
+    @Test
+    void ttl_반영_전후() {
+        // Given
+        assertThat(ttl("users")).isPositive();
+        assertThat(ttl("cnt")).isPositive();
+
+        // When
+        sut.toggle(POST_ID, 12L);
+        long pendingUsers = ttl("users");
+        long pendingCount = ttl("cnt");
+        sut.claimDirtyPosts(10, LEASE_MS);
+        sut.drainChanges(POST_ID);
+        sut.release(POST_ID);
+
+        // Then
+        assertThat(pendingUsers).isEqualTo(-1);
+        assertThat(pendingCount).isEqualTo(-1);
+        assertThat(ttl("users")).isPositive();
+        assertThat(ttl("cnt")).isPositive();
+        assertThat(ttl("epoch")).isPositive();
+    }
+
+    @DisplayName("[TTL] 반영하는 동안 새 토글이 들어오면 release 후에도 TTL 을 붙이지 않는다")
+    @Test
+    void ttl_반영중_새토글() {
+        // Given
+        sut.toggle(POST_ID, 12L);
+        sut.claimDirtyPosts(10, LEASE_MS);
+        sut.drainChanges(POST_ID);
+        sut.toggle(POST_ID, 13L);
+
+        // When
+        sut.release(POST_ID);
+
+        // Then
+        assertThat(ttl("users")).isEqualTo(-1);
+        assertThat(ttl("cnt")).isEqualTo(-1);
+    }
+
+    @DisplayName("[TTL] 조회하면 TTL 을 연장한다")
+    @Test
+    void ttl_조회_연장() {
+        // Given
+        redis.template().expire("post:like:" + POST_ID + ":users", 1, TimeUnit.SECONDS);
+        redis.template().expire("post:like:" + POST_ID + ":cnt", 1, TimeUnit.SECONDS);
+
+        // When
+        Long count = sut.getCount(POST_ID);
+
+        // Then
+        assertThat(count).isEqualTo(2L);
+        assertThat(ttl("users")).isGreaterThan(1_000);
+        assertThat(ttl("cnt")).isGreaterThan(1_000);
+    }
+
+    @DisplayName("[TTL] 지워진 게시글은 토글하지 않고 null 을 돌려준다")
+    @Test
+    void toggle_만료() {
+        // Given
+        redis.template().delete(List.of("post:like:" + POST_ID + ":users", "post:like:" + POST_ID + ":cnt"));
+
+        // When
+        Boolean result = sut.toggle(POST_ID, 12L);
+
+        // Then
+        assertThat(result).isNull();
+        assertThat(sut.getCount(POST_ID)).isNull();
+        assertThat(sut.getCounts(List.of(POST_ID))).isEmpty();
+    }
+
+    @DisplayName("[Reconcile] TTL 이 지나 지워진 게시글은 추적 목록에서 뺀다")
+    @Test
+    void sampleTrackedPosts_정리() {
+        // Given
+        sut.load(2L, List.of(10L));
+        redis.template().delete("post:like:" + POST_ID + ":cnt");
+
+        // When
+        List<Long> sampled = sut.sampleTrackedPosts(10);
+
+        // Then
+        assertThat(sampled).containsExactly(2L);
+        assertThat(redis.template().opsForSet().members("post:like:tracked-posts")).containsExactly("2");
+    }
+
+    private long ttl(String suffix) {
+        return redis.template().getExpire("post:like:" + POST_ID + ":" + suffix, TimeUnit.MILLISECONDS);
+    }
+}
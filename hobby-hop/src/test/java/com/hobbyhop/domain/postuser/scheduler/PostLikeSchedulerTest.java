@@ -0,0 +1,86 @@
+package com.hobbyhop.domain.postuser.scheduler;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.postuser.repository.PostLikeRedisRepository;
+import com.hobbyhop.domain.postuser.service.PostUserService;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[PostLikeScheduler]")
+class PostLikeSchedulerTest {
+
+    @InjectMocks
+    private PostLikeScheduler sut;
+
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+    @Mock
+    private PostUserService postUserService;
+
+    @DisplayName("[Flush] DB 반영이 끝난 뒤에 반영 중 표시를 푼다")
+    @Test
+    void flush_커밋후_release() {
+        // Given
+        Map<Long, Boolean> changes = Map.of(10L, true);
+        given(postLikeRedisRepository.claimDirtyPosts(anyLong(), anyLong())).willReturn(List.of(1L));
+        given(postLikeRedisRepository.drainChanges(1L)).willReturn(changes);
+
+        // When
+        sut.flush();
+
+        // Then
+        InOrder inOrder = inOrder(postLikeRedisRepository, postUserService);
+        inOrder.verify(postLikeRedisRepository).drainChanges(1L);
+        inOrder.verify(postUserService).applyLikes(1L, changes);
+        inOrder.verify(postLikeRedisRepository).release(1L);
+    }
+
+    @DisplayName("[Flush] 반영에 실패하면 변경분을 되돌리고 다음 게시글을 계속 반영한다")
+    @Test
+    void flush_실패() {
+        // Given
+        Map<Long, Boolean> failed = Map.of(10L, true);
+        Map<Long, Boolean> next = Map.of(11L, false);
+        given(postLikeRedisRepository.claimDirtyPosts(anyLong(), anyLong())).willReturn(List.of(1L, 2L));
+        given(postLikeRedisRepository.drainChanges(1L)).willReturn(failed);
+        given(postLikeRedisRepository.drainChanges(2L)).willReturn(next);
+        willThrow(new IllegalStateException()).given(postUserService).applyLikes(1L, failed);
+
+        // When
+        sut.flush();
+
+        // Then
+        verify(postLikeRedisRepository).restoreChanges(1L, failed);
+        verify(postLikeRedisRepository, never()).release(1L);
+        verify(postUserService).applyLikes(2L, next);
+        verify(postLikeRedisRepository).release(2L);
+    }
+
+    @DisplayName("[Reconcile] 한 게시글의 보정이 실패해도 나머지를 보정한다")
+    @Test
+    void reconcile_실패_계속() {
+        // Given
+        given(postLikeRedisRepository.sampleTrackedPosts(anyLong())).willReturn(List.of(1L, 2L));
+        willThrow(new IllegalStateException()).given(postUserService).reconcileLikes(1L);
+
+        // When
+        sut.reconcile();
+
+        // Then
+        verify(postUserService).reconcileLikes(2L);
+    }
+}
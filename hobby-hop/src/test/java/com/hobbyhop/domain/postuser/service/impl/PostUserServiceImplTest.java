@@ -0,0 +1,130 @@
+package com.hobbyhop.domain.postuser.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.post.entity.Post;
+import com.hobbyhop.domain.post.repository.PostRepository;
+import com.hobbyhop.domain.postuser.entity.PostUser;
+import com.hobbyhop.domain.postuser.repository.PostLikeRedisRepository;
+import com.hobbyhop.domain.postuser.repository.PostUserRepository;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.repository.UserRepository;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[PostUser]")
+class PostUserServiceImplTest {
+
+    private static final Long POST_ID = 1L;
+
+    @InjectMocks
+    private PostUserServiceImpl sut;
+
+    @Mock
+    private PostUserRepository postUserRepository;
+    @Mock
+    private PostLikeRedisRepository postLikeRedisRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    @DisplayName("[Apply] 변경분을 post_user 에 반영하고 순증감만 like_cnt 에 더한다")
+    @Test
+    void applyLikes_순증감() {
+        // Given
+        Post post = Post.builder().id(POST_ID).build();
+        User liked = User.builder().id(10L).build();
+        PostUser alreadyLiked = PostUser.PostUserBuilder(liked, post);
+        alreadyLiked.updateLike();
+
+        Map<Long, Boolean> changes = new LinkedHashMap<>();
+        changes.put(10L, false);
+        changes.put(11L, true);
+        changes.put(12L, true);
+        changes.put(13L, false);
+        given(postUserRepository.findAllByPostIdAndUserIds(POST_ID, changes.keySet())).willReturn(List.of(alreadyLiked));
+        given(postRepository.getReferenceById(POST_ID)).willReturn(post);
+        given(userRepository.getReferenceById(11L)).willReturn(User.builder().id(11L).build());
+        given(userRepository.getReferenceById(12L)).willReturn(User.builder().id(12L).build());
+
+        // When
+        sut.applyLikes(POST_ID, changes);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostUser>> created = ArgumentCaptor.forClass(List.class);
+        verify(postUserRepository).saveAll(created.capture());
+        assertThat(created.getValue()).extracting(PostUser::getIsLiked).containsExactly(true, true);
+        assertThat(alreadyLiked.getIsLiked()).isFalse();
+        verify(postRepository).addLikeCnt(POST_ID, 1L);
+    }
+
+    @DisplayName("[Like] 지워진 게시글은 DB 목록으로 채운 뒤 다시 토글한다")
+    @Test
+    void postUser_만료_재적재() {
+        // Given
+        Post post = Post.builder().id(POST_ID).build();
+        User user = User.builder().id(10L).build();
+        given(postLikeRedisRepository.toggle(POST_ID, 10L)).willReturn(null, true);
+        given(postUserRepository.findLikedUserIds(POST_ID)).willReturn(List.of(11L));
+
+        // When
+        boolean liked = sut.postUser(user, post);
+
+        // Then
+        assertThat(liked).isTrue();
+        InOrder inOrder = inOrder(postLikeRedisRepository);
+        inOrder.verify(postLikeRedisRepository).toggle(POST_ID, 10L);
+        inOrder.verify(postLikeRedisRepository).load(POST_ID, List.of(11L));
+        inOrder.verify(postLikeRedisRepository).toggle(POST_ID, 10L);
+    }
+
+    @DisplayName("[Reconcile] DB 를 읽기 전에 epoch 를 읽고 reset 에 넘긴다")
+    @Test
+    void reconcileLikes_epoch() {
+        // Given
+        given(postLikeRedisRepository.getFlushEpoch(POST_ID)).willReturn(7L);
+        given(postUserRepository.findLikedUserIds(POST_ID)).willReturn(List.of(10L));
+        given(postLikeRedisRepository.reset(POST_ID, 7L, List.of(10L))).willReturn(1L);
+
+        // When
+        sut.reconcileLikes(POST_ID);
+
+        // Then
+        InOrder inOrder = inOrder(postLikeRedisRepository, postUserRepository, postRepository);
+        inOrder.verify(postLikeRedisRepository).getFlushEpoch(POST_ID);
+        inOrder.verify(postUserRepository).findLikedUserIds(POST_ID);
+        inOrder.verify(postLikeRedisRepository).reset(POST_ID, 7L, List.of(10L));
+        inOrder.verify(postRepository).syncLikeCnt(POST_ID);
+    }
+
+    @DisplayName("[Reconcile] 반영 대기, 반영 중이면 like_cnt 를 다시 세지 않는다")
+    @Test
+    void reconcileLikes_반영중() {
+        // Given
+        given(postLikeRedisRepository.getFlushEpoch(POST_ID)).willReturn(7L);
+        given(postUserRepository.findLikedUserIds(POST_ID)).willReturn(List.of());
+        given(postLikeRedisRepository.reset(POST_ID, 7L, List.of())).willReturn(-1L);
+
+        // When
+        sut.reconcileLikes(POST_ID);
+
+        // Then
+        verify(postRepository, never()).syncLikeCnt(POST_ID);
+    }
+}
@@ -0,0 +1,64 @@
+package com.hobbyhop.domain.user.kakao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[CircuitBreaker]")
+class CircuitBreakerTest {
+
+    @DisplayName("[Open] 연속 실패가 기준을 넘으면 호출을 막는다")
+    @Test
+    void circuitBreaker_열림() {
+        // Given
+        CircuitBreaker sut = new CircuitBreaker(3, 60_000);
+
+        // When
+        sut.onFailure();
+        sut.onFailure();
+        boolean beforeOpen = sut.tryAcquire();
+        sut.onFailure();
+
+        // Then
+        assertThat(beforeOpen).isTrue();
+        assertThat(sut.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(sut.tryAcquire()).isFalse();
+    }
+
+    @DisplayName("[HalfOpen] 열린 시간이 지나면 한 요청만 시험하고 성공하면 닫는다")
+    @Test
+    void circuitBreaker_반열림_후_닫힘() throws InterruptedException {
+        // Given
+        CircuitBreaker sut = new CircuitBreaker(1, 10);
+        sut.onFailure();
+        Thread.sleep(20);
+
+        // When
+        boolean trial = sut.tryAcquire();
+        boolean concurrent = sut.tryAcquire();
+        sut.onSuccess();
+
+        // Then
+        assertThat(trial).isTrue();
+        assertThat(concurrent).isFalse();
+        assertThat(sut.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("[HalfOpen] 시험 요청이 실패하면 다시 연다")
+    @Test
+    void circuitBreaker_반열림_후_다시_열림() throws InterruptedException {
+        // Given
+        CircuitBreaker sut = new CircuitBreaker(1, 50);
+        sut.onFailure();
+        Thread.sleep(60);
+        sut.tryAcquire();
+
+        // When
+        sut.onFailure();
+
+        // Then
+        assertThat(sut.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(sut.tryAcquire()).isFalse();
+    }
+}
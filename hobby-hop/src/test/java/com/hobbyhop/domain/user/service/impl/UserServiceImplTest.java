@@ -0,0 +1,91 @@
+package com.hobbyhop.domain.user.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.domain.user.dto.SignupRequestDTO;
+import com.hobbyhop.domain.user.entity.User;
+import com.hobbyhop.domain.user.repository.UserRepository;
+import com.hobbyhop.domain.user.signup.SignupConflict;
+import com.hobbyhop.domain.user.signup.SignupIdentifierFilter;
+import com.hobbyhop.global.exception.user.AlreadyExistEmailException;
+import com.hobbyhop.global.exception.user.DuplicateEntryException;
+import com.hobbyhop.global.exception.user.NotAvailableUsernameException;
+import com.hobbyhop.global.security.password.PasswordHashingService;
+import com.hobbyhop.test.UserTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[UserService]")
+class UserServiceImplTest implements UserTest {
+
+    @InjectMocks
+    private UserServiceImpl sut;
+    @Mock
+    private PasswordHashingService passwordHashingService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private SignupIdentifierFilter signupIdentifierFilter;
+
+    private SignupRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        request = new SignupRequestDTO();
+        request.setUsername(TEST_USER_NAME);
+        request.setEmail(TEST_USER_EMAIL);
+        request.setPassword(TEST_USER_PASSWORD);
+        request.setConfirmPassword(TEST_USER_CONFIRM_PASSWORD);
+
+        // 다른 서버에서 방금 가입해 이 서버의 필터는 모르는 값
+        given(signupIdentifierFilter.mightExist(TEST_USER_NAME, TEST_USER_EMAIL)).willReturn(false);
+        given(passwordHashingService.encode(TEST_USER_PASSWORD)).willReturn("hashed");
+        given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate"));
+    }
+
+    @DisplayName("[Signup] 필터가 모르는 email 로 unique 제약에 걸리면 이미 있는 email 이라고 알린다")
+    @Test
+    void signup_다른_서버_email_중복() {
+        // Given
+        given(userRepository.findSignupConflict(TEST_USER_NAME, TEST_USER_EMAIL))
+                .willReturn(SignupConflict.EMAIL_IN_USE);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.signup(request)).isInstanceOf(AlreadyExistEmailException.class);
+        verify(signupIdentifierFilter).add(TEST_USER_NAME, TEST_USER_EMAIL);
+    }
+
+    @DisplayName("[Signup] 필터가 모르는 탈퇴 회원 username 이면 쓸 수 없는 username 이라고 알린다")
+    @Test
+    void signup_다른_서버_탈퇴_username() {
+        // Given
+        given(userRepository.findSignupConflict(TEST_USER_NAME, TEST_USER_EMAIL))
+                .willReturn(SignupConflict.USERNAME_WITHDRAWN);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.signup(request)).isInstanceOf(NotAvailableUsernameException.class);
+    }
+
+    @DisplayName("[Signup] 겹치는 값을 찾지 못하면 중복 오류로 알린다")
+    @Test
+    void signup_원인_불명_중복() {
+        // Given
+        given(userRepository.findSignupConflict(TEST_USER_NAME, TEST_USER_EMAIL))
+                .willReturn(SignupConflict.NONE);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.signup(request)).isInstanceOf(DuplicateEntryException.class);
+        verify(signupIdentifierFilter, never()).add(TEST_USER_NAME, TEST_USER_EMAIL);
+    }
+}
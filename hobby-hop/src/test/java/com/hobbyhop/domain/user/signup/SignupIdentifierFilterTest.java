@@ -0,0 +1,95 @@
+package com.hobbyhop.domain.user.signup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.hobbyhop.domain.user.repository.UserRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[SignupIdentifierFilter]")
+class SignupIdentifierFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+    private SignupIdentifierFilter sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SignupIdentifierFilter(userRepository, 1000, 0.01, 2);
+    }
+
+    @DisplayName("[Seed] 적재 전에는 모든 값을 DB 에서 확인한다")
+    @Test
+    void signupFilter_적재_전() {
+        assertThat(sut.mightExist("new-user", "new@test.com")).isTrue();
+        assertThat(sut.stats().ready()).isFalse();
+    }
+
+    @DisplayName("[Seed] 탈퇴한 회원을 포함해 적재한 값은 있을 수도 있다고 답한다")
+    @Test
+    void signupFilter_적재_후_조회() {
+        // Given
+        given(userRepository.findIdentifiersAfter(0L, 2)).willReturn(List.of(
+                new UserIdentifier(1L, "user1", "user1@test.com"),
+                new UserIdentifier(2L, "withdrawn", "withdrawn@test.com")));
+        given(userRepository.findIdentifiersAfter(2L, 2)).willReturn(List.of(
+                new UserIdentifier(3L, "user3", "user3@test.com")));
+
+        // When
+        sut.seed();
+
+        // Then
+        assertThat(sut.mightExist("withdrawn", "other@test.com")).isTrue();
+        assertThat(sut.mightExist("other", "user3@test.com")).isTrue();
+        assertThat(sut.mightExist("new-user", "new@test.com")).isFalse();
+        assertThat(sut.stats().definiteMisses()).isEqualTo(1);
+        assertThat(sut.stats().possibleHits()).isEqualTo(2);
+    }
+
+    @DisplayName("[Stats] DB 에 없던 값은 오탐으로 센다")
+    @Test
+    void signupFilter_오탐_비율() {
+        // Given
+        given(userRepository.findIdentifiersAfter(0L, 2)).willReturn(List.of(new UserIdentifier(1L, "user1", "user1@test.com")));
+        sut.seed();
+
+        // When
+        sut.mightExist("user1", "new@test.com");
+        sut.recordLookup(false);
+        sut.mightExist("new-user", "new@test.com");
+
+        // Then
+        assertThat(sut.stats().falsePositives()).isEqualTo(1);
+        assertThat(sut.stats().observedFalsePositiveRate()).isEqualTo(0.5);
+    }
+
+    @DisplayName("[BloomFilter] 넣은 값은 항상 찾고 오탐은 목표 근처에 머문다")
+    @Test
+    void bloomFilter_오탐_확률() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        // When
+        long falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 10_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFpp()).isLessThan(0.02);
+    }
+}
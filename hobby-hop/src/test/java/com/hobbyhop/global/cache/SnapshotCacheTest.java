@@ -0,0 +1,147 @@
+package com.hobbyhop.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("[SnapshotCache]")
+class SnapshotCacheTest {
+
+    @DisplayName("[Get] 두 번째 조회부터는 loader 를 부르지 않는다")
+    @Test
+    void snapshotCache_조회_적중() {
+        // Given
+        SnapshotCache<Long, String> sut = new SnapshotCache<>("test", 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        sut.get(1L, id -> "club" + loads.incrementAndGet());
+        String result = sut.get(1L, id -> "club" + loads.incrementAndGet()).orElseThrow();
+
+        // Then
+        assertThat(result).isEqualTo("club1");
+        assertThat(sut.stats().hits()).isEqualTo(1);
+        assertThat(sut.stats().hitRatio()).isEqualTo(0.5);
+    }
+
+    @DisplayName("[Evict] 크기 상한을 넘으면 가장 오래 안 쓴 항목을 버린다")
+    @Test
+    void snapshotCache_크기_상한() {
+        // Given
+        SnapshotCache<Long, String> sut = new SnapshotCache<>("test", 2, 60_000);
+        sut.get(1L, String::valueOf);
+        sut.get(2L, String::valueOf);
+        sut.get(1L, String::valueOf);
+
+        // When
+        sut.get(3L, String::valueOf);
+
+        // Then
+        assertThat(sut.stats().size()).isEqualTo(2);
+        assertThat(sut.stats().evictions()).isEqualTo(1);
+        assertThat(sut.get(1L, id -> "reloaded")).contains("1");
+        assertThat(sut.get(2L, id -> "reloaded")).contains("reloaded");
+    }
+
+    @DisplayName("[Evict] 지운 뒤에는 다시 읽고, 없는 값은 캐시하지 않는다")
+    @Test
+    void snapshotCache_무효화() {
+        // Given
+        SnapshotCache<Long, String> sut = new SnapshotCache<>("test", 10, 60_000);
+        sut.get(1L, id -> "old");
+
+        // When
+        sut.evict(1L);
+
+        // Then
+        assertThat(sut.get(1L, id -> "new")).contains("new");
+        assertThat(sut.get(2L, id -> null)).isEmpty();
+        assertThat(sut.stats().invalidations()).isEqualTo(1);
+        assertThat(sut.stats().size()).isEqualTo(1);
+    }
+
+    @DisplayName("[EvictIf] 조건에 맞는 항목만 지운다")
+    @Test
+    void snapshotCache_조건부_무효화() {
+        // Given
+        SnapshotCache<Long, String> sut = new SnapshotCache<>("test", 10, 60_000);
+        sut.get(1L, String::valueOf);
+        sut.get(2L, String::valueOf);
+        sut.get(3L, String::valueOf);
+
+        // When
+        sut.evictIf(id -> id % 2 == 1);
+
+        // Then
+        assertThat(sut.stats().size()).isEqualTo(1);
+        assertThat(sut.stats().invalidations()).isEqualTo(2);
+        assertThat(sut.get(2L, id -> "reloaded")).contains("2");
+    }
+
+    @DisplayName("[Evict] 트랜잭션 안에서 지우면 커밋된 뒤에 한 번 알린다")
+    @Test
+    void snapshotCache_커밋_이후_알림() {
+        // Given
+        List<Long> notified = new ArrayList<>();
+        SnapshotCache<Long, String> sut = new SnapshotCache<>("test", 10, 60_000, notified::add);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            sut.evict(1L);
+            assertThat(notified).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(notified).containsExactly(1L);
+    }
+
+    @DisplayName("[EvictIf] 트랜잭션 안에서 지우면 커밋된 뒤에 한 번 알린다")
+    @Test
+    void snapshotCache_조건부_커밋_이후_알림() {
+        // Given
+        AtomicInteger notified = new AtomicInteger();
+        SnapshotCache<Long, String> sut = new SnapshotCache<>("test", 10, 60_000);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            sut.evictIf(id -> id == 1L, notified::incrementAndGet);
+            assertThat(notified).hasValue(0);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(notified).hasValue(1);
+    }
+
+    @DisplayName("[EvictLocal] 다른 서버의 알림으로 지울 때는 다시 알리지 않는다")
+    @Test
+    void snapshotCache_로컬_무효화() {
+        // Given
+        List<Long> notified = new ArrayList<>();
+        SnapshotCache<Long, String> sut = new SnapshotCache<>("test", 10, 60_000, notified::add);
+        sut.get(1L, id -> "old");
+
+        // When
+        sut.evictLocal(1L);
+        sut.evict(2L);
+
+        // Then
+        assertThat(sut.get(1L, id -> "new")).contains("new");
+        assertThat(notified).containsExactly(2L);
+    }
+}
@@ -0,0 +1,59 @@
+package com.hobbyhop.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+@DisplayName("[SqlCountingDataSource]")
+class SqlCountingDataSourceTest {
+
+    private SqlCountingDataSource sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new SqlCountingDataSource(new DriverManagerDataSource("jdbc:h2:mem:sql_count;DB_CLOSE_DELAY=-1"));
+        new JdbcTemplate(sut).execute("CREATE TABLE IF NOT EXISTS sql_count (id BIGINT PRIMARY KEY)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(sut).execute("DROP TABLE sql_count");
+        SqlStatementCounter.end();
+    }
+
+    @DisplayName("[Count] hibernate 를 거치지 않는 NamedParameterJdbcTemplate 쿼리도 센다")
+    @Test
+    void sqlCountingDataSource_jdbcTemplate_쿼리() {
+        // Given
+        NamedParameterJdbcTemplate jdbcTemplate = new NamedParameterJdbcTemplate(sut);
+
+        // When
+        SqlStatementCounter.begin();
+        jdbcTemplate.update("INSERT INTO sql_count (id) VALUES (:id)", Map.of("id", 1L));
+        jdbcTemplate.queryForList("SELECT id FROM sql_count WHERE id IN (:ids)", Map.of("ids", List.of(1L, 2L)),
+                Long.class);
+        new JdbcTemplate(sut).queryForObject("SELECT COUNT(*) FROM sql_count", Long.class);
+        int statements = SqlStatementCounter.end();
+
+        // Then
+        assertThat(statements).isEqualTo(3);
+    }
+
+    @DisplayName("[Count] begin 으로 감싸지 않은 스레드의 쿼리는 세지 않는다")
+    @Test
+    void sqlCountingDataSource_범위_밖() {
+        // When
+        new JdbcTemplate(sut).queryForObject("SELECT COUNT(*) FROM sql_count", Long.class);
+
+        // Then
+        assertThat(SqlStatementCounter.end()).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hobbyhop.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DisplayName("[SqlStatementMetricsFilter]")
+class SqlStatementMetricsFilterTest {
+
+    @DisplayName("[Count] 요청 안에서 실행된 SQL 수를 URI 패턴별로 기록한다")
+    @Test
+    void sqlStatementMetricsFilter_요청별_SQL_수() throws Exception {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlStatementMetricsFilter sut = new SqlStatementMetricsFilter(registry, 20);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/clubs/1/posts/2");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/clubs/{clubId}/posts/{postId}");
+
+        // When
+        sut.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                SqlStatementCounter.increment();
+                SqlStatementCounter.increment();
+                SqlStatementCounter.increment();
+            }
+        });
+
+        // Then
+        DistributionSummary summary = registry.get(SqlStatementMetricsFilter.SQL_SUMMARY)
+                .tag("uri", "/api/clubs/{clubId}/posts/{postId}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+        assertThat(registry.find(SqlStatementMetricsFilter.N_PLUS_ONE_COUNTER).counter()).isNull();
+        assertThat(SqlStatementCounter.end()).isEqualTo(-1);
+    }
+
+    @DisplayName("[NPlusOne] 기준을 넘은 요청은 N+1 의심으로 센다")
+    @Test
+    void sqlStatementMetricsFilter_기준_초과() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SqlStatementMetricsFilter sut = new SqlStatementMetricsFilter(registry, 2);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/my");
+
+        // When
+        sut.record(request, 3);
+        sut.record(request, 2);
+
+        // Then
+        assertThat(registry.get(SqlStatementMetricsFilter.N_PLUS_ONE_COUNTER)
+                .tag("uri", "UNKNOWN")
+                .counter()
+                .count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,48 @@
+package com.hobbyhop.global.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hobbyhop.global.exception.common.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("[CursorToken]")
+class CursorTokenTest {
+
+    @DisplayName("[Encode] 인코딩한 커서는 같은 id 로 디코딩되고 URL 에 그대로 쓸 수 있다")
+    @Test
+    void encode_decode() {
+        // When
+        String token = CursorToken.encode(Long.MAX_VALUE);
+
+        // Then
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorToken.decode(token)).isEqualTo(Long.MAX_VALUE);
+        assertThat(CursorToken.decode(CursorToken.encode(1L))).isEqualTo(1L);
+    }
+
+    @DisplayName("[Decode] base64 가 아니거나 버전이 없거나 id 가 숫자가 아니면 거절한다")
+    @ParameterizedTest
+    @ValueSource(strings = {"!!!", "", "djE6"})
+    void decode_잘못된_커서(String token) {
+        // When & Then
+        assertThatThrownBy(() -> CursorToken.decode(token)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @DisplayName("[Decode] 다른 버전이나 숫자가 아닌 id 로 만든 커서는 거절한다")
+    @ParameterizedTest
+    @ValueSource(strings = {"v2:10", "10", "v1:abc", "v1:"})
+    void decode_잘못된_내용(String value) {
+        // Given
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThatThrownBy(() -> CursorToken.decode(token)).isInstanceOf(InvalidCursorException.class);
+    }
+}
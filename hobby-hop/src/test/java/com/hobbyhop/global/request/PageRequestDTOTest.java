@@ -0,0 +1,65 @@
+package com.hobbyhop.global.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Set;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[PageRequestDTO]")
+class PageRequestDTOTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @DisplayName("[Valid] 기본값은 검증을 통과한다")
+    @Test
+    void pageRequest_기본값() {
+        // When
+        Set<ConstraintViolation<PageRequestDTO>> violations = validator.validate(PageRequestDTO.builder().build());
+
+        // Then
+        assertThat(violations).isEmpty();
+    }
+
+    @DisplayName("[Invalid] 페이지 크기가 0 이하면 거절한다")
+    @Test
+    void pageRequest_크기_0() {
+        // When
+        Set<ConstraintViolation<PageRequestDTO>> violations =
+                validator.validate(PageRequestDTO.builder().size(0).cursor(true).build());
+
+        // Then
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("size");
+    }
+
+    @DisplayName("[Invalid] 페이지 번호가 0 이하면 거절한다")
+    @Test
+    void pageRequest_페이지_0() {
+        // When
+        Set<ConstraintViolation<PageRequestDTO>> violations =
+                validator.validate(PageRequestDTO.builder().page(0).build());
+
+        // Then
+        assertThat(violations).extracting(violation -> violation.getPropertyPath().toString())
+                .containsExactly("page");
+    }
+}
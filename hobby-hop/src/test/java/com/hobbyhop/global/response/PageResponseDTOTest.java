@@ -0,0 +1,76 @@
+package com.hobbyhop.global.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hobbyhop.global.request.CursorToken;
+import com.hobbyhop.global.request.PageRequestDTO;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[PageResponseDTO]")
+class PageResponseDTOTest {
+
+    @DisplayName("[Cursor] size + 1 건을 받으면 넘치는 한 건을 자르고 마지막 항목으로 다음 커서를 만든다")
+    @Test
+    void withCursor_다음_페이지() {
+        // Given
+        PageRequestDTO request = PageRequestDTO.builder().size(2).cursor(true).build();
+
+        // When
+        PageResponseDTO<Long> result = PageResponseDTO.<Long>withCursor()
+                .pageRequestDTO(request)
+                .dtoList(List.of(30L, 20L, 10L))
+                .cursorId(Function.identity())
+                .build();
+
+        // Then
+        assertThat(result.getDtoList()).containsExactly(30L, 20L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.isNext()).isTrue();
+        assertThat(result.isPrev()).isFalse();
+        assertThat(CursorToken.decode(result.getNextCursor())).isEqualTo(20L);
+    }
+
+    @DisplayName("[Cursor] 마지막 페이지는 다음 커서가 없고, after 로 왔으면 이전 페이지가 있다")
+    @Test
+    void withCursor_마지막_페이지() {
+        // Given
+        PageRequestDTO request = PageRequestDTO.builder().size(2).after(CursorToken.encode(20L)).build();
+
+        // When
+        PageResponseDTO<Long> result = PageResponseDTO.<Long>withCursor()
+                .pageRequestDTO(request)
+                .dtoList(List.of(10L))
+                .cursorId(Function.identity())
+                .total(3)
+                .build();
+
+        // Then
+        assertThat(result.getDtoList()).containsExactly(10L);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.isPrev()).isTrue();
+        assertThat(result.getTotal()).isEqualTo(3);
+    }
+
+    @DisplayName("[Cursor] 결과가 없으면 빈 목록을 돌려준다")
+    @Test
+    void withCursor_빈_결과() {
+        // Given
+        PageRequestDTO request = PageRequestDTO.builder().size(1).cursor(true).build();
+
+        // When
+        PageResponseDTO<Long> result = PageResponseDTO.<Long>withCursor()
+                .pageRequestDTO(request)
+                .dtoList(List.of())
+                .cursorId(Function.identity())
+                .build();
+
+        // Then
+        assertThat(result.getDtoList()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+}
@@ -0,0 +1,125 @@
+package com.hobbyhop.global.security.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hobbyhop.domain.club.cache.ClubSnapshot;
+import com.hobbyhop.domain.club.cache.ClubSnapshotCache;
+import com.hobbyhop.domain.clubmember.cache.ClubMembershipCache;
+import com.hobbyhop.domain.clubmember.enums.MemberRole;
+import com.hobbyhop.global.exception.club.ClubNotFoundException;
+import com.hobbyhop.global.exception.clubmember.ClubMemberNotFoundException;
+import com.hobbyhop.global.exception.post.PostNotCorrespondUser;
+import com.hobbyhop.global.security.access.AccessContextRepository.PostOwnership;
+import com.hobbyhop.test.PostTest;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[AccessContext]")
+class AccessContextResolverTest implements PostTest {
+
+    private static final ClubSnapshot CLUB =
+            new ClubSnapshot(TEST_CLUB_ID, "title", "content", 1L, "category", null, null);
+
+    @InjectMocks
+    private AccessContextResolver sut;
+
+    @Mock
+    private AccessContextRepository accessContextRepository;
+    @Mock
+    private ClubSnapshotCache clubSnapshotCache;
+    @Mock
+    private ClubMembershipCache clubMembershipCache;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @DisplayName("[Resolve] 같은 요청 안에서는 한 번만 조회한다")
+    @Test
+    void accessContext_요청_단위_재사용() {
+        // Given
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        given(clubSnapshotCache.find(TEST_CLUB_ID)).willReturn(Optional.of(CLUB));
+        given(accessContextRepository.findPostOwnership(TEST_POST_ID))
+                .willReturn(Optional.of(new PostOwnership(TEST_CLUB_ID, TEST_USER_ID)));
+        given(clubMembershipCache.getRole(TEST_CLUB_ID, TEST_USER_ID)).willReturn(MemberRole.MEMBER);
+
+        // When
+        AccessContext first = sut.requireMember(TEST_CLUB_ID, TEST_POST_ID, TEST_USER);
+        AccessContext second = sut.resolve(TEST_CLUB_ID, TEST_POST_ID, TEST_USER_ID);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.isPostAuthor(TEST_USER_ID)).isTrue();
+        verify(accessContextRepository, times(1)).findPostOwnership(TEST_POST_ID);
+    }
+
+    @DisplayName("[Resolve] 게시글이 없는 경로는 DB 를 읽지 않고 캐시로 확인한다")
+    @Test
+    void accessContext_모임_경로_캐시() {
+        // Given
+        given(clubSnapshotCache.find(TEST_CLUB_ID)).willReturn(Optional.of(CLUB));
+        given(clubMembershipCache.getRole(TEST_CLUB_ID, TEST_USER_ID)).willReturn(MemberRole.ADMIN);
+
+        // When
+        AccessContext result = sut.resolve(TEST_CLUB_ID, TEST_USER_ID);
+        sut.resolve(TEST_CLUB_ID, TEST_USER_ID);
+
+        // Then
+        assertThat(result.isAdmin()).isTrue();
+        verify(clubMembershipCache, times(2)).getRole(TEST_CLUB_ID, TEST_USER_ID);
+        verifyNoInteractions(accessContextRepository);
+    }
+
+    @DisplayName("[Resolve] 없는 모임이면 예외")
+    @Test
+    void accessContext_모임_없음() {
+        // Given
+        given(clubSnapshotCache.find(TEST_CLUB_ID)).willReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> sut.resolve(TEST_CLUB_ID, TEST_USER_ID))
+                .isInstanceOf(ClubNotFoundException.class);
+    }
+
+    @DisplayName("[Resolve] 다른 모임의 게시글이면 예외")
+    @Test
+    void accessContext_다른_모임_게시글() {
+        // Given
+        given(clubSnapshotCache.find(TEST_CLUB_ID)).willReturn(Optional.of(CLUB));
+        given(accessContextRepository.findPostOwnership(TEST_POST_ID))
+                .willReturn(Optional.of(new PostOwnership(TEST_CLUB_ID + 1, TEST_USER_ID)));
+
+        // When & Then
+        assertThatThrownBy(() -> sut.resolve(TEST_CLUB_ID, TEST_POST_ID, TEST_USER_ID))
+                .isInstanceOf(PostNotCorrespondUser.class);
+    }
+
+    @DisplayName("[Require] 회원이 아니면 예외")
+    @Test
+    void accessContext_비회원_예외() {
+        // Given
+        given(clubSnapshotCache.find(TEST_CLUB_ID)).willReturn(Optional.of(CLUB));
+        given(clubMembershipCache.getRole(TEST_CLUB_ID, TEST_USER_ID)).willReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.requireMember(TEST_CLUB_ID, TEST_USER))
+                .isInstanceOf(ClubMemberNotFoundException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package com.hobbyhop.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hobbyhop.global.exception.jwt.ExpiredJwtTokenException;
+import com.hobbyhop.global.exception.jwt.InvalidJwtException;
+import com.hobbyhop.global.exception.jwt.InvalidJwtSignatureException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("[JwtTokenParser]")
+class JwtTokenParserTest {
+
+    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtTokenParser sut = new JwtTokenParser(key);
+
+    @DisplayName("[Valid] 유효한 토큰은 subject 와 만료 시각을 함께 돌려준다")
+    @Test
+    void parse_유효() {
+        // Given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        String token = token(key, expiration);
+
+        // When
+        ParsedToken result = sut.parse(token);
+
+        // Then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.isExpired()).isFalse();
+        assertThat(result.getSubject()).isEqualTo("username");
+        assertThat(result.getExpiresAt()).isEqualTo(expiration.getTime() / 1000 * 1000);
+        assertThat(result.requireValid()).isSameAs(result);
+    }
+
+    @DisplayName("[Expired] 만료된 토큰도 subject 는 읽을 수 있지만 requireValid 는 만료 예외를 던진다")
+    @Test
+    void parse_만료() {
+        // Given
+        String token = token(key, new Date(System.currentTimeMillis() - 60_000));
+
+        // When
+        ParsedToken result = sut.parse(token);
+
+        // Then
+        assertThat(result.isExpired()).isTrue();
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getSubject()).isEqualTo("username");
+        assertThatThrownBy(result::requireValid).isInstanceOf(ExpiredJwtTokenException.class);
+    }
+
+    @DisplayName("[Malformed] 형식이 틀린 토큰은 claims 없이 서명 오류로 본다")
+    @Test
+    void parse_형식_오류() {
+        // When
+        ParsedToken result = sut.parse("not-a-jwt");
+
+        // Then
+        assertThat(result.status()).isEqualTo(ParsedToken.Status.INVALID_SIGNATURE);
+        assertThat(result.getSubject()).isNull();
+        assertThat(result.getExpiresAt()).isZero();
+        assertThatThrownBy(result::requireValid).isInstanceOf(InvalidJwtSignatureException.class);
+    }
+
+    @DisplayName("[Signature] 다른 키로 서명한 토큰은 claims 를 돌려주지 않는다")
+    @Test
+    void parse_서명_불일치() {
+        // Given
+        String token = token(Keys.secretKeyFor(SignatureAlgorithm.HS256),
+                new Date(System.currentTimeMillis() + 60_000));
+
+        // When
+        ParsedToken result = sut.parse(token);
+
+        // Then
+        assertThat(result.status()).isEqualTo(ParsedToken.Status.INVALID_SIGNATURE);
+        assertThat(result.getSubject()).isNull();
+    }
+
+    @DisplayName("[Empty] 빈 토큰은 잘못된 토큰으로 본다")
+    @Test
+    void parse_빈_토큰() {
+        // When
+        ParsedToken result = sut.parse("");
+
+        // Then
+        assertThat(result.status()).isEqualTo(ParsedToken.Status.INVALID);
+        assertThatThrownBy(result::requireValid).isInstanceOf(InvalidJwtException.class);
+    }
+
+    private static String token(Key key, Date expiration) {
+        return Jwts.builder()
+                .setSubject("username")
+                .setExpiration(expiration)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
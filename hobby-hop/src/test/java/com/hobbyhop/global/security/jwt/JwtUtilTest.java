@@ -0,0 +1,89 @@
+package com.hobbyhop.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.global.exception.jwt.InvalidJwtException;
+import com.hobbyhop.global.exception.jwt.InvalidRefreshTokenException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[JwtUtil]")
+class JwtUtilTest {
+
+    @InjectMocks
+    private JwtUtil sut;
+
+    @Mock
+    private RedisTokenStore redisTokenStore;
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        String secretKey = Base64.getEncoder()
+                .encodeToString(Keys.secretKeyFor(SignatureAlgorithm.HS256).getEncoded());
+        ReflectionTestUtils.setField(sut, "secretKey", secretKey);
+        sut.init();
+    }
+
+    @DisplayName("[Rebase] 이전 토큰의 subject 를 읽을 수 없으면 redis 를 건드리지 않고 거절한다")
+    @Test
+    void rebaseToken_잘못된_이전_토큰() {
+        // Given
+        String newAccessToken = sut.createAccessToken("newname");
+
+        // When & Then
+        assertThatThrownBy(() -> sut.rebaseToken(newAccessToken, JwtUtil.BEARER_PREFIX + "not-a-jwt"))
+                .isInstanceOf(InvalidJwtException.class);
+        verify(redisTokenStore, never()).getRefreshToken(anyString());
+        verify(redisTokenStore, never())
+                .rebase(any(), any(), any(), any(), any(), any(), anyLong());
+    }
+
+    @DisplayName("[Rebase] 이전 토큰의 refreshToken 이 없으면 거절한다")
+    @Test
+    void rebaseToken_refreshToken_없음() {
+        // Given
+        String oldAccessToken = sut.createAccessToken("oldname");
+        String newAccessToken = sut.createAccessToken("newname");
+
+        // When & Then
+        assertThatThrownBy(() -> sut.rebaseToken(newAccessToken, oldAccessToken))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+    }
+
+    @DisplayName("[Rebase] 이전 username 의 토큰을 새 username 으로 옮기고 캐시를 비운다")
+    @Test
+    void rebaseToken_성공() {
+        // Given
+        String oldAccessToken = sut.createAccessToken("oldname");
+        String oldRefreshToken = sut.createRefreshToken("oldname");
+        String newAccessToken = sut.createAccessToken("newname");
+        given(redisTokenStore.getRefreshToken(oldAccessToken)).willReturn(oldRefreshToken);
+        given(redisTokenStore.rebase(eq("oldname"), eq(oldAccessToken), eq(oldRefreshToken),
+                eq("newname"), eq(newAccessToken), anyString(), anyLong())).willReturn(true);
+
+        // When
+        sut.rebaseToken(newAccessToken, oldAccessToken);
+
+        // Then
+        verify(verifiedTokenCache).evictByUsername("oldname");
+    }
+}
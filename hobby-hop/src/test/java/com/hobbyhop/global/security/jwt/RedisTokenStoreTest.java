@@ -0,0 +1,158 @@
+package com.hobbyhop.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hobbyhop.test.RedisTestServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@DisplayName("[RedisTokenStore]")
+class RedisTokenStoreTest {
+
+    private static final long TTL_MS = 60_000;
+
+    private static RedisTestServer redis;
+    private StringRedisTemplate template;
+    private RedisTokenStore sut;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = RedisTestServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        template = redis.template();
+        sut = new RedisTokenStore(template);
+    }
+
+    @DisplayName("[Save] username 과 accessToken 두 키를 같은 TTL 로 저장한다")
+    @Test
+    void save_저장() {
+        // When
+        sut.save("user", "access", "refresh", TTL_MS);
+
+        // Then
+        assertThat(template.opsForValue().get("user")).isEqualTo("access");
+        assertThat(sut.getRefreshToken("access")).isEqualTo("refresh");
+        assertThat(template.getExpire("user")).isPositive();
+        assertThat(template.getExpire("access")).isPositive();
+    }
+
+    @DisplayName("[Rotate] 저장된 refreshToken 이 같으면 새 accessToken 으로 교체하고 이전 키를 지운다")
+    @Test
+    void rotate_교체() {
+        // Given
+        sut.save("user", "access", "refresh", TTL_MS);
+
+        // When
+        boolean result = sut.rotate("user", "access", "access2", "refresh", TTL_MS);
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(template.opsForValue().get("user")).isEqualTo("access2");
+        assertThat(sut.getRefreshToken("access2")).isEqualTo("refresh");
+        assertThat(sut.getRefreshToken("access")).isNull();
+    }
+
+    @DisplayName("[Rotate] 다른 요청이 먼저 교체했으면 아무것도 바꾸지 않는다")
+    @Test
+    void rotate_이미_교체됨() {
+        // Given
+        sut.save("user", "access", "refresh", TTL_MS);
+        sut.rotate("user", "access", "access2", "refresh", TTL_MS);
+
+        // When
+        boolean result = sut.rotate("user", "access", "access3", "refresh", TTL_MS);
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(template.opsForValue().get("user")).isEqualTo("access2");
+        assertThat(sut.getRefreshToken("access3")).isNull();
+    }
+
+    @DisplayName("[Rebase] 이전 username 과 accessToken 키를 지우고 새 키로 옮긴다")
+    @Test
+    void rebase_교체() {
+        // Given
+        sut.save("user", "access", "refresh", TTL_MS);
+
+        // When
+        boolean result = sut.rebase("user", "access", "refresh", "newuser", "access2", "refresh2", TTL_MS);
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(template.hasKey("user")).isFalse();
+        assertThat(sut.getRefreshToken("access")).isNull();
+        assertThat(template.opsForValue().get("newuser")).isEqualTo("access2");
+        assertThat(sut.getRefreshToken("access2")).isEqualTo("refresh2");
+    }
+
+    @DisplayName("[Rebase] 이전 refreshToken 이 바뀌었으면 아무것도 바꾸지 않는다")
+    @Test
+    void rebase_refreshToken_불일치() {
+        // Given
+        sut.save("user", "access", "refresh", TTL_MS);
+
+        // When
+        boolean result = sut.rebase("user", "access", "other", "newuser", "access2", "refresh2", TTL_MS);
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(template.opsForValue().get("user")).isEqualTo("access");
+        assertThat(template.hasKey("newuser")).isFalse();
+    }
+
+    @DisplayName("[Remove] 두 키가 모두 있으면 함께 지운다")
+    @Test
+    void remove_삭제() {
+        // Given
+        sut.save("user", "access", "refresh", TTL_MS);
+
+        // When
+        RedisTokenStore.RemoveResult result = sut.remove("user", "access");
+
+        // Then
+        assertThat(result).isEqualTo(RedisTokenStore.RemoveResult.REMOVED);
+        assertThat(template.hasKey("user")).isFalse();
+        assertThat(template.hasKey("access")).isFalse();
+    }
+
+    @DisplayName("[Remove] username 키가 없으면 NO_ACCESS_TOKEN 이고 아무것도 지우지 않는다")
+    @Test
+    void remove_accessToken_없음() {
+        // Given
+        template.opsForValue().set("access", "refresh");
+
+        // When
+        RedisTokenStore.RemoveResult result = sut.remove("user", "access");
+
+        // Then
+        assertThat(result).isEqualTo(RedisTokenStore.RemoveResult.NO_ACCESS_TOKEN);
+        assertThat(template.hasKey("access")).isTrue();
+    }
+
+    @DisplayName("[Remove] refreshToken 이 없으면 username 키만 지우고 NO_REFRESH_TOKEN 을 돌려준다")
+    @Test
+    void remove_refreshToken_없음() {
+        // Given
+        template.opsForValue().set("user", "access");
+
+        // When
+        RedisTokenStore.RemoveResult result = sut.remove("user", "access");
+
+        // Then
+        assertThat(result).isEqualTo(RedisTokenStore.RemoveResult.NO_REFRESH_TOKEN);
+        assertThat(template.hasKey("user")).isFalse();
+    }
+}
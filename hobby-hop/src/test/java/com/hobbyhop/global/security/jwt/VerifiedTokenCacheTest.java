@@ -0,0 +1,285 @@
+package com.hobbyhop.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hobbyhop.global.security.userdetails.UserDetailsImpl;
+import com.hobbyhop.test.UserTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("[VerifiedTokenCache]")
+class VerifiedTokenCacheTest implements UserTest {
+
+    private static final long FAR_FUTURE = Long.MAX_VALUE;
+
+    private final UserDetailsImpl user = new UserDetailsImpl(TEST_USER);
+    private final UserDetailsImpl other = new UserDetailsImpl(TEST_OTHER_USER);
+
+    @DisplayName("[Get] 넣은 토큰은 같은 인증 정보로 조회된다")
+    @Test
+    void verifiedTokenCache_조회() {
+        // Given
+        VerifiedTokenCache sut = cache(10, 60_000);
+
+        // When
+        put(sut, "token", FAR_FUTURE, user);
+        VerifiedTokenCache.Entry result = sut.get("token");
+
+        // Then
+        assertThat(result.principal().userId()).isEqualTo(TEST_USER_ID);
+        assertThat(result.username()).isEqualTo(TEST_USER_NAME);
+        assertThat(sut.get("unknown")).isNull();
+    }
+
+    @DisplayName("[TTL] 설정된 TTL 이 지나면 토큰이 아직 유효해도 다시 검증한다")
+    @Test
+    void verifiedTokenCache_TTL_만료() throws InterruptedException {
+        // Given
+        VerifiedTokenCache sut = cache(10, 20);
+        put(sut, "token", FAR_FUTURE, user);
+
+        // When
+        Thread.sleep(50);
+
+        // Then
+        assertThat(sut.get("token")).isNull();
+        assertThat(sut.size()).isZero();
+    }
+
+    @DisplayName("[TTL] 토큰 만료가 TTL 보다 이르면 토큰 만료를 따른다")
+    @Test
+    void verifiedTokenCache_토큰_만료() {
+        // Given
+        VerifiedTokenCache sut = cache(10, 60_000);
+
+        // When
+        put(sut, "token", System.currentTimeMillis() - 1, user);
+
+        // Then
+        assertThat(sut.get("token")).isNull();
+    }
+
+    @DisplayName("[Evict] 크기 상한을 넘으면 가장 오래 안 쓴 항목을 버린다")
+    @Test
+    void verifiedTokenCache_크기_상한() {
+        // Given
+        VerifiedTokenCache sut = cache(2, 60_000);
+        put(sut, "token1", FAR_FUTURE, user);
+        put(sut, "token2", FAR_FUTURE, user);
+        sut.get("token1");
+
+        // When
+        put(sut, "token3", FAR_FUTURE, other);
+
+        // Then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.get("token1")).isNotNull();
+        assertThat(sut.get("token2")).isNull();
+        assertThat(sut.get("token3")).isNotNull();
+    }
+
+    @DisplayName("[Evict] 크기 상한을 넘으면 만료된 항목부터 버린다")
+    @Test
+    void verifiedTokenCache_만료_항목_우선() {
+        // Given
+        VerifiedTokenCache sut = cache(2, 60_000);
+        put(sut, "token1", FAR_FUTURE, user);
+        put(sut, "expired", System.currentTimeMillis() - 1, user);
+
+        // When
+        put(sut, "token2", FAR_FUTURE, user);
+
+        // Then
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.get("token1")).isNotNull();
+        assertThat(sut.get("token2")).isNotNull();
+    }
+
+    @DisplayName("[Logout] username 으로 지우면 그 사용자의 토큰만 모두 사라진다")
+    @Test
+    void verifiedTokenCache_로그아웃() {
+        // Given
+        VerifiedTokenCache sut = cache(10, 60_000);
+        put(sut, "token1", FAR_FUTURE, user);
+        put(sut, "token2", FAR_FUTURE, user);
+        put(sut, "token3", FAR_FUTURE, other);
+
+        // When
+        sut.evictByUsername(TEST_USER_NAME);
+
+        // Then
+        assertThat(sut.get("token1")).isNull();
+        assertThat(sut.get("token2")).isNull();
+        assertThat(sut.get("token3")).isNotNull();
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("[Logout] 토큰 하나를 지워도 같은 사용자의 다른 토큰은 남고, 이후 username 으로 모두 지울 수 있다")
+    @Test
+    void verifiedTokenCache_토큰_단위_삭제() {
+        // Given
+        VerifiedTokenCache sut = cache(10, 60_000);
+        put(sut, "token1", FAR_FUTURE, user);
+        put(sut, "token2", FAR_FUTURE, user);
+
+        // When
+        sut.evict("token1");
+
+        // Then
+        assertThat(sut.get("token1")).isNull();
+        assertThat(sut.get("token2")).isNotNull();
+        sut.evictByUsername(TEST_USER_NAME);
+        assertThat(sut.size()).isZero();
+    }
+
+    @DisplayName("[Concurrent] 여러 스레드가 동시에 넣고 읽어도 크기 상한을 지킨다")
+    @Test
+    void verifiedTokenCache_동시_접근() throws Exception {
+        // Given
+        VerifiedTokenCache sut = cache(100, 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    String token = "token-" + thread + "-" + i;
+                    put(sut, token, FAR_FUTURE, i % 2 == 0 ? user : other);
+                    sut.get(token);
+                    if (i % 100 == 0) {
+                        sut.evictByUsername(TEST_OTHER_USER_NAME);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(sut.size()).isLessThanOrEqualTo(100);
+        sut.evictByUsername(TEST_USER_NAME);
+        sut.evictByUsername(TEST_OTHER_USER_NAME);
+        assertThat(sut.size()).isZero();
+    }
+
+    @DisplayName("[Principal] 인증 정보는 비밀번호 없이 요청마다 새로 만든다")
+    @Test
+    void verifiedTokenCache_인증_정보_스냅샷() {
+        // Given
+        VerifiedTokenCache sut = cache(10, 60_000);
+        put(sut, "token", FAR_FUTURE, user);
+
+        // When
+        UserDetailsImpl first = sut.get("token").principal().toUserDetails();
+        UserDetailsImpl second = sut.get("token").principal().toUserDetails();
+
+        // Then
+        assertThat(first).isNotSameAs(second);
+        assertThat(first.getUser()).isNotSameAs(TEST_USER);
+        assertThat(first.getUser().getId()).isEqualTo(TEST_USER_ID);
+        assertThat(first.getUsername()).isEqualTo(TEST_USER_NAME);
+        assertThat(first.getPassword()).isNull();
+    }
+
+    @DisplayName("[Generation] 검증하는 도중 로그아웃되면 검증이 끝난 토큰을 넣지 않는다")
+    @Test
+    void verifiedTokenCache_검증_중_로그아웃() {
+        // Given
+        VerifiedTokenCache sut = cache(10, 60_000);
+        long generation = sut.generation(TEST_USER_NAME);
+
+        // When
+        sut.evictByUsername(TEST_USER_NAME);
+        sut.put("token", FAR_FUTURE, user, generation);
+
+        // Then
+        assertThat(sut.get("token")).isNull();
+        assertThat(sut.size()).isZero();
+    }
+
+    @DisplayName("[PubSub] username 으로 지우면 다른 서버에 알리고, 받은 알림은 다시 알리지 않는다")
+    @Test
+    void verifiedTokenCache_다른_서버_알림() {
+        // Given
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        VerifiedTokenCache sender = new VerifiedTokenCache(10, 60_000, redisTemplate, true);
+        VerifiedTokenCache receiver = cache(10, 60_000);
+        put(receiver, "token", FAR_FUTURE, user);
+
+        // When
+        sender.evictByUsername(TEST_USER_NAME);
+        receiver.evictLocal("user:" + TEST_USER_NAME);
+
+        // Then
+        verify(redisTemplate).convertAndSend(VerifiedTokenCache.INVALIDATE_CHANNEL, "user:" + TEST_USER_NAME);
+        assertThat(receiver.get("token")).isNull();
+        long stale = receiver.generation(TEST_USER_NAME) - 1;
+        receiver.put("token", FAR_FUTURE, user, stale);
+        assertThat(receiver.get("token")).isNull();
+    }
+
+    @DisplayName("[PubSub] 재발급으로 지운 토큰도 다른 서버에서 지운다")
+    @Test
+    void verifiedTokenCache_토큰_알림() {
+        // Given
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        VerifiedTokenCache sender = new VerifiedTokenCache(10, 60_000, redisTemplate, true);
+        VerifiedTokenCache receiver = cache(10, 60_000);
+        put(receiver, "token", FAR_FUTURE, user);
+        put(receiver, "other", FAR_FUTURE, user);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+
+        // When
+        sender.evict("token");
+        verify(redisTemplate).convertAndSend(eq(VerifiedTokenCache.INVALIDATE_CHANNEL),
+                message.capture());
+        receiver.evictLocal(message.getValue());
+
+        // Then
+        assertThat(message.getValue()).startsWith("token:").doesNotContain("token:token");
+        assertThat(receiver.get("token")).isNull();
+        assertThat(receiver.get("other")).isNotNull();
+    }
+
+    @DisplayName("[PubSub] pub/sub 을 끄면 알리지 않는다")
+    @Test
+    void verifiedTokenCache_알림_끔() {
+        // Given
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        VerifiedTokenCache sut = new VerifiedTokenCache(10, 60_000, redisTemplate, false);
+
+        // When
+        sut.evictByUsername(TEST_USER_NAME);
+
+        // Then
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private static VerifiedTokenCache cache(int maxSize, long ttlMillis) {
+        return new VerifiedTokenCache(maxSize, ttlMillis, null, false);
+    }
+
+    private static void put(VerifiedTokenCache sut, String token, long expiresAt, UserDetailsImpl userDetails) {
+        sut.put(token, expiresAt, userDetails, sut.generation(userDetails.getUsername()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.hobbyhop.global.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.hobbyhop.global.exception.user.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("[PasswordHashing]")
+class PasswordHashingServiceTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry registry;
+    private PasswordHashingService sut;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+        registry = new SimpleMeterRegistry();
+        sut = new PasswordHashingService(passwordEncoder, executor, 1000, 2, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @DisplayName("[Matches] 해시 풀에서 비교하고 지연 시간을 기록한다")
+    @Test
+    void passwordHashing_비교() {
+        // Given
+        given(passwordEncoder.matches("password", "hashed")).willReturn(true);
+
+        // When
+        boolean result = sut.matches("password", "hashed");
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(registry.get(PasswordHashingService.HASHING_TIMER).tag("operation", "matches").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get(PasswordHashingService.HASHING_TIMER).tag("operation", "encode").timer().count())
+                .isZero();
+    }
+
+    @DisplayName("[Reject] 풀과 큐가 가득 차면 기다리지 않고 Retry-After 와 함께 거절한다")
+    @Test
+    void passwordHashing_포화_거절() throws InterruptedException {
+        // Given
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        running.await();
+        executor.execute(() -> await(release));
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> sut.encode("password"))
+                    .isInstanceOfSatisfying(PasswordHashingBusyException.class,
+                            e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+            assertThat(sut.stats().rejected()).isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.hobbyhop.test;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+// 부하 테스트용 카카오 API 흉내. 운영 jar 에 들어가지 않도록 테스트 소스에 두고 앱과 따로 띄운다.
+// ./gradlew kakaoStub -Pport=8089 -PlatencyMs=50 -PfailureRate=0.0 으로 띄우고, 앱은 kakao-stub 프로필로 이 주소를 보게 한다.
+// 인가 코드마다 다른 사용자를 돌려주고, 지연과 실패 비율을 설정해 재시도와 circuit breaker 를 확인할 수 있다.
+@Slf4j(topic = "KAKAO Stub")
+public class KakaoStubServer {
+
+    private final int port;
+    private final Duration latency;
+    private final double failureRate;
+
+    private DisposableServer server;
+
+    public KakaoStubServer(int port, long latencyMs, double failureRate) {
+        this.port = port;
+        this.latency = Duration.ofMillis(latencyMs);
+        this.failureRate = failureRate;
+    }
+
+    // 인자 : port latencyMs failureRate
+    public static void main(String[] args) {
+        KakaoStubServer stub = new KakaoStubServer(
+                args.length > 0 ? Integer.parseInt(args[0]) : 8089,
+                args.length > 1 ? Long.parseLong(args[1]) : 50,
+                args.length > 2 ? Double.parseDouble(args[2]) : 0.0);
+        stub.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::stop));
+        stub.server.onDispose().block();
+    }
+
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .route(routes -> routes
+                        .post("/oauth/token", (request, response) -> request.receive().aggregate().asString()
+                                .defaultIfEmpty("")
+                                .map(body -> formValue(body, "code"))
+                                .flatMap(code -> reply(response,
+                                        "{\"access_token\":\"stub-" + code + "\",\"token_type\":\"bearer\"}")))
+                        .post("/v2/user/me", (request, response) -> {
+                            String authorization = request.requestHeaders().get("Authorization", "");
+                            String code = authorization.replace("Bearer stub-", "");
+                            long id = Integer.toUnsignedLong(code.hashCode());
+                            return reply(response, "{\"id\":" + id
+                                    + ",\"properties\":{\"nickname\":\"stub-" + id + "\"}"
+                                    + ",\"kakao_account\":{\"email\":\"stub-" + id + "@hobbyhop.local\"}}");
+                        }))
+                .bindNow();
+        log.info("카카오 stub 시작 port={} latency={} failureRate={}", port, latency, failureRate);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.disposeNow();
+        }
+    }
+
+    private Mono<Void> reply(HttpServerResponse response, String json) {
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            return Mono.delay(latency).then(Mono.defer(() -> response.status(503).send().then()));
+        }
+        return Mono.delay(latency).then(Mono.defer(() -> response
+                .header("Content-Type", "application/json;charset=UTF-8")
+                .sendString(Mono.just(json))
+                .then()));
+    }
+
+    private static String formValue(String body, String name) {
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+}
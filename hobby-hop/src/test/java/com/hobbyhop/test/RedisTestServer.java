@@ -0,0 +1,50 @@
+package com.hobbyhop.test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+// redis 를 쓰는 저장소 테스트용. 테스트 클래스마다 빈 포트로 띄우고 @AfterAll 에서 stop 한다.
+public class RedisTestServer {
+
+    private final RedisServer server;
+    private final LettuceConnectionFactory connectionFactory;
+    private final StringRedisTemplate template;
+
+    private RedisTestServer(int port) throws IOException {
+        server = new RedisServer(port);
+        server.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        template = new StringRedisTemplate(connectionFactory);
+    }
+
+    public static RedisTestServer start() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        return new RedisTestServer(port);
+    }
+
+    public StringRedisTemplate template() {
+        return template;
+    }
+
+    public void flushAll() {
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    public void stop() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+}